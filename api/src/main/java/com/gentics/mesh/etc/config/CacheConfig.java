@@ -11,14 +11,54 @@ public class CacheConfig implements Option {
 
 	public static final String MESH_CACHE_PATH_SIZE_ENV = "MESH_CACHE_PATH_SIZE";
 
+	public static final String MESH_CACHE_GRAPHQL_SCHEMA_SIZE_ENV = "MESH_CACHE_GRAPHQL_SCHEMA_SIZE";
+
+	public static final String MESH_CACHE_GRAPHQL_DOCUMENT_SIZE_ENV = "MESH_CACHE_GRAPHQL_DOCUMENT_SIZE";
+
+	public static final String MESH_CACHE_PERMISSION_SIZE_ENV = "MESH_CACHE_PERMISSION_SIZE";
+
+	public static final String MESH_CACHE_PRINCIPAL_SIZE_ENV = "MESH_CACHE_PRINCIPAL_SIZE";
+
 	private static final long DEFAULT_PATH_CACHE_SIZE = 20_000;
 
+	private static final long DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE = 100;
+
+	private static final long DEFAULT_GRAPHQL_DOCUMENT_CACHE_SIZE = 1_000;
+
+	private static final long DEFAULT_PERMISSION_CACHE_SIZE = 100_000;
+
+	private static final long DEFAULT_PRINCIPAL_CACHE_SIZE = 10_000;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Set the maximum size of the path cache. A value of 0 will disable the cache. Default: "
 		+ DEFAULT_PATH_CACHE_SIZE)
 	@EnvironmentVariable(name = MESH_CACHE_PATH_SIZE_ENV, description = "Override the path cache size.")
 	private long pathCacheSize = DEFAULT_PATH_CACHE_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of GraphQL schemas which are cached. A schema is cached per project, branch and set of schema versions. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GRAPHQL_SCHEMA_SIZE_ENV, description = "Override the GraphQL schema cache size.")
+	private long graphQLSchemaCacheSize = DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of parsed and validated GraphQL query documents which are cached. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_GRAPHQL_DOCUMENT_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GRAPHQL_DOCUMENT_SIZE_ENV, description = "Override the GraphQL document cache size.")
+	private long graphQLDocumentCacheSize = DEFAULT_GRAPHQL_DOCUMENT_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of permissions which are cached. A permission is cached per set of roles and element. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_PERMISSION_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_PERMISSION_SIZE_ENV, description = "Override the permission cache size.")
+	private long permissionCacheSize = DEFAULT_PERMISSION_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum amount of authenticated users which are cached. The cache is used to authenticate requests with a JWT or API key without loading the user. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_PRINCIPAL_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_PRINCIPAL_SIZE_ENV, description = "Override the principal cache size.")
+	private long principalCacheSize = DEFAULT_PRINCIPAL_CACHE_SIZE;
+
 	public CacheConfig() {
 
 	}
@@ -32,6 +72,42 @@ public class CacheConfig implements Option {
 		return this;
 	}
 
+	public long getGraphQLSchemaCacheSize() {
+		return graphQLSchemaCacheSize;
+	}
+
+	public CacheConfig setGraphQLSchemaCacheSize(long graphQLSchemaCacheSize) {
+		this.graphQLSchemaCacheSize = graphQLSchemaCacheSize;
+		return this;
+	}
+
+	public long getGraphQLDocumentCacheSize() {
+		return graphQLDocumentCacheSize;
+	}
+
+	public CacheConfig setGraphQLDocumentCacheSize(long graphQLDocumentCacheSize) {
+		this.graphQLDocumentCacheSize = graphQLDocumentCacheSize;
+		return this;
+	}
+
+	public long getPermissionCacheSize() {
+		return permissionCacheSize;
+	}
+
+	public CacheConfig setPermissionCacheSize(long permissionCacheSize) {
+		this.permissionCacheSize = permissionCacheSize;
+		return this;
+	}
+
+	public long getPrincipalCacheSize() {
+		return principalCacheSize;
+	}
+
+	public CacheConfig setPrincipalCacheSize(long principalCacheSize) {
+		this.principalCacheSize = principalCacheSize;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
 	}
@@ -11,14 +11,23 @@ public class ContentConfig implements Option {
 
 	public static final String MESH_CONTENT_AUTO_PURGE_ENV = "MESH_CONTENT_AUTO_PURGE";
 
+	public static final String MESH_CONTENT_MIGRATION_THREADS_ENV = "MESH_CONTENT_MIGRATION_THREADS";
+
 	private static final boolean DEFAULT_AUTO_PURGE = true;
 
+	private static final int DEFAULT_MIGRATION_THREADS = 4;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Flag which controls the global setting for the auto purge mechanism. The setting can be overriden by the schema 'autoPurge' flag. Default: "
 		+ DEFAULT_AUTO_PURGE)
 	@EnvironmentVariable(name = MESH_CONTENT_AUTO_PURGE_ENV, description = "Override the content versioning flag")
 	private boolean autoPurge = DEFAULT_AUTO_PURGE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which migrate the contents of a schema migration in parallel. Default: " + DEFAULT_MIGRATION_THREADS)
+	@EnvironmentVariable(name = MESH_CONTENT_MIGRATION_THREADS_ENV, description = "Override the amount of schema migration threads.")
+	private int migrationThreads = DEFAULT_MIGRATION_THREADS;
+
 	public ContentConfig() {
 
 	}
@@ -32,7 +41,19 @@ public class ContentConfig implements Option {
 		return this;
 	}
 
+	public int getMigrationThreads() {
+		return migrationThreads;
+	}
+
+	public ContentConfig setMigrationThreads(int migrationThreads) {
+		this.migrationThreads = migrationThreads;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
+		if (migrationThreads < 1) {
+			throw new IllegalArgumentException("The amount of migration threads must be positive.");
+		}
 	}
 }
@@ -22,8 +22,11 @@ public class GraphStorageOptions implements Option {
 	public static final boolean DEFAULT_START_SERVER = false;
 	public static final boolean DEFAULT_SYNC_WRITES = true;
 	public static final long DEFAULT_SYNC_WRITES_TIMEOUT = 60_000;
+	public static final int DEFAULT_SYNC_WRITES_STRIPES = 64;
 	public static final int DEFAULT_TX_RETRY_DELAY = 10;
 	public static final int DEFAULT_TX_RETRY_LIMIT = 10;
+	public static final int DEFAULT_TX_RETRY_MAX_DELAY = 1000;
+	public static final double DEFAULT_TX_RETRY_BUDGET_RATIO = 0.1;
 	public static final long DEFAULT_TX_COMMIT_TIMEOUT = 0;
 
 	public static final String MESH_GRAPH_DB_DIRECTORY_ENV = "MESH_GRAPH_DB_DIRECTORY";
@@ -32,8 +35,11 @@ public class GraphStorageOptions implements Option {
 	public static final String MESH_GRAPH_STARTSERVER_ENV = "MESH_GRAPH_STARTSERVER";
 	public static final String MESH_GRAPH_SYNC_WRITES_ENV = "MESH_GRAPH_SYNC_WRITES";
 	public static final String MESH_GRAPH_SYNC_WRITES_TIMEOUT_ENV = "MESH_GRAPH_SYNC_WRITES_TIMEOUT";
+	public static final String MESH_GRAPH_SYNC_WRITES_STRIPES_ENV = "MESH_GRAPH_SYNC_WRITES_STRIPES";
 	public static final String MESH_GRAPH_TX_RETRY_DELAY_ENV = "MESH_GRAPH_TX_RETRY_DELAY";
 	public static final String MESH_GRAPH_TX_RETRY_LIMIT_ENV = "MESH_GRAPH_TX_RETRY_LIMIT";
+	public static final String MESH_GRAPH_TX_RETRY_MAX_DELAY_ENV = "MESH_GRAPH_TX_RETRY_MAX_DELAY";
+	public static final String MESH_GRAPH_TX_RETRY_BUDGET_RATIO_ENV = "MESH_GRAPH_TX_RETRY_BUDGET_RATIO";
 	public static final String MESH_GRAPH_TX_COMMIT_TIMEOUT_ENV = "MESH_GRAPH_TX_COMMIT_TIMEOUT";
 
 	@JsonProperty(required = true)
@@ -66,8 +72,13 @@ public class GraphStorageOptions implements Option {
 	@EnvironmentVariable(name = MESH_GRAPH_SYNC_WRITES_TIMEOUT_ENV, description = "Override the graph database sync write timeout.")
 	private long synchronizeWritesTimeout = DEFAULT_SYNC_WRITES_TIMEOUT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the amount of lock stripes which are used to synchronize writes to individual nodes. Default: " + DEFAULT_SYNC_WRITES_STRIPES)
+	@EnvironmentVariable(name = MESH_GRAPH_SYNC_WRITES_STRIPES_ENV, description = "Override the graph database sync write lock stripes.")
+	private int synchronizeWritesStripes = DEFAULT_SYNC_WRITES_STRIPES;
+
 	@JsonProperty(defaultValue = DEFAULT_TX_RETRY_DELAY + "ms")
-	@JsonPropertyDescription("The delay in milliseconds when a transaction has to be retried.")
+	@JsonPropertyDescription("The base delay in milliseconds when a transaction has to be retried. The delay grows exponentially with each retry and is randomized.")
 	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_DELAY_ENV, description = "Override the transaction retry delay. Default: "
 		+ DEFAULT_TX_RETRY_DELAY)
 	private int txRetryDelay = DEFAULT_TX_RETRY_DELAY;
@@ -78,6 +89,19 @@ public class GraphStorageOptions implements Option {
 		+ DEFAULT_TX_RETRY_LIMIT)
 	private int txRetryLimit = DEFAULT_TX_RETRY_LIMIT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Upper limit for the delay in milliseconds between two retries of a transaction. Default: " + DEFAULT_TX_RETRY_MAX_DELAY)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_MAX_DELAY_ENV, description = "Override the transaction retry max delay. Default: "
+		+ DEFAULT_TX_RETRY_MAX_DELAY)
+	private int txRetryMaxDelay = DEFAULT_TX_RETRY_MAX_DELAY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Retry budget which is earned by each successful transaction. The first retry of a transaction is always permitted. Each further retry consumes one unit of the budget and is no longer permitted once the budget is exhausted. A ratio of 0 disables the budget. Default: "
+		+ DEFAULT_TX_RETRY_BUDGET_RATIO)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_RETRY_BUDGET_RATIO_ENV, description = "Override the transaction retry budget ratio. Default: "
+		+ DEFAULT_TX_RETRY_BUDGET_RATIO)
+	private double txRetryBudgetRatio = DEFAULT_TX_RETRY_BUDGET_RATIO;
+
 	@JsonProperty(defaultValue = DEFAULT_TX_COMMIT_TIMEOUT + " ms")
 	@JsonPropertyDescription("The transaction commit timeout in milliseconds. A timeout value of zero means that transaction commit operations will never timeout.")
 	@EnvironmentVariable(name = MESH_GRAPH_TX_COMMIT_TIMEOUT_ENV, description = "Override the transaction commit timeout. Default: "
@@ -173,6 +197,15 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	public int getSynchronizeWritesStripes() {
+		return synchronizeWritesStripes;
+	}
+
+	public GraphStorageOptions setSynchronizeWritesStripes(int synchronizeWritesStripes) {
+		this.synchronizeWritesStripes = synchronizeWritesStripes;
+		return this;
+	}
+
 	public int getTxRetryLimit() {
 		return txRetryLimit;
 	}
@@ -182,6 +215,24 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	public int getTxRetryMaxDelay() {
+		return txRetryMaxDelay;
+	}
+
+	public GraphStorageOptions setTxRetryMaxDelay(int txRetryMaxDelay) {
+		this.txRetryMaxDelay = txRetryMaxDelay;
+		return this;
+	}
+
+	public double getTxRetryBudgetRatio() {
+		return txRetryBudgetRatio;
+	}
+
+	public GraphStorageOptions setTxRetryBudgetRatio(double txRetryBudgetRatio) {
+		this.txRetryBudgetRatio = txRetryBudgetRatio;
+		return this;
+	}
+
 	public long getTxCommitTimeout() {
 		return this.txCommitTimeout;
 	}
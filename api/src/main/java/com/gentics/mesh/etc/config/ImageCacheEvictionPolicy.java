@@ -0,0 +1,18 @@
+package com.gentics.mesh.etc.config;
+
+/**
+ * Policies which determine the resized images that are removed from the image cache once the cache exceeds its maximum size.
+ */
+public enum ImageCacheEvictionPolicy {
+
+	/**
+	 * Remove the images which have not been accessed for the longest time.
+	 */
+	LRU,
+
+	/**
+	 * Remove the images which have been accessed the least often. Images with the same amount of accesses are removed in LRU order.
+	 */
+	LFU
+
+}
@@ -18,11 +18,16 @@ public class ImageManipulatorOptions implements Option {
 	public static final String MESH_IMAGE_MAX_HEIGHT_ENV = "MESH_IMAGE_MAX_HEIGHT";
 	public static final String MESH_IMAGE_JPEG_QUALITY_ENV = "MESH_IMAGE_JPEG_QUALITY";
 	public static final String MESH_IMAGE_RESAMPLE_FILTER_ENV = "MESH_IMAGE_RESAMPLE_FILTER";
+	public static final String MESH_IMAGE_CACHE_MAX_SIZE_ENV = "MESH_IMAGE_CACHE_MAX_SIZE";
+	public static final String MESH_IMAGE_CACHE_EVICTION_POLICY_ENV = "MESH_IMAGE_CACHE_EVICTION_POLICY";
 	public static final int DEFAULT_MAX_WIDTH = 2048;
 	public static final int DEFAULT_MAX_HEIGHT = 2048;
 	public static final float DEFAULT_JPEG_QUALITY = 0.95f;
 	// This is the default filter in ImageMagick
 	public static final ResampleFilter DEFAULT_RESAMPLE_FILTER = ResampleFilter.LANCZOS;
+	public static final long DEFAULT_IMAGE_CACHE_MAX_SIZE_MB = 10240; // 10 GiB
+	public static final long DEFAULT_IMAGE_CACHE_MAX_SIZE = 1024 * 1024 * DEFAULT_IMAGE_CACHE_MAX_SIZE_MB;
+	public static final ImageCacheEvictionPolicy DEFAULT_IMAGE_CACHE_EVICTION_POLICY = ImageCacheEvictionPolicy.LRU;
 
 	private String imageCacheDirectory = "data" + File.separator + "binaryImageCache";
 
@@ -49,6 +54,17 @@ public class ImageManipulatorOptions implements Option {
 	@EnvironmentVariable(name = MESH_IMAGE_RESAMPLE_FILTER_ENV, description = "Override the sample filter for image resize operations.")
 	private ResampleFilter resampleFilter = DEFAULT_RESAMPLE_FILTER;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure the maximum size in bytes of the resized images in the image cache directory. Least recently or least frequently used images will be removed when the limit is exceeded. Set the value to 0 to disable the limit. Default: "
+		+ DEFAULT_IMAGE_CACHE_MAX_SIZE)
+	@EnvironmentVariable(name = MESH_IMAGE_CACHE_MAX_SIZE_ENV, description = "Override the maximum size of the image cache in bytes.")
+	private long imageCacheMaxSize = DEFAULT_IMAGE_CACHE_MAX_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Configure which images are removed first when the image cache exceeds its maximum size. LRU removes the least recently used images and LFU removes the least frequently used images. Default: LRU")
+	@EnvironmentVariable(name = MESH_IMAGE_CACHE_EVICTION_POLICY_ENV, description = "Override the eviction policy of the image cache.")
+	private ImageCacheEvictionPolicy imageCacheEvictionPolicy = DEFAULT_IMAGE_CACHE_EVICTION_POLICY;
+
 	public String getImageCacheDirectory() {
 		return imageCacheDirectory;
 	}
@@ -94,6 +110,27 @@ public class ImageManipulatorOptions implements Option {
 		return this;
 	}
 
+	public long getImageCacheMaxSize() {
+		return imageCacheMaxSize;
+	}
+
+	public ImageManipulatorOptions setImageCacheMaxSize(long imageCacheMaxSize) {
+		this.imageCacheMaxSize = imageCacheMaxSize;
+		return this;
+	}
+
+	public ImageCacheEvictionPolicy getImageCacheEvictionPolicy() {
+		return imageCacheEvictionPolicy;
+	}
+
+	public ImageManipulatorOptions setImageCacheEvictionPolicy(ImageCacheEvictionPolicy imageCacheEvictionPolicy) {
+		this.imageCacheEvictionPolicy = imageCacheEvictionPolicy;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
+		if (imageCacheMaxSize < 0) {
+			throw new IllegalArgumentException("The image cache max size must not be negative.");
+		}
 	}
 }
@@ -20,6 +20,8 @@ public class VertxOptions implements Option {
 
 	public static final String MESH_VERTX_EVENT_POOL_SIZE_ENV = "MESH_VERTX_EVENT_POOL_SIZE";
 
+	public static final String MESH_VERTX_EVENT_BATCH_ENVELOPE_ENV = "MESH_VERTX_EVENT_BATCH_ENVELOPE";
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Configure worker pool size. Default is: " + DEFAULT_WORKER_POOL_SIZE)
 	@EnvironmentVariable(name = MESH_VERTX_WORKER_POOL_SIZE_ENV, description = "Override the configured Vert.x worker pool size.")
@@ -30,6 +32,11 @@ public class VertxOptions implements Option {
 	@EnvironmentVariable(name = MESH_VERTX_EVENT_POOL_SIZE_ENV, description = "Override the configured Vert.x event pool size.")
 	private int eventPoolSize = DEFAULT_EVENT_POOL_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Publish the events of a batch as one binary envelope per address instead of individual messages. Only the internal handlers of Gentics Mesh consume the envelopes. Listeners of the eventbus websocket bridge and plugins will not receive the events when enabled. Default is: false")
+	@EnvironmentVariable(name = MESH_VERTX_EVENT_BATCH_ENVELOPE_ENV, description = "Override the configured Vert.x event batch envelope mode.")
+	private boolean eventBatchEnvelope = false;
+
 	public int getEventPoolSize() {
 		return eventPoolSize;
 	}
@@ -39,6 +46,15 @@ public class VertxOptions implements Option {
 		return this;
 	}
 
+	public boolean isEventBatchEnvelope() {
+		return eventBatchEnvelope;
+	}
+
+	public VertxOptions setEventBatchEnvelope(boolean eventBatchEnvelope) {
+		this.eventBatchEnvelope = eventBatchEnvelope;
+		return this;
+	}
+
 	public int getWorkerPoolSize() {
 		return workerPoolSize;
 	}
@@ -24,6 +24,8 @@ public class ElasticSearchOptions implements Option {
 
 	public static final int DEFAULT_BULK_LIMIT = 100;
 	public static final int DEFAULT_BULK_LENGTH_LIMIT = 5_000_000;
+	public static final int DEFAULT_BULK_CONCURRENCY = 1;
+	public static final int DEFAULT_TRANSFORM_CONCURRENCY = 1;
 
 	public static final int DEFAULT_EVENT_BUFFER_SIZE = 1000;
 	public static final int DEFAULT_BULK_DEBOUNCE_TIME = 2000;
@@ -32,6 +34,8 @@ public class ElasticSearchOptions implements Option {
 	public static final int DEFAULT_RETRY_LIMIT = 3;
 	public static final boolean DEFAULT_WAIT_FOR_IDLE = true;
 	public static final boolean DEFAULT_INCLUDE_BINARY_FIELDS = true;
+	public static final boolean DEFAULT_INCREMENTAL_SYNC = false;
+	public static final int DEFAULT_DOCUMENT_HASH_LIMIT = 100_000;
 	public static final MappingMode DEFAULT_MAPPING_MODE = MappingMode.DYNAMIC;
 	public static final ComplianceMode DEFAULT_COMPLIANCE_MODE = ComplianceMode.ES_6;
 
@@ -53,6 +57,8 @@ public class ElasticSearchOptions implements Option {
 	public static final String MESH_ELASTICSEARCH_PREFIX_ENV = "MESH_ELASTICSEARCH_PREFIX";
 	public static final String MESH_ELASTICSEARCH_BULK_LIMIT_ENV = "MESH_ELASTICSEARCH_BULK_LIMIT";
 	public static final String MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT_ENV = "MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT";
+	public static final String MESH_ELASTICSEARCH_BULK_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_BULK_CONCURRENCY";
+	public static final String MESH_ELASTICSEARCH_TRANSFORM_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_TRANSFORM_CONCURRENCY";
 	public static final String MESH_ELASTICSEARCH_EVENT_BUFFER_SIZE_ENV = "MESH_ELASTICSEARCH_EVENT_BUFFER_SIZE";
 	public static final String MESH_ELASTICSEARCH_BULK_DEBOUNCE_TIME_ENV = "MESH_ELASTICSEARCH_BULK_DEBOUNCE_TIME";
 	public static final String MESH_ELASTICSEARCH_IDLE_DEBOUNCE_TIME_ENV = "MESH_ELASTICSEARCH_IDLE_DEBOUNCE_TIME";
@@ -63,6 +69,8 @@ public class ElasticSearchOptions implements Option {
 	public static final String MESH_ELASTICSEARCH_COMPLIANCE_MODE_ENV = "MESH_ELASTICSEARCH_COMPLIANCE_MODE";
 	public static final String MESH_ELASTICSEARCH_HOSTNAME_VERIFICATION_ENV = "MESH_ELASTICSEARCH_HOSTNAME_VERIFICATION";
 	public static final String MESH_ELASTICSEARCH_INCLUDE_BINARY_FIELDS_ENV = "MESH_ELASTICSEARCH_INCLUDE_BINARY_FIELDS";
+	public static final String MESH_ELASTICSEARCH_INCREMENTAL_SYNC_ENV = "MESH_ELASTICSEARCH_INCREMENTAL_SYNC";
+	public static final String MESH_ELASTICSEARCH_DOCUMENT_HASH_LIMIT_ENV = "MESH_ELASTICSEARCH_DOCUMENT_HASH_LIMIT";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Elasticsearch connection url to be used. Set this setting to null will disable the Elasticsearch support.")
@@ -125,11 +133,25 @@ public class ElasticSearchOptions implements Option {
 	private int bulkLimit = DEFAULT_BULK_LIMIT;
 
 	@JsonProperty(required = false)
-	@JsonPropertyDescription("Upper limit for the total encoded string length of the bulk requests. Default: " + DEFAULT_BULK_LENGTH_LIMIT)
+	@JsonPropertyDescription("Upper limit for the total size in bytes of the encoded bulk requests. Default: " + DEFAULT_BULK_LENGTH_LIMIT)
 	@EnvironmentVariable(name = MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT_ENV, description = "Override the batch bulk length limit. Default: "
 		+ DEFAULT_BULK_LENGTH_LIMIT)
 	private long bulkLengthLimit = DEFAULT_BULK_LENGTH_LIMIT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Upper limit for the amount of bulk requests which are sent to Elasticsearch in parallel. Requests which affect the same document are always sent in order. Default: "
+		+ DEFAULT_BULK_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_BULK_CONCURRENCY_ENV, description = "Override the bulk concurrency. Default: "
+		+ DEFAULT_BULK_CONCURRENCY)
+	private int bulkConcurrency = DEFAULT_BULK_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of threads which transform the hits of large search result pages in parallel. Each thread uses its own transaction. Pages with up to 100 hits are always transformed in a single transaction. Default: "
+		+ DEFAULT_TRANSFORM_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_TRANSFORM_CONCURRENCY_ENV, description = "Override the search hit transform concurrency. Default: "
+		+ DEFAULT_TRANSFORM_CONCURRENCY)
+	private int transformConcurrency = DEFAULT_TRANSFORM_CONCURRENCY;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Upper limit for mesh events that are to be mapped to elastic search requests. Default: "
 		+ DEFAULT_EVENT_BUFFER_SIZE)
@@ -182,6 +204,19 @@ public class ElasticSearchOptions implements Option {
 	@EnvironmentVariable(name = MESH_ELASTICSEARCH_COMPLIANCE_MODE_ENV, description = "Override the search compliance mode.")
 	private ComplianceMode complianceMode = DEFAULT_COMPLIANCE_MODE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("If true, the index sync will only synchronize elements which were changed since the last successful sync of the index. A full diff of the index can still be invoked via the deep sync. Default: "
+		+ DEFAULT_INCREMENTAL_SYNC)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_INCREMENTAL_SYNC_ENV, description = "Override the search incremental sync flag.")
+	private boolean incrementalSync = DEFAULT_INCREMENTAL_SYNC;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Maximum amount of document hashes which are kept for all indices. The hashes are used to skip requests for documents which did not change. Set this to 0 in order to disable the change detection. The change detection is not used in clustered mode. Default: "
+		+ DEFAULT_DOCUMENT_HASH_LIMIT)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_DOCUMENT_HASH_LIMIT_ENV, description = "Override the document hash limit. Default: "
+		+ DEFAULT_DOCUMENT_HASH_LIMIT)
+	private int documentHashLimit = DEFAULT_DOCUMENT_HASH_LIMIT;
+
 	public ElasticSearchOptions() {
 
 	}
@@ -327,6 +362,24 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
+	public int getBulkConcurrency() {
+		return bulkConcurrency;
+	}
+
+	public ElasticSearchOptions setBulkConcurrency(int bulkConcurrency) {
+		this.bulkConcurrency = bulkConcurrency;
+		return this;
+	}
+
+	public int getTransformConcurrency() {
+		return transformConcurrency;
+	}
+
+	public ElasticSearchOptions setTransformConcurrency(int transformConcurrency) {
+		this.transformConcurrency = transformConcurrency;
+		return this;
+	}
+
 	public String getPrefix() {
 		return prefix;
 	}
@@ -408,6 +461,24 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
+	public boolean isIncrementalSync() {
+		return incrementalSync;
+	}
+
+	public ElasticSearchOptions setIncrementalSync(boolean incrementalSync) {
+		this.incrementalSync = incrementalSync;
+		return this;
+	}
+
+	public int getDocumentHashLimit() {
+		return documentHashLimit;
+	}
+
+	public ElasticSearchOptions setDocumentHashLimit(int documentHashLimit) {
+		this.documentHashLimit = documentHashLimit;
+		return this;
+	}
+
 	public int getRetryLimit() {
 		return retryLimit;
 	}
@@ -1,9 +1,11 @@
 package com.gentics.mesh.util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -130,4 +132,30 @@ public final class StreamUtil {
 			}
 		};
 	}
+
+	/**
+	 * Lazily groups the items of the stream into lists of the given size. The last list may contain less items.
+	 * @param stream
+	 * @param batchSize
+	 * @param <T>
+	 * @return
+	 */
+	public static <T> Stream<List<T>> batch(Stream<T> stream, int batchSize) {
+		Iterator<T> it = stream.iterator();
+		return toStream(new Iterator<List<T>>() {
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public List<T> next() {
+				List<T> batch = new ArrayList<>(batchSize);
+				while (batch.size() < batchSize && it.hasNext()) {
+					batch.add(it.next());
+				}
+				return batch;
+			}
+		});
+	}
 }
@@ -0,0 +1,27 @@
+package com.gentics.mesh.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+public class StreamUtilTest {
+
+	@Test
+	public void testBatch() {
+		List<List<Integer>> batches = StreamUtil.batch(Stream.of(1, 2, 3, 4, 5), 2).collect(Collectors.toList());
+		assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5)), batches);
+	}
+
+	@Test
+	public void testBatchEmptyStream() {
+		List<List<Object>> batches = StreamUtil.batch(Stream.empty(), 2).collect(Collectors.toList());
+		assertEquals(Collections.emptyList(), batches);
+	}
+
+}
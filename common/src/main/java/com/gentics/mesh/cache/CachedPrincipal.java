@@ -0,0 +1,45 @@
+package com.gentics.mesh.cache;
+
+import com.gentics.mesh.core.data.MeshAuthUser;
+
+/**
+ * Cached information of an authenticated user which is needed to validate the JWT or API key of a request.
+ */
+public final class CachedPrincipal {
+
+	private final MeshAuthUser user;
+
+	private final String apiKeyTokenCode;
+
+	/**
+	 * Create a new principal.
+	 *
+	 * @param user
+	 *            Loaded user. The user is only used to create new users for the requests.
+	 * @param apiKeyTokenCode
+	 *            Currently stored API key token code of the user
+	 */
+	public CachedPrincipal(MeshAuthUser user, String apiKeyTokenCode) {
+		this.user = user;
+		this.apiKeyTokenCode = apiKeyTokenCode;
+	}
+
+	/**
+	 * Return a new user for the request. The user references the same vertex but does not share the request specific state with other requests.
+	 *
+	 * @return
+	 */
+	public MeshAuthUser newUser() {
+		return user.copy();
+	}
+
+	/**
+	 * Return the API key token code which was stored when the principal was loaded.
+	 *
+	 * @return Token code or null if the user has no API key
+	 */
+	public String getAPIKeyTokenCode() {
+		return apiKeyTokenCode;
+	}
+
+}
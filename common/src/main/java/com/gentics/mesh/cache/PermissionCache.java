@@ -1,35 +1,69 @@
 package com.gentics.mesh.cache;
 
+import java.util.Set;
+import java.util.function.Supplier;
+
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 
-public interface PermissionCache extends MeshCache<String, Boolean> {
+/**
+ * Cache for the permissions of role sets on elements. Granting and denying permissions are cached. Permission changes of a role only invalidate the entries of
+ * the affected role sets. The invalidations are applied immediately and again once the current transaction has been completed, since other transactions may
+ * cache the previous permissions until the changes are committed.
+ */
+public interface PermissionCache extends MeshCache<PermissionCacheKey, Boolean> {
 
 	/**
 	 * Clear the local cache and send an event to inform other instances to also clear their caches.
-	 * 
+	 *
 	 * @param notify
 	 */
 	void clear(boolean notify);
 
 	/**
-	 * Check whether the element with the given id has the permission.
-	 * 
+	 * Return the interned role set of the user.
+	 *
 	 * @param userId
 	 *            User id
+	 * @param roleUuidLoader
+	 *            Loader for the uuids of the roles of the user, which is invoked if the role set of the user is not cached
+	 * @return
+	 */
+	RoleSet getRoleSet(Object userId, Supplier<Set<String>> roleUuidLoader);
+
+	/**
+	 * Return the cached permission of the role set on the element.
+	 *
+	 * @param roles
 	 * @param permission
 	 * @param elementId
-	 * @return
+	 * @return true if the permission is granted, false if it is denied or null if the permission is not cached
 	 */
-	boolean hasPermission(Object userId, GraphPermission permission, Object elementId);
+	Boolean hasPermission(RoleSet roles, GraphPermission permission, Object elementId);
 
 	/**
-	 * Store the granting permission in the perm store.
-	 * 
-	 * @param userId
-	 *            User id
+	 * Store the permission of the role set on the element.
+	 *
+	 * @param roles
 	 * @param permission
 	 * @param elementId
+	 * @param granted
+	 *            Whether the permission is granted
+	 */
+	void store(RoleSet roles, GraphPermission permission, Object elementId, boolean granted);
+
+	/**
+	 * Invalidate the entries for the element of all role sets which contain the role. The entries are invalidated again and the other instances are informed
+	 * once the current transaction has been completed.
+	 *
+	 * @param roleUuid
+	 * @param elementId
+	 */
+	void invalidateRole(String roleUuid, Object elementId);
+
+	/**
+	 * Invalidate the role sets of all users. This is needed when the roles of users change. The role sets are invalidated again and the other instances are
+	 * informed once the current transaction has been completed.
 	 */
-	void store(Object userId, GraphPermission permission, Object elementId);
+	void invalidateRoleSets();
 
 }
@@ -0,0 +1,52 @@
+package com.gentics.mesh.cache;
+
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+
+/**
+ * Key of the {@link PermissionCache}. The role set, its generation and the permission are packed into a single long. The element id is referenced as is
+ * since graph element ids are immutable.
+ */
+public final class PermissionCacheKey {
+
+	private final long packed;
+
+	private final Object elementId;
+
+	private final int hash;
+
+	/**
+	 * Create a new key.
+	 *
+	 * @param roles
+	 * @param permission
+	 * @param elementId
+	 */
+	public PermissionCacheKey(RoleSet roles, GraphPermission permission, Object elementId) {
+		this.packed = ((long) roles.getId() << 32) | ((long) roles.getGeneration() << 3) | permission.ordinal();
+		this.elementId = elementId;
+		this.hash = 31 * Long.hashCode(packed) + elementId.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof PermissionCacheKey)) {
+			return false;
+		}
+		PermissionCacheKey other = (PermissionCacheKey) obj;
+		return packed == other.packed && elementId.equals(other.elementId);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return packed + "-" + elementId;
+	}
+
+}
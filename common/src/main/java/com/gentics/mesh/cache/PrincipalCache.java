@@ -0,0 +1,16 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Cache for the principals of authenticated users. The cache is keyed by the user uuid and is used to authenticate requests with a JWT or API key without
+ * loading the user in a transaction.
+ */
+public interface PrincipalCache extends MeshCache<String, CachedPrincipal> {
+
+	/**
+	 * Invalidate the cached principal of the user with the given uuid on this instance.
+	 *
+	 * @param userUuid
+	 */
+	void invalidate(String userUuid);
+
+}
@@ -0,0 +1,88 @@
+package com.gentics.mesh.cache;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Interned set of role uuids. All users which are assigned to the same roles share one role set and thus also share the entries of the
+ * {@link PermissionCache}.
+ */
+public final class RoleSet {
+
+	private static final int GENERATION_MASK = 0x1FFFFFFF;
+
+	private final int id;
+
+	private final Set<String> roleUuids;
+
+	private volatile int generation = 0;
+
+	/**
+	 * Create a new role set.
+	 *
+	 * @param id
+	 *            Id which identifies the role set within the cache
+	 * @param roleUuids
+	 *            Uuids of the roles
+	 */
+	public RoleSet(int id, Set<String> roleUuids) {
+		this.id = id;
+		this.roleUuids = Collections.unmodifiableSet(roleUuids);
+	}
+
+	/**
+	 * Return the id of the role set.
+	 *
+	 * @return
+	 */
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * Return the generation of the role set. Cache entries which were created for previous generations are no longer used.
+	 *
+	 * @return
+	 */
+	public int getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Increment the generation and thus invalidate all cache entries of the role set.
+	 */
+	public synchronized void incrementGeneration() {
+		generation = (generation + 1) & GENERATION_MASK;
+	}
+
+	/**
+	 * Return the uuids of the roles.
+	 *
+	 * @return
+	 */
+	public Set<String> getRoleUuids() {
+		return roleUuids;
+	}
+
+	/**
+	 * Check whether the role set contains the role.
+	 *
+	 * @param roleUuid
+	 * @return
+	 */
+	public boolean contains(String roleUuid) {
+		return roleUuids.contains(roleUuid);
+	}
+
+	/**
+	 * Check whether at least one of the roles is contained in the given set of allowed roles.
+	 *
+	 * @param allowedRoleUuids
+	 *            Uuids of the roles which were granted a permission, may be null
+	 * @return
+	 */
+	public boolean isPermitted(Set<String> allowedRoleUuids) {
+		return allowedRoleUuids != null && !Collections.disjoint(allowedRoleUuids, roleUuids);
+	}
+
+}
@@ -2,6 +2,8 @@ package com.gentics.mesh.cache.impl;
 
 import java.time.Duration;
 import java.time.temporal.TemporalUnit;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -11,10 +13,12 @@ import java.util.function.Function;
 import com.gentics.mesh.cache.EventAwareCache;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.MeshEventEnvelope;
 import com.gentics.mesh.metric.CachingMetric;
 import com.gentics.mesh.metric.MetricsService;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 
 import io.micrometer.core.instrument.Counter;
 import io.reactivex.Observable;
@@ -47,13 +51,34 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 	private final Counter invalidateAllCounter;
 	private final Counter missCounter;
 	private final Counter hitCounter;
+	private final Map<RemovalCause, Counter> evictionCounters = new EnumMap<>(RemovalCause.class);
 
 	public EventAwareCacheImpl(String name, long maxSize, Duration expireAfter, Vertx vertx, MeshOptions options, MetricsService metricsService, Predicate<Message<JsonObject>> filter,
-							   BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext,
+							   BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext, BiConsumer<K, V> removalListener,
 							   MeshEvent... events) {
 		this.vertx = vertx;
 		this.options = options;
-		Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().maximumSize(maxSize);
+		for (RemovalCause cause : RemovalCause.values()) {
+			// Replaced entries are still cached
+			if (cause != RemovalCause.REPLACED) {
+				evictionCounters.put(cause, metricsService.counter(new CachingMetric(CachingMetric.Event.eviction(cause), name)));
+			}
+		}
+		Caffeine<K, V> cacheBuilder = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			// Run the listener in the calling thread so that the removals are tracked before the invalidation returns
+			.executor(Runnable::run)
+			.removalListener((K key, V value, RemovalCause cause) -> {
+				if (cause == RemovalCause.REPLACED) {
+					return;
+				}
+				if (options.getMonitoringOptions().isEnabled()) {
+					evictionCounters.get(cause).increment();
+				}
+				if (removalListener != null) {
+					removalListener.accept(key, value);
+				}
+			});
 		if (expireAfter != null) {
 			cacheBuilder = cacheBuilder.expireAfterWrite(expireAfter.getSeconds(), TimeUnit.SECONDS);
 		}
@@ -182,6 +207,7 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		private long maxSize = 1000;
 		private Predicate<Message<JsonObject>> filter = null;
 		private BiConsumer<Message<JsonObject>, EventAwareCache<K, V>> onNext = null;
+		private BiConsumer<K, V> removalListener = null;
 		private MeshEvent[] events = null;
 		private Vertx vertx;
 		private Duration expireAfter;
@@ -193,7 +219,8 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			Objects.requireNonNull(events, "No events for the cache have been set");
 			Objects.requireNonNull(vertx, "No Vert.x instance has been set");
 			Objects.requireNonNull(name, "No name has been set");
-			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(name, maxSize, expireAfter, vertx, options, metricsService, filter, onNext, events);
+			EventAwareCacheImpl<K, V> c = new EventAwareCacheImpl<>(name, maxSize, expireAfter, vertx, options, metricsService, filter, onNext,
+				removalListener, events);
 			if (disabled) {
 				c.disable();
 			}
@@ -232,6 +259,17 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			return this;
 		}
 
+		/**
+		 * Listener which will be invoked whenever an entry gets removed from the cache. Replaced entries are not handled by the listener.
+		 * 
+		 * @param removalListener
+		 * @return Fluent API
+		 */
+		public Builder<K, V> removalListener(BiConsumer<K, V> removalListener) {
+			this.removalListener = removalListener;
+			return this;
+		}
+
 		/**
 		 * Disable the created cache.
 		 * 
@@ -309,9 +347,15 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 
 	public static Observable<Message<JsonObject>> rxEventBus(EventBus eventBus, MeshEvent... addresses) {
 		return Observable.fromArray(addresses)
-			.flatMap(meshEvent -> Observable.using(
+			.flatMap(meshEvent -> Observable.merge(Observable.using(
 				() -> eventBus.<JsonObject>consumer(meshEvent.address),
-				consumer -> Observable.create(sub -> consumer.handler(sub::onNext)),
-				MessageConsumer::unregister));
+				consumer -> Observable.<Message<JsonObject>>create(sub -> consumer.handler(sub::onNext)),
+				MessageConsumer::unregister),
+				// Events which were published in envelopes are unpacked
+				Observable.using(
+					() -> eventBus.<MeshEventEnvelope>consumer(MeshEventEnvelope.address(meshEvent)),
+					consumer -> Observable.<Message<MeshEventEnvelope>>create(sub -> consumer.handler(sub::onNext))
+						.concatMapIterable(message -> message.body().toMessages()),
+					MessageConsumer::unregister)));
 	}
 }
@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data;
 
+import java.util.Set;
+
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.rest.common.PermissionInfo;
@@ -22,4 +24,13 @@ public interface HasPermissions {
 	 * @return
 	 */
 	TraversalResult<? extends Role> getRolesWithPerm(GraphPermission perm);
+
+	/**
+	 * Return the uuids of all existing roles which grant the permission to the element. Other than {@link #getRolesWithPerm(GraphPermission)} the roles will
+	 * not be loaded.
+	 *
+	 * @param perm
+	 * @return
+	 */
+	Set<String> getRoleUuidsWithPerm(GraphPermission perm);
 }
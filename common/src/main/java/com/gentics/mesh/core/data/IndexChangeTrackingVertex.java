@@ -0,0 +1,42 @@
+package com.gentics.mesh.core.data;
+
+/**
+ * Interface for vertices that track the time of the last change which affects their search documents. Unlike the edit timestamp the marker is also updated
+ * by changes of permissions, tags, group assignments and by moves. The incremental index sync range-scans the marker to find the changed elements.
+ */
+public interface IndexChangeTrackingVertex extends MeshVertex {
+
+	String INDEX_CHANGE_TIMESTAMP_PROPERTY_KEY = "index_change_timestamp";
+
+	/**
+	 * Postfix of the sorted index over the change marker.
+	 */
+	String INDEX_CHANGE_INDEX_POSTFIX = "index_change";
+
+	/**
+	 * Return the timestamp of the last change which affects the search documents of the vertex.
+	 *
+	 * @return Change timestamp or null if the vertex was not changed since the marker was introduced
+	 */
+	default Long getIndexChangeTimestamp() {
+		return property(INDEX_CHANGE_TIMESTAMP_PROPERTY_KEY);
+	}
+
+	/**
+	 * Set the timestamp of the last change which affects the search documents of the vertex.
+	 *
+	 * @param timestamp
+	 *            Change timestamp
+	 */
+	default void setIndexChangeTimestamp(long timestamp) {
+		property(INDEX_CHANGE_TIMESTAMP_PROPERTY_KEY, timestamp);
+	}
+
+	/**
+	 * Mark the vertex as changed using the current time.
+	 */
+	default void markIndexChanged() {
+		setIndexChangeTimestamp(System.currentTimeMillis());
+	}
+
+}
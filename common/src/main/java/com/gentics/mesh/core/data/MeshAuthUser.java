@@ -1,5 +1,6 @@
 package com.gentics.mesh.core.data;
 
+import com.gentics.mesh.cache.RoleSet;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.syncleus.ferma.traversals.VertexTraversal;
 
@@ -11,4 +12,19 @@ import io.vertx.ext.auth.User;
  */
 public interface MeshAuthUser extends User, com.gentics.mesh.core.data.User, ClusterSerializable {
 
+	/**
+	 * Return the role set of the user. The roles are only resolved once per request and reused for all permission checks of the request.
+	 *
+	 * @return
+	 */
+	RoleSet getRoleSet();
+
+	/**
+	 * Create a new instance which references the same user vertex. The instance doesn't share the request specific state (e.g. the role set). No
+	 * transaction is needed to create the instance.
+	 *
+	 * @return
+	 */
+	MeshAuthUser copy();
+
 }
@@ -99,6 +99,17 @@ public interface NodeGraphFieldContainer extends GraphFieldContainer, EditorTrac
 		return indexName.toString();
 	}
 
+	/**
+	 * Construct an index name pattern catching all node indices of a specific project.
+	 *
+	 * @param projectUuid
+	 * @return
+	 */
+	static String composeIndexPattern(String projectUuid) {
+		Objects.requireNonNull(projectUuid, "The project uuid was not set");
+		return String.format("node-%s-*", projectUuid);
+	}
+
 	/**
 	 * Construct an index name pattern catching all node indices of a specific project, branch and schema.
 	 *
@@ -4,8 +4,12 @@ import static com.gentics.mesh.core.rest.MeshEvent.USER_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.gentics.mesh.ElementType;
 import com.gentics.mesh.context.InternalActionContext;
@@ -19,6 +23,7 @@ import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.util.DateUtils;
+import com.gentics.mesh.util.StreamUtil;
 
 /**
  * The User Domain Model interface.
@@ -47,6 +52,11 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	String API_TOKEN_ISSUE_TIMESTAMP = "APITokenTimestamp";
 
+	/**
+	 * Amount of elements which are checked at once by {@link #filterPermitted(Stream, Function, GraphPermission)} {@value #PERMISSION_BATCH_SIZE}
+	 */
+	int PERMISSION_BATCH_SIZE = 256;
+
 	TypeInfo TYPE_INFO = new TypeInfo(ElementType.USER, USER_CREATED, USER_UPDATED, USER_DELETED);
 
 	@Override
@@ -339,6 +349,35 @@ public interface User extends MeshCoreVertex<UserResponse, User>, ReferenceableE
 	 */
 	boolean hasPermissionForId(Object elementId, GraphPermission permission);
 
+	/**
+	 * Check the given permission on multiple elements at once. The roles of the user will only be loaded once for all elements which are not found in the
+	 * permission cache.
+	 *
+	 * @param elementIds
+	 *            Ids of the elements to be checked
+	 * @param permission
+	 * @return Ids of the elements on which the permission is granted
+	 */
+	Set<Object> getPermittedIds(Collection<?> elementIds, GraphPermission permission);
+
+	/**
+	 * Filter the stream by the given permission. The permissions of consecutive elements are checked in batches via
+	 * {@link #getPermittedIds(Collection, GraphPermission)}.
+	 *
+	 * @param stream
+	 *            Stream of the elements to be checked
+	 * @param idMapper
+	 *            Function which returns the id of an element
+	 * @param permission
+	 * @return Stream of the elements on which the permission is granted
+	 */
+	default <T> Stream<T> filterPermitted(Stream<T> stream, Function<? super T, Object> idMapper, GraphPermission permission) {
+		return StreamUtil.batch(stream, PERMISSION_BATCH_SIZE).flatMap(batch -> {
+			Set<Object> permitted = getPermittedIds(batch.stream().map(idMapper).collect(Collectors.toList()), permission);
+			return batch.stream().filter(item -> permitted.contains(idMapper.apply(item)));
+		});
+	}
+
 	/**
 	 * Check the read permission on the given container and fail if the needed permission to read the container is not set. This method will not fail if the
 	 * user has READ permission or READ_PUBLISH permission on a published node.
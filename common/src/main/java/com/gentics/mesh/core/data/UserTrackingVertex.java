@@ -1,9 +1,15 @@
 package com.gentics.mesh.core.data;
 
 /**
- * Interface for vertices that track creation and editing.
+ * Interface for vertices that track creation and editing. Edits also update the index change marker of the vertex.
  */
-public interface UserTrackingVertex extends CreatorTrackingVertex, EditorTrackingVertex {
+public interface UserTrackingVertex extends CreatorTrackingVertex, EditorTrackingVertex, IndexChangeTrackingVertex {
+
+	@Override
+	default void setLastEditedTimestamp(long timestamp) {
+		property(LAST_EDIT_TIMESTAMP_PROPERTY_KEY, timestamp);
+		setIndexChangeTimestamp(timestamp);
+	}
 
 	/**
 	 * Set the editor and creator references and update the timestamp for created and edited fields.
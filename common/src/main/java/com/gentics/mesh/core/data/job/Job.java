@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.job;
 
+import java.util.Set;
+
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.CreatorTrackingVertex;
 import com.gentics.mesh.core.data.MeshCoreVertex;
@@ -31,6 +33,8 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 
 	String COMPLETION_COUNT_PROPERTY_KEY = "completionCount";
 
+	String COMPLETED_PARTITIONS_PROPERTY_KEY = "completedPartitions";
+
 	String STATUS_PROPERTY_KEY = "status";
 
 	String NODE_NAME_PROPERTY_KEY = "nodeName";
@@ -262,6 +266,20 @@ public interface Job extends MeshCoreVertex<JobResponse, Job>, CreatorTrackingVe
 	 */
 	void setCompletionCount(long count);
 
+	/**
+	 * Return the keys of the partitions which have already been processed completely. The partitions are skipped when the job is resumed.
+	 * 
+	 * @return
+	 */
+	Set<String> getCompletedPartitions();
+
+	/**
+	 * Set the keys of the completely processed partitions.
+	 * 
+	 * @param partitions
+	 */
+	void setCompletedPartitions(Set<String> partitions);
+
 	/**
 	 * Get migration status.
 	 * 
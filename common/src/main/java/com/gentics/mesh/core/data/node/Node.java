@@ -17,6 +17,7 @@ import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.TypeInfo;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.CreatorTrackingVertex;
+import com.gentics.mesh.core.data.IndexChangeTrackingVertex;
 import com.gentics.mesh.core.data.Language;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.MeshCoreVertex;
@@ -61,10 +62,30 @@ import io.reactivex.Single;
  * this node and to the created nodes in order to create a project data structure. Each node may be linked to one or more {@link NodeGraphFieldContainer}
  * vertices which contain the language specific data.
  */
-public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackingVertex, Taggable, ProjectElement {
+public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackingVertex, IndexChangeTrackingVertex, Taggable, ProjectElement {
 
 	String BRANCH_UUID_KEY = "branchUuid";
 
+	/**
+	 * Postfix of the sorted index over the project, schema and uuid of the nodes.
+	 */
+	String PROJECT_SCHEMA_UUID_INDEX_POSTFIX = "project_schema_uuid";
+
+	/**
+	 * Postfix of the sorted index over the project, schema and index change marker of the nodes.
+	 */
+	String PROJECT_SCHEMA_INDEX_CHANGE_INDEX_POSTFIX = "project_schema_index_change";
+
+	/**
+	 * Postfix of the sorted index over the project and uuid of the nodes.
+	 */
+	String PROJECT_UUID_INDEX_POSTFIX = "project_uuid";
+
+	/**
+	 * Postfix of the sorted index over the branch parents and uuid of the nodes.
+	 */
+	String BRANCH_PARENTS_UUID_INDEX_POSTFIX = "branch_parents_uuid";
+
 	static final TypeInfo TYPE_INFO = new TypeInfo(ElementType.NODE, NODE_CREATED, NODE_UPDATED, NODE_DELETED);
 
 	@Override
@@ -315,6 +336,38 @@ public interface Node extends MeshCoreVertex<NodeResponse, Node>, CreatorTrackin
 	 */
 	void setParentNode(String branchUuid, Node parentNode);
 
+	/**
+	 * Return the etag revision of the node in the branch. The revision is incremented on every change which affects the response of the node but is not
+	 * reflected by the uuid of the field container (e.g. tag assignments, publish state or parent).
+	 *
+	 * @param branchUuid
+	 * @return
+	 */
+	long getETagRevision(String branchUuid);
+
+	/**
+	 * Increment the etag revision of the node in the branch. If the node has children in the branch, the tree revision of the branch is incremented as well,
+	 * which changes the etags of all descendants.
+	 *
+	 * @param branchUuid
+	 */
+	void incrementETagRevision(String branchUuid);
+
+	/**
+	 * Return the revision of the children of the node in the branch. The revision is stored in a separate counter vertex and is incremented whenever children
+	 * are added to or removed from the branch or the read permissions of children change.
+	 *
+	 * @param branchUuid
+	 * @return
+	 */
+	long getChildrenETagRevision(String branchUuid);
+
+	/**
+	 * Increment the children revisions of the parent nodes of all branches. This needs to be invoked when the node is no longer or newly listed within the
+	 * children of its parents. The parent vertices are not modified.
+	 */
+	void incrementParentETagRevisions();
+
 	/**
 	 * Create a child node in this node in the latest branch of the project.
 	 *
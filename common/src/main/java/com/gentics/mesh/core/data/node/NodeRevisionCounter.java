@@ -0,0 +1,72 @@
+package com.gentics.mesh.core.data.node;
+
+import com.gentics.mesh.core.data.MeshVertex;
+
+/**
+ * Counter vertex which tracks changes that affect the etags of nodes within a branch. The counters are kept in dedicated vertices so that changes of the
+ * children or of the node tree of a branch do not need to write to the affected node vertices.
+ */
+public interface NodeRevisionCounter extends MeshVertex {
+
+	String COUNTER_KEY_PROPERTY_KEY = "counterKey";
+
+	String REVISION_PROPERTY_KEY = "revision";
+
+	/**
+	 * Return the key of the counter which tracks the children of the node within the branch.
+	 *
+	 * @param branchUuid
+	 * @param nodeUuid
+	 * @return
+	 */
+	static String childrenKey(String branchUuid, String nodeUuid) {
+		return "children:" + branchUuid + ":" + nodeUuid;
+	}
+
+	/**
+	 * Return the key of the counter which tracks the changes of all nodes that have children within the branch. Those changes affect the breadcrumbs and
+	 * paths of the descendants.
+	 *
+	 * @param branchUuid
+	 * @return
+	 */
+	static String treeKey(String branchUuid) {
+		return "tree:" + branchUuid;
+	}
+
+	/**
+	 * Return the key of the counter.
+	 *
+	 * @return
+	 */
+	default String getCounterKey() {
+		return property(COUNTER_KEY_PROPERTY_KEY);
+	}
+
+	/**
+	 * Set the key of the counter.
+	 *
+	 * @param key
+	 */
+	default void setCounterKey(String key) {
+		property(COUNTER_KEY_PROPERTY_KEY, key);
+	}
+
+	/**
+	 * Return the current revision.
+	 *
+	 * @return
+	 */
+	default long getRevision() {
+		Long revision = property(REVISION_PROPERTY_KEY);
+		return revision == null ? 0 : revision;
+	}
+
+	/**
+	 * Increment the revision.
+	 */
+	default void increment() {
+		property(REVISION_PROPERTY_KEY, getRevision() + 1);
+	}
+
+}
@@ -0,0 +1,24 @@
+package com.gentics.mesh.core.data.node.field.list;
+
+import java.util.List;
+
+import com.gentics.mesh.core.data.node.field.nesting.ListableGraphField;
+import com.gentics.mesh.core.rest.node.field.Field;
+
+/**
+ * A basic list graph field is a list which stores plain values (e.g. strings, numbers, dates) instead of references to other elements.
+ * 
+ * @param <T>
+ * @param <RM>
+ * @param <U>
+ */
+public interface BasicListGraphField<T extends ListableGraphField, RM extends Field, U> extends ListGraphField<T, RM, U> {
+
+	/**
+	 * Replace all items of the list with the given values.
+	 * 
+	 * @param values
+	 */
+	void setValues(List<U> values);
+
+}
@@ -3,7 +3,7 @@ package com.gentics.mesh.core.data.node.field.list;
 import com.gentics.mesh.core.data.node.field.BooleanGraphField;
 import com.gentics.mesh.core.rest.node.field.list.impl.BooleanFieldListImpl;
 
-public interface BooleanGraphFieldList extends ListGraphField<BooleanGraphField, BooleanFieldListImpl, Boolean> {
+public interface BooleanGraphFieldList extends BasicListGraphField<BooleanGraphField, BooleanFieldListImpl, Boolean> {
 
 	String TYPE = "boolean";
 
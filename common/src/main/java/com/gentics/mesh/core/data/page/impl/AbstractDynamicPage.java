@@ -7,6 +7,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.rest.error.GenericRestException;
@@ -20,6 +21,26 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	protected Long lowerBound;
 
+	/**
+	 * Id of the last element of the previous page or null if the page is not loaded via a cursor.
+	 */
+	protected String cursor;
+
+	/**
+	 * Position of the cursor element within the unsorted stream of elements or null if the cursor has no position.
+	 */
+	protected Long cursorPosition;
+
+	/**
+	 * Number of stream elements which have been consumed. This is only tracked for streams which are skipped via {@link #skipToCursor(Stream)}.
+	 */
+	protected AtomicLong streamPosition;
+
+	/**
+	 * Stream position of the last element of the page.
+	 */
+	protected long lastElementPosition;
+
 	/**
 	 * The unfiltered raw search count which was returned by the search provider.
 	 */
@@ -46,10 +67,14 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		}
 		this.pageNumber = pagingInfo.getPage();
 		this.perPage = pagingInfo.getPerPage();
+		String decodedCursor = PageCursor.decode(pagingInfo.getCursor());
+		this.cursor = PageCursor.key(decodedCursor);
+		this.cursorPosition = PageCursor.position(decodedCursor);
 
 		if (perPage == null) {
 			this.lowerBound = null;
-		} else if (perPage == 0) {
+		} else if (perPage == 0 || cursor != null) {
+			// The elements of previous pages are skipped via the cursor
 			this.lowerBound = 0L;
 		} else {
 			this.lowerBound = (pageNumber - 1) * perPage;
@@ -64,6 +89,10 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getPageCount() {
+		// The page count is unknown since the elements are not counted for cursor based paging
+		if (cursor != null) {
+			return -1;
+		}
 		if (totalPages == null) {
 			// The totalPages of the list response must be zero if the perPage parameter is also zero.
 			totalPages = 0L;
@@ -83,6 +112,10 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 
 	@Override
 	public long getTotalElements() {
+		// Counting would require to iterate over all remaining elements for each page. The count is thus omitted for cursor based paging.
+		if (cursor != null) {
+			return -1;
+		}
 		// Iterate over all elements to determine the total count
 		while (visibleItems.hasNext()) {
 			visibleItems.next();
@@ -108,4 +141,76 @@ public abstract class AbstractDynamicPage<T> implements Page<T> {
 		return hasNextPage.get();
 	}
 
+	@Override
+	public String getNextCursor() {
+		if (perPage == null || perPage == 0 || !hasNextPage()) {
+			return null;
+		}
+		List<? extends T> list = getWrappedList();
+		if (list.isEmpty()) {
+			return null;
+		}
+		Object key = cursorKey(list.get(list.size() - 1));
+		if (key == null) {
+			return null;
+		}
+		return streamPosition == null ? PageCursor.encode(key) : PageCursor.encode(key, lastElementPosition);
+	}
+
+	/**
+	 * Return the key which identifies the given element within the cursor.
+	 * 
+	 * @param element
+	 * @return Key or null if the element can't be referenced by a cursor
+	 */
+	protected Object cursorKey(T element) {
+		return PageCursor.elementId(element);
+	}
+
+	/**
+	 * Add the element to the elements of the page.
+	 * 
+	 * @param element
+	 */
+	protected void addToPage(T element) {
+		elementsOfPage.add(element);
+		if (streamPosition != null) {
+			lastElementPosition = streamPosition.get();
+		}
+	}
+
+	/**
+	 * Skip the elements of the given stream up to and including the element which is identified by the cursor. The skipped elements don't need to be
+	 * framed or checked for permissions. The elements of the stream are not sorted by their id. The cursor thus also contains the stream position of its
+	 * element. The page resumes at that position if the element is not found before it, e.g. because the element was deleted.
+	 * 
+	 * @param stream
+	 *            Stream of graph elements
+	 * @return Stream which starts after the cursor element
+	 */
+	protected <E> Stream<E> skipToCursor(Stream<E> stream) {
+		streamPosition = new AtomicLong();
+		Stream<E> countedStream = stream.peek(element -> streamPosition.incrementAndGet());
+		if (cursor == null) {
+			return countedStream;
+		}
+		AtomicBoolean found = new AtomicBoolean();
+		return countedStream.filter(element -> {
+			if (found.get()) {
+				return true;
+			}
+			Object id = PageCursor.elementId(element);
+			if (id != null && cursor.equals(id.toString())) {
+				found.set(true);
+				return false;
+			}
+			// The cursor element is no longer located at its position. The page continues with the element which now takes its place.
+			if (cursorPosition != null && streamPosition.get() >= cursorPosition) {
+				found.set(true);
+				return true;
+			}
+			return false;
+		});
+	}
+
 }
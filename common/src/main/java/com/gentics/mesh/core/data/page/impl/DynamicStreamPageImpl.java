@@ -10,7 +10,7 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 
 	public DynamicStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo) {
 		super(pagingInfo);
-		init(stream);
+		init(skipToCursor(stream));
 	}
 
 	/**
@@ -25,7 +25,8 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 	 */
 	public DynamicStreamPageImpl(Stream<? extends T> stream, PagingParameters pagingInfo, Predicate<T> filter) {
 		super(pagingInfo);
-		init(stream.filter(filter));
+		// Skip to the cursor first since the filter may be expensive
+		init(skipToCursor(stream).filter(filter));
 	}
 
 	private void init(Stream<? extends T> stream) {
@@ -45,7 +46,7 @@ public class DynamicStreamPageImpl<T> extends AbstractDynamicPage<T> {
 			// Only add elements to the list if those elements are part of selected the page
 			long elementsInPage = pageCounter.get();
 			if (lowerBound == null || elementsInPage < perPage) {
-				elementsOfPage.add(item);
+				addToPage(item);
 				pageCounter.incrementAndGet();
 			} else {
 				pageFull.set(true);
@@ -8,14 +8,21 @@ import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.rest.common.RestModel;
 import com.gentics.mesh.parameter.PagingParameters;
+import com.google.common.collect.Iterators;
 import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
 import com.tinkerpop.blueprints.Vertex;
 
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -38,6 +45,8 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 
 	private boolean frameExplicitly;
 
+	private boolean uuidCursor;
+
 	private DynamicTransformablePageImpl(User requestUser, PagingParameters pagingInfo, Predicate<T> extraFilter, boolean frameExplicitly) {
 		super(pagingInfo);
 		this.extraFilter = extraFilter;
@@ -79,7 +88,12 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 	public DynamicTransformablePageImpl(User requestUser, RootVertex<? extends T> root, PagingParameters pagingInfo, GraphPermission perm,
 		Predicate<T> extraFilter, boolean frameExplicitly) {
 		this(requestUser, pagingInfo, extraFilter, frameExplicitly);
-		init(root.getPersistanceClass(), "e." + root.getRootLabel().toLowerCase() + "_out", root.id(), Direction.IN, root.getGraph(), perm);
+		Iterator<Object> ids = root.db().index().edgeRangeLookup(root.getRootLabel(), root.id(), cursor);
+		if (ids != null) {
+			init(root.getPersistanceClass(), ids, root.getGraph(), perm);
+		} else {
+			init(root.getPersistanceClass(), "e." + root.getRootLabel().toLowerCase() + "_out", root.id(), Direction.IN, root.getGraph(), perm);
+		}
 	}
 
 	/**
@@ -110,6 +124,32 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		init(clazz, indexName, indexKey, dir, Tx.getActive().getGraph(), perm);
 	}
 
+	/**
+	 * Create a new dynamic page which loads the elements via a range scan on a sorted vertex index. The sort key of the index must be the uuid of the
+	 * elements. The scan starts after the uuid of the cursor and the uuid is also used for the next cursor.
+	 *
+	 * @param requestUser
+	 *            User which is used to check permissions
+	 * @param rangeLookup
+	 *            Function which performs the range scan after the given uuid and returns the uuids and ids of the elements
+	 * @param clazz
+	 *            Class of the element to be returned
+	 * @param pagingInfo
+	 *            Paging parameters
+	 * @param perm
+	 *            Permission to check against
+	 * @param extraFilter
+	 *            Optional extra filter to filter by
+	 */
+	public DynamicTransformablePageImpl(User requestUser, Function<String, Iterator<Entry<Object, Object>>> rangeLookup, Class<? extends T> clazz,
+		PagingParameters pagingInfo, GraphPermission perm, Predicate<T> extraFilter) {
+		this(requestUser, pagingInfo, extraFilter, true);
+		this.uuidCursor = true;
+		Iterator<Entry<Object, Object>> entries = rangeLookup.apply(cursor);
+		Iterator<Object> ids = entries == null ? Collections.emptyIterator() : Iterators.transform(entries, Entry::getValue);
+		init(clazz, ids, Tx.getActive().getGraph(), perm);
+	}
+
 	/**
 	 * Create a new dynamic page.
 	 *
@@ -130,12 +170,17 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 		init(clazz, traversal, perm);
 	}
 
+	@Override
+	protected Object cursorKey(T element) {
+		return uuidCursor ? element.getUuid() : super.cursorKey(element);
+	}
+
 	private void init(Class<? extends T> clazz, VertexTraversal<?, ?, ?> traversal, GraphPermission perm) {
 		// Iterate over all vertices that are managed by this root vertex
 		Stream<Vertex> stream = StreamSupport.stream(traversal.spliterator(), false).map(item -> {
 			return item.getElement();
 		});
-		applyPagingAndPermChecks(stream, clazz, perm);
+		applyPagingAndPermChecks(skipToCursor(stream), clazz, perm);
 	}
 
 	/**
@@ -151,7 +196,7 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 
 		// Only handle elements which are visible to the user
 		if (perm != null) {
-			stream = stream.filter(item -> requestUser.hasPermissionForId(item.getId(), perm));
+			stream = requestUser.filterPermitted(stream, Vertex::getId, perm);
 		}
 
 		Stream<T> framedStream;
@@ -185,7 +230,7 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 			// Only add elements to the list if those elements are part of selected the page
 			long elementsInPage = pageCounter.get();
 			if (perPage == null || elementsInPage < perPage) {
-				elementsOfPage.add(element);
+				addToPage(element);
 				pageCounter.incrementAndGet();
 			} else {
 				pageFull.set(true);
@@ -226,8 +271,29 @@ public class DynamicTransformablePageImpl<T extends TransformableElement<? exten
 			.map(itemEdge -> {
 				return itemEdge.getVertex(vertexDirection);
 			});
-		applyPagingAndPermChecks(stream, clazz, perm);
+		applyPagingAndPermChecks(skipToCursor(stream), clazz, perm);
+
+	}
 
+	/**
+	 * Initialize the dynamic iterator using the ordered ids of the elements. The ids are provided by an index range scan which already starts after the
+	 * cursor.
+	 * 
+	 * @param clazz
+	 *            Class used to frame the found elements.
+	 * @param ids
+	 *            Ordered ids of the elements
+	 * @param graph
+	 *            Framed graph used to load and re-frame the resulting elements
+	 * @param perm
+	 *            Graph permission to filter by
+	 */
+	private void init(Class<? extends T> clazz, Iterator<Object> ids, FramedGraph graph, GraphPermission perm) {
+		Spliterator<Object> idSpliterator = Spliterators.spliteratorUnknownSize(ids, Spliterator.ORDERED);
+		Stream<Vertex> stream = StreamSupport.stream(idSpliterator, false)
+			.map(graph::getVertex)
+			.filter(Objects::nonNull);
+		applyPagingAndPermChecks(stream, clazz, perm);
 	}
 
 }
@@ -0,0 +1,111 @@
+package com.gentics.mesh.core.data.page.impl;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Base64;
+
+import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.syncleus.ferma.ElementFrame;
+import com.tinkerpop.blueprints.Element;
+
+/**
+ * Utility for the opaque cursors which are used for cursor based paging. A cursor identifies the last element of a page via the sort key of the element,
+ * which is the id of the graph element or the uuid of the element. Cursors of unsorted lists additionally contain the position of the element.
+ */
+public final class PageCursor {
+
+	private static final char POSITION_SEPARATOR = ';';
+
+	private PageCursor() {
+	}
+
+	/**
+	 * Encode the given element id into a cursor.
+	 * 
+	 * @param id
+	 * @return
+	 */
+	public static String encode(Object id) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(UTF_8));
+	}
+
+	/**
+	 * Encode the given element key and the position of the element within an unsorted list into a cursor.
+	 * 
+	 * @param key
+	 * @param position
+	 * @return
+	 */
+	public static String encode(Object key, long position) {
+		return encode(key.toString() + POSITION_SEPARATOR + position);
+	}
+
+	/**
+	 * Decode the given cursor into its string representation.
+	 * 
+	 * @param cursor
+	 * @return Decoded cursor or null if no cursor was given
+	 */
+	public static String decode(String cursor) {
+		if (cursor == null || cursor.isEmpty()) {
+			return null;
+		}
+		try {
+			return new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new GenericRestException(BAD_REQUEST, "error_invalid_paging_cursor", cursor);
+		}
+	}
+
+	/**
+	 * Return the element key of the decoded cursor.
+	 * 
+	 * @param decodedCursor
+	 * @return Key or null if no cursor was given
+	 */
+	public static String key(String decodedCursor) {
+		if (decodedCursor == null) {
+			return null;
+		}
+		int idx = decodedCursor.lastIndexOf(POSITION_SEPARATOR);
+		return idx == -1 ? decodedCursor : decodedCursor.substring(0, idx);
+	}
+
+	/**
+	 * Return the position of the element within an unsorted list of the decoded cursor.
+	 * 
+	 * @param decodedCursor
+	 * @return Position or null if the cursor contains no position
+	 */
+	public static Long position(String decodedCursor) {
+		if (decodedCursor == null) {
+			return null;
+		}
+		int idx = decodedCursor.lastIndexOf(POSITION_SEPARATOR);
+		if (idx == -1) {
+			return null;
+		}
+		try {
+			return Long.parseLong(decodedCursor.substring(idx + 1));
+		} catch (NumberFormatException e) {
+			throw new GenericRestException(BAD_REQUEST, "error_invalid_paging_cursor", encode(decodedCursor));
+		}
+	}
+
+	/**
+	 * Return the graph element id of the given page element.
+	 * 
+	 * @param element
+	 * @return Id or null if the element is not a graph element
+	 */
+	public static Object elementId(Object element) {
+		if (element instanceof ElementFrame) {
+			return ((ElementFrame) element).getId();
+		} else if (element instanceof Element) {
+			return ((Element) element).getId();
+		}
+		return null;
+	}
+
+}
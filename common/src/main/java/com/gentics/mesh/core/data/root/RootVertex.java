@@ -29,6 +29,7 @@ import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.FramedTransactionalGraph;
 import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Vertex;
 
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -64,9 +65,9 @@ public interface RootVertex<T extends MeshCoreVertex<? extends RestModel, T>> ex
 
 		String idx = "e." + getRootLabel().toLowerCase() + "_out";
 		Spliterator<Edge> itemEdges = graph.getEdges(idx.toLowerCase(), id()).spliterator();
-		return StreamSupport.stream(itemEdges, false)
-			.map(edge -> edge.getVertex(Direction.IN))
-			.filter(vertex -> user.hasPermissionForId(vertex.getId(), permission))
+		Stream<Vertex> vertices = StreamSupport.stream(itemEdges, false)
+			.map(edge -> edge.getVertex(Direction.IN));
+		return user.filterPermitted(vertices, Vertex::getId, permission)
 			.map(vertex -> graph.frameElementExplicit(vertex, getPersistanceClass()));
 	}
 
@@ -49,6 +49,20 @@ public interface SchemaContainerVersion
 	 */
 	Iterator<? extends NodeGraphFieldContainer> getDraftFieldContainers(String branchUuid);
 
+	/**
+	 * Returns a lazy iterator for the draft containers of the branch whose uuid starts with the given prefix. The containers are returned in the order of
+	 * their uuids. This is used to split migrations into uuid range partitions.
+	 *
+	 * @param branchUuid
+	 *            Branch Uuid
+	 * @param uuidPrefix
+	 *            Prefix of the container uuids
+	 * @param afterUuid
+	 *            Uuid of the container after which the iteration should start or null to start with the first container of the range
+	 * @return
+	 */
+	Iterator<? extends NodeGraphFieldContainer> getDraftFieldContainers(String branchUuid, String uuidPrefix, String afterUuid);
+
 	/**
 	 * Returns all nodes that the user has read permissions for.
 	 *
@@ -79,11 +79,14 @@ public interface IndexHandler<T extends MeshCoreVertex<?, T>> {
 	Observable<IndexBulkEntry> storeForBulk(UpdateDocumentEntry entry);
 
 	/**
-	 * Diff the elements within all indices that are handled by the index handler and synchronize the data.
+	 * Diff the elements within all indices that are handled by the index handler and synchronize the data. If the incremental sync is enabled only elements
+	 * which were changed since the last sync of an index will be synchronized unless a deep sync is requested.
 	 * 
+	 * @param deep
+	 *            Whether a full diff of all indices should be done
 	 * @return
 	 */
-	Flowable<SearchRequest> syncIndices();
+	Flowable<SearchRequest> syncIndices(boolean deep);
 
 	/**
 	 * Filter the given list and return only indices which match the type of the handler but are no longer in use or unknown.
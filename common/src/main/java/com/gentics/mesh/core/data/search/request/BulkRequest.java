@@ -6,6 +6,7 @@ import java.util.List;
 
 import com.gentics.mesh.search.SearchProvider;
 
+import io.netty.buffer.ByteBuf;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
@@ -50,6 +51,13 @@ public class BulkRequest implements Bulkable {
 			.toList();
 	}
 
+	@Override
+	public void writeBulkActions(ByteBuf buffer) {
+		for (Bulkable request : requests) {
+			request.writeBulkActions(buffer);
+		}
+	}
+
 	@Override
 	public String toString() {
 		return requests.size() + " bulked requests. " + requests;
@@ -1,9 +1,12 @@
 package com.gentics.mesh.core.data.search.request;
 
-import io.reactivex.Single;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.util.List;
 
+import io.netty.buffer.ByteBuf;
+import io.reactivex.Single;
+
 /**
  * A request that can be executed in a <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/docs-bulk.html">Bulk request</a>
  */
@@ -15,8 +18,30 @@ public interface Bulkable extends SearchRequest {
 	Single<List<String>> toBulkActions();
 
 	/**
-	 * Returns the length of the string of the encoded request.
+	 * Writes the request as newline delimited JSON into the given buffer. The written bytes must match the actions of {@link #toBulkActions()}.
+	 * 
+	 * @param buffer
+	 */
+	default void writeBulkActions(ByteBuf buffer) {
+		for (String action : toBulkActions().blockingGet()) {
+			buffer.writeCharSequence(action, UTF_8);
+			buffer.writeByte('\n');
+		}
+	}
+
+	/**
+	 * Returns the size in bytes of the encoded request including the newlines.
 	 * @return
 	 */
 	long bulkLength();
+
+	/**
+	 * Returns the key of the document which is affected by this request. Requests with the same key must be sent to Elasticsearch in order. A value of null
+	 * indicates that the request can't be assigned to a single document.
+	 * 
+	 * @return
+	 */
+	default String documentKey() {
+		return null;
+	}
 }
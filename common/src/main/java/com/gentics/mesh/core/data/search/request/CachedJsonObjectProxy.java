@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.data.search.request;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.time.Instant;
 import java.util.Iterator;
 import java.util.Map;
@@ -8,17 +10,21 @@ import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.EncodeException;
+import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 /**
- * A proxy for a {@link io.vertx.core.json.JsonObject} which caches the result of the {@link JsonObject#encode()} method.
+ * A proxy for a {@link io.vertx.core.json.JsonObject} which caches the UTF-8 encoded JSON of the object.
  */
 public class CachedJsonObjectProxy {
 	private final JsonObject proxyTarget;
-	private String encoded;
+	private byte[] encoded;
 
 	public CachedJsonObjectProxy(JsonObject proxyTarget) {
 		this.proxyTarget = proxyTarget;
@@ -201,8 +207,22 @@ public class CachedJsonObjectProxy {
 	}
 
 	public String encode() {
+		return new String(encodeToBytes(), UTF_8);
+	}
+
+	/**
+	 * Return the UTF-8 encoded JSON of the object. The object is serialized directly to bytes without creating an intermediate string. The result is
+	 * cached and must not be modified.
+	 * 
+	 * @return
+	 */
+	public byte[] encodeToBytes() {
 		if (encoded == null) {
-			encoded = proxyTarget.encode();
+			try {
+				encoded = Json.mapper.writeValueAsBytes(proxyTarget.getMap());
+			} catch (JsonProcessingException e) {
+				throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
+			}
 		}
 		return encoded;
 	}
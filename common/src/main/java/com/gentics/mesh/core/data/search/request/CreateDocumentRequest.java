@@ -1,6 +1,7 @@
 package com.gentics.mesh.core.data.search.request;
 
 import static com.gentics.mesh.util.RxUtil.NOOP;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.util.Arrays;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.List;
 import com.gentics.mesh.etc.config.search.ComplianceMode;
 import com.gentics.mesh.search.SearchProvider;
 
+import io.netty.buffer.ByteBuf;
 import io.reactivex.Completable;
 import io.reactivex.Single;
 import io.reactivex.functions.Action;
@@ -18,6 +20,7 @@ public class CreateDocumentRequest implements Bulkable {
 	private final String transformedIndex;
 	private final String id;
 	private final String bulkPreamble;
+	private final byte[] encodedPreamble;
 	private final CachedJsonObjectProxy doc;
 	private final Action onComplete;
 
@@ -47,6 +50,7 @@ public class CreateDocumentRequest implements Bulkable {
 		}
 
 		this.bulkPreamble = new JsonObject().put("index", settings).encode();
+		this.encodedPreamble = bulkPreamble.getBytes(UTF_8);
 	}
 
 	@Override
@@ -66,6 +70,14 @@ public class CreateDocumentRequest implements Bulkable {
 			doc.encode()));
 	}
 
+	@Override
+	public void writeBulkActions(ByteBuf buffer) {
+		buffer.writeBytes(encodedPreamble);
+		buffer.writeByte('\n');
+		buffer.writeBytes(doc.encodeToBytes());
+		buffer.writeByte('\n');
+	}
+
 	@Override
 	public Action onComplete() {
 		return onComplete;
@@ -83,14 +95,28 @@ public class CreateDocumentRequest implements Bulkable {
 		return id;
 	}
 
+	@Override
+	public String documentKey() {
+		return transformedIndex + "/" + id;
+	}
+
 	public JsonObject getDoc() {
 		return doc.getProxyTarget();
 	}
 
+	/**
+	 * Return the UTF-8 encoded JSON of the document.
+	 *
+	 * @return
+	 */
+	public byte[] getEncodedDoc() {
+		return doc.encodeToBytes();
+	}
+
 	@Override
 	public long bulkLength() {
 		// +2 for newlines
-		return bulkPreamble.length() + doc.encode().length() + 2;
+		return encodedPreamble.length + doc.encodeToBytes().length + 2;
 	}
 
 	@Override
@@ -2,6 +2,7 @@ package com.gentics.mesh.core.data.search.request;
 
 import com.gentics.mesh.etc.config.search.ComplianceMode;
 import com.gentics.mesh.search.SearchProvider;
+import io.netty.buffer.ByteBuf;
 import io.reactivex.Completable;
 import io.reactivex.Single;
 import io.reactivex.functions.Action;
@@ -11,6 +12,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static com.gentics.mesh.util.RxUtil.NOOP;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 public class DeleteDocumentRequest implements Bulkable {
 	private final String index;
@@ -18,6 +20,7 @@ public class DeleteDocumentRequest implements Bulkable {
 	private final String id;
 	private final Action onComplete;
 	private final String bulkString;
+	private final byte[] encodedBulkString;
 
 	public DeleteDocumentRequest(String index, String transformedIndex, String id, ComplianceMode mode) {
 		this(index, transformedIndex, id, mode, NOOP);
@@ -44,6 +47,7 @@ public class DeleteDocumentRequest implements Bulkable {
 		}
 
 		this.bulkString = new JsonObject().put("delete", settings).encode();
+		this.encodedBulkString = bulkString.getBytes(UTF_8);
 	}
 
 	@Override
@@ -61,6 +65,12 @@ public class DeleteDocumentRequest implements Bulkable {
 		return Single.just(Collections.singletonList(bulkString));
 	}
 
+	@Override
+	public void writeBulkActions(ByteBuf buffer) {
+		buffer.writeBytes(encodedBulkString);
+		buffer.writeByte('\n');
+	}
+
 	@Override
 	public Action onComplete() {
 		return onComplete;
@@ -78,10 +88,15 @@ public class DeleteDocumentRequest implements Bulkable {
 		return id;
 	}
 
+	@Override
+	public String documentKey() {
+		return transformedIndex + "/" + id;
+	}
+
 	@Override
 	public long bulkLength() {
 		// + 1 for newline
-		return bulkString.length() + 1;
+		return encodedBulkString.length + 1;
 	}
 
 	@Override
@@ -0,0 +1,125 @@
+package com.gentics.mesh.core.data.search.request;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.gentics.mesh.etc.config.search.ComplianceMode;
+import com.gentics.mesh.search.SearchProvider;
+
+import io.netty.buffer.ByteBuf;
+import io.reactivex.Completable;
+import io.reactivex.Single;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Update of a document via a painless script. Unlike the partial document of an {@link UpdateDocumentRequest} the script is applied by Elasticsearch to the
+ * current source of the document.
+ */
+public class ScriptUpdateDocumentRequest implements Bulkable {
+
+	private final String transformedIndex;
+	private final String id;
+	private final JsonObject script;
+	private final String bulkPreamble;
+	private final byte[] encodedPreamble;
+	private final String bulkBody;
+	private final byte[] encodedBody;
+
+	/**
+	 * Create a new request.
+	 *
+	 * @param transformedIndex
+	 * @param id
+	 * @param source
+	 *            Source of the painless script
+	 * @param params
+	 *            Parameters of the script
+	 * @param mode
+	 */
+	public ScriptUpdateDocumentRequest(String transformedIndex, String id, String source, JsonObject params, ComplianceMode mode) {
+		this.transformedIndex = transformedIndex;
+		this.id = id;
+		this.script = new JsonObject()
+			.put("source", source)
+			.put("lang", "painless")
+			.put("params", params);
+
+		JsonObject settings = new JsonObject()
+			.put("_index", transformedIndex)
+			.put("_id", id);
+
+		switch (mode) {
+		case ES_7:
+			break;
+		case ES_6:
+			settings.put("_type", SearchProvider.DEFAULT_TYPE);
+			break;
+		default:
+			throw new RuntimeException("Unknown compliance mode {" + mode + "}");
+		}
+
+		this.bulkPreamble = new JsonObject()
+			.put("update", settings).encode();
+		this.encodedPreamble = bulkPreamble.getBytes(UTF_8);
+		this.bulkBody = new JsonObject()
+			.put("script", script).encode();
+		this.encodedBody = bulkBody.getBytes(UTF_8);
+	}
+
+	@Override
+	public int requestCount() {
+		return 1;
+	}
+
+	@Override
+	public Completable execute(SearchProvider searchProvider) {
+		return searchProvider.processBulk(Collections.singletonList(this));
+	}
+
+	@Override
+	public Single<List<String>> toBulkActions() {
+		return Single.just(Arrays.asList(bulkPreamble, bulkBody));
+	}
+
+	@Override
+	public void writeBulkActions(ByteBuf buffer) {
+		buffer.writeBytes(encodedPreamble);
+		buffer.writeByte('\n');
+		buffer.writeBytes(encodedBody);
+		buffer.writeByte('\n');
+	}
+
+	public String getTransformedIndex() {
+		return transformedIndex;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public JsonObject getScript() {
+		return script;
+	}
+
+	@Override
+	public String documentKey() {
+		return transformedIndex + "/" + id;
+	}
+
+	@Override
+	public long bulkLength() {
+		// +2 for newlines
+		return encodedPreamble.length + encodedBody.length + 2;
+	}
+
+	@Override
+	public String toString() {
+		return "ScriptUpdateDocumentRequest{" +
+			"transformedIndex='" + transformedIndex + '\'' +
+			", id='" + id + '\'' +
+			'}';
+	}
+}
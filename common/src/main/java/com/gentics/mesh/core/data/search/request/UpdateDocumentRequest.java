@@ -1,7 +1,10 @@
 package com.gentics.mesh.core.data.search.request;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.gentics.mesh.etc.config.search.ComplianceMode;
 import com.gentics.mesh.search.SearchProvider;
+import io.netty.buffer.ByteBuf;
 import io.reactivex.Completable;
 import io.reactivex.Single;
 import io.vertx.core.json.JsonObject;
@@ -10,10 +13,13 @@ import java.util.Arrays;
 import java.util.List;
 
 public class UpdateDocumentRequest implements Bulkable {
+	private static final byte[] DOC_PREFIX = "{\"doc\":".getBytes(UTF_8);
+
 	private final String index;
 	private final String transformedIndex;
 	private final String id;
 	private final String bulkPreamble;
+	private final byte[] encodedPreamble;
 	private final CachedJsonObjectProxy doc;
 
 	public UpdateDocumentRequest(String index, String transformedIndex, String id, JsonObject doc, ComplianceMode mode) {
@@ -38,6 +44,7 @@ public class UpdateDocumentRequest implements Bulkable {
 
 		this.bulkPreamble = new JsonObject()
 			.put("update", settings).encode();
+		this.encodedPreamble = bulkPreamble.getBytes(UTF_8);
 	}
 
 	@Override
@@ -58,6 +65,16 @@ public class UpdateDocumentRequest implements Bulkable {
 				.put("doc", doc.getProxyTarget()).encode()));
 	}
 
+	@Override
+	public void writeBulkActions(ByteBuf buffer) {
+		buffer.writeBytes(encodedPreamble);
+		buffer.writeByte('\n');
+		buffer.writeBytes(DOC_PREFIX);
+		buffer.writeBytes(doc.encodeToBytes());
+		buffer.writeByte('}');
+		buffer.writeByte('\n');
+	}
+
 	public String getIndex() {
 		return index;
 	}
@@ -70,6 +87,11 @@ public class UpdateDocumentRequest implements Bulkable {
 		return id;
 	}
 
+	@Override
+	public String documentKey() {
+		return transformedIndex + "/" + id;
+	}
+
 	public JsonObject getDoc() {
 		return doc.getProxyTarget();
 	}
@@ -77,7 +99,7 @@ public class UpdateDocumentRequest implements Bulkable {
 	@Override
 	public long bulkLength() {
 		// +10 for 2 newlines and {"doc":}
-		return bulkPreamble.length() + doc.encode().length() + 10;
+		return encodedPreamble.length + doc.encodeToBytes().length + 10;
 	}
 
 	@Override
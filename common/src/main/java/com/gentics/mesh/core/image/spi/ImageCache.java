@@ -0,0 +1,376 @@
+package com.gentics.mesh.core.image.spi;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.gentics.mesh.etc.config.ImageCacheEvictionPolicy;
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.CachingMetric;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.Counter;
+import io.reactivex.Single;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.core.Vertx;
+
+/**
+ * Index of the resized images in the image cache directory.
+ *
+ * The index tracks the size, the last access time and the amount of accesses of every cached image. Images are removed according to the configured
+ * {@link ImageCacheEvictionPolicy} once the cache exceeds its maximum size. The access information is periodically persisted to an index file in the cache
+ * directory so that it survives restarts. Concurrent requests for the same uncached image share a single resize operation.
+ */
+public class ImageCache {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageCache.class);
+
+	public static final String INDEX_FILE_NAME = ".index";
+
+	private static final String METRIC_NAME = "image";
+
+	private static final long PERSIST_INTERVAL = Duration.ofMinutes(1).toMillis();
+
+	/**
+	 * Evictions reduce the cache to this fraction of the max size so that not every new image triggers an eviction.
+	 */
+	private static final double EVICTION_TARGET_RATIO = 0.9;
+
+	/**
+	 * Images which were accessed within this period are not evicted, since they may still be about to be sent.
+	 */
+	static final long EVICTION_GRACE_PERIOD = Duration.ofSeconds(30).toMillis();
+
+	private final Path baseDir;
+
+	private final long maxSize;
+
+	private final ImageCacheEvictionPolicy policy;
+
+	private final MetricsService metrics;
+
+	private final Vertx vertx;
+
+	private final long gracePeriod;
+
+	private final long persistTimerId;
+
+	private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, Single<String>> pending = new ConcurrentHashMap<>();
+
+	private final AtomicLong size;
+
+	private final Counter hitCounter;
+
+	private final Counter missCounter;
+
+	private final Counter evictionCounter;
+
+	private volatile boolean dirty;
+
+	public ImageCache(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics) {
+		this(vertx, options, metrics, EVICTION_GRACE_PERIOD);
+	}
+
+	ImageCache(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics, long gracePeriod) {
+		this.vertx = vertx;
+		this.gracePeriod = gracePeriod;
+		this.baseDir = Paths.get(options.getImageCacheDirectory()).toAbsolutePath();
+		this.maxSize = options.getImageCacheMaxSize();
+		this.policy = options.getImageCacheEvictionPolicy();
+		this.metrics = metrics;
+		this.size = metrics.longGauge(new CachingMetric(CachingMetric.Event.BYTES, METRIC_NAME));
+		this.hitCounter = metrics.counter(new CachingMetric(CachingMetric.Event.HIT, METRIC_NAME));
+		this.missCounter = metrics.counter(new CachingMetric(CachingMetric.Event.MISS, METRIC_NAME));
+		this.evictionCounter = metrics.counter(new CachingMetric(CachingMetric.Event.EVICT_SIZE, METRIC_NAME));
+
+		// Scanning large cache directories may take a while
+		vertx.<Void>rxExecuteBlocking(bh -> {
+			load();
+			evict();
+			bh.complete();
+		}, false).subscribe(v -> {
+		}, err -> log.error("Could not load the image cache index of {" + baseDir + "}", err));
+		this.persistTimerId = vertx.setPeriodic(PERSIST_INTERVAL, id -> {
+			if (dirty) {
+				vertx.<Void>rxExecuteBlocking(bh -> {
+					persist();
+					bh.complete();
+				}, false).subscribe(v -> {
+				}, err -> log.error("Could not persist the image cache index of {" + baseDir + "}", err));
+			}
+		});
+	}
+
+	/**
+	 * Stop the periodic persisting of the index and persist pending access information. This method is blocking.
+	 */
+	public void close() {
+		vertx.cancelTimer(persistTimerId);
+		if (dirty) {
+			try {
+				persist();
+			} catch (UncheckedIOException e) {
+				log.error("Could not persist the image cache index of {" + baseDir + "}", e);
+			}
+		}
+	}
+
+	/**
+	 * Record an access of the cached image.
+	 *
+	 * @param path
+	 *            Path of the cached image
+	 */
+	public void hit(String path) {
+		if (metrics.isEnabled()) {
+			hitCounter.increment();
+		}
+		Entry entry = entries.get(key(path));
+		if (entry != null) {
+			entry.access(System.currentTimeMillis());
+			dirty = true;
+		}
+	}
+
+	/**
+	 * Return the image which is created by the producer. Concurrent invocations for the same image only invoke the producer once and share its result.
+	 *
+	 * @param basePath
+	 *            Path of the cached image without the file extension
+	 * @param producer
+	 *            Producer which creates the image and emits its path
+	 * @return
+	 */
+	public Single<String> compute(String basePath, Supplier<Single<String>> producer) {
+		if (metrics.isEnabled()) {
+			missCounter.increment();
+		}
+		return pending.computeIfAbsent(basePath, key -> producer.get()
+			.doFinally(() -> pending.remove(key))
+			.cache());
+	}
+
+	/**
+	 * Add the newly written image to the index and evict images if the cache exceeds the max size. This method is blocking.
+	 *
+	 * @param path
+	 *            Path of the cached image
+	 */
+	public void add(String path) {
+		try {
+			Entry entry = new Entry(Files.size(Paths.get(path)), System.currentTimeMillis(), 1);
+			Entry previous = entries.put(key(path), entry);
+			size.addAndGet(previous == null ? entry.size : entry.size - previous.size);
+			dirty = true;
+		} catch (IOException e) {
+			log.error("Could not determine the size of the cached image {" + path + "}", e);
+			return;
+		}
+		evict();
+	}
+
+	/**
+	 * Return the total size of the indexed images in bytes.
+	 *
+	 * @return
+	 */
+	public long size() {
+		return size.get();
+	}
+
+	/**
+	 * Remove images until the cache falls below the target size. Images which were accessed within the grace period are kept. This method is blocking.
+	 */
+	synchronized void evict() {
+		if (maxSize <= 0 || size.get() <= maxSize) {
+			return;
+		}
+		long targetSize = (long) (maxSize * EVICTION_TARGET_RATIO);
+		// Snapshot the access information since it keeps changing while sorting
+		List<Candidate> candidates = new ArrayList<>(entries.size());
+		entries.forEach((key, entry) -> candidates.add(new Candidate(key, entry)));
+		Collections.sort(candidates, policy == ImageCacheEvictionPolicy.LFU ? Candidate.LFU : Candidate.LRU);
+
+		int evicted = 0;
+		long graceLimit = System.currentTimeMillis() - gracePeriod;
+		for (Candidate candidate : candidates) {
+			if (size.get() <= targetSize) {
+				break;
+			}
+			// The image may have been accessed after the snapshot was taken
+			if (candidate.entry.lastAccess > graceLimit) {
+				continue;
+			}
+			if (!entries.remove(candidate.key, candidate.entry)) {
+				continue;
+			}
+			try {
+				Files.deleteIfExists(baseDir.resolve(candidate.key));
+			} catch (IOException e) {
+				log.error("Could not delete the cached image {" + candidate.key + "}", e);
+			}
+			size.addAndGet(-candidate.entry.size);
+			evicted++;
+			if (metrics.isEnabled()) {
+				evictionCounter.increment();
+			}
+		}
+		dirty = true;
+		if (log.isDebugEnabled()) {
+			log.debug("Evicted {" + evicted + "} images from the image cache. Remaining size: {" + size.get() + "} bytes");
+		}
+	}
+
+	/**
+	 * Index all images of the cache directory. The access information is taken from the index file or from the modification time of images which are not
+	 * contained in the index file.
+	 */
+	void load() {
+		if (!Files.isDirectory(baseDir)) {
+			return;
+		}
+		Map<String, long[]> accessInfo = readIndexFile();
+		try (Stream<Path> files = Files.walk(baseDir)) {
+			files.filter(Files::isRegularFile)
+				.filter(file -> !file.getFileName().toString().startsWith("."))
+				.forEach(file -> {
+					try {
+						String key = baseDir.relativize(file).toString();
+						long[] info = accessInfo.get(key);
+						long lastAccess = info == null ? Files.getLastModifiedTime(file).toMillis() : info[0];
+						long hits = info == null ? 0 : info[1];
+						Entry entry = new Entry(Files.size(file), lastAccess, hits);
+						// Images which were added in the meantime are already indexed
+						if (entries.putIfAbsent(key, entry) == null) {
+							size.addAndGet(entry.size);
+						}
+					} catch (NoSuchFileException e) {
+						// The image has been removed in the meantime
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Indexed {" + entries.size() + "} images with {" + size.get() + "} bytes in the image cache");
+		}
+	}
+
+	private Map<String, long[]> readIndexFile() {
+		Map<String, long[]> accessInfo = new HashMap<>();
+		Path indexFile = baseDir.resolve(INDEX_FILE_NAME);
+		if (!Files.exists(indexFile)) {
+			return accessInfo;
+		}
+		try (Stream<String> lines = Files.lines(indexFile, UTF_8)) {
+			lines.forEach(line -> {
+				String[] parts = line.split("\t", 3);
+				if (parts.length == 3) {
+					accessInfo.put(parts[2], new long[] { Long.parseLong(parts[0]), Long.parseLong(parts[1]) });
+				}
+			});
+		} catch (IOException | RuntimeException e) {
+			log.warn("Could not read the image cache index {" + indexFile + "}. Using the modification times of the images instead.", e);
+		}
+		return accessInfo;
+	}
+
+	/**
+	 * Write the access information of the indexed images to the index file. This method is blocking.
+	 */
+	synchronized void persist() {
+		dirty = false;
+		try {
+			Files.createDirectories(baseDir);
+			Path tmpFile = baseDir.resolve(INDEX_FILE_NAME + ".tmp");
+			try (BufferedWriter writer = Files.newBufferedWriter(tmpFile, UTF_8)) {
+				for (Map.Entry<String, Entry> e : entries.entrySet()) {
+					Entry entry = e.getValue();
+					writer.write(entry.lastAccess + "\t" + entry.hits.get() + "\t" + e.getKey());
+					writer.newLine();
+				}
+			}
+			Files.move(tmpFile, baseDir.resolve(INDEX_FILE_NAME), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			dirty = true;
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private String key(String path) {
+		return baseDir.relativize(Paths.get(path).toAbsolutePath()).toString();
+	}
+
+	/**
+	 * Access information of a cached image.
+	 */
+	private static class Entry {
+
+		private final long size;
+
+		private volatile long lastAccess;
+
+		private final AtomicLong hits;
+
+		Entry(long size, long lastAccess, long hits) {
+			this.size = size;
+			this.lastAccess = lastAccess;
+			this.hits = new AtomicLong(hits);
+		}
+
+		void access(long time) {
+			lastAccess = time;
+			hits.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Snapshot of the access information of an entry which is used to order the entries for eviction.
+	 */
+	private static class Candidate {
+
+		static final Comparator<Candidate> LRU = Comparator.comparingLong(c -> c.lastAccess);
+
+		static final Comparator<Candidate> LFU = Comparator.<Candidate>comparingLong(c -> c.hits).thenComparing(LRU);
+
+		private final String key;
+
+		private final Entry entry;
+
+		private final long lastAccess;
+
+		private final long hits;
+
+		Candidate(String key, Entry entry) {
+			this.key = key;
+			this.entry = entry;
+			this.lastAccess = entry.lastAccess;
+			this.hits = entry.hits.get();
+		}
+	}
+
+}
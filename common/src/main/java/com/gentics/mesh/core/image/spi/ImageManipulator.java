@@ -46,4 +46,10 @@ public interface ImageManipulator {
 	 * @return
 	 */
 	Single<Map<String, String>> getMetadata(InputStream ins);
+
+	/**
+	 * Stop the background tasks of the manipulator.
+	 */
+	default void shutdown() {
+	}
 }
@@ -7,6 +7,8 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -37,6 +39,8 @@ public class WebRootLinkReplacer {
 	private static final String START_TAG = "{{mesh.link(";
 	private static final String END_TAG = ")}}";
 
+	private static final String RESOLVED_LINKS_DATA_KEY = "resolvedLinks";
+
 	private static final Logger log = LoggerFactory.getLogger(WebRootLinkReplacer.class);
 
 	private final BootstrapInitializer boot;
@@ -73,66 +77,81 @@ public class WebRootLinkReplacer {
 			return content;
 		}
 
-		List<String> segments = new ArrayList<>();
-		int pos = 0;
-		int lastPos = 0;
+		int pos = content.indexOf(START_TAG);
+		if (pos == -1) {
+			return content;
+		}
+
 		int length = content.length();
+		StringBuilder renderedContent = new StringBuilder(length);
+		int lastPos = 0;
 
-		// 1. Tokenize the content
-		while (lastPos < length) {
-			pos = content.indexOf(START_TAG, lastPos);
-			if (pos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
-				break;
-			}
+		// Scan the content once and append the segments and resolved links directly
+		while (pos != -1) {
 			int endPos = content.indexOf(END_TAG, pos);
 			if (endPos == -1) {
-				// add last string segment
-				if (lastPos < length) {
-					segments.add(content.substring(lastPos));
-				}
 				break;
 			}
 
-			// add intermediate string segment
-			if (lastPos < pos) {
-				segments.add(content.substring(lastPos, pos));
-			}
+			// Add intermediate string segment
+			renderedContent.append(content, lastPos, pos);
 
-			// 2. Parse the link and invoke resolving
-			String link = content.substring(pos + START_TAG.length(), endPos);
-			// Strip away the quotes. We only care about the argument values
-			// double quotes may be escaped
-			link = link.replaceAll("\\\\\"", "");
-			link = link.replaceAll("'", "");
-			link = link.replaceAll("\"", "");
-			String[] linkArguments = link.split(",");
-			if (linkArguments.length == 3) {
+			// Parse the link and invoke resolving
+			List<String> linkArguments = parseArguments(content, pos + START_TAG.length(), endPos);
+			if (linkArguments.size() == 3) {
 				// Branch in link argument always comes first
-				branch = linkArguments[2].trim();
+				branch = linkArguments.get(2).trim();
 			}
-			if (linkArguments.length >= 2) {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName, linkArguments[1].trim()));
+			if (linkArguments.size() >= 2) {
+				renderedContent.append(resolve(ac, branch, edgeType, linkArguments.get(0), type, projectName, linkArguments.get(1).trim()));
 			} else if (languageTags != null) {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName,
+				renderedContent.append(resolve(ac, branch, edgeType, linkArguments.get(0), type, projectName,
 					languageTags.toArray(new String[languageTags.size()])));
 			} else {
-				segments.add(resolve(ac, branch, edgeType, linkArguments[0], type, projectName));
+				renderedContent.append(resolve(ac, branch, edgeType, linkArguments.get(0), type, projectName));
 			}
 
 			lastPos = endPos + END_TAG.length();
+			pos = content.indexOf(START_TAG, lastPos);
 		}
 
-		// 3.: Buildup the new content
-		StringBuilder renderedContent = new StringBuilder(length);
-		segments.stream().forEachOrdered(obs -> renderedContent.append(obs));
-
+		// Add last string segment
+		renderedContent.append(content, lastPos, length);
 		return renderedContent.toString();
 	}
 
+	/**
+	 * Parse the arguments of the link between the given positions. Quotes (also escaped double quotes) are stripped away since we only care about the
+	 * argument values. Trailing empty arguments are omitted.
+	 * 
+	 * @param content
+	 * @param start
+	 *            position of the first character of the arguments
+	 * @param end
+	 *            position after the last character of the arguments
+	 * @return list of argument values
+	 */
+	static List<String> parseArguments(String content, int start, int end) {
+		List<String> arguments = new ArrayList<>(3);
+		StringBuilder argument = new StringBuilder(end - start);
+		for (int i = start; i < end; i++) {
+			char c = content.charAt(i);
+			if (c == '\\' && i + 1 < end && content.charAt(i + 1) == '"') {
+				i++;
+			} else if (c == ',') {
+				arguments.add(argument.toString());
+				argument.setLength(0);
+			} else if (c != '\'' && c != '"') {
+				argument.append(c);
+			}
+		}
+		arguments.add(argument.toString());
+		while (arguments.size() > 1 && arguments.get(arguments.size() - 1).isEmpty()) {
+			arguments.remove(arguments.size() - 1);
+		}
+		return arguments;
+	}
+
 	/**
 	 * Resolve the link to the node with uuid (in the given language) into an observable
 	 * 
@@ -155,6 +174,10 @@ public class WebRootLinkReplacer {
 		String... languageTags) {
 		// Get rid of additional whitespaces
 		uuid = uuid.trim();
+		String cachedLink = resolvedLinks(ac).get(linkKey(uuid, branch, edgeType, type, languageTags));
+		if (cachedLink != null) {
+			return cachedLink;
+		}
 		Node node = boot.meshRoot().findNodeByUuid(uuid);
 
 		// check for null
@@ -194,6 +217,18 @@ public class WebRootLinkReplacer {
 	 * @return observable of the rendered link
 	 */
 	public String resolve(InternalActionContext ac, String branchNameOrUuid, ContainerType edgeType, Node node, LinkType type,
+		String... languageTags) {
+		Map<String, String> resolvedLinks = resolvedLinks(ac);
+		String key = linkKey(node.getUuid(), branchNameOrUuid, edgeType, type, languageTags);
+		String link = resolvedLinks.get(key);
+		if (link == null) {
+			link = resolveLink(ac, branchNameOrUuid, edgeType, node, type, languageTags);
+			resolvedLinks.put(key, link);
+		}
+		return link;
+	}
+
+	private String resolveLink(InternalActionContext ac, String branchNameOrUuid, ContainerType edgeType, Node node, LinkType type,
 		String... languageTags) {
 		String defaultLanguage = options.getDefaultLanguage();
 		if (languageTags == null || languageTags.length == 0) {
@@ -240,6 +275,36 @@ public class WebRootLinkReplacer {
 		}
 	}
 
+	/**
+	 * Return the resolved links of the request. Pages which link to the same node multiple times (e.g. in HTML fields, breadcrumbs and node fields) only need
+	 * to resolve the link once.
+	 * 
+	 * @param ac
+	 * @return map of the resolved links by their link key
+	 */
+	private Map<String, String> resolvedLinks(InternalActionContext ac) {
+		// The hits of search results may be transformed in parallel
+		synchronized (ac) {
+			Map<String, String> resolvedLinks = ac.get(RESOLVED_LINKS_DATA_KEY);
+			if (resolvedLinks == null) {
+				resolvedLinks = new ConcurrentHashMap<>();
+				ac.put(RESOLVED_LINKS_DATA_KEY, resolvedLinks);
+			}
+			return resolvedLinks;
+		}
+	}
+
+	private String linkKey(String uuid, String branchNameOrUuid, ContainerType edgeType, LinkType type, String... languageTags) {
+		StringBuilder key = new StringBuilder(128);
+		key.append(uuid).append('|').append(branchNameOrUuid).append('|').append(edgeType == null ? ContainerType.DRAFT : edgeType).append('|').append(type);
+		if (languageTags != null) {
+			for (String languageTag : languageTags) {
+				key.append('|').append(languageTag);
+			}
+		}
+		return key.toString();
+	}
+
 	/**
 	 * Return the URL prefix for the given node. The latest branch of the node's project will be used to fetch the needed information.
 	 *
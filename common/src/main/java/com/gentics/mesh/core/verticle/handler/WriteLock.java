@@ -4,20 +4,43 @@ import com.gentics.mesh.context.InternalActionContext;
 
 /**
  * Locking mechanism to be used for write operations.
+ *
+ * The lock is hierarchical. Operations which affect the whole instance lock the global scope exclusively. Operations which affect a whole project (e.g.
+ * schema or branch changes) lock the project scope exclusively. Operations on a single node only lock the stripe of the node uuid and thus don't block
+ * writes to unrelated nodes. Node creates lock the stripe of the parent node.
  */
 public interface WriteLock extends AutoCloseable {
 
 	public static final String GLOBAL_LOCK_KEY = "MESH_GLOBAL_LOCK";
 
+	/**
+	 * Key of the action context data which contains the uuid of the parent node of a node create request.
+	 */
+	public static final String PARENT_NODE_UUID_DATA_KEY = "PARENT_NODE_UUID";
+
+	/**
+	 * Amount of permits of the global and project lock scope. Exclusive locks acquire all permits, shared locks acquire a single one.
+	 */
+	public static final int SHARED_PERMITS = 1024;
+
 	@Override
 	void close();
 
 	/**
 	 * Return the write lock that is configured according to the provided context.
-	 * 
+	 *
 	 * @param ac
 	 * @return Fluent API
 	 */
 	WriteLock lock(InternalActionContext ac);
 
+	/**
+	 * Exclusively lock the global scope. This will block all other write operations and is done regardless of the synchronize writes setting.
+	 *
+	 * @param timeout
+	 *            Timeout in milliseconds
+	 * @return Acquired lock which needs to be closed
+	 */
+	WriteLock lockGlobal(long timeout);
+
 }
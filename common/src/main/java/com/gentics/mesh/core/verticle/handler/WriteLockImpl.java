@@ -1,5 +1,14 @@
 package com.gentics.mesh.core.verticle.handler;
 
+import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_STRIPE_WAITING_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_TIMEOUT_COUNT;
+import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_WAITING_TIME;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -7,46 +16,68 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.metric.MetricsService;
 import com.hazelcast.core.HazelcastInstance;
-import com.hazelcast.core.ILock;
-import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_TIMEOUT_COUNT;
-import static com.gentics.mesh.metric.SimpleMetric.WRITE_LOCK_WAITING_TIME;
+import com.hazelcast.core.ISemaphore;
 
 import dagger.Lazy;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 
+/**
+ * Striped write lock implementation.
+ *
+ * The lock scope is derived from the action context:
+ * <ul>
+ * <li>Requests outside of a project lock the global scope exclusively.</li>
+ * <li>Project requests which reference a node via the <code>nodeUuid</code> path parameter lock the global and project scope shared and the lock stripes
+ * of the referenced nodes exclusively. Node creates lock the stripe of the parent node, which is passed via the {@link #PARENT_NODE_UUID_DATA_KEY} context
+ * data.</li>
+ * <li>All other project requests (e.g. schema, branch, tag operations) lock the global scope shared and the project scope exclusively.</li>
+ * </ul>
+ * Scopes are always acquired in the order global, project, stripes (ascending) to avoid deadlocks. In clustered mode Hazelcast semaphores are used instead
+ * of local semaphores.
+ */
 @Singleton
 public class WriteLockImpl implements WriteLock {
 
-	private ILock clusterLock;
-	private final Semaphore localLock = new Semaphore(1);
+	public static final String NODE_UUID_PARAM = "nodeUuid";
+
+	public static final String MOVE_TARGET_UUID_PARAM = "toUuid";
+
 	private final MeshOptions options;
 	private final Lazy<HazelcastInstance> hazelcast;
 	private final boolean isClustered;
+	private final int stripeCount;
 	private final Timer writeLockTimer;
+	private final Timer globalScopeTimer;
+	private final Timer projectScopeTimer;
+	private final Timer[] stripeTimers;
 	private final Counter timeoutCount;
+	private final Map<String, Permits> permits = new ConcurrentHashMap<>();
+	private final WriteLock noopLock = new NoopWriteLock();
 
 	@Inject
 	public WriteLockImpl(MeshOptions options, Lazy<HazelcastInstance> hazelcast, MetricsService metricsService) {
 		this.options = options;
 		this.hazelcast = hazelcast;
 		this.isClustered = options.getClusterOptions().isEnabled();
+		this.stripeCount = Math.max(1, options.getStorageOptions().getSynchronizeWritesStripes());
 		this.writeLockTimer = metricsService.timer(WRITE_LOCK_WAITING_TIME);
 		this.timeoutCount = metricsService.counter(WRITE_LOCK_TIMEOUT_COUNT);
+		this.globalScopeTimer = metricsService.timer(WRITE_LOCK_STRIPE_WAITING_TIME, "stripe", "global");
+		this.projectScopeTimer = metricsService.timer(WRITE_LOCK_STRIPE_WAITING_TIME, "stripe", "project");
+		this.stripeTimers = new Timer[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			stripeTimers[i] = metricsService.timer(WRITE_LOCK_STRIPE_WAITING_TIME, "stripe", String.valueOf(i));
+		}
 	}
 
 	@Override
 	public void close() {
-		if (isClustered) {
-			if (clusterLock != null && clusterLock.isLockedByCurrentThread()) {
-				clusterLock.unlock();
-			}
-		} else {
-			localLock.release();
-		}
+		// The acquired locks are released by the handle which was returned by #lock
 	}
 
 	/**
@@ -55,47 +86,214 @@ public class WriteLockImpl implements WriteLock {
 	@Override
 	public WriteLock lock(InternalActionContext ac) {
 		if (ac != null && ac.isSkipWriteLock()) {
-			return this;
+			return noopLock;
+		}
+		boolean syncWrites = options.getStorageOptions().isSynchronizeWrites();
+		if (!syncWrites) {
+			return noopLock;
+		}
+		long timeout = options.getStorageOptions().getSynchronizeWritesTimeout();
+		Project project = ac == null ? null : ac.getProject();
+		if (project == null) {
+			return acquire(timeout, null, false, null);
+		}
+		String projectKey = String.valueOf(project.id());
+		TreeSet<Integer> stripes = new TreeSet<>();
+		addStripe(stripes, ac.getParameter(NODE_UUID_PARAM));
+		addStripe(stripes, ac.get(PARENT_NODE_UUID_DATA_KEY));
+		if (!stripes.isEmpty()) {
+			addStripe(stripes, ac.getParameter(MOVE_TARGET_UUID_PARAM));
+			return acquire(timeout, projectKey, true, stripes);
 		} else {
-			boolean syncWrites = options.getStorageOptions().isSynchronizeWrites();
-			if (syncWrites) {
-				Timer.Sample timer = Timer.start();
-				long timeout = options.getStorageOptions().getSynchronizeWritesTimeout();
-				if (isClustered) {
-					try {
-						if (clusterLock == null) {
-							HazelcastInstance hz = hazelcast.get();
-							if (hz != null) {
-								this.clusterLock = hz.getLock(GLOBAL_LOCK_KEY);
-							}
-						}
-						if (clusterLock != null) {
-							boolean isTimeout = !clusterLock.tryLock(timeout, TimeUnit.MILLISECONDS);
-							if (isTimeout) {
-								timeoutCount.increment();
-								throw new RuntimeException("Got timeout while waiting for write lock.");
-							}
-						}
-					} catch (InterruptedException e) {
-						throw new RuntimeException(e);
-					} finally {
-						timer.stop(writeLockTimer);
-					}
-				} else {
-					try {
-						boolean isTimeout = !localLock.tryAcquire(timeout, TimeUnit.MILLISECONDS);
-						if (isTimeout) {
-							timeoutCount.increment();
-							throw new RuntimeException("Got timeout while waiting for write lock.");
-						}
-					} catch (InterruptedException e) {
-						throw new RuntimeException(e);
-					} finally {
-						timer.stop(writeLockTimer);
+			return acquire(timeout, projectKey, false, null);
+		}
+	}
+
+	@Override
+	public WriteLock lockGlobal(long timeout) {
+		return acquire(timeout, null, false, null);
+	}
+
+	private void addStripe(TreeSet<Integer> stripes, String uuid) {
+		if (uuid != null) {
+			stripes.add(Math.floorMod(uuid.hashCode(), stripeCount));
+		}
+	}
+
+	/**
+	 * Acquire the permits for the given scope.
+	 *
+	 * @param timeout
+	 *            Overall timeout in milliseconds
+	 * @param projectKey
+	 *            Key of the project scope. When null the global scope will be locked exclusively
+	 * @param sharedProject
+	 *            Whether the project scope should only be locked shared
+	 * @param stripes
+	 *            Stripes which should be locked exclusively
+	 * @return Acquired lock
+	 */
+	private WriteLock acquire(long timeout, String projectKey, boolean sharedProject, TreeSet<Integer> stripes) {
+		AcquiredWriteLock lock = new AcquiredWriteLock();
+		long deadline = System.currentTimeMillis() + timeout;
+		Timer.Sample timer = Timer.start();
+		try {
+			if (projectKey == null) {
+				lock.acquire(permits(GLOBAL_LOCK_KEY, SHARED_PERMITS), SHARED_PERMITS, deadline, globalScopeTimer);
+			} else {
+				lock.acquire(permits(GLOBAL_LOCK_KEY, SHARED_PERMITS), 1, deadline, globalScopeTimer);
+				Permits projectPermits = permits(GLOBAL_LOCK_KEY + "_PROJECT_" + projectKey, SHARED_PERMITS);
+				lock.acquire(projectPermits, sharedProject ? 1 : SHARED_PERMITS, deadline, projectScopeTimer);
+				if (stripes != null) {
+					for (int stripe : stripes) {
+						lock.acquire(permits(GLOBAL_LOCK_KEY + "_STRIPE_" + stripe, 1), 1, deadline, stripeTimers[stripe]);
 					}
 				}
 			}
-			return this;
+			return lock;
+		} catch (InterruptedException e) {
+			lock.close();
+			throw new RuntimeException(e);
+		} catch (RuntimeException e) {
+			lock.close();
+			throw e;
+		} finally {
+			timer.stop(writeLockTimer);
+		}
+	}
+
+	private Permits permits(String key, int count) {
+		if (isClustered && hazelcast.get() == null) {
+			// Hazelcast has not yet been started. There is nothing to synchronize with.
+			return new LocalPermits(new Semaphore(count, true));
+		}
+		return permits.computeIfAbsent(key, k -> {
+			if (isClustered) {
+				ISemaphore semaphore = hazelcast.get().getSemaphore(k);
+				semaphore.init(count);
+				return new ClusterPermits(semaphore);
+			}
+			return new LocalPermits(new Semaphore(count, true));
+		});
+	}
+
+	/**
+	 * Handle for the permits which were acquired by a single lock call.
+	 */
+	private class AcquiredWriteLock implements WriteLock {
+
+		private final Deque<Acquired> acquired = new ArrayDeque<>();
+
+		void acquire(Permits source, int count, long deadline, Timer scopeTimer) throws InterruptedException {
+			Timer.Sample timer = Timer.start();
+			try {
+				long remaining = Math.max(0, deadline - System.currentTimeMillis());
+				if (!source.tryAcquire(count, remaining)) {
+					timeoutCount.increment();
+					throw new RuntimeException("Got timeout while waiting for write lock.");
+				}
+				acquired.push(new Acquired(source, count));
+			} finally {
+				timer.stop(scopeTimer);
+			}
+		}
+
+		@Override
+		public void close() {
+			while (!acquired.isEmpty()) {
+				Acquired entry = acquired.pop();
+				entry.source.release(entry.count);
+			}
+		}
+
+		@Override
+		public WriteLock lock(InternalActionContext ac) {
+			return WriteLockImpl.this.lock(ac);
+		}
+
+		@Override
+		public WriteLock lockGlobal(long timeout) {
+			return WriteLockImpl.this.lockGlobal(timeout);
+		}
+
+	}
+
+	private static class Acquired {
+
+		private final Permits source;
+		private final int count;
+
+		Acquired(Permits source, int count) {
+			this.source = source;
+			this.count = count;
+		}
+	}
+
+	/**
+	 * Source of lock permits.
+	 */
+	private interface Permits {
+
+		boolean tryAcquire(int count, long timeout) throws InterruptedException;
+
+		void release(int count);
+	}
+
+	private static class LocalPermits implements Permits {
+
+		private final Semaphore semaphore;
+
+		LocalPermits(Semaphore semaphore) {
+			this.semaphore = semaphore;
+		}
+
+		@Override
+		public boolean tryAcquire(int count, long timeout) throws InterruptedException {
+			return semaphore.tryAcquire(count, timeout, TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public void release(int count) {
+			semaphore.release(count);
+		}
+	}
+
+	private static class ClusterPermits implements Permits {
+
+		private final ISemaphore semaphore;
+
+		ClusterPermits(ISemaphore semaphore) {
+			this.semaphore = semaphore;
+		}
+
+		@Override
+		public boolean tryAcquire(int count, long timeout) throws InterruptedException {
+			return semaphore.tryAcquire(count, timeout, TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public void release(int count) {
+			semaphore.release(count);
+		}
+	}
+
+	/**
+	 * Handle which is returned when no lock needs to be acquired.
+	 */
+	private class NoopWriteLock implements WriteLock {
+
+		@Override
+		public void close() {
+		}
+
+		@Override
+		public WriteLock lock(InternalActionContext ac) {
+			return WriteLockImpl.this.lock(ac);
+		}
+
+		@Override
+		public WriteLock lockGlobal(long timeout) {
+			return WriteLockImpl.this.lockGlobal(timeout);
 		}
 	}
 
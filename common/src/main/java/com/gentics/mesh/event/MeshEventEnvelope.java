@@ -0,0 +1,176 @@
+package com.gentics.mesh.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Envelope which contains multiple events of the same address. Envelopes are published by the {@link EventQueueBatch} when the event batch envelope mode is
+ * enabled. Each envelope is published on the address of the events with the {@link #ADDRESS_SUFFIX} and is transferred in a compact binary form to the
+ * other instances of the cluster.
+ */
+public class MeshEventEnvelope {
+
+	public static final String ADDRESS_SUFFIX = ".batch";
+
+	private final String address;
+
+	private final List<String> payloads;
+
+	/**
+	 * Create a new envelope.
+	 *
+	 * @param address
+	 *            Address of the contained events
+	 * @param payloads
+	 *            JSON payloads of the events
+	 */
+	public MeshEventEnvelope(String address, List<String> payloads) {
+		this.address = address;
+		this.payloads = Collections.unmodifiableList(payloads);
+	}
+
+	/**
+	 * Return the address on which the envelopes for the given event are published.
+	 *
+	 * @param event
+	 * @return
+	 */
+	public static String address(MeshEvent event) {
+		return event.address + ADDRESS_SUFFIX;
+	}
+
+	/**
+	 * Return the address of the contained events.
+	 *
+	 * @return
+	 */
+	public String getAddress() {
+		return address;
+	}
+
+	/**
+	 * Return the JSON payloads of the contained events.
+	 *
+	 * @return
+	 */
+	public List<String> getPayloads() {
+		return payloads;
+	}
+
+	/**
+	 * Deserialize the contained events into their models without creating intermediate JSON objects.
+	 *
+	 * @param event
+	 * @return
+	 */
+	public List<MeshEventModel> toModels(MeshEvent event) {
+		List<MeshEventModel> models = new ArrayList<>(payloads.size());
+		for (String payload : payloads) {
+			models.add(JsonUtil.readValue(payload, event.bodyModel));
+		}
+		return models;
+	}
+
+	/**
+	 * Unpack the envelope into messages which look like the messages of individually published events. Replies to these messages are ignored, just like
+	 * replies to published messages.
+	 *
+	 * @return
+	 */
+	public List<Message<JsonObject>> toMessages() {
+		List<Message<JsonObject>> messages = new ArrayList<>(payloads.size());
+		for (String payload : payloads) {
+			messages.add(new EnvelopedMessage(address, new JsonObject(payload)));
+		}
+		return messages;
+	}
+
+	/**
+	 * Register a consumer for the given event which handles individually published events as well as events which were published in envelopes.
+	 *
+	 * @param eventBus
+	 * @param event
+	 * @param handler
+	 */
+	public static void consumer(EventBus eventBus, MeshEvent event, Handler<Message<JsonObject>> handler) {
+		eventBus.consumer(event.address, handler);
+		eventBus.<MeshEventEnvelope>consumer(address(event), message -> {
+			message.body().toMessages().forEach(handler::handle);
+		});
+	}
+
+	/**
+	 * Message for a single event of an envelope.
+	 */
+	private static class EnvelopedMessage implements Message<JsonObject> {
+
+		private final String address;
+
+		private final JsonObject body;
+
+		EnvelopedMessage(String address, JsonObject body) {
+			this.address = address;
+			this.body = body;
+		}
+
+		@Override
+		public String address() {
+			return address;
+		}
+
+		@Override
+		public MultiMap headers() {
+			return MultiMap.caseInsensitiveMultiMap();
+		}
+
+		@Override
+		public JsonObject body() {
+			return body;
+		}
+
+		@Override
+		public String replyAddress() {
+			return null;
+		}
+
+		@Override
+		public boolean isSend() {
+			return false;
+		}
+
+		public void reply(Object message) {
+		}
+
+		public <R> void reply(Object message, Handler<AsyncResult<Message<R>>> replyHandler) {
+		}
+
+		public void reply(Object message, DeliveryOptions options) {
+		}
+
+		public <R> void reply(Object message, DeliveryOptions options, Handler<AsyncResult<Message<R>>> replyHandler) {
+		}
+
+		public <R> void replyAndRequest(Object message, Handler<AsyncResult<Message<R>>> replyHandler) {
+		}
+
+		public <R> void replyAndRequest(Object message, DeliveryOptions options, Handler<AsyncResult<Message<R>>> replyHandler) {
+		}
+
+		public void fail(int failureCode, String message) {
+		}
+	}
+
+}
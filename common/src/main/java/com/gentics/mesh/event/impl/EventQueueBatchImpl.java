@@ -1,7 +1,10 @@
 package com.gentics.mesh.event.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 
@@ -11,8 +14,11 @@ import com.gentics.mesh.core.rest.event.EventCauseAction;
 import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.event.EventCauseInfoImpl;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.event.MeshEventEnvelope;
 import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.util.Tuple;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
@@ -35,9 +41,12 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 
 	private final Vertx vertx;
 
+	private final MeshOptions options;
+
 	@Inject
-	public EventQueueBatchImpl(Vertx vertx) {
+	public EventQueueBatchImpl(Vertx vertx, MeshOptions options) {
 		this.vertx = vertx;
+		this.options = options;
 	}
 
 	@Override
@@ -68,20 +77,60 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 	@Override
 	public void dispatch() {
 		EventBus eventbus = vertx.eventBus();
-		// TODO buffer event dispatching?
-		getEntries().forEach(entry -> {
-			entry.setCause(getCause());
-			MeshEvent event = entry.getEvent();
+		boolean envelope = options.getVertxOptions().isEventBatchEnvelope();
+		MeshEvent currentEvent = null;
+		List<String> currentPayloads = null;
+		for (Tuple<String, MeshEvent> entry : coalesce()) {
+			String json = entry.v1();
+			MeshEvent event = entry.v2();
 			if (log.isDebugEnabled()) {
 				log.debug("Created event sent {}", event);
 			}
-			String json = JsonUtil.toJson(entry);
 			if (log.isTraceEnabled()) {
 				log.trace("Dispatching event '{}' with payload:\n{}", event, json);
 			}
-			eventbus.publish(event.getAddress(), new JsonObject(json));
-		});
+			if (!envelope) {
+				eventbus.publish(event.getAddress(), new JsonObject(json));
+				continue;
+			}
+			// Consecutive events of the same address are published in one envelope. This keeps the order of the events.
+			if (event != currentEvent) {
+				publishEnvelope(eventbus, currentEvent, currentPayloads);
+				currentEvent = event;
+				currentPayloads = new ArrayList<>();
+			}
+			currentPayloads.add(json);
+		}
+		publishEnvelope(eventbus, currentEvent, currentPayloads);
 		getEntries().clear();
 	}
 
+	/**
+	 * Serialize the entries and remove redundant events. Events with the same address and payload (e.g. repeated updates of the same node content) are only
+	 * dispatched once, at the position of their last occurrence.
+	 *
+	 * @return Serialized payloads with their events in dispatch order
+	 */
+	private Collection<Tuple<String, MeshEvent>> coalesce() {
+		Map<String, Tuple<String, MeshEvent>> payloads = new LinkedHashMap<>();
+		for (MeshEventModel entry : getEntries()) {
+			entry.setCause(getCause());
+			MeshEvent event = entry.getEvent();
+			String json = JsonUtil.toJson(entry);
+			// The payload does not contain the event type. Thus the address is part of the key.
+			String key = event.getAddress() + ":" + json;
+			if (payloads.remove(key) != null && log.isTraceEnabled()) {
+				log.trace("Coalescing redundant event '{}'", event);
+			}
+			payloads.put(key, Tuple.tuple(json, event));
+		}
+		return payloads.values();
+	}
+
+	private void publishEnvelope(EventBus eventbus, MeshEvent event, List<String> payloads) {
+		if (event != null) {
+			eventbus.publish(MeshEventEnvelope.address(event), new MeshEventEnvelope(event.getAddress(), payloads));
+		}
+	}
+
 }
@@ -0,0 +1,70 @@
+package com.gentics.mesh.event.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gentics.mesh.event.MeshEventEnvelope;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+
+/**
+ * Codec which transfers {@link MeshEventEnvelope} instances in a compact binary form. The address of the events is only written once and each event payload
+ * is written as length prefixed UTF-8 bytes. Envelopes are immutable and are thus not copied for local consumers.
+ */
+public class MeshEventEnvelopeCodec implements MessageCodec<MeshEventEnvelope, MeshEventEnvelope> {
+
+	public static final String NAME = "meshEventEnvelope";
+
+	@Override
+	public void encodeToWire(Buffer buffer, MeshEventEnvelope envelope) {
+		writeString(buffer, envelope.getAddress());
+		List<String> payloads = envelope.getPayloads();
+		buffer.appendInt(payloads.size());
+		for (String payload : payloads) {
+			writeString(buffer, payload);
+		}
+	}
+
+	@Override
+	public MeshEventEnvelope decodeFromWire(int pos, Buffer buffer) {
+		int addressLength = buffer.getInt(pos);
+		pos += 4;
+		String address = buffer.getString(pos, pos + addressLength, UTF_8.name());
+		pos += addressLength;
+		int count = buffer.getInt(pos);
+		pos += 4;
+		List<String> payloads = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int length = buffer.getInt(pos);
+			pos += 4;
+			payloads.add(buffer.getString(pos, pos + length, UTF_8.name()));
+			pos += length;
+		}
+		return new MeshEventEnvelope(address, payloads);
+	}
+
+	@Override
+	public MeshEventEnvelope transform(MeshEventEnvelope envelope) {
+		return envelope;
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public byte systemCodecID() {
+		return -1;
+	}
+
+	private static void writeString(Buffer buffer, String value) {
+		byte[] bytes = value.getBytes(UTF_8);
+		buffer.appendInt(bytes.length);
+		buffer.appendBytes(bytes);
+	}
+
+}
@@ -16,6 +16,7 @@ import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterConfigRequest;
 import com.gentics.mesh.core.rest.admin.cluster.ClusterConfigResponse;
+import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.cluster.ClusterManager;
@@ -181,11 +182,26 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default <T> Maybe<T> maybeTx(Function<Tx, T> handler, boolean useWriteLock) {
+		return maybeTx(null, handler, useWriteLock);
+	}
+
+	/**
+	 * Executes a supplier in a transaction within the worker thread pool. If the supplier returns null, the maybe is completed, else the value is returned.
+	 * 
+	 * @param ac
+	 *            Context which is used to determine the scope of the write lock. The global scope will be locked when null
+	 * @param handler
+	 * @param useWriteLock
+	 *            Whether to apply a write lock around the transaction
+	 * @param <T>
+	 * @return
+	 */
+	default <T> Maybe<T> maybeTx(InternalActionContext ac, Function<Tx, T> handler, boolean useWriteLock) {
 		return new io.vertx.reactivex.core.Vertx(vertx()).rxExecuteBlocking(promise -> {
 			try {
 				if (useWriteLock) {
 					T result = null;
-					try (WriteLock lock = writeLock().lock(null)) {
+					try (WriteLock lock = writeLock().lock(ac)) {
 						result = tx(handler::apply);
 					}
 					promise.complete(result);
@@ -214,6 +230,18 @@ public interface Database extends TxFactory {
 		return maybeTx(handler, true).toSingle();
 	}
 
+	/**
+	 * Executes the handler in a transaction within the worker thread pool. The write lock scope will be determined using the given context.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param <T>
+	 * @return
+	 */
+	default <T> Single<T> singleTxWriteLock(InternalActionContext ac, Function<Tx, T> handler) {
+		return maybeTx(ac, handler, true).toSingle();
+	}
+
 	/**
 	 * Executes a supplier in a transaction within the worker thread pool. If the supplier returns null, a {@link java.util.NoSuchElementException} is emitted.
 	 * 
@@ -393,6 +421,14 @@ public interface Database extends TxFactory {
 	 */
 	String getElementVersion(Element element);
 
+	/**
+	 * Check whether the given element was created in the current transaction and has not been committed yet.
+	 * 
+	 * @param element
+	 * @return
+	 */
+	boolean isNewElement(Element element);
+
 	void shutdown();
 
 	/**
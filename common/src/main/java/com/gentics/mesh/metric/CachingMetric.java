@@ -1,5 +1,7 @@
 package com.gentics.mesh.metric;
 
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
 public class CachingMetric implements Metric {
 	private final Event event;
 	private final String name;
@@ -24,5 +26,20 @@ public class CachingMetric implements Metric {
 		MISS,
 		CLEAR_SINGLE,
 		CLEAR_ALL,
+		EVICT_EXPLICIT,
+		EVICT_SIZE,
+		EVICT_EXPIRED,
+		EVICT_COLLECTED,
+		BYTES;
+
+		/**
+		 * Return the event which counts the removals of cache entries with the given cause.
+		 *
+		 * @param cause
+		 * @return
+		 */
+		public static Event eviction(RemovalCause cause) {
+			return valueOf("EVICT_" + cause.name());
+		}
 	}
 }
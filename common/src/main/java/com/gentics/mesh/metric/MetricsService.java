@@ -31,10 +31,18 @@ public interface MetricsService {
 		return getMetricRegistry().timer(metric.key());
 	}
 
+	default Timer timer(Metric metric, String... tags) {
+		return getMetricRegistry().timer(metric.key(), tags);
+	}
+
 	default Counter counter(Metric metric) {
 		return getMetricRegistry().counter(metric.key());
 	}
 
+	default Counter counter(Metric metric, String... tags) {
+		return getMetricRegistry().counter(metric.key(), tags);
+	}
+
 	default AtomicLong longGauge(Metric metric) {
 		return getMetricRegistry().gauge(metric.key(), new AtomicLong(0));
 	}
@@ -9,10 +9,14 @@ public enum SimpleMetric implements Metric {
 
 	NO_TX("notx_created", "Meter which measures the rate of created noTx transactions over time."),
 
-	TX_TIME("tx_time", "Timer which tracks transaction durations."),
+	TX_TIME("tx_time", "Timer which tracks transaction durations. The outcome tag is one of success, retry or fail."),
 
 	TX_RETRY("tx_retry", "Amount of transaction retries which happen if a conflict has been encountered."),
 
+	TX_CONFLICT("tx_conflict", "Amount of transaction conflicts per vertex class of the conflicting record."),
+
+	TX_RETRY_BUDGET_EXHAUSTED("tx_retry_budget_exhausted", "Amount of transactions which were not retried since the retry budget was exhausted."),
+
     TX_INTERRUPT_COUNT("tx_interrupt", "Amount of commit interrupts."),
 
     COMMIT_TIME("commit_time", "Timer which tracks commit durations."),
@@ -25,9 +29,15 @@ public enum SimpleMetric implements Metric {
 
     WRITE_LOCK_TIMEOUT_COUNT("write_lock_timeout", "Amount of timeouts of acquiring the write lock."),
 
+    WRITE_LOCK_STRIPE_WAITING_TIME("write_lock_stripe_waiting_time", "Tracks the time which is spent waiting on the individual write lock scopes and stripes."),
+
     TOPOLOGY_LOCK_WAITING_TIME("topology_lock_waiting_time", "Tracks the time which is spent waiting on the write lock."),
 
-    TOPOLOGY_LOCK_TIMEOUT_COUNT("topology_lock_timeout", "Amount of timeouts of acquiring the write lock.");
+    TOPOLOGY_LOCK_TIMEOUT_COUNT("topology_lock_timeout", "Amount of timeouts of acquiring the write lock."),
+
+	IMAGE_DECODED_BYTES("image_decoded_bytes", "Estimated heap size of the decoded source images of image resize operations."),
+
+	SEARCH_BULK_PAYLOAD_BYTES("search_bulk_payload_bytes", "Size in bytes of the payloads of the bulk requests which are sent to Elasticsearch.");
 
     private String key;
 
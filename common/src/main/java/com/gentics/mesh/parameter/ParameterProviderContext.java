@@ -4,6 +4,7 @@ import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
 import com.gentics.mesh.parameter.impl.GenericParametersImpl;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
+import com.gentics.mesh.parameter.impl.IndexSyncParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.ProjectPurgeParametersImpl;
@@ -66,4 +67,8 @@ public interface ParameterProviderContext extends ActionContext {
 	default SearchParameters getSearchParameters() {
 		return new SearchParametersImpl(this);
 	}
+
+	default IndexSyncParameters getIndexSyncParameters() {
+		return new IndexSyncParametersImpl(this);
+	}
 }
@@ -0,0 +1,47 @@
+package com.gentics.mesh.parameter.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.raml.model.ParamType;
+import org.raml.model.parameter.QueryParameter;
+
+import com.gentics.mesh.handler.ActionContext;
+import com.gentics.mesh.parameter.AbstractParameters;
+import com.gentics.mesh.parameter.IndexSyncParameters;
+
+/**
+ * @see IndexSyncParameters
+ */
+public class IndexSyncParametersImpl extends AbstractParameters implements IndexSyncParameters {
+
+	public IndexSyncParametersImpl(ActionContext ac) {
+		super(ac);
+	}
+
+	public IndexSyncParametersImpl() {
+	}
+
+	@Override
+	public String getName() {
+		return "Index sync parameters";
+	}
+
+	@Override
+	public Map<? extends String, ? extends QueryParameter> getRAMLParameters() {
+		Map<String, QueryParameter> parameters = new HashMap<>();
+
+		// deep
+		QueryParameter deepParameter = new QueryParameter();
+		deepParameter.setDefaultValue("false");
+		deepParameter.setDescription(
+			"Specify whether a full diff of all indices should be done. Otherwise only elements which were changed since the last sync will be synchronized, if the incremental sync has been enabled.");
+		deepParameter.setExample("true");
+		deepParameter.setRequired(false);
+		deepParameter.setType(ParamType.BOOLEAN);
+		parameters.put(DEEP_PARAMETER_KEY, deepParameter);
+
+		return parameters;
+	}
+
+}
@@ -98,6 +98,15 @@ public class PagingParametersImpl extends AbstractParameters implements PagingPa
 		perPageParameter.setRequired(false);
 		perPageParameter.setType(ParamType.NUMBER);
 		parameters.put(PER_PAGE_PARAMETER_KEY, perPageParameter);
+
+		// cursor
+		QueryParameter cursorParameter = new QueryParameter();
+		cursorParameter.setDescription(
+			"Cursor of the previous page. The page will start after the last element of the previous page. The cursor can be taken from the paging meta info of the previous page. The page parameter is ignored if a cursor is set.");
+		cursorParameter.setExample("IzI1OjEyMw");
+		cursorParameter.setRequired(false);
+		cursorParameter.setType(ParamType.STRING);
+		parameters.put(CURSOR_PARAMETER_KEY, cursorParameter);
 		return parameters;
 	}
 
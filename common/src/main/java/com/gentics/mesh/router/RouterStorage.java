@@ -13,6 +13,7 @@ import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.distributed.RequestDelegator;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.MeshEventEnvelope;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.handler.VersionHandler;
 
@@ -96,7 +97,7 @@ public class RouterStorage {
 	public void registerEventbusHandlers() {
 		ProjectsRouter projectsRouter = rootRouter.apiRouter().projectsRouter();
 		EventBus eb = vertx.eventBus();
-		eb.consumer(PROJECT_CREATED.address, (Message<JsonObject> rh) -> {
+		MeshEventEnvelope.consumer(eb, PROJECT_CREATED, (Message<JsonObject> rh) -> {
 			JsonObject json = rh.body();
 
 			// Check whether this is a local message. We only need to react on foreign messages.
@@ -120,7 +121,7 @@ public class RouterStorage {
 			}
 		});
 
-		eb.consumer(PROJECT_UPDATED.address, (Message<JsonObject> rh) -> {
+		MeshEventEnvelope.consumer(eb, PROJECT_UPDATED, (Message<JsonObject> rh) -> {
 			Database database = db.get();
 
 			try {
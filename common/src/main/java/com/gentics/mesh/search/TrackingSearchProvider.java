@@ -8,6 +8,7 @@ import com.gentics.mesh.core.data.search.request.BulkRequest;
 import com.gentics.mesh.core.data.search.request.Bulkable;
 import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.DeleteDocumentRequest;
+import com.gentics.mesh.core.data.search.request.ScriptUpdateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.UpdateDocumentRequest;
 import com.gentics.mesh.core.rest.schema.Schema;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -121,6 +122,9 @@ public class TrackingSearchProvider implements SearchProvider {
 			} else if (entry instanceof UpdateDocumentRequest) {
 				UpdateDocumentRequest request = (UpdateDocumentRequest) entry;
 				updateEvents.put(request.getIndex() + "-" + request.getId(), request.getDoc());
+			} else if (entry instanceof ScriptUpdateDocumentRequest) {
+				ScriptUpdateDocumentRequest request = (ScriptUpdateDocumentRequest) entry;
+				updateEvents.put(request.getTransformedIndex() + "-" + request.getId(), request.getScript());
 			} else if (entry instanceof BulkRequest) {
 				BulkRequest request = (BulkRequest) entry;
 				processBulk(request.getRequests());
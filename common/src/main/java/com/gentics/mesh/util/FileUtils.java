@@ -3,7 +3,13 @@ package com.gentics.mesh.util;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 import io.reactivex.Flowable;
 import io.reactivex.Single;
@@ -17,6 +23,8 @@ public final class FileUtils {
 
 	protected static final char[] hexArray = "0123456789abcdef".toCharArray();
 
+	private static final int HASH_BUFFER_SIZE = 1024 * 1024;
+
 	private FileUtils() {
 	}
 
@@ -39,6 +47,32 @@ public final class FileUtils {
 		}
 	}
 
+	/**
+	 * Generate a SHA 512 checksum from the given file and return a hex encoded hash as a string. The file is read with large buffers. This method is
+	 * blocking.
+	 * 
+	 * @param file
+	 * @return Hashing result
+	 * @throws IOException
+	 */
+	public static String hash(Path file) throws IOException {
+		MessageDigest md;
+		try {
+			md = MessageDigest.getInstance("SHA-512");
+		} catch (NoSuchAlgorithmException e) {
+			throw error(INTERNAL_SERVER_ERROR, "node_error_upload_failed", e);
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(HASH_BUFFER_SIZE);
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			while (channel.read(buffer) != -1) {
+				buffer.flip();
+				md.update(buffer);
+				buffer.clear();
+			}
+		}
+		return bytesToHex(md.digest());
+	}
+
 	/**
 	 * Generate a SHA 512 checksum from the data in the given buffer and asynchronously return the hex encoded hash as a string.
 	 * 
@@ -0,0 +1,43 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.UPDATE_PERM;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+public class PermissionCacheKeyTest {
+
+	@Test
+	public void testKeyEquality() {
+		RoleSet roles = new RoleSet(1, new HashSet<>(Arrays.asList("r1", "r2")));
+		RoleSet otherRoles = new RoleSet(2, new HashSet<>(Arrays.asList("r1")));
+
+		PermissionCacheKey key = new PermissionCacheKey(roles, READ_PERM, "#9:1");
+		assertThat(key).isEqualTo(new PermissionCacheKey(roles, READ_PERM, "#9:1"));
+		assertThat(key.hashCode()).isEqualTo(new PermissionCacheKey(roles, READ_PERM, "#9:1").hashCode());
+		assertThat(key).isNotEqualTo(new PermissionCacheKey(roles, UPDATE_PERM, "#9:1"));
+		assertThat(key).isNotEqualTo(new PermissionCacheKey(roles, READ_PERM, "#9:2"));
+		assertThat(key).isNotEqualTo(new PermissionCacheKey(otherRoles, READ_PERM, "#9:1"));
+	}
+
+	@Test
+	public void testGeneration() {
+		RoleSet roles = new RoleSet(1, new HashSet<>(Arrays.asList("r1")));
+		PermissionCacheKey key = new PermissionCacheKey(roles, READ_PERM, "#9:1");
+		roles.incrementGeneration();
+		assertThat(key).as("Keys of previous generations must no longer match").isNotEqualTo(new PermissionCacheKey(roles, READ_PERM, "#9:1"));
+	}
+
+	@Test
+	public void testIsPermitted() {
+		RoleSet roles = new RoleSet(1, new HashSet<>(Arrays.asList("r1", "r2")));
+		assertThat(roles.isPermitted(null)).isFalse();
+		assertThat(roles.isPermitted(new HashSet<>(Arrays.asList("r3")))).isFalse();
+		assertThat(roles.isPermitted(new HashSet<>(Arrays.asList("r3", "r2")))).isTrue();
+	}
+
+}
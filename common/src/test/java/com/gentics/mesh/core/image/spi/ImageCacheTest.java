@@ -0,0 +1,164 @@
+package com.gentics.mesh.core.image.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.ImageCacheEvictionPolicy;
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reactivex.Single;
+import io.reactivex.subjects.SingleSubject;
+import io.vertx.reactivex.core.Vertx;
+
+public class ImageCacheTest {
+
+	private Vertx vertx;
+
+	private File cacheDir;
+
+	private MeterRegistry registry;
+
+	private MetricsService metrics;
+
+	@Before
+	public void setup() {
+		vertx = Vertx.vertx();
+		cacheDir = new File("target/imageCache_" + System.currentTimeMillis());
+		cacheDir.mkdirs();
+		registry = new SimpleMeterRegistry();
+		metrics = new MetricsService() {
+
+			@Override
+			public boolean isEnabled() {
+				return true;
+			}
+
+			@Override
+			public MeterRegistry getMetricRegistry() {
+				return registry;
+			}
+		};
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		vertx.close();
+		FileUtils.deleteDirectory(cacheDir);
+	}
+
+	@Test
+	public void testEvictLeastRecentlyUsed() throws Exception {
+		ImageCache cache = createCache(ImageCacheEvictionPolicy.LRU);
+		File first = addImage(cache, "first");
+		File second = addImage(cache, "second");
+		cache.hit(first.getPath());
+		assertThat(cache.size()).isEqualTo(200);
+
+		File third = addImage(cache, "third");
+		assertThat(first).exists();
+		assertThat(second).as("The least recently used image should have been evicted").doesNotExist();
+		assertThat(third).exists();
+		assertThat(cache.size()).isEqualTo(200);
+		assertThat(registry.counter("mesh_cache_image_evict_size").count()).isEqualTo(1);
+		assertThat(registry.counter("mesh_cache_image_hit").count()).isEqualTo(1);
+	}
+
+	@Test
+	public void testEvictLeastFrequentlyUsed() throws Exception {
+		ImageCache cache = createCache(ImageCacheEvictionPolicy.LFU);
+		File first = addImage(cache, "first");
+		File second = addImage(cache, "second");
+		cache.hit(first.getPath());
+		cache.hit(first.getPath());
+		cache.hit(second.getPath());
+
+		addImage(cache, "third");
+		assertThat(first).exists();
+		assertThat(second).as("The least frequently used image should have been evicted").doesNotExist();
+	}
+
+	@Test
+	public void testRecentlyAccessedImagesAreKept() throws Exception {
+		ImageManipulatorOptions options = new ImageManipulatorOptions()
+			.setImageCacheDirectory(cacheDir.getPath())
+			.setImageCacheMaxSize(250)
+			.setImageCacheEvictionPolicy(ImageCacheEvictionPolicy.LRU);
+		ImageCache cache = new ImageCache(vertx, options, metrics);
+		File first = addImage(cache, "first");
+		File second = addImage(cache, "second");
+		File third = addImage(cache, "third");
+		assertThat(first).as("Images within the grace period should not be evicted").exists();
+		assertThat(second).exists();
+		assertThat(third).exists();
+		assertThat(cache.size()).isEqualTo(300);
+	}
+
+	@Test
+	public void testPersistedAccessInformation() throws Exception {
+		ImageCache cache = createCache(ImageCacheEvictionPolicy.LFU);
+		File first = addImage(cache, "first");
+		File second = addImage(cache, "second");
+		cache.hit(second.getPath());
+		cache.persist();
+
+		ImageCache reloaded = createCache(ImageCacheEvictionPolicy.LFU);
+		reloaded.load();
+		assertThat(reloaded.size()).isEqualTo(200);
+		addImage(reloaded, "third");
+		assertThat(first).as("The access information should have been restored from the index file").doesNotExist();
+		assertThat(second).exists();
+	}
+
+	@Test
+	public void testConcurrentComputation() {
+		ImageCache cache = createCache(ImageCacheEvictionPolicy.LRU);
+		AtomicInteger invocations = new AtomicInteger();
+		SingleSubject<String> result = SingleSubject.create();
+		Single<String> first = cache.compute("image-key", () -> {
+			invocations.incrementAndGet();
+			return result;
+		});
+		Single<String> second = cache.compute("image-key", () -> {
+			invocations.incrementAndGet();
+			return result;
+		});
+		first.test();
+		second.test();
+		result.onSuccess("image-key.jpg");
+
+		assertThat(first.blockingGet()).isEqualTo("image-key.jpg");
+		assertThat(second.blockingGet()).isEqualTo("image-key.jpg");
+		assertThat(invocations.get()).as("The image should only be computed once").isEqualTo(1);
+		assertThat(registry.counter("mesh_cache_image_miss").count()).isEqualTo(2);
+	}
+
+	private ImageCache createCache(ImageCacheEvictionPolicy policy) {
+		ImageManipulatorOptions options = new ImageManipulatorOptions()
+			.setImageCacheDirectory(cacheDir.getPath())
+			.setImageCacheMaxSize(250)
+			.setImageCacheEvictionPolicy(policy);
+		return new ImageCache(vertx, options, metrics, 0);
+	}
+
+	private File addImage(ImageCache cache, String name) throws Exception {
+		File file = new File(cacheDir, "image-" + name + ".jpg");
+		Files.write(file.toPath(), new byte[100]);
+		// Make sure that the access times differ
+		Thread.sleep(5);
+		cache.add(file.getPath());
+		return file;
+	}
+
+}
@@ -0,0 +1,156 @@
+package com.gentics.mesh.core.verticle.handler;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class WriteLockImplTest {
+
+	private WriteLockImpl writeLock;
+
+	@Before
+	public void setup() {
+		MeshOptions options = new MeshOptions();
+		options.getStorageOptions().setSynchronizeWrites(true);
+		options.getStorageOptions().setSynchronizeWritesTimeout(200);
+		MeterRegistry registry = new SimpleMeterRegistry();
+		MetricsService metrics = new MetricsService() {
+
+			@Override
+			public boolean isEnabled() {
+				return true;
+			}
+
+			@Override
+			public MeterRegistry getMetricRegistry() {
+				return registry;
+			}
+		};
+		writeLock = new WriteLockImpl(options, () -> null, metrics);
+	}
+
+	@Test
+	public void testIndependentNodesDoNotBlock() throws Exception {
+		Project project = mockProject("p1");
+		try (WriteLock lock = writeLock.lock(nodeContext(project, "a"))) {
+			assertTrue("Writes to a different node should not be blocked.", tryLockInOtherThread(nodeContext(project, findOtherStripe("a"))));
+		}
+	}
+
+	@Test
+	public void testSameNodeBlocks() throws Exception {
+		Project project = mockProject("p1");
+		try (WriteLock lock = writeLock.lock(nodeContext(project, "a"))) {
+			assertFalse("Writes to the same node must be blocked.", tryLockInOtherThread(nodeContext(project, "a")));
+		}
+		assertTrue("The lock should have been released.", tryLockInOtherThread(nodeContext(project, "a")));
+	}
+
+	@Test
+	public void testCreatesInDifferentParentsDoNotBlock() throws Exception {
+		Project project = mockProject("p1");
+		try (WriteLock lock = writeLock.lock(createContext(project, "a"))) {
+			assertTrue("Creates in a different parent node should not be blocked.", tryLockInOtherThread(createContext(project, findOtherStripe("a"))));
+			assertFalse("Creates in the same parent node must be blocked.", tryLockInOtherThread(createContext(project, "a")));
+			assertFalse("Writes to the parent node must be blocked.", tryLockInOtherThread(nodeContext(project, "a")));
+		}
+	}
+
+	@Test
+	public void testProjectScopeBlocksNodes() throws Exception {
+		Project project = mockProject("p1");
+		try (WriteLock lock = writeLock.lock(projectContext(project))) {
+			assertFalse("Node writes must wait for project wide operations.", tryLockInOtherThread(nodeContext(project, "a")));
+			assertTrue("Other projects should not be affected.", tryLockInOtherThread(nodeContext(mockProject("p2"), "a")));
+		}
+	}
+
+	@Test
+	public void testGlobalScopeBlocksAll() throws Exception {
+		try (WriteLock lock = writeLock.lock(globalContext())) {
+			assertFalse("Project writes must wait for global operations.", tryLockInOtherThread(nodeContext(mockProject("p1"), "a")));
+		}
+		assertTrue(tryLockInOtherThread(nodeContext(mockProject("p1"), "a")));
+	}
+
+	@Test
+	public void testSkipWriteLock() throws Exception {
+		InternalActionContext ac = globalContext();
+		when(ac.isSkipWriteLock()).thenReturn(true);
+		try (WriteLock lock = writeLock.lock(globalContext())) {
+			try (WriteLock skipped = writeLock.lock(ac)) {
+				// Nested locking must not deadlock when the lock is skipped
+			}
+		}
+		assertTrue(tryLockInOtherThread(globalContext()));
+	}
+
+	private String findOtherStripe(String uuid) {
+		int stripes = new MeshOptions().getStorageOptions().getSynchronizeWritesStripes();
+		for (int i = 0;; i++) {
+			String candidate = "b" + i;
+			if (Math.floorMod(candidate.hashCode(), stripes) != Math.floorMod(uuid.hashCode(), stripes)) {
+				return candidate;
+			}
+		}
+	}
+
+	private boolean tryLockInOtherThread(InternalActionContext ac) throws Exception {
+		CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(() -> {
+			try (WriteLock lock = writeLock.lock(ac)) {
+				return true;
+			} catch (RuntimeException e) {
+				return false;
+			}
+		});
+		try {
+			return future.get(2, TimeUnit.SECONDS);
+		} catch (TimeoutException e) {
+			return false;
+		}
+	}
+
+	private Project mockProject(String id) {
+		Project project = mock(Project.class);
+		when(project.id()).thenReturn(id);
+		return project;
+	}
+
+	private InternalActionContext globalContext() {
+		return mock(InternalActionContext.class);
+	}
+
+	private InternalActionContext projectContext(Project project) {
+		InternalActionContext ac = mock(InternalActionContext.class);
+		when(ac.getProject()).thenReturn(project);
+		return ac;
+	}
+
+	private InternalActionContext nodeContext(Project project, String nodeUuid) {
+		InternalActionContext ac = projectContext(project);
+		when(ac.getParameter(WriteLockImpl.NODE_UUID_PARAM)).thenReturn(nodeUuid);
+		return ac;
+	}
+
+	private InternalActionContext createContext(Project project, String parentNodeUuid) {
+		InternalActionContext ac = projectContext(project);
+		when(ac.get(WriteLock.PARENT_NODE_UUID_DATA_KEY)).thenReturn(parentNodeUuid);
+		return ac;
+	}
+}
@@ -0,0 +1,129 @@
+package com.gentics.mesh.event.impl;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.MeshEventEnvelope;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+
+public class EventQueueBatchImplTest {
+
+	private static Vertx vertx;
+
+	@BeforeClass
+	public static void setupVertx() {
+		vertx = Vertx.vertx();
+		vertx.eventBus().registerDefaultCodec(MeshEventEnvelope.class, new MeshEventEnvelopeCodec());
+	}
+
+	@AfterClass
+	public static void closeVertx() {
+		vertx.close();
+	}
+
+	@Test
+	public void testCoalescing() throws Exception {
+		List<String> received = new ArrayList<>();
+		CompletableFuture<Void> done = new CompletableFuture<>();
+		MessageConsumer<JsonObject> consumer = vertx.eventBus().consumer(NODE_UPDATED.address, message -> {
+			if (message.body().containsKey("marker")) {
+				done.complete(null);
+			} else {
+				received.add(message.body().getString("uuid"));
+			}
+		});
+
+		EventQueueBatchImpl batch = new EventQueueBatchImpl(vertx, new MeshOptions());
+		batch.add(event(NODE_UPDATED, "n1"));
+		batch.add(event(NODE_UPDATED, "n1"));
+		batch.add(event(NODE_UPDATED, "n2"));
+		batch.add(event(NODE_UPDATED, "n1"));
+		batch.dispatch();
+		vertx.eventBus().publish(NODE_UPDATED.address, new JsonObject().put("marker", true));
+
+		done.get(10, SECONDS);
+		consumer.unregister();
+		assertThat(received).as("Redundant events should be dispatched once at their last position").containsExactly("n2", "n1");
+		assertThat(batch.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void testEnvelope() throws Exception {
+		List<List<String>> updated = new ArrayList<>();
+		List<List<String>> published = new ArrayList<>();
+		CompletableFuture<Void> done = new CompletableFuture<>();
+		MessageConsumer<MeshEventEnvelope> updatedConsumer = vertx.eventBus().consumer(MeshEventEnvelope.address(NODE_UPDATED), message -> {
+			assertThat(message.body().getAddress()).isEqualTo(NODE_UPDATED.address);
+			updated.add(uuids(message.body()));
+			if (updated.size() == 2) {
+				done.complete(null);
+			}
+		});
+		MessageConsumer<MeshEventEnvelope> publishedConsumer = vertx.eventBus().consumer(MeshEventEnvelope.address(NODE_PUBLISHED), message -> {
+			published.add(uuids(message.body()));
+		});
+
+		MeshOptions options = new MeshOptions();
+		options.getVertxOptions().setEventBatchEnvelope(true);
+		EventQueueBatchImpl batch = new EventQueueBatchImpl(vertx, options);
+		batch.add(event(NODE_UPDATED, "n1"));
+		batch.add(event(NODE_UPDATED, "n1"));
+		batch.add(event(NODE_UPDATED, "n2"));
+		batch.add(event(NODE_PUBLISHED, "n1"));
+		batch.add(event(NODE_UPDATED, "n3"));
+		batch.dispatch();
+
+		done.get(10, SECONDS);
+		updatedConsumer.unregister();
+		publishedConsumer.unregister();
+		assertThat(updated).as("Consecutive events should be sent in one envelope").containsExactly(Arrays.asList("n1", "n2"), Arrays.asList("n3"));
+		assertThat(published).containsExactly(Arrays.asList("n1"));
+	}
+
+	@Test
+	public void testCodec() {
+		MeshEventEnvelope envelope = new MeshEventEnvelope(NODE_UPDATED.address, Arrays.asList("{\"uuid\":\"Grüße\"}", "{\"uuid\":\"n2\"}"));
+		MeshEventEnvelopeCodec codec = new MeshEventEnvelopeCodec();
+		Buffer buffer = Buffer.buffer().appendString("prefix");
+		codec.encodeToWire(buffer, envelope);
+
+		MeshEventEnvelope decoded = codec.decodeFromWire("prefix".length(), buffer);
+		assertThat(decoded.getAddress()).isEqualTo(envelope.getAddress());
+		assertThat(decoded.getPayloads()).containsExactlyElementsOf(envelope.getPayloads());
+		assertThat(decoded.toModels(NODE_UPDATED)).extracting(model -> ((NodeMeshEventModel) model).getUuid()).containsExactly("Grüße", "n2");
+	}
+
+	private List<String> uuids(MeshEventEnvelope envelope) {
+		List<String> uuids = new ArrayList<>();
+		envelope.toMessages().forEach(message -> uuids.add(message.body().getString("uuid")));
+		return uuids;
+	}
+
+	private NodeMeshEventModel event(MeshEvent event, String uuid) {
+		NodeMeshEventModel model = new NodeMeshEventModel();
+		model.setEvent(event);
+		model.setUuid(uuid);
+		model.setBranchUuid("branch");
+		model.setLanguageTag("en");
+		return model;
+	}
+
+}
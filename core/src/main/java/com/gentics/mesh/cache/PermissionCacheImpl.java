@@ -3,92 +3,179 @@ package com.gentics.mesh.cache;
 import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
 
 import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU permission cache which is used to quickly lookup cached permissions.
+ *
+ * The granting and denying permissions are cached per role set and element. Users with the same roles thus share the cache entries. A permission change of a
+ * role only invalidates the entries of the element for the role sets which contain the role. Other instances of the cluster invalidate all entries of these
+ * role sets. Changes of the roles of users only invalidate the mapping from users to role sets.
+ *
+ * The invalidations are repeated once the transaction of the change has been completed. Other transactions may otherwise cache the previous permissions
+ * between the invalidation and the commit of the change.
  */
 @Singleton
-public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> implements PermissionCache {
+public class PermissionCacheImpl extends AbstractMeshCache<PermissionCacheKey, Boolean> implements PermissionCache {
 
 	private static final Logger log = LoggerFactory.getLogger(PermissionCacheImpl.class);
 
+	private static final String ORIGIN_KEY = "origin";
+
+	private static final String ROLE_KEY = "role";
+
+	private static final String ROLE_SETS_KEY = "roleSets";
+
+	private static final GraphPermission[] PERMISSIONS = GraphPermission.values();
+
 	private final Vertx vertx;
 
 	private final MeshOptions options;
 
-	private static final long CACHE_SIZE = 100_000;
+	private final RoleSets roleSets;
 
 	@Inject
 	public PermissionCacheImpl(EventAwareCacheFactory factory, Vertx vertx, CacheRegistry registry, MeshOptions options) {
-		super(createCache(factory), registry, CACHE_SIZE);
+		this(factory, vertx, registry, options, new RoleSets(options.getCacheConfig().getPermissionCacheSize()));
+	}
+
+	private PermissionCacheImpl(EventAwareCacheFactory factory, Vertx vertx, CacheRegistry registry, MeshOptions options, RoleSets roleSets) {
+		super(createCache(factory, options, roleSets), registry, options.getCacheConfig().getPermissionCacheSize());
 		this.vertx = vertx;
 		this.options = options;
+		this.roleSets = roleSets;
 	}
 
-	private static EventAwareCache<String, Boolean> createCache(EventAwareCacheFactory factory) {
-		return factory.<String, Boolean>builder()
+	private static EventAwareCache<PermissionCacheKey, Boolean> createCache(EventAwareCacheFactory factory, MeshOptions options, RoleSets roleSets) {
+		long maxSize = options.getCacheConfig().getPermissionCacheSize();
+		return factory.<PermissionCacheKey, Boolean>builder()
 			.events(CLEAR_PERMISSION_STORE)
 			.action((event, cache) -> {
-				if (log.isDebugEnabled()) {
-					log.debug("Clearing permission store due to received event from {" + event.address() + "}");
+				JsonObject body = event.body();
+				if (body == null) {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing permission store due to received event from {" + event.address() + "}");
+					}
+					cache.invalidate();
+					roleSets.clear();
+					return;
+				}
+				// Changes of the local instance have already been applied
+				if (options.getNodeName().equals(body.getString(ORIGIN_KEY))) {
+					return;
+				}
+				String roleUuid = body.getString(ROLE_KEY);
+				if (roleUuid != null) {
+					roleSets.invalidateRole(roleUuid);
+				}
+				if (body.getBoolean(ROLE_SETS_KEY, false)) {
+					roleSets.invalidateUsers();
 				}
-				cache.invalidate();
 			})
 			.expireAfter(30, ChronoUnit.MINUTES)
-			.maxSize(CACHE_SIZE)
+			.maxSize(maxSize)
 			.name("permission")
 			.build();
 	}
 
-	/**
-	 * Check whether the granting user permission was stored in the cache.
-	 * 
-	 * @param userId
-	 *            Vertex id of the user
-	 * @param permission
-	 *            Permission to check against
-	 * @param elementId
-	 *            Vertex id of the element to which permissions should be checked
-	 * @return true, if a granting permission was found or false if the permission could not be found in the cache
-	 */
-	public boolean hasPermission(Object userId, GraphPermission permission, Object elementId) {
-		String key = createCacheKey(userId, permission, elementId);
-		Boolean cachedPerm = cache.get(key);
-		return cachedPerm != null && cachedPerm;
+	@Override
+	public RoleSet getRoleSet(Object userId, Supplier<Set<String>> roleUuidLoader) {
+		if (isDisabled()) {
+			return new RoleSet(0, roleUuidLoader.get());
+		}
+		return roleSets.get(userId, roleUuidLoader);
+	}
+
+	@Override
+	public Boolean hasPermission(RoleSet roles, GraphPermission permission, Object elementId) {
+		if (isDisabled()) {
+			return null;
+		}
+		return cache.get(new PermissionCacheKey(roles, permission, elementId));
+	}
+
+	@Override
+	public void store(RoleSet roles, GraphPermission permission, Object elementId, boolean granted) {
+		if (isDisabled()) {
+			return;
+		}
+		cache.put(new PermissionCacheKey(roles, permission, elementId), granted);
+	}
+
+	@Override
+	public void invalidateRole(String roleUuid, Object elementId) {
+		invalidateLocally(roleUuid, elementId);
+		afterCompletion(() -> {
+			invalidateLocally(roleUuid, elementId);
+			notifyCluster(new JsonObject().put(ROLE_KEY, roleUuid));
+		});
+	}
+
+	@Override
+	public void invalidateRoleSets() {
+		roleSets.invalidateUsers();
+		afterCompletion(() -> {
+			roleSets.invalidateUsers();
+			notifyCluster(new JsonObject().put(ROLE_SETS_KEY, true));
+		});
+	}
+
+	private void invalidateLocally(String roleUuid, Object elementId) {
+		for (RoleSet roles : roleSets.all()) {
+			if (roles.contains(roleUuid)) {
+				invalidate(roles, elementId);
+			}
+		}
 	}
 
 	/**
-	 * Create the cache key.
-	 * 
-	 * @param userId
-	 * @param permission
-	 * @param elementId
-	 * @return
+	 * Invoke the action once the current transaction has been completed or immediately if no transaction is active.
+	 *
+	 * @param action
 	 */
-	private String createCacheKey(Object userId, GraphPermission permission, Object elementId) {
-		return userId + "-" + permission.ordinal() + "-" + elementId;
+	private void afterCompletion(Runnable action) {
+		Tx tx = Tx.get();
+		if (tx == null) {
+			action.run();
+		} else {
+			tx.onCompletion(action);
+		}
+	}
+
+	private void invalidate(RoleSet roles, Object elementId) {
+		for (GraphPermission permission : PERMISSIONS) {
+			cache.invalidate(new PermissionCacheKey(roles, permission, elementId));
+		}
 	}
 
 	/**
 	 * Invalidate the LRU cache and optionally notify other instances in the cluster.
-	 * 
+	 *
 	 * @param notify
 	 */
 	@Override
 	public void clear(boolean notify) {
 		// Invalidate locally
 		cache.invalidate();
+		roleSets.clear();
 		if (notify && options.getClusterOptions().isEnabled()) {
 			// Send the event to inform other to purge the stored permissions
 			vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, null);
@@ -104,17 +191,56 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 		clear(true);
 	}
 
+	private void notifyCluster(JsonObject body) {
+		if (options.getClusterOptions().isEnabled()) {
+			vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, body.put(ORIGIN_KEY, options.getNodeName()));
+		}
+	}
+
 	/**
-	 * Store a granting permission in the cache.
-	 * 
-	 * @param userId
-	 *            User which currently has roles which grant him the permission on the element
-	 * @param permission
-	 *            Permission which is granted
-	 * @param elementId
-	 *            Id of the element to which a permission is granted
+	 * Registry of the interned role sets and the mapping from users to their role sets. The interned role sets are weakly referenced, so role sets which are no
+	 * longer used by any user are released. Their cache entries can no longer be looked up and will be evicted.
 	 */
-	public void store(Object userId, GraphPermission permission, Object elementId) {
-		cache.put(createCacheKey(userId, permission, elementId), true);
+	private static class RoleSets {
+
+		private final Cache<Set<String>, RoleSet> interned = Caffeine.newBuilder()
+			.weakValues()
+			.build();
+
+		private final Cache<Object, RoleSet> userRoleSets;
+
+		private final AtomicInteger ids = new AtomicInteger();
+
+		RoleSets(long maxSize) {
+			this.userRoleSets = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(30, TimeUnit.MINUTES)
+				.build();
+		}
+
+		RoleSet get(Object userId, Supplier<Set<String>> roleUuidLoader) {
+			return userRoleSets.get(userId, id -> interned.get(roleUuidLoader.get(), uuids -> new RoleSet(ids.incrementAndGet(), uuids)));
+		}
+
+		Iterable<RoleSet> all() {
+			return interned.asMap().values();
+		}
+
+		void invalidateRole(String roleUuid) {
+			for (RoleSet roles : interned.asMap().values()) {
+				if (roles.contains(roleUuid)) {
+					roles.incrementGeneration();
+				}
+			}
+		}
+
+		void invalidateUsers() {
+			userRoleSets.invalidateAll();
+		}
+
+		void clear() {
+			userRoleSets.invalidateAll();
+			interned.invalidateAll();
+		}
 	}
 }
@@ -0,0 +1,91 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+/**
+ * @see PrincipalCache
+ */
+@Singleton
+public class PrincipalCacheImpl extends AbstractMeshCache<String, CachedPrincipal> implements PrincipalCache {
+
+	/**
+	 * Generation of the cache which is incremented by every invalidation. Principals which were loaded while the generation changed may be outdated and are
+	 * not kept in the cache.
+	 */
+	private final AtomicLong generation;
+
+	@Inject
+	public PrincipalCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		this(new AtomicLong(), factory, registry, options);
+	}
+
+	private PrincipalCacheImpl(AtomicLong generation, EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(generation, factory, options), registry, options.getCacheConfig().getPrincipalCacheSize());
+		this.generation = generation;
+	}
+
+	private static EventAwareCache<String, CachedPrincipal> createCache(AtomicLong generation, EventAwareCacheFactory factory, MeshOptions options) {
+		return factory.<String, CachedPrincipal>builder()
+			// Updating the user or its API key will emit an update event
+			.events(USER_UPDATED, USER_DELETED)
+			.action((event, cache) -> {
+				generation.incrementAndGet();
+				String uuid = event.body().getString("uuid");
+				if (uuid != null) {
+					cache.invalidate(uuid);
+				} else {
+					cache.invalidate();
+				}
+			})
+			.name("principal")
+			.maxSize(options.getCacheConfig().getPrincipalCacheSize())
+			// Limit the time in which a principal can be outdated if an invalidation event is missed
+			.expireAfter(60, ChronoUnit.SECONDS)
+			.build();
+	}
+
+	@Override
+	public CachedPrincipal get(String userUuid, Function<String, CachedPrincipal> loader) {
+		if (isDisabled()) {
+			return loader.apply(userUuid);
+		}
+		CachedPrincipal principal = cache.get(userUuid);
+		if (principal != null) {
+			return principal;
+		}
+		long loadedGeneration = generation.get();
+		principal = loader.apply(userUuid);
+		if (principal != null) {
+			cache.put(userUuid, principal);
+			// The principal may have been loaded before an invalidation was committed. Remove it again so that it is not kept outdated.
+			if (generation.get() != loadedGeneration) {
+				cache.invalidate(userUuid);
+			}
+		}
+		return principal;
+	}
+
+	@Override
+	public void invalidate(String userUuid) {
+		generation.incrementAndGet();
+		cache.invalidate(userUuid);
+	}
+
+	@Override
+	public void clear() {
+		generation.incrementAndGet();
+		super.clear();
+	}
+
+}
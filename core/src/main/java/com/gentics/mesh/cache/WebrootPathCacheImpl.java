@@ -10,24 +10,39 @@ import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
 import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.etc.config.CacheConfig;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.path.Path;
+import com.gentics.mesh.path.PathSegment;
 
-import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU webroot path cache which is used to quickly lookup cached paths.
+ *
+ * The cache keeps an index of the nodes which are part of the cached paths. Node events only evict the paths which pass through the node within the project,
+ * branch and type of the event. Paths which could not be fully resolved are evicted on every node event of the scope since the change may make them
+ * resolvable.
  */
 @Singleton
 public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implements WebrootPathCache {
@@ -45,25 +60,61 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 		NODE_CONTENT_DELETED,
 		SCHEMA_MIGRATION_FINISHED };
 
+	private final PathIndex index;
+
 	@Inject
 	public WebrootPathCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
-		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getPathCacheSize());
+		this(factory, registry, options, new PathIndex());
 	}
 
-	private static EventAwareCache<String, Path> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+	private WebrootPathCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, PathIndex index) {
+		super(createCache(factory, options.getCacheConfig(), index), registry, options.getCacheConfig().getPathCacheSize());
+		this.index = index;
+	}
+
+	private static EventAwareCache<String, Path> createCache(EventAwareCacheFactory factory, CacheConfig config, PathIndex index) {
 		return factory.<String, Path>builder()
 			.events(EVENTS)
-			.action((event, cache) -> {
-				if (log.isDebugEnabled()) {
-					log.debug("Clearing path store due to received event from {" + event.address() + "}");
-				}
-				cache.invalidate();
-			})
+			.action((event, cache) -> handleEvent(event, cache, index))
+			.removalListener(index::remove)
 			.name("webroot")
 			.maxSize(config.getPathCacheSize())
 			.build();
 	}
 
+	/**
+	 * Evict the paths which are affected by the event.
+	 *
+	 * @param event
+	 * @param cache
+	 * @param index
+	 */
+	private static void handleEvent(Message<JsonObject> event, EventAwareCache<String, Path> cache, PathIndex index) {
+		JsonObject body = event.body();
+		String address = event.address();
+		if (body == null || CLEAR_PATH_STORE.address.equals(address) || SCHEMA_MIGRATION_FINISHED.address.equals(address)) {
+			if (log.isDebugEnabled()) {
+				log.debug("Clearing path store due to received event from {" + address + "}");
+			}
+			cache.invalidate();
+			return;
+		}
+
+		JsonObject project = body.getJsonObject("project");
+		String projectUuid = project == null ? null : project.getString("uuid");
+		String branchUuid = body.getString("branchUuid");
+		String type = body.getString("type");
+		PathScope scope = new PathScope(projectUuid, branchUuid, type == null ? null : ContainerType.valueOf(type));
+
+		List<String> keys = index.getKeys(body.getString("uuid"), scope);
+		if (log.isDebugEnabled()) {
+			log.debug("Evicting {" + keys.size() + "} paths due to received event from {" + address + "}");
+		}
+		for (String key : keys) {
+			cache.invalidate(key);
+		}
+	}
+
 	@Override
 	public Path getPath(Project project, Branch branch, ContainerType type, String path) {
 		if (isDisabled()) {
@@ -81,18 +132,149 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 		if (isDisabled()) {
 			return;
 		}
-		cache.put(createCacheKey(project, branch, type, path), resolvedPath);
+		Set<String> nodeUuids = new HashSet<>();
+		for (PathSegment segment : resolvedPath.getSegments()) {
+			NodeGraphFieldContainer container = segment.getContainer();
+			if (container != null) {
+				nodeUuids.add(container.getParentNode().getUuid());
+			}
+		}
+		String key = createCacheKey(project, branch, type, path);
+		PathScope scope = new PathScope(project.getUuid(), branch.getUuid(), type);
+		index.add(key, new IndexEntry(resolvedPath, scope, nodeUuids, resolvedPath.isFullyResolved()));
+		cache.put(key, resolvedPath);
 	}
 
 	/**
 	 * Create the cache key.
-	 * 
+	 *
 	 * @param project
-	 * @param elementId
+	 * @param branch
+	 * @param type
+	 * @param path
 	 * @return
 	 */
 	private String createCacheKey(Project project, Branch branch, ContainerType type, String path) {
-		return project.id() + "-" + branch.id() + "-" + type.getCode() + "-" + path;
+		return project.getUuid() + "-" + branch.getUuid() + "-" + type.getCode() + "-" + path;
+	}
+
+	/**
+	 * Project, branch and type of a cached path or an event. Null values of events match any value.
+	 */
+	private static class PathScope {
+
+		private final String projectUuid;
+
+		private final String branchUuid;
+
+		private final ContainerType type;
+
+		PathScope(String projectUuid, String branchUuid, ContainerType type) {
+			this.projectUuid = projectUuid;
+			this.branchUuid = branchUuid;
+			this.type = type;
+		}
+
+		boolean matches(PathScope pathScope) {
+			return (projectUuid == null || projectUuid.equals(pathScope.projectUuid))
+				&& (branchUuid == null || branchUuid.equals(pathScope.branchUuid))
+				&& (type == null || type == pathScope.type);
+		}
+	}
+
+	/**
+	 * Information about a cached path.
+	 */
+	private static class IndexEntry {
+
+		private final Path path;
+
+		private final PathScope scope;
+
+		private final Set<String> nodeUuids;
+
+		private final boolean resolved;
+
+		IndexEntry(Path path, PathScope scope, Set<String> nodeUuids, boolean resolved) {
+			this.path = path;
+			this.scope = scope;
+			this.nodeUuids = nodeUuids;
+			this.resolved = resolved;
+		}
+	}
+
+	/**
+	 * Index of the cached paths by the uuids of the nodes which are part of the paths.
+	 */
+	private static class PathIndex {
+
+		private final ConcurrentMap<String, IndexEntry> entries = new ConcurrentHashMap<>();
+
+		private final ConcurrentMap<String, Set<String>> keysByNode = new ConcurrentHashMap<>();
+
+		private final Set<String> unresolvedKeys = ConcurrentHashMap.newKeySet();
+
+		void add(String key, IndexEntry entry) {
+			IndexEntry previous = entries.put(key, entry);
+			if (previous != null) {
+				unlink(key, previous);
+			}
+			for (String nodeUuid : entry.nodeUuids) {
+				keysByNode.computeIfAbsent(nodeUuid, uuid -> ConcurrentHashMap.newKeySet()).add(key);
+			}
+			if (!entry.resolved) {
+				unresolvedKeys.add(key);
+			}
+		}
+
+		/**
+		 * Remove the entry of the evicted path. Entries which were already replaced by a newer path are kept.
+		 *
+		 * @param key
+		 * @param path
+		 */
+		void remove(String key, Path path) {
+			IndexEntry entry = entries.get(key);
+			if (entry != null && entry.path == path && entries.remove(key, entry)) {
+				unlink(key, entry);
+			}
+		}
+
+		/**
+		 * Return the keys of the paths which pass through the node and the keys of the unresolved paths within the scope.
+		 *
+		 * @param nodeUuid
+		 * @param scope
+		 * @return
+		 */
+		List<String> getKeys(String nodeUuid, PathScope scope) {
+			List<String> keys = new ArrayList<>();
+			Set<String> nodeKeys = nodeUuid == null ? Collections.emptySet() : keysByNode.getOrDefault(nodeUuid, Collections.emptySet());
+			addMatching(keys, nodeKeys, scope);
+			addMatching(keys, unresolvedKeys, scope);
+			return keys;
+		}
+
+		private void addMatching(List<String> keys, Set<String> candidates, PathScope scope) {
+			for (String key : candidates) {
+				IndexEntry entry = entries.get(key);
+				if (entry != null && scope.matches(entry.scope)) {
+					keys.add(key);
+				}
+			}
+		}
+
+		private void unlink(String key, IndexEntry entry) {
+			for (String nodeUuid : entry.nodeUuids) {
+				keysByNode.computeIfPresent(nodeUuid, (uuid, keys) -> {
+					keys.remove(key);
+					return keys.isEmpty() ? null : keys;
+				});
+			}
+			if (!entry.resolved) {
+				unresolvedKeys.remove(key);
+			}
+		}
 	}
 
 }
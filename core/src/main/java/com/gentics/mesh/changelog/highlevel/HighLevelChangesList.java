@@ -8,6 +8,7 @@ import javax.inject.Singleton;
 
 import com.gentics.mesh.changelog.highlevel.change.ExtractPlainText;
 import com.gentics.mesh.changelog.highlevel.change.FixNodeVersionOrder;
+import com.gentics.mesh.changelog.highlevel.change.PackBasicListFields;
 import com.gentics.mesh.changelog.highlevel.change.RestructureWebrootIndex;
 import com.gentics.mesh.core.data.changelog.HighLevelChange;
 
@@ -26,6 +27,9 @@ public class HighLevelChangesList {
 	@Inject
 	public FixNodeVersionOrder fixNodeVersionOrder;
 
+	@Inject
+	public PackBasicListFields packBasicListFields;
+
 	@Inject
 	public HighLevelChangesList() {
 	}
@@ -34,7 +38,8 @@ public class HighLevelChangesList {
 		return Arrays.asList(
 			restructureWebroot,
 			plainText,
-			fixNodeVersionOrder
+			fixNodeVersionOrder,
+			packBasicListFields
 		// ADD NEW CHANGES HERE!
 		);
 	}
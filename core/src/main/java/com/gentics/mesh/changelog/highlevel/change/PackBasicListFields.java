@@ -0,0 +1,78 @@
+package com.gentics.mesh.changelog.highlevel.change;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.changelog.highlevel.AbstractHighLevelChange;
+import com.gentics.mesh.core.data.node.field.list.AbstractBasicGraphFieldList;
+import com.gentics.mesh.core.data.node.field.list.impl.BooleanGraphFieldListImpl;
+import com.gentics.mesh.core.data.node.field.list.impl.DateGraphFieldListImpl;
+import com.gentics.mesh.core.data.node.field.list.impl.HtmlGraphFieldListImpl;
+import com.gentics.mesh.core.data.node.field.list.impl.NumberGraphFieldListImpl;
+import com.gentics.mesh.core.data.node.field.list.impl.StringGraphFieldListImpl;
+import com.syncleus.ferma.FramedTransactionalGraph;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Change which converts the items of basic list fields from the legacy layout (one property per item) to the packed representation.
+ */
+@Singleton
+public class PackBasicListFields extends AbstractHighLevelChange {
+
+	private static final Logger log = LoggerFactory.getLogger(PackBasicListFields.class);
+
+	private static final List<Class<? extends AbstractBasicGraphFieldList<?, ?, ?>>> LIST_CLASSES = Arrays.asList(
+		StringGraphFieldListImpl.class,
+		HtmlGraphFieldListImpl.class,
+		NumberGraphFieldListImpl.class,
+		DateGraphFieldListImpl.class,
+		BooleanGraphFieldListImpl.class);
+
+	@Inject
+	public PackBasicListFields() {
+	}
+
+	@Override
+	public String getUuid() {
+		return "5B1F3C2E8A0D4E6F9F3C2E8A0D0E6F41";
+	}
+
+	@Override
+	public String getName() {
+		return "Pack Basic List Fields";
+	}
+
+	@Override
+	public String getDescription() {
+		return "Converts the items of string, html, number, date and boolean list fields to the packed representation.";
+	}
+
+	@Override
+	public void apply() {
+		log.info("Applying change: " + getName());
+		FramedTransactionalGraph graph = Tx.getActive().getGraph();
+		for (Class<? extends AbstractBasicGraphFieldList<?, ?, ?>> clazz : LIST_CLASSES) {
+			long count = 0;
+			long total = 0;
+			for (AbstractBasicGraphFieldList<?, ?, ?> list : graph.getFramedVertices("@class", clazz.getSimpleName(), clazz)) {
+				if (list.pack()) {
+					count++;
+				}
+				total++;
+				if (total % 1000 == 0) {
+					graph.commit();
+					log.info("Packed {" + count + "} lists of type {" + clazz.getSimpleName() + "}. Processed {" + total + "} lists in total");
+				}
+			}
+			graph.commit();
+			log.info("Done packing lists of type {" + clazz.getSimpleName() + "}. Packed: {" + count + "} of {" + total + "}");
+		}
+	}
+
+}
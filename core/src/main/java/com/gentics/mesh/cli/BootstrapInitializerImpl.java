@@ -86,6 +86,8 @@ import com.gentics.mesh.etc.config.DebugInfoOptions;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.MonitoringConfig;
+import com.gentics.mesh.event.MeshEventEnvelope;
+import com.gentics.mesh.event.impl.MeshEventEnvelopeCodec;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.plugin.manager.MeshPluginManager;
 import com.gentics.mesh.router.RouterStorageRegistry;
@@ -291,6 +293,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 				// Vert.x is currently needed for eventQueueBatch creation.
 				// This process fails if vert.x has not been made accessible during local data setup.
 				vertx = Vertx.vertx();
+				registerCodecs(vertx);
 				boolean setupData = initLocalData(options, false);
 				db.closeConnectionPool();
 				db.shutdown();
@@ -502,10 +505,20 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 		} else {
 			log.warn("Current environment does not support native transports");
 		}
+		registerCodecs(vertx);
 
 		this.vertx = vertx;
 	}
 
+	/**
+	 * Register the codecs for the custom eventbus messages of Gentics Mesh.
+	 *
+	 * @param vertx
+	 */
+	private void registerCodecs(Vertx vertx) {
+		vertx.eventBus().registerDefaultCodec(MeshEventEnvelope.class, new MeshEventEnvelopeCodec());
+	}
+
 	/**
 	 * Create a clustered vert.x instance and block until the instance has been created.
 	 *
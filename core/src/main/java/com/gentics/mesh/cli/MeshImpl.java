@@ -372,6 +372,13 @@ public class MeshImpl implements Mesh {
 			log.error("The search provider did encounter an error while stopping", t);
 		}
 
+		// image cache
+		try {
+			meshInternal.imageManipulator().shutdown();
+		} catch (Throwable t) {
+			log.error("Error while stopping the image manipulator", t);
+		}
+
 		// vert.x
 		try {
 			io.vertx.reactivex.core.Vertx rxVertx = getRxVertx();
@@ -1,6 +1,7 @@
 package com.gentics.mesh.context.impl;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -9,9 +10,11 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import com.gentics.madl.traversal.RawTraversalResult;
+import com.gentics.mesh.cache.RoleSet;
 import com.gentics.mesh.context.AbstractInternalActionContext;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
@@ -73,7 +76,7 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 
 	private Map<String, Object> data;
 
-	private Set<ConflictWarning> conflicts = new HashSet<>();
+	private Set<ConflictWarning> conflicts = ConcurrentHashMap.newKeySet();
 
 	private MultiMap parameters = MultiMap.caseInsensitiveMultiMap();
 
@@ -93,6 +96,26 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 
 	private MigrationStatusHandler status;
 
+	/**
+	 * Create a copy of the context which can be used by a concurrent migration worker. The copy shares the migration information, the status and the
+	 * conflicts with this context but uses its own parameters and data.
+	 *
+	 * @return
+	 */
+	public NodeMigrationActionContextImpl copy() {
+		NodeMigrationActionContextImpl copy = new NodeMigrationActionContextImpl();
+		copy.conflicts = conflicts;
+		copy.body = body;
+		copy.query = query;
+		copy.project = project;
+		copy.branch = branch;
+		copy.cause = cause;
+		copy.fromContainerVersion = fromContainerVersion;
+		copy.toContainerVersion = toContainerVersion;
+		copy.status = status;
+		return copy;
+	}
+
 	@Override
 	public Branch getBranch() {
 		return branch;
@@ -282,6 +305,16 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 				return true;
 			}
 
+			@Override
+			public Set<Object> getPermittedIds(Collection<?> elementIds, GraphPermission permission) {
+				return new HashSet<>(elementIds);
+			}
+
+			@Override
+			public RoleSet getRoleSet() {
+				return new RoleSet(0, Collections.emptySet());
+			}
+
 			@Override
 			public boolean hasPermission(MeshVertex element, GraphPermission permission) {
 				return true;
@@ -688,6 +721,11 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 				return null;
 			}
 
+			@Override
+			public Set<String> getRoleUuidsWithPerm(GraphPermission perm) {
+				return null;
+			}
+
 			@Override
 			public PermissionInfo getRolePermissions(InternalActionContext ac, String roleUuid) {
 				return null;
@@ -22,12 +22,11 @@ public interface BinaryDataProcessor {
 	boolean accepts(String contentType);
 
 	/**
-	 * Process the binary data and return a consumer for the binary field.
+	 * Process the binary data and return a consumer for the binary field. Processors run in parallel with the hashing of the upload.
 	 * 
 	 * @param upload
-	 * @param hash SHA512 sum of the upload
 	 * @return Modifier for the binary graph field.
 	 */
-	Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, String hash);
+	Maybe<Consumer<BinaryGraphField>> process(FileUpload upload);
 
 }
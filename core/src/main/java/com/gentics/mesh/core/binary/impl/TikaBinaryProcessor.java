@@ -107,7 +107,7 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 	}
 
 	@Override
-	public Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, String hash) {
+	public Maybe<Consumer<BinaryGraphField>> process(FileUpload upload) {
 		return vertx.get().rxExecuteBlocking(promise -> {
 			File uploadFile = new File(upload.uploadedFileName());
 			if (log.isDebugEnabled()) {
@@ -138,7 +138,7 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 				log.warn("Tika processing of upload failed", e);
 				promise.fail(e);
 			}
-		}, true);
+		}, false);
 	}
 
 	public TikaResult parseFile(InputStream ins, int len) throws TikaException, IOException {
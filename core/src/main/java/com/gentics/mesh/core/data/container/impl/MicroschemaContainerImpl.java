@@ -2,6 +2,7 @@ package com.gentics.mesh.core.data.container.impl;
 
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
+import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import com.gentics.madl.index.IndexHandler;
@@ -18,6 +19,7 @@ import com.gentics.mesh.core.rest.microschema.MicroschemaModel;
 import com.gentics.mesh.core.rest.microschema.impl.MicroschemaResponse;
 import com.gentics.mesh.core.rest.schema.MicroschemaReference;
 import com.gentics.mesh.core.rest.schema.impl.MicroschemaReferenceImpl;
+import com.gentics.mesh.madl.field.FieldType;
 
 /**
  * See {@link MicroschemaContainer}
@@ -38,6 +40,10 @@ public class MicroschemaContainerImpl extends
 
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(MicroschemaContainerImpl.class, MeshVertexImpl.class);
+		index.createIndex(vertexIndex(MicroschemaContainerImpl.class)
+			.withPostfix(INDEX_CHANGE_INDEX_POSTFIX)
+			.withField(INDEX_CHANGE_TIMESTAMP_PROPERTY_KEY, FieldType.LONG)
+			.sorted());
 	}
 
 	@Override
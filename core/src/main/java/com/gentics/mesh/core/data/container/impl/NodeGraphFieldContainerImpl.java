@@ -108,6 +108,11 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 	public static final String VERSION_PROPERTY_KEY = "version";
 
+	/**
+	 * Postfix of the sorted index over the schema version and uuid of the containers.
+	 */
+	public static final String VERSION_UUID_INDEX_POSTFIX = "version_uuid";
+
 	// Cached instance of the parent node.
 	private Node parentNodeRef;
 
@@ -117,6 +122,12 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 
 		index.createIndex(vertexIndex(NodeGraphFieldContainerImpl.class)
 			.withField(SCHEMA_CONTAINER_VERSION_KEY_PROPERTY, STRING));
+
+		index.createIndex(vertexIndex(NodeGraphFieldContainerImpl.class)
+			.withPostfix(VERSION_UUID_INDEX_POSTFIX)
+			.withField(SCHEMA_CONTAINER_VERSION_KEY_PROPERTY, STRING)
+			.withField("uuid", STRING)
+			.sorted());
 	}
 
 	@Override
@@ -243,12 +254,9 @@ public class NodeGraphFieldContainerImpl extends AbstractGraphFieldContainerImpl
 				}
 				if (field instanceof StringGraphFieldListImpl) {
 					StringGraphFieldListImpl stringListField = (StringGraphFieldListImpl) field;
-					for (StringGraphField listField : stringListField.getList()) {
-						if (listField != null) {
-							String value = listField.getString();
-							if (value != null) {
-								urlFieldValues.add(value);
-							}
+					for (String value : stringListField.getValues()) {
+						if (value != null) {
+							urlFieldValues.add(value);
 						}
 					}
 				}
@@ -59,6 +59,11 @@ public abstract class AbstractMeshCoreVertex<T extends RestModel, R extends Mesh
 		return mesh().permissionProperties().getRolesWithPerm(this, perm);
 	}
 
+	@Override
+	public Set<String> getRoleUuidsWithPerm(GraphPermission perm) {
+		return mesh().permissionProperties().getRoleUuidsWithPerm(this, perm);
+	}
+
 	public void setRolePermissions(InternalActionContext ac, GenericRestResponse model) {
 		model.setRolePerms(getRolePermissions(ac, ac.getRolePermissionParameters().getRoleUuid()));
 	}
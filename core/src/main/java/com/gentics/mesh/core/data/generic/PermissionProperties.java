@@ -3,8 +3,10 @@ package com.gentics.mesh.core.data.generic;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -41,6 +43,18 @@ public class PermissionProperties {
 		);
 	}
 
+	public Set<String> getRoleUuidsWithPerm(MeshVertex vertex, GraphPermission perm) {
+		Set<String> roleUuids = vertex.property(perm.propertyKey());
+		if (roleUuids == null) {
+			return Collections.emptySet();
+		}
+		// The uuids of deleted roles are not removed from the property. The existence of the roles is checked via the index without loading the roles.
+		RoleRoot roleRoot = boot.roleRoot();
+		return roleUuids.stream()
+			.filter(uuid -> roleRoot.findByUuid(uuid) != null)
+			.collect(Collectors.toSet());
+	}
+
 	public PermissionInfo getRolePermissions(MeshVertex vertex, InternalActionContext ac, String roleUuid) {
 		if (!isEmpty(roleUuid)) {
 			Role role = boot.roleRoot().loadObjectByUuid(ac, roleUuid, READ_PERM);
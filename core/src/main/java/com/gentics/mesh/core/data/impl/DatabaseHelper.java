@@ -28,6 +28,7 @@ import com.gentics.mesh.core.data.node.field.list.impl.NumberGraphFieldListImpl;
 import com.gentics.mesh.core.data.node.field.list.impl.StringGraphFieldListImpl;
 import com.gentics.mesh.core.data.node.impl.MicronodeImpl;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
+import com.gentics.mesh.core.data.node.impl.NodeRevisionCounterImpl;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.relationship.GraphRelationships;
 import com.gentics.mesh.core.data.root.impl.BranchRootImpl;
@@ -128,6 +129,7 @@ public final class DatabaseHelper {
 		RoleImpl.init(type, index);
 		UserImpl.init(type, index);
 		NodeImpl.init(type, index);
+		NodeRevisionCounterImpl.init(type, index);
 		MicronodeImpl.init(type, index);
 		TagImpl.init(type, index);
 		TagFamilyImpl.init(type, index);
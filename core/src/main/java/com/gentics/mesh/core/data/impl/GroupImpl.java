@@ -58,6 +58,10 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		index.createIndex(vertexIndex(GroupImpl.class)
 			.withField("name", FieldType.STRING)
 			.unique());
+		index.createIndex(vertexIndex(GroupImpl.class)
+			.withPostfix(INDEX_CHANGE_INDEX_POSTFIX)
+			.withField(INDEX_CHANGE_TIMESTAMP_PROPERTY_KEY, FieldType.LONG)
+			.sorted());
 	}
 
 	@Override
@@ -88,6 +92,9 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (Role role : getRoles()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
+		// The user document contains the groups of the user
+		user.markIndexChanged();
+		mesh().permissionCache().invalidateRoleSets();
 	}
 
 	@Override
@@ -96,7 +103,8 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		// The user does no longer belong to the group so lets update the shortcut edges
 		user.updateShortcutEdges();
-		mesh().permissionCache().clear();
+		user.markIndexChanged();
+		mesh().permissionCache().invalidateRoleSets();
 	}
 
 	@Override
@@ -112,7 +120,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (User user : getUsers()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
-
+		mesh().permissionCache().invalidateRoleSets();
 	}
 
 	@Override
@@ -123,7 +131,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (User user : getUsers()) {
 			user.updateShortcutEdges();
 		}
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateRoleSets();
 	}
 
 	@Override
@@ -194,7 +202,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 			bac.inc();
 		}
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateRoleSets();
 	}
 
 	@Override
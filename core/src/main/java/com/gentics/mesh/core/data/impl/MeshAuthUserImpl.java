@@ -5,6 +5,7 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_USE
 
 import org.apache.commons.lang.NotImplementedException;
 
+import com.gentics.mesh.cache.RoleSet;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Role;
@@ -27,6 +28,8 @@ public class MeshAuthUserImpl extends UserImpl implements MeshAuthUser {
 
 	private String uuid;
 
+	private RoleSet roleSet;
+
 	@Override
 	public String getUuid() {
 		// Cache the user uuid so that we can reuse it during the login process
@@ -38,6 +41,24 @@ public class MeshAuthUserImpl extends UserImpl implements MeshAuthUser {
 		return uuid;
 	}
 
+	@Override
+	public RoleSet getRoleSet() {
+		// The auth user is loaded for each request. Resolve the roles only once for all permission checks of the request.
+		if (roleSet == null) {
+			roleSet = super.getRoleSet();
+		}
+		return roleSet;
+	}
+
+	@Override
+	public MeshAuthUser copy() {
+		MeshAuthUserImpl user = new MeshAuthUserImpl();
+		// The copy is created outside of a transaction. The graph of the current transaction is used once the user is accessed.
+		user.init(null, null, id());
+		user.setCachedUuid(getUuid());
+		return user;
+	}
+
 	/**
 	 * An active transaction is required in order to load the json data.
 	 */
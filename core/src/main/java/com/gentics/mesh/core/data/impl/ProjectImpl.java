@@ -81,6 +81,10 @@ public class ProjectImpl extends AbstractMeshCoreVertex<ProjectResponse, Project
 		index.createIndex(vertexIndex(ProjectImpl.class)
 			.withField("name", FieldType.STRING)
 			.unique());
+		index.createIndex(vertexIndex(ProjectImpl.class)
+			.withPostfix(INDEX_CHANGE_INDEX_POSTFIX)
+			.withField(INDEX_CHANGE_TIMESTAMP_PROPERTY_KEY, FieldType.LONG)
+			.sorted());
 	}
 
 	@Override
@@ -20,11 +20,13 @@ import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Group;
+import com.gentics.mesh.core.data.IndexChangeTrackingVertex;
 import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.generic.AbstractMeshCoreVertex;
 import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -54,6 +56,10 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 		index.createIndex(vertexIndex(RoleImpl.class)
 			.withField("name", FieldType.STRING)
 			.unique());
+		index.createIndex(vertexIndex(RoleImpl.class)
+			.withPostfix(INDEX_CHANGE_INDEX_POSTFIX)
+			.withField(INDEX_CHANGE_TIMESTAMP_PROPERTY_KEY, FieldType.LONG)
+			.sorted());
 	}
 
 	@Override
@@ -105,15 +111,23 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 
 	@Override
 	public void grantPermissions(MeshVertex vertex, GraphPermission... permissions) {
+		boolean permissionGranted = false;
 		for (GraphPermission permission : permissions) {
 			Set<String> allowedRoles = vertex.property(permission.propertyKey());
 			if (allowedRoles == null) {
 				vertex.property(permission.propertyKey(), Collections.singleton(getUuid()));
+				permissionGranted = true;
 			} else {
-				allowedRoles.add(getUuid());
+				permissionGranted = allowedRoles.add(getUuid()) || permissionGranted;
 				vertex.property(permission.propertyKey(), allowedRoles);
 			}
 		}
+		// Denials are cached as well. Elements which were created in this transaction can't have cached entries.
+		if (permissionGranted && !db().isNewElement(vertex.getElement())) {
+			mesh().permissionCache().invalidateRole(getUuid(), vertex.id());
+		}
+		markElementChanged(vertex);
+		updateParentETags(vertex, permissions);
 	}
 
 	@Override
@@ -154,7 +168,39 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 		}
 
 		if (permissionRevoked) {
-			mesh().permissionCache().clear();
+			if (!db().isNewElement(vertex.getElement())) {
+				mesh().permissionCache().invalidateRole(getUuid(), vertex.id());
+			}
+			markElementChanged(vertex);
+			updateParentETags(vertex, permissions);
+		}
+	}
+
+	/**
+	 * The search documents contain the roles which are allowed to read the element. Changing the permissions must thus mark the element as changed for the
+	 * incremental index sync.
+	 *
+	 * @param vertex
+	 */
+	private void markElementChanged(MeshVertex vertex) {
+		if (vertex instanceof IndexChangeTrackingVertex) {
+			((IndexChangeTrackingVertex) vertex).markIndexChanged();
+		}
+	}
+
+	/**
+	 * The children which are listed in the response of a node depend on the read permissions of the children. Changing those permissions must thus change the
+	 * etags of the parent nodes.
+	 *
+	 * @param vertex
+	 * @param permissions
+	 */
+	private void updateParentETags(MeshVertex vertex, GraphPermission... permissions) {
+		if (vertex instanceof Node) {
+			boolean readPermChanged = Arrays.stream(permissions).anyMatch(perm -> perm == READ_PERM || perm == READ_PUBLISHED_PERM);
+			if (readPermChanged) {
+				((Node) vertex).incrementParentETagRevisions();
+			}
 		}
 	}
 
@@ -163,7 +209,7 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 		bac.add(onDeleted());
 		getVertex().remove();
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateRoleSets();
 	}
 
 	@Override
@@ -14,10 +14,13 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_USE
 import static com.gentics.mesh.core.rest.error.Errors.conflict;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.madl.index.EdgeIndexDefinition.edgeIndex;
+import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
@@ -32,6 +35,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.cache.PermissionCache;
+import com.gentics.mesh.cache.RoleSet;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Group;
@@ -62,6 +66,7 @@ import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.core.rest.user.UserUpdateRequest;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.handler.VersionHandler;
+import com.gentics.mesh.madl.field.FieldType;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.parameter.GenericParameters;
 import com.gentics.mesh.parameter.NodeParameters;
@@ -106,6 +111,10 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(UserImpl.class, MeshVertexImpl.class);
 		index.createIndex(edgeIndex(ASSIGNED_TO_ROLE).withOut());
+		index.createIndex(vertexIndex(UserImpl.class)
+			.withPostfix(INDEX_CHANGE_INDEX_POSTFIX)
+			.withField(INDEX_CHANGE_TIMESTAMP_PROPERTY_KEY, FieldType.LONG)
+			.sorted());
 	}
 
 	@Override
@@ -328,37 +337,100 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 	@Override
 	public boolean hasPermissionForId(Object elementId, GraphPermission permission) {
 		PermissionCache permissionCache = mesh().permissionCache();
-		if (permissionCache.hasPermission(id(), permission, elementId)) {
-			return true;
-		} else {
-			FramedGraph graph = getGraph();
-			// Find all roles that are assigned to the user by checking the
-			// shortcut edge from the index
-			String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
-			Iterable<Edge> roleEdges = graph.getEdges(idxKey.toLowerCase(), this.id());
-			Vertex vertex = graph.getVertex(elementId);
-			for (Edge roleEdge : roleEdges) {
-				Vertex role = roleEdge.getVertex(Direction.IN);
-
-				Set<String> allowedRoles = vertex.getProperty(permission.propertyKey());
-				boolean hasPermission = allowedRoles != null && allowedRoles.contains(role.<String>getProperty("uuid"));
-				if (hasPermission) {
-					// We only store granting permissions in the store in order
-					// reduce the invalidation calls.
-					// This way we do not need to invalidate the cache if a role
-					// is removed from a group or a role is deleted.
-					permissionCache.store(id(), permission, elementId);
-					return true;
+		RoleSet roles = getRoleSet();
+		Boolean cached = permissionCache.hasPermission(roles, permission, elementId);
+		if (cached != null) {
+			return cached;
+		}
+		Vertex vertex = getGraph().getVertex(elementId);
+		if (vertex == null) {
+			return false;
+		}
+		boolean granted = hasPermission(roles, vertex, permission);
+		storePermission(roles, vertex, permission, granted);
+		return granted;
+	}
+
+	@Override
+	public Set<Object> getPermittedIds(Collection<?> elementIds, GraphPermission permission) {
+		PermissionCache permissionCache = mesh().permissionCache();
+		FramedGraph graph = getGraph();
+		RoleSet roles = getRoleSet();
+		Set<Object> permitted = new HashSet<>();
+		for (Object elementId : elementIds) {
+			Boolean cached = permissionCache.hasPermission(roles, permission, elementId);
+			if (cached != null) {
+				if (cached) {
+					permitted.add(elementId);
 				}
+				continue;
 			}
-			// Fall back to read and check whether the user has read perm. Read permission also includes read published.
-			if (permission == READ_PUBLISHED_PERM) {
-				return hasPermissionForId(elementId, READ_PERM);
-			} else {
-				return false;
+			Vertex vertex = graph.getVertex(elementId);
+			if (vertex == null) {
+				continue;
+			}
+			boolean granted = hasPermission(roles, vertex, permission);
+			storePermission(roles, vertex, permission, granted);
+			if (granted) {
+				permitted.add(elementId);
 			}
 		}
+		return permitted;
+	}
+
+	/**
+	 * Store the permission of the role set on the vertex in the permission cache. The entries of a role set don't need to be invalidated when the roles of
+	 * users change. The permissions on vertices which have not been committed yet are not cached, since the ids of those vertices change with the commit.
+	 *
+	 * @param roles
+	 * @param vertex
+	 * @param permission
+	 * @param granted
+	 */
+	private void storePermission(RoleSet roles, Vertex vertex, GraphPermission permission, boolean granted) {
+		if (!db().isNewElement(vertex)) {
+			mesh().permissionCache().store(roles, permission, vertex.getId(), granted);
+		}
+	}
 
+	/**
+	 * Check whether one of the roles grants the permission on the vertex.
+	 *
+	 * @param roles
+	 * @param vertex
+	 * @param permission
+	 * @return
+	 */
+	private boolean hasPermission(RoleSet roles, Vertex vertex, GraphPermission permission) {
+		if (roles.isPermitted(vertex.getProperty(permission.propertyKey()))) {
+			return true;
+		}
+		// Fall back to read and check whether the user has read perm. Read permission also includes read published.
+		return permission == READ_PUBLISHED_PERM && roles.isPermitted(vertex.getProperty(READ_PERM.propertyKey()));
+	}
+
+	/**
+	 * Return the interned set of the roles of the user.
+	 *
+	 * @return
+	 */
+	public RoleSet getRoleSet() {
+		return mesh().permissionCache().getRoleSet(id(), () -> getRoleUuidsViaShortcut(getGraph()));
+	}
+
+	/**
+	 * Load the uuids of all roles of the user via the shortcut edge index.
+	 *
+	 * @param graph
+	 * @return
+	 */
+	private Set<String> getRoleUuidsViaShortcut(FramedGraph graph) {
+		String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
+		Set<String> roleUuids = new HashSet<>();
+		for (Edge roleEdge : graph.getEdges(idxKey.toLowerCase(), this.id())) {
+			roleUuids.add(roleEdge.getVertex(Direction.IN).getProperty("uuid"));
+		}
+		return roleUuids;
 	}
 
 	@Override
@@ -530,7 +602,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		bac.add(onDeleted());
 		getElement().remove();
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateRoleSets();
 	}
 
 	/**
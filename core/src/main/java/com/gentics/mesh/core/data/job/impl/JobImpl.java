@@ -6,9 +6,14 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TO_
 import static com.gentics.mesh.core.rest.job.JobStatus.STARTING;
 import static com.gentics.mesh.core.rest.job.JobStatus.UNKNOWN;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.apache.commons.lang.NotImplementedException;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
 import com.gentics.mesh.context.BulkActionContext;
@@ -186,6 +191,25 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		property(COMPLETION_COUNT_PROPERTY_KEY, count);
 	}
 
+	@Override
+	public Set<String> getCompletedPartitions() {
+		String value = property(COMPLETED_PARTITIONS_PROPERTY_KEY);
+		Set<String> partitions = new HashSet<>();
+		if (!StringUtils.isEmpty(value)) {
+			partitions.addAll(Arrays.asList(value.split(",")));
+		}
+		return partitions;
+	}
+
+	@Override
+	public void setCompletedPartitions(Set<String> partitions) {
+		if (partitions == null || partitions.isEmpty()) {
+			removeProperty(COMPLETED_PARTITIONS_PROPERTY_KEY);
+		} else {
+			property(COMPLETED_PARTITIONS_PROPERTY_KEY, String.join(",", new TreeSet<>(partitions)));
+		}
+	}
+
 	@Override
 	public Branch getBranch() {
 		return out(HAS_BRANCH, BranchImpl.class).nextOrNull();
@@ -301,6 +325,7 @@ public abstract class JobImpl extends AbstractMeshCoreVertex<JobResponse, Job> i
 		setStopTimestamp(null);
 		setErrorDetail(null);
 		setErrorMessage(null);
+		setCompletedPartitions(null);
 		setStatus(JobStatus.QUEUED);
 	}
 
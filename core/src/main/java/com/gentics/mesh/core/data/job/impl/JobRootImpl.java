@@ -53,7 +53,7 @@ public class JobRootImpl extends AbstractRootVertex<Job> implements JobRoot {
 
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(JobRootImpl.class, MeshVertexImpl.class);
-		index.createIndex(edgeIndex(HAS_JOB).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_JOB).withInOut().withOut().withOutIn());
 	}
 
 	@Override
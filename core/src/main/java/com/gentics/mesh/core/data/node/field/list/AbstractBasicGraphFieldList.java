@@ -14,8 +14,9 @@ import com.gentics.mesh.core.rest.node.field.Field;
 import com.gentics.mesh.util.CompareUtils;
 
 /**
- * Abstract class for basic graph field lists. Basic graph field lists are stored within dedicated vertices. The values of such lists are stored as properties
- * within the vertex that represents the list.
+ * Abstract class for basic graph field lists. Basic graph field lists are stored within dedicated vertices. The values of such lists are stored in a single
+ * packed binary property (see {@link PackedListCodec}) within the vertex that represents the list. Lists which were created by older versions store each
+ * value in a dedicated {@code item-N-<type>} property. Those lists are read on the fly and converted to the packed representation once they get modified.
  *
  * @param <T>
  *            Field type that represents a list item
@@ -24,16 +25,49 @@ import com.gentics.mesh.util.CompareUtils;
  * @param <U>
  *            Value type that is stored in the list
  */
-public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField, RM extends Field, U> extends AbstractGraphFieldList<T, RM, U> {
+public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField, RM extends Field, U> extends AbstractGraphFieldList<T, RM, U>
+	implements BasicListGraphField<T, RM, U> {
 
 	/**
-	 * Create a new field wrapper which is used to handle the field value.
+	 * Key of the property which stores the packed values of the list.
+	 */
+	public static final String PACKED_ITEMS_PROPERTY_KEY = "packedItems";
+
+	public static final String LEGACY_ITEM_PREFIX = "item-";
+
+	/**
+	 * Return the codec which is used to pack the values of the list.
+	 * 
+	 * @return
+	 */
+	protected abstract PackedListCodec<U> getCodec();
+
+	/**
+	 * Create a new field wrapper which is used to handle the field value of lists which still use the legacy layout. The legacy layout stores each item in
+	 * a dedicated property.
 	 * 
 	 * @param key
 	 * @return
 	 */
 	protected abstract T createField(String key);
 
+	/**
+	 * Create a new field wrapper which accesses the packed value with the given index.
+	 * 
+	 * @param index
+	 *            Zero based index of the item
+	 * @return
+	 */
+	protected abstract T createItem(int index);
+
+	/**
+	 * Return the value of the given field wrapper.
+	 * 
+	 * @param field
+	 * @return
+	 */
+	protected abstract U getItemValue(T field);
+
 	protected T convertBasicValue(String itemKey) {
 		String key = itemKey.substring(0, itemKey.lastIndexOf("-"));
 		return createField(key);
@@ -43,36 +77,149 @@ public abstract class AbstractBasicGraphFieldList<T extends ListableGraphField,
 	 * Load the field for the given index.
 	 * 
 	 * @param index
+	 *            Index of the item, starting with 1
 	 * @return
 	 */
 	protected T getField(int index) {
-		return createField("item-" + index);
+		if (isPacked()) {
+			return createItem(index - 1);
+		}
+		return createField(LEGACY_ITEM_PREFIX + index);
+	}
+
+	/**
+	 * Append the value to the list.
+	 * 
+	 * @param value
+	 * @return Field wrapper for the added item
+	 */
+	protected T appendValue(U value) {
+		List<U> values = getValues();
+		values.add(value);
+		setValues(values);
+		return createItem(values.size() - 1);
+	}
+
+	/**
+	 * Return the value with the given index.
+	 * 
+	 * @param index
+	 *            Zero based index of the item
+	 * @return Value or null if the list contains no such item
+	 */
+	protected U getValue(int index) {
+		byte[] packed = getPackedItems();
+		if (packed != null) {
+			return getCodec().get(packed, index);
+		}
+		return getItemValue(createField(LEGACY_ITEM_PREFIX + (index + 1)));
+	}
+
+	/**
+	 * Replace the value with the given index.
+	 * 
+	 * @param index
+	 *            Zero based index of the item
+	 * @param value
+	 */
+	protected void setValue(int index, U value) {
+		List<U> values = getValues();
+		values.set(index, value);
+		setValues(values);
 	}
 
-	protected T createField() {
-		return createField("item-" + (getSize() + 1));
+	@Override
+	public List<U> getValues() {
+		byte[] packed = getPackedItems();
+		if (packed != null) {
+			return getCodec().decode(packed);
+		}
+		List<U> values = new ArrayList<>();
+		for (T field : getLegacyList()) {
+			values.add(getItemValue(field));
+		}
+		return values;
+	}
+
+	@Override
+	public void setValues(List<U> values) {
+		if (!isPacked()) {
+			removeLegacyItems();
+		}
+		setProperty(PACKED_ITEMS_PROPERTY_KEY, getCodec().encode(values));
+	}
+
+	/**
+	 * Convert the items of a list which still uses the legacy layout to the packed representation.
+	 * 
+	 * @return true if the list was converted, false if the list was already packed
+	 */
+	public boolean pack() {
+		if (isPacked()) {
+			return false;
+		}
+		setValues(getValues());
+		return true;
+	}
+
+	/**
+	 * Check whether the values of the list are stored in the packed representation.
+	 * 
+	 * @return
+	 */
+	public boolean isPacked() {
+		return getPackedItems() != null;
+	}
+
+	private byte[] getPackedItems() {
+		return getProperty(PACKED_ITEMS_PROPERTY_KEY);
 	}
 
 	@Override
 	public long getSize() {
-		return getProperties("item").size();
+		byte[] packed = getPackedItems();
+		if (packed != null) {
+			return getCodec().size(packed);
+		}
+		return getProperties(LEGACY_ITEM_PREFIX).size();
 	}
 
 	@Override
 	public void removeAll() {
-		for (String key : getProperties("item-").keySet()) {
+		setValues(new ArrayList<>());
+	}
+
+	private void removeLegacyItems() {
+		for (String key : getProperties(LEGACY_ITEM_PREFIX).keySet()) {
 			setProperty(key, null);
 		}
 	}
 
 	@Override
 	public List<? extends T> getList() {
-		Map<String, String> map = getProperties("item");
+		byte[] packed = getPackedItems();
+		if (packed != null) {
+			int size = getCodec().size(packed);
+			List<T> list = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				list.add(createItem(i));
+			}
+			return list;
+		}
+		return getLegacyList();
+	}
+
+	/**
+	 * Return the items of a list which still uses the legacy layout.
+	 * 
+	 * @return
+	 */
+	private List<T> getLegacyList() {
+		Map<String, String> map = getProperties(LEGACY_ITEM_PREFIX);
 		List<T> list = new ArrayList<>();
-		// TODO sorting is not very efficient, because the keys are transformed to their order too often
 		map.keySet().stream().sorted((key1, key2) -> {
-			int index1 = Integer.parseInt(key1.substring("item-".length(), key1.lastIndexOf("-")));
-			int index2 = Integer.parseInt(key2.substring("item-".length(), key2.lastIndexOf("-")));
+			int index1 = Integer.parseInt(key1.substring(LEGACY_ITEM_PREFIX.length(), key1.lastIndexOf("-")));
+			int index2 = Integer.parseInt(key2.substring(LEGACY_ITEM_PREFIX.length(), key2.lastIndexOf("-")));
 			return index1 - index2;
 		}).forEachOrdered(itemKey -> {
 			list.add(convertBasicValue(itemKey));
@@ -0,0 +1,280 @@
+package com.gentics.mesh.core.data.node.field.list;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codec for the packed binary representation of the values of a basic list field.
+ *
+ * The packed representation has the following layout:
+ *
+ * <pre>
+ * [version:byte][count:int][offsets:int[count]][values]
+ * </pre>
+ *
+ * The offset table is omitted for fixed width values (dates, booleans). This way each item of the list can be accessed without decoding the preceding
+ * items.
+ *
+ * @param <U>
+ *            Value type of the list
+ */
+public abstract class PackedListCodec<U> {
+
+	public static final byte VERSION = 1;
+
+	private static final int HEADER_LENGTH = 5;
+
+	/**
+	 * Codec for strings and html values. Each value is stored as length prefixed UTF-8 bytes.
+	 */
+	public static final PackedListCodec<String> STRING = new PackedListCodec<String>(0) {
+
+		@Override
+		protected void write(DataOutputStream out, String value) throws IOException {
+			if (value == null) {
+				out.writeInt(-1);
+			} else {
+				byte[] bytes = value.getBytes(UTF_8);
+				out.writeInt(bytes.length);
+				out.write(bytes);
+			}
+		}
+
+		@Override
+		protected String read(ByteBuffer buffer) {
+			int length = buffer.getInt();
+			if (length < 0) {
+				return null;
+			}
+			String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+			buffer.position(buffer.position() + length);
+			return value;
+		}
+	};
+
+	/**
+	 * Codec for numbers. Each value is prefixed with a tag which identifies the number type so that the values are read back with their original type.
+	 */
+	public static final PackedListCodec<Number> NUMBER = new PackedListCodec<Number>(0) {
+
+		private static final byte NULL = 0;
+		private static final byte INTEGER = 1;
+		private static final byte LONG = 2;
+		private static final byte FLOAT = 3;
+		private static final byte DOUBLE = 4;
+		private static final byte BIG_INTEGER = 5;
+		private static final byte BIG_DECIMAL = 6;
+
+		@Override
+		protected void write(DataOutputStream out, Number value) throws IOException {
+			if (value == null) {
+				out.writeByte(NULL);
+			} else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+				out.writeByte(INTEGER);
+				out.writeInt(value.intValue());
+			} else if (value instanceof Long) {
+				out.writeByte(LONG);
+				out.writeLong(value.longValue());
+			} else if (value instanceof Float) {
+				out.writeByte(FLOAT);
+				out.writeFloat(value.floatValue());
+			} else if (value instanceof Double) {
+				out.writeByte(DOUBLE);
+				out.writeDouble(value.doubleValue());
+			} else if (value instanceof BigInteger) {
+				out.writeByte(BIG_INTEGER);
+				STRING.write(out, value.toString());
+			} else {
+				out.writeByte(BIG_DECIMAL);
+				STRING.write(out, value.toString());
+			}
+		}
+
+		@Override
+		protected Number read(ByteBuffer buffer) {
+			byte tag = buffer.get();
+			switch (tag) {
+			case NULL:
+				return null;
+			case INTEGER:
+				return buffer.getInt();
+			case LONG:
+				return buffer.getLong();
+			case FLOAT:
+				return buffer.getFloat();
+			case DOUBLE:
+				return buffer.getDouble();
+			case BIG_INTEGER:
+				return new BigInteger(STRING.read(buffer));
+			case BIG_DECIMAL:
+				return new BigDecimal(STRING.read(buffer));
+			default:
+				throw new IllegalStateException("Unknown number type {" + tag + "} in packed list");
+			}
+		}
+	};
+
+	/**
+	 * Codec for dates. Each value is stored as a long timestamp. {@link Long#MIN_VALUE} is used to represent null.
+	 */
+	public static final PackedListCodec<Long> DATE = new PackedListCodec<Long>(Long.BYTES) {
+
+		@Override
+		protected void write(DataOutputStream out, Long value) throws IOException {
+			out.writeLong(value == null ? Long.MIN_VALUE : value);
+		}
+
+		@Override
+		protected Long read(ByteBuffer buffer) {
+			long value = buffer.getLong();
+			return value == Long.MIN_VALUE ? null : value;
+		}
+	};
+
+	/**
+	 * Codec for booleans. Each value is stored in a single byte.
+	 */
+	public static final PackedListCodec<Boolean> BOOLEAN = new PackedListCodec<Boolean>(1) {
+
+		@Override
+		protected void write(DataOutputStream out, Boolean value) throws IOException {
+			out.writeByte(value == null ? -1 : (value ? 1 : 0));
+		}
+
+		@Override
+		protected Boolean read(ByteBuffer buffer) {
+			byte value = buffer.get();
+			return value < 0 ? null : value == 1;
+		}
+	};
+
+	private final int width;
+
+	/**
+	 * Create a new codec.
+	 *
+	 * @param width
+	 *            Width of the encoded values in bytes or 0 for values with variable width
+	 */
+	protected PackedListCodec(int width) {
+		this.width = width;
+	}
+
+	/**
+	 * Write the given value.
+	 *
+	 * @param out
+	 * @param value
+	 * @throws IOException
+	 */
+	protected abstract void write(DataOutputStream out, U value) throws IOException;
+
+	/**
+	 * Read the value at the current position of the buffer.
+	 *
+	 * @param buffer
+	 * @return
+	 */
+	protected abstract U read(ByteBuffer buffer);
+
+	/**
+	 * Encode the given values.
+	 *
+	 * @param values
+	 * @return Packed representation of the values
+	 */
+	public byte[] encode(List<U> values) {
+		int count = values.size();
+		int[] offsets = new int[count];
+		ByteArrayOutputStream bos = new ByteArrayOutputStream(count * Math.max(width, 16));
+		try (DataOutputStream out = new DataOutputStream(bos)) {
+			for (int i = 0; i < count; i++) {
+				offsets[i] = out.size();
+				write(out, values.get(i));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(payloadStart(count) + bos.size());
+		buffer.put(VERSION);
+		buffer.putInt(count);
+		if (width == 0) {
+			for (int offset : offsets) {
+				buffer.putInt(offset);
+			}
+		}
+		buffer.put(bos.toByteArray());
+		return buffer.array();
+	}
+
+	/**
+	 * Decode all values.
+	 *
+	 * @param data
+	 *            Packed representation
+	 * @return
+	 */
+	public List<U> decode(byte[] data) {
+		ByteBuffer buffer = wrap(data);
+		int count = buffer.getInt(1);
+		List<U> values = new ArrayList<>(count);
+		buffer.position(payloadStart(count));
+		for (int i = 0; i < count; i++) {
+			values.add(read(buffer));
+		}
+		return values;
+	}
+
+	/**
+	 * Decode the value at the given index.
+	 *
+	 * @param data
+	 *            Packed representation
+	 * @param index
+	 *            Zero based index of the value
+	 * @return Value or null if the index is out of range
+	 */
+	public U get(byte[] data, int index) {
+		ByteBuffer buffer = wrap(data);
+		int count = buffer.getInt(1);
+		if (index < 0 || index >= count) {
+			return null;
+		}
+		int offset = width == 0 ? buffer.getInt(HEADER_LENGTH + index * Integer.BYTES) : index * width;
+		buffer.position(payloadStart(count) + offset);
+		return read(buffer);
+	}
+
+	/**
+	 * Return the amount of values.
+	 *
+	 * @param data
+	 *            Packed representation
+	 * @return
+	 */
+	public int size(byte[] data) {
+		return wrap(data).getInt(1);
+	}
+
+	private int payloadStart(int count) {
+		return width == 0 ? HEADER_LENGTH + count * Integer.BYTES : HEADER_LENGTH;
+	}
+
+	private ByteBuffer wrap(byte[] data) {
+		if (data.length < HEADER_LENGTH || data[0] != VERSION) {
+			throw new IllegalStateException("Unsupported packed list format");
+		}
+		return ByteBuffer.wrap(data);
+	}
+
+}
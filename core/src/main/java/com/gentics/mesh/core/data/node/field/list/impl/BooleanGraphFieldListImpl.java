@@ -4,7 +4,6 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
@@ -19,6 +18,7 @@ import com.gentics.mesh.core.data.node.field.GraphField;
 import com.gentics.mesh.core.data.node.field.impl.BooleanGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.list.AbstractBasicGraphFieldList;
 import com.gentics.mesh.core.data.node.field.list.BooleanGraphFieldList;
+import com.gentics.mesh.core.data.node.field.list.PackedListCodec;
 import com.gentics.mesh.core.rest.node.field.list.impl.BooleanFieldListImpl;
 import com.gentics.mesh.util.CompareUtils;
 
@@ -61,20 +61,24 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 			return;
 		}
 
+		List<Boolean> values = booleanList.getItems();
+		if (values.contains(null)) {
+			throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
+		}
+
+		// Keep the current list if the values did not change
+		if (graphBooleanFieldList != null && graphBooleanFieldList.getValues().equals(values)) {
+			return;
+		}
+
 		// Always create a new list.
 		// This will effectively unlink the old list and create a new one.
 		// Otherwise the list which is linked to old versions would be updated.
 		graphBooleanFieldList = container.createBooleanList(fieldKey);
 
 		// Handle Update
-		// Remove all and add the listed items
-		graphBooleanFieldList.removeAll();
-		for (Boolean item : booleanList.getItems()) {
-			if (item == null) {
-				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
-			}
-			graphBooleanFieldList.createBoolean(item);
-		}
+		// Replace all items with the listed items
+		graphBooleanFieldList.setValues(values);
 
 	};
 
@@ -93,9 +97,7 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 
 	@Override
 	public BooleanGraphField createBoolean(Boolean flag) {
-		BooleanGraphField field = createField();
-		field.setBoolean(flag);
-		return field;
+		return appendValue(flag);
 	}
 
 	@Override
@@ -103,6 +105,31 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 		return new BooleanGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected BooleanGraphField createItem(int index) {
+		return new BooleanGraphFieldImpl(LEGACY_ITEM_PREFIX + (index + 1), this) {
+			@Override
+			public Boolean getBoolean() {
+				return getValue(index);
+			}
+
+			@Override
+			public void setBoolean(Boolean bool) {
+				setValue(index, bool);
+			}
+		};
+	}
+
+	@Override
+	protected Boolean getItemValue(BooleanGraphField field) {
+		return field.getBoolean();
+	}
+
+	@Override
+	protected PackedListCodec<Boolean> getCodec() {
+		return PackedListCodec.BOOLEAN;
+	}
+
 	@Override
 	public Class<? extends BooleanGraphField> getListType() {
 		return BooleanGraphFieldImpl.class;
@@ -116,25 +143,18 @@ public class BooleanGraphFieldListImpl extends AbstractBasicGraphFieldList<Boole
 	@Override
 	public BooleanFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		BooleanFieldListImpl restModel = new BooleanFieldListImpl();
-		for (BooleanGraphField item : getList()) {
-			restModel.add(item.getBoolean());
+		for (Boolean item : getValues()) {
+			restModel.add(item);
 		}
 		return restModel;
 	}
 
-	@Override
-	public List<Boolean> getValues() {
-		return getList().stream().map(BooleanGraphField::getBoolean).collect(Collectors.toList());
-	}
-
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof BooleanFieldListImpl) {
 			BooleanFieldListImpl restField = (BooleanFieldListImpl) obj;
 			List<Boolean> restList = restField.getItems();
-			List<? extends BooleanGraphField> graphList = getList();
-			List<Boolean> graphStringList = graphList.stream().map(e -> e.getBoolean()).collect(Collectors.toList());
-			return CompareUtils.equals(restList, graphStringList);
+			return CompareUtils.equals(restList, getValues());
 		}
 		return super.equals(obj);
 	}
@@ -21,6 +21,7 @@ import com.gentics.mesh.core.data.node.field.GraphField;
 import com.gentics.mesh.core.data.node.field.impl.DateGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.list.AbstractBasicGraphFieldList;
 import com.gentics.mesh.core.data.node.field.list.DateGraphFieldList;
+import com.gentics.mesh.core.data.node.field.list.PackedListCodec;
 import com.gentics.mesh.core.rest.node.field.list.impl.DateFieldListImpl;
 import com.gentics.mesh.util.CompareUtils;
 
@@ -62,19 +63,23 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 			return;
 		}
 
+		if (dateList.getItems().contains(null)) {
+			throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
+		}
+		List<Long> values = dateList.getItems().stream().map(item -> fromISO8601(item)).collect(Collectors.toList());
+
+		// Keep the current list if the values did not change
+		if (graphDateFieldList != null && graphDateFieldList.getValues().equals(values)) {
+			return;
+		}
+
 		// Always create a new list.
 		// This will effectively unlink the old list and create a new one.
 		// Otherwise the list which is linked to old versions would be updated.
 		graphDateFieldList = container.createDateList(fieldKey);
 
 		// Handle Update
-		graphDateFieldList.removeAll();
-		for (String item : dateList.getItems()) {
-			if (item == null) {
-				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
-			}
-			graphDateFieldList.createDate(fromISO8601(item));
-		}
+		graphDateFieldList.setValues(values);
 
 	};
 
@@ -88,9 +93,7 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 
 	@Override
 	public DateGraphField createDate(Long date) {
-		DateGraphField field = createField();
-		field.setDate(date);
-		return field;
+		return appendValue(date);
 	}
 
 	@Override
@@ -98,6 +101,31 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 		return new DateGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected DateGraphField createItem(int index) {
+		return new DateGraphFieldImpl(LEGACY_ITEM_PREFIX + (index + 1), this) {
+			@Override
+			public Long getDate() {
+				return getValue(index);
+			}
+
+			@Override
+			public void setDate(Long date) {
+				setValue(index, date);
+			}
+		};
+	}
+
+	@Override
+	protected Long getItemValue(DateGraphField field) {
+		return field.getDate();
+	}
+
+	@Override
+	protected PackedListCodec<Long> getCodec() {
+		return PackedListCodec.DATE;
+	}
+
 	@Override
 	public DateGraphField getDate(int index) {
 		return getField(index);
@@ -116,24 +144,18 @@ public class DateGraphFieldListImpl extends AbstractBasicGraphFieldList<DateGrap
 	@Override
 	public DateFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		DateFieldListImpl restModel = new DateFieldListImpl();
-		for (DateGraphField item : getList()) {
-			restModel.add(toISO8601(item.getDate()));
+		for (Long item : getValues()) {
+			restModel.add(toISO8601(item));
 		}
 		return restModel;
 	}
 
-	@Override
-	public List<Long> getValues() {
-		return getList().stream().map(DateGraphField::getDate).collect(Collectors.toList());
-	}
-
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof DateFieldListImpl) {
 			DateFieldListImpl restField = (DateFieldListImpl) obj;
 			List<String> restList = restField.getItems();
-			List<? extends DateGraphField> graphList = getList();
-			List<String> graphStringList = graphList.stream().map(e -> toISO8601(e.getDate())).collect(Collectors.toList());
+			List<String> graphStringList = getValues().stream().map(e -> toISO8601(e)).collect(Collectors.toList());
 			return CompareUtils.equals(restList, graphStringList);
 		}
 		return super.equals(obj);
@@ -4,7 +4,6 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
@@ -19,6 +18,7 @@ import com.gentics.mesh.core.data.node.field.HtmlGraphField;
 import com.gentics.mesh.core.data.node.field.impl.HtmlGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.list.AbstractBasicGraphFieldList;
 import com.gentics.mesh.core.data.node.field.list.HtmlGraphFieldList;
+import com.gentics.mesh.core.data.node.field.list.PackedListCodec;
 import com.gentics.mesh.core.rest.node.field.list.impl.HtmlFieldListImpl;
 import com.gentics.mesh.util.CompareUtils;
 
@@ -60,18 +60,23 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 			return;
 		}
 
+		List<String> values = htmlList.getItems();
+		if (values.contains(null)) {
+			throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
+		}
+
+		// Keep the current list if the values did not change
+		if (graphHtmlFieldList != null && graphHtmlFieldList.getValues().equals(values)) {
+			return;
+		}
+
 		// Always create a new list.
 		// This will effectively unlink the old list and create a new one.
 		// Otherwise the list which is linked to old versions would be updated.
 		graphHtmlFieldList = container.createHTMLList(fieldKey);
 
 		// Add items from rest model
-		for (String item : htmlList.getItems()) {
-			if (item == null) {
-				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
-			}
-			graphHtmlFieldList.createHTML(item);
-		}
+		graphHtmlFieldList.setValues(values);
 	};
 
 	public static FieldGetter HTML_LIST_GETTER = (container, fieldSchema) -> {
@@ -84,9 +89,7 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 
 	@Override
 	public HtmlGraphField createHTML(String html) {
-		HtmlGraphField field = createField();
-		field.setHtml(html);
-		return field;
+		return appendValue(html);
 	}
 
 	@Override
@@ -94,6 +97,31 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 		return new HtmlGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected HtmlGraphField createItem(int index) {
+		return new HtmlGraphFieldImpl(LEGACY_ITEM_PREFIX + (index + 1), this) {
+			@Override
+			public String getHTML() {
+				return getValue(index);
+			}
+
+			@Override
+			public void setHtml(String html) {
+				setValue(index, html);
+			}
+		};
+	}
+
+	@Override
+	protected String getItemValue(HtmlGraphField field) {
+		return field.getHTML();
+	}
+
+	@Override
+	protected PackedListCodec<String> getCodec() {
+		return PackedListCodec.STRING;
+	}
+
 	@Override
 	public HtmlGraphField getHTML(int index) {
 		return getField(index);
@@ -112,25 +140,18 @@ public class HtmlGraphFieldListImpl extends AbstractBasicGraphFieldList<HtmlGrap
 	@Override
 	public HtmlFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		HtmlFieldListImpl restModel = new HtmlFieldListImpl();
-		for (HtmlGraphField item : getList()) {
-			restModel.add(item.getHTML());
+		for (String item : getValues()) {
+			restModel.add(item);
 		}
 		return restModel;
 	}
 
-	@Override
-	public List<String> getValues() {
-		return getList().stream().map(HtmlGraphField::getHTML).collect(Collectors.toList());
-	}
-
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof HtmlFieldListImpl) {
 			HtmlFieldListImpl restField = (HtmlFieldListImpl) obj;
 			List<String> restList = restField.getItems();
-			List<? extends HtmlGraphField> graphList = getList();
-			List<String> graphStringList = graphList.stream().map(e -> e.getHTML()).collect(Collectors.toList());
-			return CompareUtils.equals(restList, graphStringList);
+			return CompareUtils.equals(restList, getValues());
 		}
 		return super.equals(obj);
 	}
@@ -4,7 +4,6 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
@@ -19,6 +18,7 @@ import com.gentics.mesh.core.data.node.field.NumberGraphField;
 import com.gentics.mesh.core.data.node.field.impl.NumberGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.list.AbstractBasicGraphFieldList;
 import com.gentics.mesh.core.data.node.field.list.NumberGraphFieldList;
+import com.gentics.mesh.core.data.node.field.list.PackedListCodec;
 import com.gentics.mesh.core.rest.node.field.list.impl.NumberFieldListImpl;
 import com.gentics.mesh.util.CompareUtils;
 
@@ -62,19 +62,23 @@ public class NumberGraphFieldListImpl extends AbstractBasicGraphFieldList<Number
 			return;
 		}
 
+		List<Number> values = numberList.getItems();
+		if (values.contains(null)) {
+			throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
+		}
+
+		// Keep the current list if the values did not change. The values are compared including their type so that e.g. 1.0 replaces 1.
+		if (graphNumberFieldList != null && graphNumberFieldList.getValues().equals(values)) {
+			return;
+		}
+
 		// Always create a new list.
 		// This will effectively unlink the old list and create a new one.
 		// Otherwise the list which is linked to old versions would be updated.
 		graphNumberFieldList = container.createNumberList(fieldKey);
 
 		// Handle Update
-		graphNumberFieldList.removeAll();
-		for (Number item : numberList.getItems()) {
-			if (item == null) {
-				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
-			}
-			graphNumberFieldList.createNumber(item);
-		}
+		graphNumberFieldList.setValues(values);
 
 	};
 
@@ -88,9 +92,7 @@ public class NumberGraphFieldListImpl extends AbstractBasicGraphFieldList<Number
 
 	@Override
 	public NumberGraphField createNumber(Number number) {
-		NumberGraphField field = createField();
-		field.setNumber(number);
-		return field;
+		return appendValue(number);
 	}
 
 	@Override
@@ -103,6 +105,31 @@ public class NumberGraphFieldListImpl extends AbstractBasicGraphFieldList<Number
 		return new NumberGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected NumberGraphField createItem(int index) {
+		return new NumberGraphFieldImpl(LEGACY_ITEM_PREFIX + (index + 1), this) {
+			@Override
+			public Number getNumber() {
+				return getValue(index);
+			}
+
+			@Override
+			public void setNumber(Number number) {
+				setValue(index, number);
+			}
+		};
+	}
+
+	@Override
+	protected Number getItemValue(NumberGraphField field) {
+		return field.getNumber();
+	}
+
+	@Override
+	protected PackedListCodec<Number> getCodec() {
+		return PackedListCodec.NUMBER;
+	}
+
 	@Override
 	public Class<? extends NumberGraphField> getListType() {
 		return NumberGraphFieldImpl.class;
@@ -116,25 +143,18 @@ public class NumberGraphFieldListImpl extends AbstractBasicGraphFieldList<Number
 	@Override
 	public NumberFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		NumberFieldListImpl restModel = new NumberFieldListImpl();
-		for (NumberGraphField item : getList()) {
-			restModel.add(item.getNumber());
+		for (Number item : getValues()) {
+			restModel.add(item);
 		}
 		return restModel;
 	}
 
-	@Override
-	public List<Number> getValues() {
-		return getList().stream().map(NumberGraphField::getNumber).collect(Collectors.toList());
-	}
-
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof NumberFieldListImpl) {
 			NumberFieldListImpl restField = (NumberFieldListImpl) obj;
 			List<Number> restList = restField.getItems();
-			List<? extends NumberGraphField> graphList = getList();
-			List<Number> graphStringList = graphList.stream().map(e -> e.getNumber()).collect(Collectors.toList());
-			return CompareUtils.equals(restList, graphStringList);
+			return CompareUtils.equals(restList, getValues());
 		}
 		return super.equals(obj);
 	}
@@ -4,7 +4,6 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.type.TypeHandler;
@@ -18,6 +17,7 @@ import com.gentics.mesh.core.data.node.field.GraphField;
 import com.gentics.mesh.core.data.node.field.StringGraphField;
 import com.gentics.mesh.core.data.node.field.impl.StringGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.list.AbstractBasicGraphFieldList;
+import com.gentics.mesh.core.data.node.field.list.PackedListCodec;
 import com.gentics.mesh.core.data.node.field.list.StringGraphFieldList;
 import com.gentics.mesh.core.rest.node.field.list.impl.StringFieldListImpl;
 import com.gentics.mesh.util.CompareUtils;
@@ -61,19 +61,23 @@ public class StringGraphFieldListImpl extends AbstractBasicGraphFieldList<String
 			return;
 		}
 
+		List<String> values = stringList.getItems();
+		if (values.contains(null)) {
+			throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
+		}
+
+		// Keep the current list if the values did not change
+		if (graphStringList != null && graphStringList.getValues().equals(values)) {
+			return;
+		}
+
 		// Always create a new list.
 		// This will effectively unlink the old list and create a new one.
 		// Otherwise the list which is linked to old versions would be updated.
 		graphStringList = container.createStringList(fieldKey);
 
 		// Handle Update
-		graphStringList.removeAll();
-		for (String item : stringList.getItems()) {
-			if (item == null) {
-				throw error(BAD_REQUEST, "field_list_error_null_not_allowed", fieldKey);
-			}
-			graphStringList.createString(item);
-		}
+		graphStringList.setValues(values);
 	};
 
 	public static FieldGetter STRING_LIST_GETTER = (container, fieldSchema) -> {
@@ -86,9 +90,7 @@ public class StringGraphFieldListImpl extends AbstractBasicGraphFieldList<String
 
 	@Override
 	public StringGraphField createString(String string) {
-		StringGraphField field = createField();
-		field.setString(string);
-		return field;
+		return appendValue(string);
 	}
 
 	@Override
@@ -101,6 +103,31 @@ public class StringGraphFieldListImpl extends AbstractBasicGraphFieldList<String
 		return new StringGraphFieldImpl(key, this);
 	}
 
+	@Override
+	protected StringGraphField createItem(int index) {
+		return new StringGraphFieldImpl(LEGACY_ITEM_PREFIX + (index + 1), this) {
+			@Override
+			public String getString() {
+				return getValue(index);
+			}
+
+			@Override
+			public void setString(String string) {
+				setValue(index, string);
+			}
+		};
+	}
+
+	@Override
+	protected String getItemValue(StringGraphField field) {
+		return field.getString();
+	}
+
+	@Override
+	protected PackedListCodec<String> getCodec() {
+		return PackedListCodec.STRING;
+	}
+
 	@Override
 	public Class<? extends StringGraphField> getListType() {
 		return StringGraphFieldImpl.class;
@@ -114,25 +141,18 @@ public class StringGraphFieldListImpl extends AbstractBasicGraphFieldList<String
 	@Override
 	public StringFieldListImpl transformToRest(InternalActionContext ac, String fieldKey, List<String> languageTags, int level) {
 		StringFieldListImpl restModel = new StringFieldListImpl();
-		for (StringGraphField item : getList()) {
-			restModel.add(item.getString());
+		for (String item : getValues()) {
+			restModel.add(item);
 		}
 		return restModel;
 	}
 
-	@Override
-	public List<String> getValues() {
-		return getList().stream().map(StringGraphField::getString).collect(Collectors.toList());
-	}
-
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof StringFieldListImpl) {
 			StringFieldListImpl restField = (StringFieldListImpl) obj;
 			List<String> restList = restField.getItems();
-			List<? extends StringGraphField> graphList = getList();
-			List<String> graphStringList = graphList.stream().map(e -> e.getString()).collect(Collectors.toList());
-			return CompareUtils.equals(restList, graphStringList);
+			return CompareUtils.equals(restList, getValues());
 		}
 		return super.equals(obj);
 	}
@@ -25,6 +25,7 @@ import static com.gentics.mesh.core.rest.common.ContainerType.forVersion;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.event.Assignment.ASSIGNED;
 import static com.gentics.mesh.event.Assignment.UNASSIGNED;
+import static com.gentics.mesh.madl.field.FieldType.LONG;
 import static com.gentics.mesh.madl.field.FieldType.STRING;
 import static com.gentics.mesh.madl.field.FieldType.STRING_SET;
 import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
@@ -80,13 +81,13 @@ import com.gentics.mesh.core.data.impl.ProjectImpl;
 import com.gentics.mesh.core.data.impl.TagEdgeImpl;
 import com.gentics.mesh.core.data.impl.TagImpl;
 import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.NodeRevisionCounter;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.data.node.field.StringGraphField;
 import com.gentics.mesh.core.data.node.field.impl.NodeGraphFieldImpl;
 import com.gentics.mesh.core.data.node.field.nesting.NodeGraphField;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
-import com.gentics.mesh.core.data.page.impl.DynamicTransformableStreamPageImpl;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
@@ -162,6 +163,8 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	private static final Logger log = LoggerFactory.getLogger(NodeImpl.class);
 
+	public static final String ETAG_REVISION_PROPERTY_KEY_PREFIX = "etagRevision_";
+
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createType(vertexType(NodeImpl.class, MeshVertexImpl.class)
 			.withField(PARENTS_KEY_PROPERTY, STRING_SET)
@@ -186,6 +189,20 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			.withPostfix("schema")
 			.withField(SCHEMA_CONTAINER_KEY_PROPERTY, STRING));
 
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix(PROJECT_SCHEMA_UUID_INDEX_POSTFIX)
+			.withField(PROJECT_KEY_PROPERTY, STRING)
+			.withField(SCHEMA_CONTAINER_KEY_PROPERTY, STRING)
+			.withField("uuid", STRING)
+			.sorted());
+
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix(PROJECT_SCHEMA_INDEX_CHANGE_INDEX_POSTFIX)
+			.withField(PROJECT_KEY_PROPERTY, STRING)
+			.withField(SCHEMA_CONTAINER_KEY_PROPERTY, STRING)
+			.withField(INDEX_CHANGE_TIMESTAMP_PROPERTY_KEY, LONG)
+			.sorted());
+
 		index.createIndex(vertexIndex(NodeImpl.class)
 			.withPostfix("parents")
 			.withField(PARENTS_KEY_PROPERTY, STRING_SET));
@@ -193,6 +210,18 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		index.createIndex(vertexIndex(NodeImpl.class)
 			.withPostfix("branch_parents")
 			.withField(BRANCH_PARENTS_KEY_PROPERTY, STRING_SET));
+
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix(PROJECT_UUID_INDEX_POSTFIX)
+			.withField(PROJECT_KEY_PROPERTY, STRING)
+			.withField("uuid", STRING)
+			.sorted());
+
+		index.createIndex(vertexIndex(NodeImpl.class)
+			.withPostfix(BRANCH_PARENTS_UUID_INDEX_POSTFIX)
+			.withField(BRANCH_PARENTS_KEY_PROPERTY, STRING_SET)
+			.withField("uuid", STRING)
+			.sorted());
 	}
 
 	@Override
@@ -471,6 +500,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			initialEdge.setBranchUuid(branchUuid);
 			initialEdge.setType(INITIAL);
 		}
+		incrementETagRevision(branchUuid);
 
 		return newContainer;
 	}
@@ -496,16 +526,19 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		removeTag(tag, branch);
 		TagEdge edge = addFramedEdge(HAS_TAG, tag, TagEdgeImpl.class);
 		edge.setBranchUuid(branch.getUuid());
+		incrementETagRevision(branch.getUuid());
 	}
 
 	@Override
 	public void removeTag(Tag tag, Branch branch) {
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).mark().inV().retain(tag).back().removeAll();
+		incrementETagRevision(branch.getUuid());
 	}
 
 	@Override
 	public void removeAllTags(Branch branch) {
 		outE(HAS_TAG).has(TagEdgeImpl.BRANCH_UUID_KEY, branch.getUuid()).removeAll();
+		incrementETagRevision(branch.getUuid());
 	}
 
 	@Override
@@ -575,6 +608,69 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		removeParent(branchUuid);
 		addToStringSetProperty(PARENTS_KEY_PROPERTY, parentUuid);
 		addToStringSetProperty(BRANCH_PARENTS_KEY_PROPERTY, branchParentEntry(branchUuid, parentUuid).encode());
+		// The node was added to the children of the new parent and its breadcrumb changed
+		incrementRevisionCounter(NodeRevisionCounter.childrenKey(branchUuid, parentUuid));
+		incrementETagRevision(branchUuid);
+	}
+
+	@Override
+	public long getETagRevision(String branchUuid) {
+		Long revision = property(ETAG_REVISION_PROPERTY_KEY_PREFIX + branchUuid);
+		return revision == null ? 0 : revision;
+	}
+
+	@Override
+	public void incrementETagRevision(String branchUuid) {
+		property(ETAG_REVISION_PROPERTY_KEY_PREFIX + branchUuid, getETagRevision(branchUuid) + 1);
+		// The breadcrumbs and paths of the descendants contain the display name and the segment of the node
+		if (getUnframedChildren(branchUuid).hasNext()) {
+			incrementRevisionCounter(NodeRevisionCounter.treeKey(branchUuid));
+		}
+		// Every change of the node which changes its etag may also change its search documents
+		markIndexChanged();
+	}
+
+	@Override
+	public long getChildrenETagRevision(String branchUuid) {
+		return getRevisionCounter(NodeRevisionCounter.childrenKey(branchUuid, getUuid()));
+	}
+
+	@Override
+	public void incrementParentETagRevisions() {
+		Set<String> branchParents = property(BRANCH_PARENTS_KEY_PROPERTY);
+		if (branchParents != null) {
+			for (String branchParent : branchParents) {
+				BranchParentEntry entry = BranchParentEntry.fromString(branchParent);
+				incrementRevisionCounter(NodeRevisionCounter.childrenKey(entry.getBranchUuid(), entry.getParentUuid()));
+			}
+		}
+	}
+
+	/**
+	 * Return the revision of the counter with the given key.
+	 *
+	 * @param key
+	 * @return Revision or 0 if the counter has not been created yet
+	 */
+	private long getRevisionCounter(String key) {
+		NodeRevisionCounter counter = db().getVerticesTraversal(NodeRevisionCounterImpl.class, NodeRevisionCounter.COUNTER_KEY_PROPERTY_KEY, key)
+			.nextOrNull();
+		return counter == null ? 0 : counter.getRevision();
+	}
+
+	/**
+	 * Increment the revision of the counter with the given key. The counter will be created if it does not exist.
+	 *
+	 * @param key
+	 */
+	private void incrementRevisionCounter(String key) {
+		NodeRevisionCounter counter = db().getVerticesTraversal(NodeRevisionCounterImpl.class, NodeRevisionCounter.COUNTER_KEY_PROPERTY_KEY, key)
+			.nextOrNull();
+		if (counter == null) {
+			counter = getGraph().addFramedVertex(NodeRevisionCounterImpl.class);
+			counter.setCounterKey(key);
+		}
+		counter.increment();
 	}
 
 	@Override
@@ -1248,6 +1344,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				content.purge(bac);
 			}
 		});
+		incrementETagRevision(branchUuid);
 
 		assertPublishConsistency(ac, branch);
 
@@ -1323,6 +1420,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		// Remove the "published" edge
 		getGraphFieldContainerEdge(languageTag, branchUuid, PUBLISHED).remove();
+		incrementETagRevision(branchUuid);
 		assertPublishConsistency(ac, branch);
 
 		bac.process();
@@ -1360,6 +1458,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		edge.setBranchUuid(branchUuid);
 		edge.setType(PUBLISHED);
 		container.updateWebrootPathInfo(branchUuid, "node_conflicting_segmentfield_publish");
+		incrementETagRevision(branchUuid);
 	}
 
 	@Override
@@ -1450,6 +1549,27 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 		addReferenceUpdates(bac);
 
+		// The node will be removed from the children of all its parents
+		incrementParentETagRevisions();
+		Set<String> parents = property(PARENTS_KEY_PROPERTY);
+		if (parents != null) {
+			for (String parentUuid : parents) {
+				Node parent = db().index().findByUuid(NodeImpl.class, parentUuid);
+				if (parent != null) {
+					// The documents of removed nodes are found by the index sync using the parents
+					parent.markIndexChanged();
+				}
+			}
+		}
+		// Remove the counters of the children of the node
+		for (Branch branch : getProject().getBranchRoot().findAll()) {
+			NodeRevisionCounter counter = db().getVerticesTraversal(NodeRevisionCounterImpl.class, NodeRevisionCounter.COUNTER_KEY_PROPERTY_KEY,
+				NodeRevisionCounter.childrenKey(branch.getUuid(), getUuid())).nextOrNull();
+			if (counter != null) {
+				counter.remove();
+			}
+		}
+
 		bac.add(onDeleted(getUuid(), getSchemaContainer(), null, null, null));
 		getElement().remove();
 		bac.process();
@@ -1541,6 +1661,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 				property(BRANCH_PARENTS_KEY_PROPERTY, newParents);
 
 				String removedParent = BranchParentEntry.fromString(removedParents.iterator().next()).getParentUuid();
+				incrementRevisionCounter(NodeRevisionCounter.childrenKey(branchUuid, removedParent));
 				// If the removed parent is not parent of any other branch, remove it from the common parent set.
 				boolean parentStillExists = newParents.stream().anyMatch(parent -> BranchParentEntry.fromString(parent).getParentUuid().equals(removedParent));
 				if (!parentStillExists) {
@@ -1554,20 +1675,37 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public Stream<? extends Node> getChildren(MeshAuthUser requestUser, String branchUuid, List<String> languageTags, ContainerType type) {
+		return getChildren(branchUuid).stream()
+			.filter(childFilter(requestUser, branchUuid, languageTags, type));
+	}
+
+	/**
+	 * Create the filter for the children which are visible to the user and which have a container for one of the given languages.
+	 * 
+	 * @param requestUser
+	 * @param branchUuid
+	 * @param languageTags
+	 * @param type
+	 * @return
+	 */
+	private Predicate<Node> childFilter(MeshAuthUser requestUser, String branchUuid, List<String> languageTags, ContainerType type) {
 		GraphPermission perm = type == PUBLISHED ? READ_PUBLISHED_PERM : READ_PERM;
 
 		Predicate<Node> languageFilter = languageTags == null || languageTags.isEmpty()
 			? item -> true
 			: item -> languageTags.stream().anyMatch(languageTag -> item.getGraphFieldContainer(languageTag, branchUuid, type) != null);
 
-		return getChildren(branchUuid).stream()
-			.filter(languageFilter.and(item -> requestUser.hasPermission(item, perm)));
+		return languageFilter.and(item -> requestUser.hasPermission(item, perm));
 	}
 
 	@Override
 	public TransformablePage<? extends Node> getChildren(InternalActionContext ac, List<String> languageTags, String branchUuid, ContainerType type,
 		PagingParameters pagingInfo) {
-		return new DynamicTransformableStreamPageImpl<>(getChildren(ac.getUser(), branchUuid, languageTags, type), pagingInfo);
+		// The children are loaded in the order of their uuids so that a paging cursor can resume after the uuid
+		Object[] keys = new Object[] { branchParentEntry(branchUuid, getUuid()).encode() };
+		return new DynamicTransformablePageImpl<Node>(ac.getUser(),
+			afterUuid -> db().index().vertexRangeLookup(NodeImpl.class, BRANCH_PARENTS_UUID_INDEX_POSTFIX, keys, afterUuid, null), NodeImpl.class,
+			pagingInfo, null, childFilter(ac.getUser(), branchUuid, languageTags, type));
 	}
 
 	@Override
@@ -1864,6 +2002,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			throw error(NOT_FOUND, "node_no_language_found", languageTag);
 		}
 		container.deleteFromBranch(branch, bac);
+		incrementETagRevision(branch.getUuid());
 		// No need to delete the published variant because if the container was published the take offline call handled it
 
 		// starting with the old draft, delete all GFC that have no next and are not draft (for other branches)
@@ -1993,19 +2132,21 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		// Parameters
 		Branch branch = ac.getBranch(getProject());
 		VersioningParameters versioiningParameters = ac.getVersioningParameters();
-		ContainerType type = forVersion(versioiningParameters.getVersion());
+		NodeParameters nodeParameters = ac.getNodeParameters();
+		List<String> languageTags = nodeParameters.getLanguageList(options());
 
-		Node parentNode = getParentNode(branch.getUuid());
-		NodeGraphFieldContainer container = findVersion(ac.getNodeParameters().getLanguageList(options()), branch.getUuid(), ac.getVersioningParameters()
-			.getVersion());
+		NodeGraphFieldContainer container = findVersion(languageTags, branch.getUuid(), versioiningParameters.getVersion());
 
 		/**
-		 * branch uuid
+		 * branch uuid, version and language list
+		 *
+		 * The display names of the parent nodes depend on the requested version and languages.
 		 */
 		keyBuilder.append(branch.getUuid());
 		keyBuilder.append("-");
-
-		// TODO version, language list
+		keyBuilder.append(versioiningParameters.getVersion());
+		keyBuilder.append("-");
+		keyBuilder.append(languageTags);
 
 		// We can omit further etag keys since this would return a 404 anyhow
 		// since the requested container could not be found.
@@ -2014,100 +2155,79 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			return keyBuilder.toString();
 		}
 
+		// fields version
+		keyBuilder.append("-");
+		keyBuilder.append(container.getETag(ac));
+
 		/**
-		 * Parent node
+		 * Revisions of the node
 		 *
-		 * The node can be moved and this would also affect the response. The etag must also be changed when the node is moved.
+		 * The revision of the node is incremented whenever the tag assignments, the publish state, the available languages or the parent of the node change in
+		 * the branch. The children revision is incremented whenever children are added to or removed from the branch or their read permissions change.
 		 */
-		if (parentNode != null) {
-			keyBuilder.append("-");
-			keyBuilder.append(parentNode.getUuid());
-		}
+		keyBuilder.append("-rev:");
+		keyBuilder.append(getETagRevision(branch.getUuid()));
+		keyBuilder.append("-children:");
+		keyBuilder.append(getChildrenETagRevision(branch.getUuid()));
 
-		// fields version
-		if (container != null) {
-			keyBuilder.append("-");
-			keyBuilder.append(container.getETag(ac));
+		/**
+		 * Tags
+		 *
+		 * The names of the tags are part of the response. The etags of the tags are used so that renaming a tag does not need to update all tagged nodes.
+		 */
+		for (Tag tag : getTags(branch)) {
+			// Tags can't be moved across branches thus we don't need to add the
+			// tag family etag
+			keyBuilder.append(tag.getETag(ac));
 		}
 
+		/**
+		 * Children
+		 *
+		 * The listed children depend on the permissions of the user. Permission changes on children increment the revision. The roles of the user thus identify
+		 * the set of visible children.
+		 */
+		keyBuilder.append("-roles:");
+		keyBuilder.append(ac.getUser().getRolesHash());
+
 		/**
 		 * Expansion (all)
 		 *
 		 * The expandAll parameter changes the json response and thus must be included in the etag computation.
 		 */
-		if (ac.getNodeParameters().getExpandAll()) {
+		if (nodeParameters.getExpandAll()) {
 			keyBuilder.append("-");
 			keyBuilder.append("expand:true");
 		}
 
 		// expansion (selective)
-		String expandedFields = Arrays.toString(ac.getNodeParameters().getExpandedFieldNames());
+		String expandedFields = Arrays.toString(nodeParameters.getExpandedFieldNames());
 		keyBuilder.append("-");
 		keyBuilder.append("expandFields:");
 		keyBuilder.append(expandedFields);
 
-		// branch specific tags
-		for (Tag tag : getTags(branch)) {
-			// Tags can't be moved across branches thus we don't need to add the
-			// tag family etag
-			keyBuilder.append(tag.getETag(ac));
-		}
-
-		// branch specific children
-		for (Node child : getChildren(branch.getUuid())) {
-			if (ac.getUser().hasPermission(child, READ_PUBLISHED_PERM)) {
-				keyBuilder.append("-");
-				keyBuilder.append(child.getSchemaContainer().getName());
-			}
-		}
-
-		// Publish state & availableLanguages
-		for (NodeGraphFieldContainer c : getGraphFieldContainers(branch, PUBLISHED)) {
-			keyBuilder.append(c.getLanguageTag() + "published");
-		}
-		for (NodeGraphFieldContainer c : getGraphFieldContainers(branch, DRAFT)) {
-			keyBuilder.append(c.getLanguageTag() + "draft");
-		}
-
-		// breadcrumb
-		keyBuilder.append("-");
-		Node current = getParentNode(branch.getUuid());
-		if (current != null) {
-			while (current != null) {
-
-				String key = current.getUuid() + current.getDisplayName(ac);
-				keyBuilder.append(key);
-				if (LinkType.OFF != ac.getNodeParameters().getResolveLinks()) {
-					WebRootLinkReplacer linkReplacer = mesh().webRootLinkReplacer();
-					String url = linkReplacer.resolve(ac, branch.getUuid(), type, current.getUuid(), ac.getNodeParameters().getResolveLinks(),
-						getProject().getName(), container.getLanguageTag());
-					keyBuilder.append(url);
-				}
-				current = current.getParentNode(branch.getUuid());
-
-			}
-		}
-
 		/**
-		 * webroot path & language paths
+		 * Parent nodes
 		 *
-		 * The webroot and language paths must be included in the etag computation in order to invalidate the etag once a node language gets updated or once the
-		 * display name of any parent node changes.
+		 * The breadcrumb and the webroot paths contain the display names and segments of all parent nodes. Moving the node increments its own revision. Changes
+		 * of nodes which have children increment the tree revision of the branch, so that the parent chain does not need to be walked.
 		 */
-		if (ac.getNodeParameters().getResolveLinks() != LinkType.OFF) {
-
-			WebRootLinkReplacer linkReplacer = mesh().webRootLinkReplacer();
-			String path = linkReplacer.resolve(ac, branch.getUuid(), type, getUuid(), ac.getNodeParameters().getResolveLinks(), getProject()
-				.getName(), container.getLanguageTag());
-			keyBuilder.append(path);
-
-			// languagePaths
-			for (GraphFieldContainer currentFieldContainer : getGraphFieldContainers(branch, forVersion(versioiningParameters.getVersion()))) {
-				String currLanguage = currentFieldContainer.getLanguageTag();
-				keyBuilder.append(currLanguage + "=" + linkReplacer.resolve(ac, branch.getUuid(), type, this, ac.getNodeParameters()
-					.getResolveLinks(), currLanguage));
-			}
+		keyBuilder.append("-tree:");
+		keyBuilder.append(getRevisionCounter(NodeRevisionCounter.treeKey(branch.getUuid())));
 
+		/**
+		 * Link resolving
+		 *
+		 * The resolved webroot and language paths depend on the link type, the project name and the branch settings.
+		 */
+		LinkType linkType = nodeParameters.getResolveLinks();
+		if (linkType != LinkType.OFF) {
+			keyBuilder.append("-links:");
+			keyBuilder.append(linkType);
+			keyBuilder.append(ac.getApiVersion());
+			keyBuilder.append(getProject().getName());
+			keyBuilder.append(branch.getSubETag(ac));
+			keyBuilder.append(branch.isLatest());
 		}
 
 		if (log.isDebugEnabled()) {
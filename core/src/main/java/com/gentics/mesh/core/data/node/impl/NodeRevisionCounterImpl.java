@@ -0,0 +1,24 @@
+package com.gentics.mesh.core.data.node.impl;
+
+import static com.gentics.mesh.core.data.node.NodeRevisionCounter.COUNTER_KEY_PROPERTY_KEY;
+import static com.gentics.mesh.madl.field.FieldType.STRING;
+import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
+
+import com.gentics.madl.index.IndexHandler;
+import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.core.data.generic.MeshVertexImpl;
+import com.gentics.mesh.core.data.node.NodeRevisionCounter;
+
+/**
+ * @see NodeRevisionCounter
+ */
+public class NodeRevisionCounterImpl extends MeshVertexImpl implements NodeRevisionCounter {
+
+	public static void init(TypeHandler type, IndexHandler index) {
+		type.createVertexType(NodeRevisionCounterImpl.class, MeshVertexImpl.class);
+		index.createIndex(vertexIndex(NodeRevisionCounterImpl.class)
+			.withField(COUNTER_KEY_PROPERTY_KEY, STRING)
+			.unique());
+	}
+
+}
@@ -38,6 +38,11 @@ public abstract class AbstractRootVertex<T extends MeshCoreVertex<? extends Rest
 		return mesh().permissionProperties().getRolesWithPerm(this, perm);
 	}
 
+	@Override
+	public Set<String> getRoleUuidsWithPerm(GraphPermission perm) {
+		return mesh().permissionProperties().getRoleUuidsWithPerm(this, perm);
+	}
+
 	@Override
 	public void applyPermissions(EventQueueBatch batch, Role role, boolean recursive, Set<GraphPermission> permissionsToGrant,
 		Set<GraphPermission> permissionsToRevoke) {
@@ -46,7 +46,7 @@ public class BranchRootImpl extends AbstractRootVertex<Branch> implements Branch
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(BranchRootImpl.class, MeshVertexImpl.class);
 		type.createType(edgeType(HAS_BRANCH));
-		index.createIndex(edgeIndex(HAS_BRANCH).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_BRANCH).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -23,7 +23,6 @@ import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 
 import com.gentics.madl.index.IndexHandler;
-import com.gentics.madl.tx.Tx;
 import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.BulkActionContext;
@@ -41,7 +40,7 @@ import com.gentics.mesh.core.data.impl.ProjectImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.impl.NodeImpl;
 import com.gentics.mesh.core.data.page.TransformablePage;
-import com.gentics.mesh.core.data.page.impl.DynamicTransformableStreamPageImpl;
+import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
@@ -53,7 +52,6 @@ import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.parameter.PagingParameters;
-import com.syncleus.ferma.FramedTransactionalGraph;
 import com.tinkerpop.blueprints.Vertex;
 
 import io.vertx.core.logging.Logger;
@@ -84,7 +82,11 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 	@Override
 	public TransformablePage<? extends Node> findAll(InternalActionContext ac, PagingParameters pagingInfo) {
 		ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
-		return new DynamicTransformableStreamPageImpl<>(findAllStream(ac, type), pagingInfo);
+		// The nodes are loaded in the order of their uuids so that a paging cursor can resume after the uuid
+		Object[] keys = new Object[] { ac.getProject().getUuid() };
+		return new DynamicTransformablePageImpl<Node>(ac.getUser(),
+			afterUuid -> db().index().vertexRangeLookup(NodeImpl.class, Node.PROJECT_UUID_INDEX_POSTFIX, keys, afterUuid, null), NodeImpl.class,
+			pagingInfo, null, node -> isVisible(ac, type, node.id()));
 	}
 
 	@Override
@@ -132,30 +134,32 @@ public class NodeRootImpl extends AbstractRootVertex<Node> implements NodeRoot {
 		));
 	}
 
-	private Stream<? extends Node> findAllStream(InternalActionContext ac, ContainerType type) {
+	/**
+	 * Check whether the node with the given id has a content of the type in the selected branch and can be read by the user.
+	 *
+	 * @param ac
+	 * @param type
+	 * @param id
+	 * @return
+	 */
+	private boolean isVisible(InternalActionContext ac, ContainerType type, Object id) {
 		MeshAuthUser user = ac.getUser();
-		FramedTransactionalGraph graph = Tx.get().getGraph();
+		String branchUuid = ac.getBranch().getUuid();
 
-		Branch branch = ac.getBranch();
-		String branchUuid = branch.getUuid();
-
-		return findAll(ac.getProject().getUuid()).filter(item -> {
-			// Check whether the node has at least one content of the type in the selected branch - Otherwise the node should be skipped
-			return GraphFieldContainerEdgeImpl.matchesBranchAndType(item.getId(), branchUuid, type);
-		}).filter(item -> {
-			boolean hasRead = user.hasPermissionForId(item.getId(), READ_PERM);
-			if (hasRead) {
-				return true;
-			} else if (type == PUBLISHED) {
-				// Check whether the node is published. In this case we need to check the read publish perm.
-				boolean isPublishedForBranch = GraphFieldContainerEdgeImpl.matchesBranchAndType(item.getId(), branchUuid, PUBLISHED);
-				if (isPublishedForBranch) {
-					return user.hasPermissionForId(item.getId(), READ_PUBLISHED_PERM);
-				}
-			}
+		// Check whether the node has at least one content of the type in the selected branch - Otherwise the node should be skipped
+		if (!GraphFieldContainerEdgeImpl.matchesBranchAndType(id, branchUuid, type)) {
 			return false;
-		})
-		.map(vertex -> graph.frameElementExplicit(vertex, getPersistanceClass()));
+		}
+		if (user.hasPermissionForId(id, READ_PERM)) {
+			return true;
+		} else if (type == PUBLISHED) {
+			// Check whether the node is published. In this case we need to check the read publish perm.
+			boolean isPublishedForBranch = GraphFieldContainerEdgeImpl.matchesBranchAndType(id, branchUuid, PUBLISHED);
+			if (isPublishedForBranch) {
+				return user.hasPermissionForId(id, READ_PUBLISHED_PERM);
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -46,7 +46,7 @@ public class ProjectRootImpl extends AbstractRootVertex<Project> implements Proj
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(ProjectRootImpl.class, MeshVertexImpl.class);
 		type.createType(edgeType(HAS_PROJECT));
-		index.createIndex(edgeIndex(HAS_PROJECT).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_PROJECT).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -45,7 +45,7 @@ public class UserRootImpl extends AbstractRootVertex<User> implements UserRoot {
 	 */
 	public static void init(TypeHandler type, IndexHandler index) {
 		type.createVertexType(UserRootImpl.class, MeshVertexImpl.class);
-		index.createIndex(edgeIndex(HAS_USER).withInOut().withOut());
+		index.createIndex(edgeIndex(HAS_USER).withInOut().withOut().withOutIn());
 	}
 
 	@Override
@@ -9,10 +9,13 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_SCH
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_TO_VERSION;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.SCHEMA_CONTAINER_VERSION_KEY_PROPERTY;
 import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.event.Assignment.UNASSIGNED;
 import static com.gentics.mesh.util.StreamUtil.toStream;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.util.Iterator;
+import java.util.Map.Entry;
 import java.util.stream.Stream;
 
 import com.gentics.madl.index.IndexHandler;
@@ -44,6 +47,7 @@ import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.madl.traversal.TraversalResult;
 import com.gentics.mesh.parameter.GenericParameters;
 import com.gentics.mesh.parameter.value.FieldsSet;
+import com.syncleus.ferma.FramedGraph;
 import com.tinkerpop.blueprints.Direction;
 
 import io.vertx.core.logging.Logger;
@@ -74,13 +78,38 @@ public class SchemaContainerVersionImpl extends
 
 	@Override
 	public Iterator<? extends NodeGraphFieldContainer> getDraftFieldContainers(String branchUuid) {
-		return toStream(mesh().database().getVertices(
-			NodeGraphFieldContainerImpl.class,
-			new String[]{SCHEMA_CONTAINER_VERSION_KEY_PROPERTY},
-			new Object[]{getUuid()}
-		)).filter(v -> toStream(v.getEdges(Direction.IN, HAS_FIELD_CONTAINER))
-		.anyMatch(e -> e.getProperty(BRANCH_UUID_KEY).equals(branchUuid) && ContainerType.get(e.getProperty(EDGE_TYPE_KEY)).equals(DRAFT)))
-		.map(v -> graph.frameElementExplicit(v, NodeGraphFieldContainerImpl.class)).iterator();
+		return getDraftFieldContainers(branchUuid, "", null);
+	}
+
+	@Override
+	public Iterator<? extends NodeGraphFieldContainer> getDraftFieldContainers(String branchUuid, String uuidPrefix, String afterUuid) {
+		// No uuid is equal to the prefix itself, so the prefix can be used as the exclusive start of the range
+		String after = afterUuid != null && afterUuid.compareTo(uuidPrefix) > 0 ? afterUuid : uuidPrefix;
+		Iterator<Entry<Object, Object>> entries = db().index().vertexRangeLookup(NodeGraphFieldContainerImpl.class,
+			NodeGraphFieldContainerImpl.VERSION_UUID_INDEX_POSTFIX, new Object[] { getUuid() }, after, nextPrefix(uuidPrefix));
+		if (entries == null) {
+			throw error(INTERNAL_SERVER_ERROR, "Sorted index {" + NodeGraphFieldContainerImpl.VERSION_UUID_INDEX_POSTFIX + "} for containers not found");
+		}
+		FramedGraph graph = getGraph();
+		return toStream(entries)
+			.map(entry -> graph.getFramedVertexExplicit(NodeGraphFieldContainerImpl.class, entry.getValue()))
+			.filter(container -> toStream(container.getElement().getEdges(Direction.IN, HAS_FIELD_CONTAINER))
+				.anyMatch(e -> e.getProperty(BRANCH_UUID_KEY).equals(branchUuid) && ContainerType.get(e.getProperty(EDGE_TYPE_KEY)).equals(DRAFT)))
+			.iterator();
+	}
+
+	/**
+	 * Return the smallest string which is larger than all strings that start with the given prefix.
+	 *
+	 * @param prefix
+	 * @return Exclusive end of the prefix range or null for the empty prefix
+	 */
+	private static String nextPrefix(String prefix) {
+		if (prefix.isEmpty()) {
+			return null;
+		}
+		int last = prefix.length() - 1;
+		return prefix.substring(0, last) + (char) (prefix.charAt(last) + 1);
 	}
 
 	@Override
@@ -48,30 +48,31 @@ public class WebRootServiceImpl implements WebRootService {
 		ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
 		Branch branch = ac.getBranch();
 
-		Path cachedPath = pathStore.getPath(project, branch, type, path);
-		if (cachedPath != null) {
-			return cachedPath;
-		}
-
-		// First try to locate the content via the url path index (niceurl)
-
 		// Check whether the path contains the branch path prefix. Return an empty node path in those cases. (e.g. Node was not found)
 		if (!PathPrefixUtil.startsWithPrefix(branch, path)) {
 			Path nodePath = new Path();
 			nodePath.setTargetPath(path);
 			nodePath.setInitialStack(new Stack<>());
 			nodePath.setPrefixMismatch(true);
-			pathStore.store(project, branch, type, path, nodePath);
 			return nodePath;
 		}
 
+		// First try to locate the content via the url path index (niceurl). The index is always checked since url fields of any node take precedence over
+		// the cached segment paths.
 		String strippedPath = PathPrefixUtil.strip(branch, path);
 		NodeGraphFieldContainer containerByWebUrlPath = findByUrlFieldPath(branch.getUuid(), strippedPath, type);
+		Path cachedPath = pathStore.getPath(project, branch, type, path);
 		if (containerByWebUrlPath != null) {
+			if (cachedPath != null && isResolvedTo(cachedPath, containerByWebUrlPath)) {
+				return cachedPath;
+			}
 			Path resolvedPath = containerByWebUrlPath.getPath(ac);
 			pathStore.store(project, branch, type, path, resolvedPath);
 			return resolvedPath;
 		}
+		if (cachedPath != null) {
+			return cachedPath;
+		}
 
 		// Locating did not yield a result. Lets try the regular segment path info.
 		Path nodePath = new Path();
@@ -112,6 +113,18 @@ public class WebRootServiceImpl implements WebRootService {
 		return resolvedPath;
 	}
 
+	/**
+	 * Check whether the path was resolved to the given container.
+	 *
+	 * @param path
+	 * @param container
+	 * @return
+	 */
+	private boolean isResolvedTo(Path path, NodeGraphFieldContainer container) {
+		PathSegment last = path.getLast();
+		return path.isFullyResolved() && last != null && last.getContainer() != null && last.getContainer().id().equals(container.id());
+	}
+
 	@Override
 	public NodeGraphFieldContainer findByUrlFieldPath(String branchUuid, String path, ContainerType type) {
 		Object key = GraphFieldContainerEdgeImpl.composeWebrootUrlFieldIndexKey(database, path, branchUuid, type);
@@ -2,9 +2,19 @@ package com.gentics.mesh.core.endpoint.migration;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import javax.inject.Provider;
@@ -27,6 +37,7 @@ import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.StreamUtil;
+import com.google.common.collect.AbstractIterator;
 
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -35,6 +46,12 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractMigrationHandler.class);
 
+	/**
+	 * Partitions of the elements of a migration. The elements are partitioned by the first character of their uuid.
+	 */
+	public static final List<String> PARTITIONS = Collections
+		.unmodifiableList(Arrays.asList("0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "a", "b", "c", "d", "e", "f"));
+
 	protected Database db;
 
 	protected BinaryUploadHandler binaryFieldHandler;
@@ -157,6 +174,82 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 		return errorsDetected;
 	}
 
+	/**
+	 * Migrate the elements partition by partition using the given amount of threads. Partitions which have already been completed by a previous run of the
+	 * migration are skipped. A partition is only marked as completed if all its elements could be migrated without errors. The elements of a partition are
+	 * loaded page by page while the partition is migrated.
+	 *
+	 * @param threads
+	 *            Amount of partitions which are migrated concurrently
+	 * @param pageLoader
+	 *            Loader for the next page of elements of a partition. The loader is invoked within a transaction with the partition and the last element of
+	 *            the previous page (null for the first page). An empty page ends the partition
+	 * @param cause
+	 * @param status
+	 * @param migratorSupplier
+	 *            Supplier for the migrator of a partition
+	 * @return Detected errors
+	 */
+	@ParametersAreNonnullByDefault
+	protected <T> List<Exception> migratePartitions(int threads, BiFunction<String, T, List<? extends T>> pageLoader, EventCauseInfo cause,
+		MigrationStatusHandler status, Supplier<TriConsumer<EventQueueBatch, T, List<Exception>>> migratorSupplier) {
+		Set<String> completed = db.tx(() -> status.getCompletedPartitions());
+		List<String> partitions = PARTITIONS.stream()
+			.filter(partition -> !completed.contains(partition))
+			.collect(Collectors.toList());
+		List<Exception> errorsDetected = Collections.synchronizedList(new ArrayList<>());
+		if (partitions.isEmpty()) {
+			return errorsDetected;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, partitions.size())));
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (String partition : partitions) {
+				futures.add(executor.submit(() -> {
+					Iterable<T> elements = () -> new AbstractIterator<T>() {
+
+						private Iterator<? extends T> page = Collections.emptyIterator();
+
+						private T last;
+
+						@Override
+						protected T computeNext() {
+							if (!page.hasNext()) {
+								List<? extends T> nextPage = db.tx(() -> pageLoader.apply(partition, last));
+								if (nextPage.isEmpty()) {
+									return endOfData();
+								}
+								page = nextPage.iterator();
+							}
+							last = page.next();
+							return last;
+						}
+					};
+					List<Exception> errors = migrateLoop(elements, cause, status, migratorSupplier.get());
+					if (errors.isEmpty()) {
+						db.tx(() -> status.completePartition(partition));
+					} else {
+						errorsDetected.addAll(errors);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					errorsDetected.add(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			errorsDetected.add(e);
+		} finally {
+			executor.shutdownNow();
+		}
+		return errorsDetected;
+	}
+
 	/**
 	 * Invoke the post migration purge for the containers.
 	 *
@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.endpoint.migration;
 
+import java.util.Set;
+
 import com.gentics.mesh.core.data.branch.BranchVersionEdge;
 import com.gentics.mesh.core.rest.error.Errors;
 import com.gentics.mesh.core.rest.error.GenericRestException;
@@ -62,6 +64,27 @@ public interface MigrationStatusHandler {
 	 */
 	void incCompleted();
 
+	/**
+	 * Set the total amount of elements which need to be processed. The total is used to log the progress of the migration.
+	 * 
+	 * @param totalCount
+	 */
+	void setTotalCount(long totalCount);
+
+	/**
+	 * Return the partitions which have already been completed by a previous run of the migration.
+	 * 
+	 * @return
+	 */
+	Set<String> getCompletedPartitions();
+
+	/**
+	 * Mark the partition as completed and persist the progress of the migration. This method must be invoked within a transaction.
+	 * 
+	 * @param partition
+	 */
+	void completePartition(String partition);
+
 	default Exception fail(HttpResponseStatus status, String message) {
 		GenericRestException ex = Errors.error(status, message);
 		error(ex, message);
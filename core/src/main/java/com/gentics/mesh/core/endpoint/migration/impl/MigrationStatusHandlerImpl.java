@@ -4,6 +4,10 @@ import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
 
 import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.management.MBeanServer;
 import javax.management.MalformedObjectNameException;
@@ -35,10 +39,18 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	private Job job;
 
-	private long completionCount = 0;
+	private final AtomicLong completionCount = new AtomicLong();
 
 	private JobStatus status;
 
+	private Set<String> completedPartitions;
+
+	private long totalCount;
+
+	private long startCount;
+
+	private long startTime = System.currentTimeMillis();
+
 	public MigrationStatusHandlerImpl(Job job, Vertx vertx, JobType type) {
 		this.vertx = vertx;
 		this.job = job;
@@ -50,10 +62,11 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		if (status == null) {
 			status = job.getStatus();
 		}
+		loadProgress();
 		if (versionEdge != null) {
 			versionEdge.setMigrationStatus(status);
 		}
-		job.setCompletionCount(completionCount);
+		job.setCompletionCount(completionCount.get());
 		job.setStatus(status);
 
 		Tx.get().getGraph().commit();
@@ -61,6 +74,21 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	}
 
+	/**
+	 * Load the completed partitions of a previous run of the job. The completion count of the previous run is only retained if the job is resumed.
+	 */
+	private synchronized void loadProgress() {
+		if (completedPartitions != null) {
+			return;
+		}
+		completedPartitions = ConcurrentHashMap.newKeySet();
+		completedPartitions.addAll(job.getCompletedPartitions());
+		if (!completedPartitions.isEmpty()) {
+			completionCount.set(job.getCompletionCount());
+			log.info("Resuming migration with {" + completedPartitions.size() + "} completed partitions");
+		}
+	}
+
 	private ObjectName startJMX() throws MalformedObjectNameException {
 		String JMX_MBEAN_NAME = "com.gentics.mesh:type=NodeMigration";
 		ObjectName statusMBeanName = new ObjectName(JMX_MBEAN_NAME + ",name=" + "bogus");
@@ -123,7 +151,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	@Override
 	public void setCompletionCount(long completionCount) {
-		this.completionCount = completionCount;
+		this.completionCount.set(completionCount);
 	}
 
 	@Override
@@ -133,7 +161,35 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	@Override
 	public void incCompleted() {
-		completionCount++;
+		completionCount.incrementAndGet();
+	}
+
+	@Override
+	public void setTotalCount(long totalCount) {
+		this.totalCount = totalCount;
+		this.startCount = completionCount.get();
+		this.startTime = System.currentTimeMillis();
+	}
+
+	@Override
+	public Set<String> getCompletedPartitions() {
+		loadProgress();
+		return Collections.unmodifiableSet(completedPartitions);
+	}
+
+	@Override
+	public synchronized void completePartition(String partition) {
+		loadProgress();
+		completedPartitions.add(partition);
+		job.setCompletedPartitions(completedPartitions);
+		commit();
+
+		long completed = completionCount.get() - startCount;
+		long duration = Math.max(1, System.currentTimeMillis() - startTime);
+		double rate = completed * 1000d / duration;
+		String eta = rate > 0 ? String.valueOf(Math.round(Math.max(0, totalCount - completed) / rate)) : "unknown";
+		log.info("Completed partition {" + partition + "}. Migrated {" + completed + "} of {" + totalCount + "} elements with {"
+			+ String.format("%.1f", rate) + "} elements/s. Estimated remaining time {" + eta + "} seconds");
 	}
 
 }
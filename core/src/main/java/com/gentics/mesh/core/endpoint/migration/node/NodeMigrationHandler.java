@@ -4,6 +4,7 @@ import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
 import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
+import static com.gentics.mesh.core.verticle.handler.WriteLockImpl.NODE_UUID_PARAM;
 import static com.gentics.mesh.metric.SimpleMetric.NODE_MIGRATION_PENDING;
 
 import java.util.HashSet;
@@ -29,10 +30,12 @@ import com.gentics.mesh.core.rest.event.node.SchemaMigrationCause;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.VersionNumber;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 
 import io.reactivex.Completable;
@@ -48,15 +51,22 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(NodeMigrationHandler.class);
 
+	/**
+	 * Amount of containers of a partition which are loaded at once.
+	 */
+	private static final int PARTITION_PAGE_SIZE = 500;
+
 	private final AtomicLong migrationGauge;
 	private final WriteLock writeLock;
+	private final MeshOptions options;
 
 	@Inject
 	public NodeMigrationHandler(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
-		WriteLock writeLock) {
+		WriteLock writeLock, MeshOptions options) {
 		super(db, nodeFieldAPIHandler, metrics, batchProvider);
 		migrationGauge = metrics.longGauge(NODE_MIGRATION_PENDING);
 		this.writeLock = writeLock;
+		this.options = options;
 	}
 
 	/**
@@ -92,19 +102,16 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 				return Completable.error(e);
 			}
 
-			// Get the draft containers that need to be transformed. Containers which need to be transformed are those which are still linked to older schema
-			// versions. We'll work on drafts. The migration code will later on also handle publish versions.
-			List<? extends NodeGraphFieldContainer> containers = db.tx(() -> {
-				Iterator<? extends NodeGraphFieldContainer> it = fromVersion.getDraftFieldContainers(branch.getUuid());
-				return Lists.newArrayList(it);
-			});
+			// Count the draft containers that need to be transformed. Containers which need to be transformed are those which are still linked to older
+			// schema versions. We'll work on drafts. The migration code will later on also handle publish versions.
+			long total = db.tx(() -> Iterators.size(fromVersion.getDraftFieldContainers(branch.getUuid())));
 
 			if (metrics.isEnabled()) {
-				migrationGauge.set(containers.size());
+				migrationGauge.set(total);
 			}
 
 			// No field containers, migration is done
-			if (containers.isEmpty()) {
+			if (total == 0) {
 				if (status != null) {
 					db.tx(() -> {
 						status.setStatus(COMPLETED);
@@ -113,14 +120,26 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 				}
 				return Completable.complete();
 			}
-
-			List<Exception> errorsDetected = migrateLoop(containers, cause, status, (batch, container, errors) -> {
-				try (WriteLock lock = writeLock.lock(context)) {
-					migrateContainer(context, batch, container, fromVersion, newSchema, errors, touchedFields);
-				}
-				if (metrics.isEnabled()) {
-					migrationGauge.decrementAndGet();
-				}
+			status.setTotalCount(total);
+
+			// The containers are migrated in partitions of their uuids. Completed partitions are skipped when the migration is resumed.
+			int threads = options.getContentOptions().getMigrationThreads();
+			List<Exception> errorsDetected = this.<NodeGraphFieldContainer>migratePartitions(threads, (partition, last) -> {
+				Iterator<? extends NodeGraphFieldContainer> it = fromVersion.getDraftFieldContainers(branch.getUuid(), partition,
+					last == null ? null : last.getUuid());
+				return Lists.newArrayList(Iterators.limit(it, PARTITION_PAGE_SIZE));
+			}, cause, status, () -> {
+				NodeMigrationActionContextImpl partitionContext = context.copy();
+				return (batch, container, errors) -> {
+					// Only lock the node of the container so that the partitions can be migrated concurrently
+					partitionContext.getParameters().set(NODE_UUID_PARAM, container.getParentNode().getUuid());
+					try (WriteLock lock = writeLock.lock(partitionContext)) {
+						migrateContainer(partitionContext, batch, container, fromVersion, newSchema, errors, touchedFields);
+					}
+					if (metrics.isEnabled()) {
+						migrationGauge.decrementAndGet();
+					}
+				};
 			});
 
 			// TODO prepare errors. They should be easy to understand and to grasp
@@ -8,6 +8,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -45,7 +46,6 @@ import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.storage.BinaryStorage;
 import com.gentics.mesh.util.FileUtils;
 import com.gentics.mesh.util.NodeUtil;
-import com.gentics.mesh.util.RxUtil;
 import com.gentics.mesh.util.Tuple;
 import com.gentics.mesh.util.UUIDUtil;
 
@@ -54,7 +54,6 @@ import io.reactivex.Completable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.MultiMap;
-import io.vertx.core.file.OpenOptions;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.FileUpload;
@@ -78,6 +77,8 @@ public class BinaryUploadHandler extends AbstractHandler {
 
 	private final HandlerUtilities utils;
 
+	private final Vertx vertx;
+
 	private FileSystem fs;
 
 	private final MeshOptions options;
@@ -103,6 +104,7 @@ public class BinaryUploadHandler extends AbstractHandler {
 		this.binaryStorage = binaryStorage;
 		this.binaryProcessorRegistry = binaryProcessorRegistry;
 		this.utils = utils;
+		this.vertx = rxVertx;
 		this.fs = rxVertx.fileSystem();
 		this.options = options;
 		this.binaries = binaries;
@@ -171,13 +173,8 @@ public class BinaryUploadHandler extends AbstractHandler {
 		UploadContext ctx = new UploadContext();
 		ctx.setUpload(ul);
 
-		// First process the upload data
-		hashUpload(ul).flatMap(hash -> {
-			Single<List<Consumer<BinaryGraphField>>> modifierOp = postProcessUpload(ul, hash).toList();
-			return modifierOp.map(list -> {
-				return Tuple.tuple(hash, list);
-			});
-		}).flatMap(modifierListAndHash -> {
+		// First process the upload data. The processors read the upload while it is being hashed so that the data only needs to be read once from disk.
+		Single.zip(hashUpload(ul), postProcessUpload(ul).toList(), Tuple::tuple).flatMap(modifierListAndHash -> {
 			String hash = modifierListAndHash.v1();
 			List<Consumer<BinaryGraphField>> modifierList = modifierListAndHash.v2();
 			ctx.setHash(hash);
@@ -238,13 +235,23 @@ public class BinaryUploadHandler extends AbstractHandler {
 		}
 	}
 
+	/**
+	 * Hash the upload in a worker thread. Large uploads would otherwise block the event loop for the whole hashing.
+	 * 
+	 * @param ul
+	 * @return SHA512 sum of the upload
+	 */
 	private Single<String> hashUpload(FileUpload ul) {
 		String uploadFilePath = ul.uploadedFileName();
-		return fs.rxOpen(uploadFilePath, new OpenOptions())
-			.flatMapPublisher(RxUtil::toBufferFlow)
-			.to(FileUtils::hash).doOnError(e -> {
-				log.error("Error while hashing upload {}", uploadFilePath, e);
-			});
+		return vertx.<String>rxExecuteBlocking(bh -> {
+			try {
+				bh.complete(FileUtils.hash(Paths.get(uploadFilePath)));
+			} catch (Exception e) {
+				bh.fail(e);
+			}
+		}, false).toSingle().doOnError(e -> {
+			log.error("Error while hashing upload {}", uploadFilePath, e);
+		});
 	}
 
 	private Single<NodeResponse> storeUploadInGraph(InternalActionContext ac, List<Consumer<BinaryGraphField>> fieldModifier, UploadContext context,
@@ -255,7 +262,7 @@ public class BinaryUploadHandler extends AbstractHandler {
 		String hash = context.getHash();
 		String binaryUuid = context.getBinaryUuid();
 
-		return db.singleTxWriteLock(tx -> {
+		return db.singleTxWriteLock(ac, tx -> {
 			Project project = ac.getProject();
 			Branch branch = ac.getBranch();
 			Node node = project.getNodeRoot().loadObjectByUuid(ac, nodeUuid, UPDATE_PERM);
@@ -373,20 +380,17 @@ public class BinaryUploadHandler extends AbstractHandler {
 	}
 
 	/**
-	 * Processes the upload and set the binary information (e.g.: image dimensions) within the provided field. The binary data will be stored in the
-	 * {@link BinaryStorage} if desired.
+	 * Processes the upload and set the binary information (e.g.: image dimensions) within the provided field. The processors run in parallel.
 	 * 
 	 * @param upload
 	 *            Upload to process
-	 * @param hash
-	 *            SHA512 sum of the upload
 	 * @return Consumers which modify the graph field
 	 */
-	private Observable<Consumer<BinaryGraphField>> postProcessUpload(FileUpload upload, String hash) {
+	private Observable<Consumer<BinaryGraphField>> postProcessUpload(FileUpload upload) {
 		String contentType = upload.contentType();
 		List<BinaryDataProcessor> processors = binaryProcessorRegistry.getProcessors(contentType);
 
-		return Observable.fromIterable(processors).flatMapMaybe(p -> p.process(upload, hash)
+		return Observable.fromIterable(processors).flatMapMaybe(p -> p.process(upload)
 			.doOnSuccess(s -> {
 				log.info(
 					"Processing of upload {" + upload.fileName() + "/" + upload.uploadedFileName() + "} in handler {" + p.getClass()
@@ -43,6 +43,8 @@ import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.VersioningParameters;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -69,6 +71,30 @@ public class NodeCrudHandler extends AbstractCrudHandler<Node, NodeResponse> {
 		return ac.getProject().getNodeRoot();
 	}
 
+	@Override
+	public void handleCreate(InternalActionContext ac) {
+		addParentNodeLock(ac);
+		super.handleCreate(ac);
+	}
+
+	/**
+	 * Pass the uuid of the parent node of the create request to the write lock. Creates below different parent nodes will thus not block each other.
+	 * 
+	 * @param ac
+	 */
+	private void addParentNodeLock(InternalActionContext ac) {
+		try {
+			JsonObject parentNode = new JsonObject(ac.getBodyAsString()).getJsonObject("parentNode");
+			String parentNodeUuid = parentNode == null ? null : parentNode.getString("uuid");
+			if (parentNodeUuid != null) {
+				ac.put(WriteLock.PARENT_NODE_UUID_DATA_KEY, parentNodeUuid);
+			}
+		} catch (DecodeException | ClassCastException e) {
+			// Invalid requests will be rejected by the create operation
+			log.debug("Could not read the parent node of the create request", e);
+		}
+	}
+
 	@Override
 	public void handleDelete(InternalActionContext ac, String uuid) {
 		validateParameter(uuid, "uuid");
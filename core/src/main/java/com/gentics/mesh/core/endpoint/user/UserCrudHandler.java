@@ -13,6 +13,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
+import com.gentics.mesh.cache.PrincipalCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshVertex;
@@ -46,11 +47,15 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 
 	private MeshJWTAuthProvider authProvider;
 
+	private PrincipalCache principalCache;
+
 	@Inject
-	public UserCrudHandler(Database db, BootstrapInitializer boot, HandlerUtilities utils, MeshJWTAuthProvider authProvider, WriteLock writeLock) {
+	public UserCrudHandler(Database db, BootstrapInitializer boot, HandlerUtilities utils, MeshJWTAuthProvider authProvider, WriteLock writeLock,
+		PrincipalCache principalCache) {
 		super(db, utils, writeLock);
 		this.boot = boot;
 		this.authProvider = authProvider;
+		this.principalCache = principalCache;
 	}
 
 	@Override
@@ -148,7 +153,7 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 				User user = boot.userRoot().loadObjectByUuid(ac, userUuid, UPDATE_PERM);
 
 				// 2. Generate the API key for the user
-				UserAPITokenResponse apiKeyRespose = db.tx(() -> {
+				UserAPITokenResponse apiKeyRespose = utils.eventAction(batch -> {
 					String tokenId = TokenUtil.randomToken();
 					String apiToken = authProvider.generateAPIToken(user, tokenId, null);
 					UserAPITokenResponse response = new UserAPITokenResponse();
@@ -158,8 +163,12 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 					user.setAPITokenId(tokenId);
 					user.setAPITokenIssueTimestamp();
 					response.setToken(apiToken);
+					// The update event will invalidate the cached principal on the other instances
+					batch.add(user.onUpdated());
 					return response;
 				});
+				// 4. Make sure the previous token can no longer be used on this instance
+				principalCache.invalidate(userUuid);
 				return apiKeyRespose;
 			}, model -> ac.send(model, CREATED));
 		}
@@ -180,10 +189,12 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 				User user = boot.userRoot().loadObjectByUuid(ac, userUuid, UPDATE_PERM);
 
 				// 2. Generate the API key for the user
-				GenericMessageResponse message = db.tx(() -> {
+				GenericMessageResponse message = utils.eventAction(batch -> {
 					user.resetAPIToken();
+					batch.add(user.onUpdated());
 					return message(ac, "api_key_invalidated");
 				});
+				principalCache.invalidate(userUuid);
 				return message;
 			}, model -> ac.send(model, CREATED));
 		}
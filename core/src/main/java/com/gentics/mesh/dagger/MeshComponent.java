@@ -10,8 +10,10 @@ import com.gentics.mesh.Mesh;
 import com.gentics.mesh.auth.handler.MeshJWTAuthHandler;
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
 import com.gentics.mesh.cache.PermissionCache;
+import com.gentics.mesh.cache.PrincipalCache;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectNameCache;
+import com.gentics.mesh.cache.WebrootPathCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.binary.Binaries;
@@ -37,6 +39,8 @@ import com.gentics.mesh.dagger.module.SearchProviderModule;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.cache.GraphQLDocumentCache;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaCache;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.plugin.env.PluginEnvironment;
 import com.gentics.mesh.plugin.manager.MeshPluginManager;
@@ -57,6 +61,7 @@ import com.gentics.mesh.search.index.schema.SchemaContainerIndexHandler;
 import com.gentics.mesh.search.index.tag.TagIndexHandler;
 import com.gentics.mesh.search.index.tagfamily.TagFamilyIndexHandler;
 import com.gentics.mesh.search.index.user.UserIndexHandler;
+import com.gentics.mesh.search.verticle.DocumentChangeDetector;
 import com.gentics.mesh.storage.BinaryStorage;
 import com.gentics.mesh.storage.LocalBinaryStorage;
 
@@ -89,6 +94,8 @@ public interface MeshComponent {
 		return (TrackingSearchProvider) searchProvider();
 	}
 
+	DocumentChangeDetector documentChangeDetector();
+
 	MeshJWTAuthHandler authenticationHandler();
 
 	JobWorkerVerticle jobWorkerVerticle();
@@ -147,6 +154,14 @@ public interface MeshComponent {
 
 	PermissionCache permissionCache();
 
+	PrincipalCache principalCache();
+
+	WebrootPathCache webrootPathCache();
+
+	GraphQLSchemaCache graphQLSchemaCache();
+
+	GraphQLDocumentCache graphQLDocumentCache();
+
 	Vertx vertx();
 
 	Provider<EventQueueBatch> batchProvider();
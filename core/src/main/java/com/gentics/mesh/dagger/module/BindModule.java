@@ -6,6 +6,8 @@ import com.gentics.mesh.cache.CacheRegistry;
 import com.gentics.mesh.cache.CacheRegistryImpl;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.PermissionCacheImpl;
+import com.gentics.mesh.cache.PrincipalCache;
+import com.gentics.mesh.cache.PrincipalCacheImpl;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectBranchNameCacheImpl;
 import com.gentics.mesh.cache.ProjectNameCache;
@@ -85,6 +87,9 @@ public abstract class BindModule {
 	@Binds
 	abstract ProjectNameCache bindProjectNameCache(ProjectNameCacheImpl e);
 
+	@Binds
+	abstract PrincipalCache bindPrincipalCache(PrincipalCacheImpl e);
+
 	@Binds
 	abstract PluginEnvironment bindPluginEnv(PluginEnvironmentImpl e);
 
@@ -11,6 +11,7 @@ import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.handler.impl.MeshBodyHandlerImpl;
 import com.gentics.mesh.image.ImgscalrImageManipulator;
+import com.gentics.mesh.metric.MetricsService;
 import com.hazelcast.core.HazelcastInstance;
 
 import dagger.Module;
@@ -34,8 +35,8 @@ public class MeshModule {
 
 	@Provides
 	@Singleton
-	public static ImageManipulator imageProvider(io.vertx.reactivex.core.Vertx vertx, MeshOptions options) {
-		return new ImgscalrImageManipulator(vertx, options);
+	public static ImageManipulator imageProvider(io.vertx.reactivex.core.Vertx vertx, MeshOptions options, MetricsService metrics) {
+		return new ImgscalrImageManipulator(vertx, options, metrics);
 	}
 
 	@Provides
@@ -1,6 +1,7 @@
 package com.gentics.mesh.search;
 
 import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
+import static com.gentics.mesh.parameter.PagingParameters.CURSOR_PARAMETER_KEY;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.vertx.core.http.HttpMethod.GET;
 import static io.vertx.core.http.HttpMethod.POST;
@@ -27,6 +28,7 @@ import com.gentics.mesh.core.rest.tag.TagFamilyListResponse;
 import com.gentics.mesh.core.rest.tag.TagListResponse;
 import com.gentics.mesh.core.rest.user.UserListResponse;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.parameter.impl.IndexSyncParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.SearchParametersImpl;
 import com.gentics.mesh.rest.InternalEndpointRoute;
@@ -177,6 +179,7 @@ public class SearchEndpointImpl extends AbstractInternalEndpoint implements Sear
 		indexSyncEndpoint.produces(APPLICATION_JSON);
 		indexSyncEndpoint.description(
 			"Invokes the manual synchronisation of the search indices. This operation may take some time to complete and is performed asynchronously. When clustering is enabled it will be executed on any free instance.");
+		indexSyncEndpoint.addQueryParameters(IndexSyncParametersImpl.class);
 		indexSyncEndpoint.exampleResponse(OK, miscExamples.createMessageResponse(), "Invoked index synchronisation on all indices.");
 		indexSyncEndpoint.handler(rc -> {
 			InternalActionContext ac = wrap(rc);
@@ -205,6 +208,8 @@ public class SearchEndpointImpl extends AbstractInternalEndpoint implements Sear
 		endpoint.consumes(APPLICATION_JSON);
 		endpoint.produces(APPLICATION_JSON);
 		endpoint.addQueryParameters(PagingParametersImpl.class);
+		// The hits are paged by Elasticsearch, which does not support the paging cursor
+		endpoint.getQueryParameters().remove(CURSOR_PARAMETER_KEY);
 		endpoint.addQueryParameters(SearchParametersImpl.class);
 		endpoint.exampleResponse(OK, exampleListResponse, "Paged search result for " + typeName);
 		endpoint.exampleRequest(miscExamples.getSearchQueryExample());
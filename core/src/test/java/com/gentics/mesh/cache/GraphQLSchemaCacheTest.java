@@ -0,0 +1,91 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaCreateRequest;
+import com.gentics.mesh.graphql.cache.GraphQLDocumentCache;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaCache;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class GraphQLSchemaCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		schemaCache().clear();
+		documentCache().clear();
+	}
+
+	private GraphQLSchemaCache schemaCache() {
+		return mesh().graphQLSchemaCache();
+	}
+
+	private GraphQLDocumentCache documentCache() {
+		return mesh().graphQLDocumentCache();
+	}
+
+	@Test
+	public void testSchemaAndDocumentAreReused() {
+		query("{ me { username } }");
+		assertEquals(1, schemaCache().size());
+		assertEquals(1, documentCache().size());
+
+		query("{ me { username } }");
+		assertEquals("The schema should have been reused", 1, schemaCache().size());
+		assertEquals("The document should have been reused", 1, documentCache().size());
+
+		query("{ me { uuid } }");
+		assertEquals(1, schemaCache().size());
+		assertEquals(2, documentCache().size());
+	}
+
+	@Test
+	public void testSchemaChangeInvalidatesCache() {
+		String query = "{ nodes(filter: {schema: {is: cacheTest}}) { totalCount } }";
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		assertNotNull("The schema should not yet be known", response.getErrors());
+		assertEquals(1, schemaCache().size());
+
+		SchemaCreateRequest request = FieldUtil.createSchemaCreateRequest();
+		request.setName("cacheTest");
+		waitForEvent(MeshEvent.PROJECT_SCHEMA_ASSIGNED, () -> createSchema(request));
+		// Event is processed async and thus the cache clear is also done async
+		sleep(100);
+
+		assertEquals("The schema cache should have been invalidated.", 0, schemaCache().size());
+		assertEquals("The document cache should have been invalidated.", 0, documentCache().size());
+		query(query);
+	}
+
+	@Test
+	public void testDisabledCache() {
+		schemaCache().disable();
+		documentCache().disable();
+		try {
+			query("{ me { username } }");
+			assertEquals(0, schemaCache().size());
+			assertEquals(0, documentCache().size());
+		} finally {
+			schemaCache().enable();
+			documentCache().enable();
+		}
+	}
+
+	private GraphQLResponse query(String query) {
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		assertNull("The query should not fail", response.getErrors());
+		return response;
+	}
+}
@@ -0,0 +1,94 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.user.UserAPITokenResponse;
+import com.gentics.mesh.core.rest.user.UserUpdateRequest;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class PrincipalCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		cache().clear();
+	}
+
+	private PrincipalCache cache() {
+		return mesh().principalCache();
+	}
+
+	@Test
+	public void testPrincipalIsReused() {
+		String uuid = userUuid();
+		call(() -> client().me());
+		CachedPrincipal principal = cache().get(uuid);
+		assertNotNull("The principal should have been cached", principal);
+
+		call(() -> client().me());
+		assertEquals("The principal should have been reused", 1, cache().size());
+	}
+
+	@Test
+	public void testUserUpdateInvalidatesPrincipal() {
+		String uuid = userUuid();
+		call(() -> client().me());
+		assertNotNull(cache().get(uuid));
+
+		UserUpdateRequest request = new UserUpdateRequest();
+		request.setEmailAddress("changed@example.com");
+		waitForEvent(MeshEvent.USER_UPDATED, () -> call(() -> client().updateUser(uuid, request)));
+		// Event is processed async and thus the invalidation is also done async
+		sleep(100);
+
+		assertNull("The principal should have been invalidated", cache().get(uuid));
+	}
+
+	@Test
+	public void testAPITokenChangeInvalidatesPrincipal() {
+		String uuid = userUuid();
+		UserAPITokenResponse response = call(() -> client().issueAPIToken(uuid));
+		client().setLogin(null, null);
+		client().setAPIKey(response.getToken());
+		call(() -> client().me());
+		assertNotNull(cache().get(uuid));
+
+		call(() -> client().invalidateAPIToken(uuid));
+		assertNull("The principal must be invalidated synchronously", cache().get(uuid));
+		call(() -> client().me(), UNAUTHORIZED, "error_not_authorized");
+	}
+
+	@Test
+	public void testInvalidationDuringLoad() {
+		String uuid = userUuid();
+		CachedPrincipal principal = cache().get(uuid, key -> {
+			// Simulate a revocation which is committed while the principal is loaded
+			cache().invalidate(key);
+			return new CachedPrincipal(null, "outdated");
+		});
+		assertNotNull(principal);
+		assertNull("The principal which was loaded during the invalidation must not be cached", cache().get(uuid));
+	}
+
+	@Test
+	public void testDisabledCache() {
+		cache().disable();
+		try {
+			call(() -> client().me());
+			assertEquals(0, cache().size());
+		} finally {
+			cache().enable();
+		}
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class WebrootPathCacheTest extends AbstractMeshTest {
+
+	@Before
+	public void setupCache() {
+		pathCache().clear();
+	}
+
+	private WebrootPathCache pathCache() {
+		return mesh().webrootPathCache();
+	}
+
+	@Test
+	public void testUnrelatedUpdateKeepsPath() {
+		call(() -> client().webroot(PROJECT_NAME, "/News/2015", new VersioningParametersImpl().draft()));
+		assertEquals(1, pathCache().size());
+
+		updateField(tx(() -> content("concorde").getUuid()), "teaser", "Updated teaser");
+		assertEquals("The path does not pass through the updated node and should still be cached.", 1, pathCache().size());
+
+		updateField(tx(() -> folder("2015").getUuid()), "slug", "2016");
+		assertEquals("The path passes through the updated node and should have been evicted.", 0, pathCache().size());
+	}
+
+	@Test
+	public void testUnresolvedPathEvicted() {
+		call(() -> client().webroot(PROJECT_NAME, "/News/2016", new VersioningParametersImpl().draft()), NOT_FOUND, "node_not_found_for_path",
+			"/News/2016");
+		assertEquals(1, pathCache().size());
+
+		updateField(tx(() -> folder("2015").getUuid()), "slug", "2016");
+		assertEquals("The unresolved path should have been evicted.", 0, pathCache().size());
+		call(() -> client().webroot(PROJECT_NAME, "/News/2016", new VersioningParametersImpl().draft()));
+	}
+
+	private void updateField(String uuid, String fieldName, String value) {
+		NodeResponse node = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		NodeUpdateRequest request = node.toRequest();
+		request.getFields().put(fieldName, FieldUtil.createStringField(value));
+		waitForEvent(MeshEvent.NODE_UPDATED, () -> call(() -> client().updateNode(PROJECT_NAME, uuid, request)));
+		// Event is processed async and thus the eviction is also done async
+		sleep(100);
+	}
+
+}
@@ -35,7 +35,7 @@ public class TikaBinaryProcessorTest extends AbstractMeshTest {
 		TikaBinaryProcessor processor = new TikaBinaryProcessor(lazy, new MeshOptions());
 		FileUpload ul = mockUpload("test.pdf", "application/pdf");
 
-		Maybe<Consumer<BinaryGraphField>> result = processor.process(ul, "HASHSUM");
+		Maybe<Consumer<BinaryGraphField>> result = processor.process(ul);
 
 		Consumer<BinaryGraphField> consumer = result.blockingGet();
 		BinaryGraphField field = Mockito.mock(BinaryGraphField.class);
@@ -4,13 +4,20 @@ import static com.gentics.mesh.mock.Mocks.getMockedInternalActionContext;
 import static com.gentics.mesh.test.TestSize.PROJECT_AND_NODE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.Test;
 
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.page.TransformablePage;
 import com.gentics.mesh.core.data.page.impl.DynamicTransformablePageImpl;
+import com.gentics.mesh.core.rest.error.GenericRestException;
+import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
@@ -44,4 +51,32 @@ public class DynamicTransformablePageTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testCursor() {
+		try (Tx tx = tx()) {
+			UserRoot root = meshRoot().getUserRoot();
+			InternalActionContext ac = getMockedInternalActionContext("", user(), project());
+			Set<String> uuids = new HashSet<>();
+			String cursor = null;
+			do {
+				PagingParameters pagingInfo = new PagingParametersImpl(1, 1L).setCursor(cursor);
+				TransformablePage<? extends User> page = new DynamicTransformablePageImpl<>(ac.getUser(), root, pagingInfo);
+				assertEquals(1, page.getSize());
+				assertTrue("Each element should only be returned once", uuids.add(page.getWrappedList().get(0).getUuid()));
+				cursor = page.getNextCursor();
+			} while (cursor != null);
+			assertEquals(3, uuids.size());
+		}
+	}
+
+	@Test(expected = GenericRestException.class)
+	public void testInvalidCursor() {
+		try (Tx tx = tx()) {
+			UserRoot root = meshRoot().getUserRoot();
+			PagingParameters pagingInfo = new PagingParametersImpl(1, 1L).setCursor("%%invalid");
+			InternalActionContext ac = getMockedInternalActionContext("", user(), project());
+			new DynamicTransformablePageImpl<>(ac.getUser(), root, pagingInfo);
+		}
+	}
+
 }
@@ -0,0 +1,67 @@
+package com.gentics.mesh.core.field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.node.field.list.PackedListCodec;
+
+public class PackedListCodecTest {
+
+	@Test
+	public void testStrings() {
+		List<String> values = Arrays.asList("one", "", "Ümlaut ✓", null, "last");
+		byte[] packed = PackedListCodec.STRING.encode(values);
+		assertEquals(5, PackedListCodec.STRING.size(packed));
+		assertThat(PackedListCodec.STRING.decode(packed)).containsExactlyElementsOf(values);
+		assertEquals("Ümlaut ✓", PackedListCodec.STRING.get(packed, 2));
+		assertNull(PackedListCodec.STRING.get(packed, 3));
+		assertEquals("last", PackedListCodec.STRING.get(packed, 4));
+		assertNull("Out of range items should be null", PackedListCodec.STRING.get(packed, 5));
+	}
+
+	@Test
+	public void testNumbers() {
+		List<Number> values = Arrays.asList(42, 4200000000L, 1.5f, 0.1d, new BigInteger("123456789012345678901234567890"),
+			new BigDecimal("3.14159265358979323846"));
+		byte[] packed = PackedListCodec.NUMBER.encode(values);
+		assertThat(PackedListCodec.NUMBER.decode(packed)).containsExactlyElementsOf(values);
+		assertEquals(0.1d, PackedListCodec.NUMBER.get(packed, 3));
+		assertEquals(new BigDecimal("3.14159265358979323846"), PackedListCodec.NUMBER.get(packed, 5));
+	}
+
+	@Test
+	public void testDates() {
+		List<Long> values = Arrays.asList(0L, 1546300800000L, null, -1L);
+		byte[] packed = PackedListCodec.DATE.encode(values);
+		assertThat(PackedListCodec.DATE.decode(packed)).containsExactlyElementsOf(values);
+		assertEquals(Long.valueOf(1546300800000L), PackedListCodec.DATE.get(packed, 1));
+		assertNull(PackedListCodec.DATE.get(packed, 2));
+	}
+
+	@Test
+	public void testBooleans() {
+		List<Boolean> values = Arrays.asList(true, false, null, true);
+		byte[] packed = PackedListCodec.BOOLEAN.encode(values);
+		assertThat(PackedListCodec.BOOLEAN.decode(packed)).containsExactlyElementsOf(values);
+		assertEquals(Boolean.FALSE, PackedListCodec.BOOLEAN.get(packed, 1));
+		assertEquals(Boolean.TRUE, PackedListCodec.BOOLEAN.get(packed, 3));
+	}
+
+	@Test
+	public void testEmpty() {
+		byte[] packed = PackedListCodec.STRING.encode(Collections.emptyList());
+		assertEquals(0, PackedListCodec.STRING.size(packed));
+		assertThat(PackedListCodec.STRING.decode(packed)).isEmpty();
+		assertNull(PackedListCodec.STRING.get(packed, 0));
+	}
+
+}
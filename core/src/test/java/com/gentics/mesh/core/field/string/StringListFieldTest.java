@@ -7,6 +7,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -18,6 +19,7 @@ import com.gentics.mesh.core.data.container.impl.NodeGraphFieldContainerImpl;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.field.GraphField;
 import com.gentics.mesh.core.data.node.field.list.StringGraphFieldList;
+import com.gentics.mesh.core.data.node.field.list.impl.StringGraphFieldListImpl;
 import com.gentics.mesh.core.field.AbstractFieldTest;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.field.Field;
@@ -89,6 +91,30 @@ public class StringListFieldTest extends AbstractFieldTest<ListFieldSchema> {
 		}
 	}
 
+	@Test
+	public void testLegacyLayout() {
+		try (Tx tx = tx()) {
+			NodeGraphFieldContainer container = tx.getGraph().addFramedVertex(NodeGraphFieldContainerImpl.class);
+			StringGraphFieldListImpl list = (StringGraphFieldListImpl) container.createStringList("legacyList");
+			list.setProperty("item-1-string", "one");
+			list.setProperty("item-2-string", "two");
+			list.setProperty("item-10-string", "ten");
+
+			assertFalse(list.isPacked());
+			assertEquals(3, list.getSize());
+			assertThat(list.getValues()).containsExactly("one", "two", "ten");
+			assertEquals("two", list.getString(2).getString());
+
+			assertTrue("The list should have been converted", list.pack());
+			assertTrue(list.isPacked());
+			assertFalse("The list should only be converted once", list.pack());
+			assertTrue("The legacy items should have been removed", list.getProperties("item-").isEmpty());
+			assertThat(list.getValues()).containsExactly("one", "two", "ten");
+			assertEquals("ten", list.getString(3).getString());
+			assertNull(list.getString(4).getString());
+		}
+	}
+
 	@Test
 	@Override
 	public void testClone() {
@@ -0,0 +1,180 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.FieldUtil.createListFieldSchema;
+import static com.gentics.mesh.FieldUtil.createNodeField;
+import static com.gentics.mesh.FieldUtil.createNodeFieldSchema;
+import static com.gentics.mesh.FieldUtil.createNodeListField;
+import static com.gentics.mesh.FieldUtil.createStringField;
+import static com.gentics.mesh.FieldUtil.createStringFieldSchema;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaCreateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.core.rest.user.NodeReference;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Tests for queries which resolve nested children and node references via the batching data loaders.
+ */
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class GraphQLDataLoaderTest extends AbstractMeshTest {
+
+	private static final String SCHEMA_NAME = "dataloaderTest";
+
+	private static final int CHILDREN_PER_LEVEL = 3;
+
+	private static final String QUERY = "query($uuid: String) { node(uuid: $uuid) { uuid children { elements { uuid "
+		+ "... on dataloaderTest { fields { ref { uuid } refs { uuid } } } "
+		+ "children { elements { uuid ... on dataloaderTest { fields { ref { uuid } } } "
+		+ "children { elements { uuid breadcrumb { uuid } ... on dataloaderTest { fields { ref { uuid } refs { uuid } } } } } } } } } } }";
+
+	private String targetUuid;
+
+	private String newsUuid;
+
+	private NodeResponse root;
+
+	private List<NodeResponse> secondLevel = new ArrayList<>();
+
+	@Before
+	public void setUp() {
+		SchemaCreateRequest schema = new SchemaCreateRequest();
+		schema.setName(SCHEMA_NAME);
+		schema.setContainer(true);
+		schema.setSegmentField("slug");
+		schema.addField(createStringFieldSchema("slug"));
+		schema.addField(createNodeFieldSchema("ref"));
+		schema.addField(createListFieldSchema("refs", "node"));
+		createSchema(schema);
+
+		try (Tx tx = tx()) {
+			targetUuid = folder("2015").getUuid();
+			newsUuid = folder("news").getUuid();
+		}
+
+		String baseNodeUuid = tx(() -> project().getBaseNode().getUuid());
+		root = createTestNode(baseNodeUuid, "root");
+		for (int i = 0; i < CHILDREN_PER_LEVEL; i++) {
+			NodeResponse first = createTestNode(root.getUuid(), "first" + i);
+			for (int j = 0; j < CHILDREN_PER_LEVEL; j++) {
+				NodeResponse second = createTestNode(first.getUuid(), "second" + i + j);
+				secondLevel.add(second);
+				for (int k = 0; k < CHILDREN_PER_LEVEL; k++) {
+					createTestNode(second.getUuid(), "third" + i + j + k);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testNestedChildrenAndReferences() {
+		JsonObject json = query();
+		JsonArray first = json.getJsonObject("data").getJsonObject("node").getJsonObject("children").getJsonArray("elements");
+		assertEquals(CHILDREN_PER_LEVEL, first.size());
+		for (Object firstItem : first) {
+			JsonObject firstNode = (JsonObject) firstItem;
+			assertReferences(firstNode.getJsonObject("fields"));
+			JsonArray second = firstNode.getJsonObject("children").getJsonArray("elements");
+			assertEquals(CHILDREN_PER_LEVEL, second.size());
+			for (Object secondItem : second) {
+				JsonObject secondNode = (JsonObject) secondItem;
+				assertEquals(targetUuid, secondNode.getJsonObject("fields").getJsonObject("ref").getString("uuid"));
+				JsonArray third = secondNode.getJsonObject("children").getJsonArray("elements");
+				assertEquals(CHILDREN_PER_LEVEL, third.size());
+				for (Object thirdItem : third) {
+					JsonObject thirdNode = (JsonObject) thirdItem;
+					assertReferences(thirdNode.getJsonObject("fields"));
+					JsonArray breadcrumb = thirdNode.getJsonArray("breadcrumb");
+					assertEquals("The breadcrumb should contain the project base node, the root and the three levels.", 5, breadcrumb.size());
+					assertEquals(root.getUuid(), breadcrumb.getJsonObject(1).getString("uuid"));
+					assertEquals(firstNode.getString("uuid"), breadcrumb.getJsonObject(2).getString("uuid"));
+					assertEquals(secondNode.getString("uuid"), breadcrumb.getJsonObject(3).getString("uuid"));
+					assertEquals(thirdNode.getString("uuid"), breadcrumb.getJsonObject(4).getString("uuid"));
+				}
+			}
+		}
+		assertNull("No errors should be reported", json.getJsonArray("errors"));
+	}
+
+	@Test
+	public void testPermissionsOfBatch() {
+		NodeResponse hidden = secondLevel.get(0);
+		try (Tx tx = tx()) {
+			role().revokePermissions(project().getNodeRoot().findByUuid(hidden.getUuid()), READ_PERM, READ_PUBLISHED_PERM);
+			role().revokePermissions(folder("2015"), READ_PERM, READ_PUBLISHED_PERM);
+			tx.success();
+		}
+
+		JsonObject json = query();
+		JsonArray first = json.getJsonObject("data").getJsonObject("node").getJsonObject("children").getJsonArray("elements");
+		int secondLevelCount = 0;
+		for (Object firstItem : first) {
+			JsonObject firstNode = (JsonObject) firstItem;
+			assertNull("The reference to the node without permission should not be resolved.", firstNode.getJsonObject("fields").getJsonObject("ref"));
+			for (Object secondItem : firstNode.getJsonObject("children").getJsonArray("elements")) {
+				assertNotEquals(hidden.getUuid(), ((JsonObject) secondItem).getString("uuid"));
+				secondLevelCount++;
+			}
+		}
+		assertEquals("The child without permission should be filtered.", CHILDREN_PER_LEVEL * CHILDREN_PER_LEVEL - 1, secondLevelCount);
+
+		// Every unresolved reference of the three levels should be reported
+		int references = CHILDREN_PER_LEVEL + secondLevelCount + secondLevelCount * CHILDREN_PER_LEVEL;
+		JsonArray errors = json.getJsonArray("errors");
+		assertEquals(references, errors.size());
+		for (Object error : errors) {
+			JsonObject errorJson = (JsonObject) error;
+			assertEquals("missing_perm", errorJson.getString("type"));
+			assertEquals(targetUuid, errorJson.getString("elementId"));
+		}
+	}
+
+	private void assertReferences(JsonObject fields) {
+		assertEquals(targetUuid, fields.getJsonObject("ref").getString("uuid"));
+		JsonArray refs = fields.getJsonArray("refs");
+		assertEquals(2, refs.size());
+		assertEquals(targetUuid, refs.getJsonObject(0).getString("uuid"));
+		assertEquals(newsUuid, refs.getJsonObject(1).getString("uuid"));
+	}
+
+	private JsonObject query() {
+		GraphQLRequest request = new GraphQLRequest();
+		request.setQuery(QUERY);
+		request.setVariables(new JsonObject().put("uuid", root.getUuid()));
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, request));
+		return new JsonObject(response.toJson());
+	}
+
+	private NodeResponse createTestNode(String parentUuid, String slug) {
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setParentNode(new NodeReference().setUuid(parentUuid));
+		request.setSchema(new SchemaReferenceImpl().setName(SCHEMA_NAME));
+		request.setLanguage("en");
+		request.getFields().put("slug", createStringField(slug));
+		request.getFields().put("ref", createNodeField(targetUuid));
+		request.getFields().put("refs", createNodeListField(targetUuid, newsUuid));
+		return call(() -> client().createNode(PROJECT_NAME, request));
+	}
+}
@@ -15,6 +15,7 @@ import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
 import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.parameter.impl.GenericParametersImpl;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
@@ -48,6 +49,20 @@ public class GraphQLEndpointBasicTest extends AbstractMeshTest {
 		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
 	}
 
+	@Test
+	public void testCompactResponse() {
+		String body = client().graphqlQuery(PROJECT_NAME, "{me{firstname}}").getResponse().blockingGet().getBodyAsString();
+		assertEquals("{\"data\":{\"me\":{\"firstname\":\"Joe\"}}}", body);
+	}
+
+	@Test
+	public void testPrettyResponse() {
+		GenericParametersImpl parameters = new GenericParametersImpl();
+		parameters.setParameter("pretty", "true");
+		String body = client().graphqlQuery(PROJECT_NAME, "{me{firstname}}", parameters).getResponse().blockingGet().getBodyAsString();
+		assertEquals(new JsonObject().put("data", new JsonObject().put("me", new JsonObject().put("firstname", "Joe"))).encodePrettily(), body);
+	}
+
 	@Test
 	public void testEmptyQuery() throws Throwable {
 		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, ""));
@@ -13,7 +13,10 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
@@ -28,6 +31,8 @@ import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.field.impl.StringFieldImpl;
 import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
 import com.gentics.mesh.core.rest.user.NodeReference;
+import com.gentics.mesh.parameter.PagingParameters;
+import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
@@ -272,4 +277,50 @@ public class NodeChildrenEndpointTest extends AbstractMeshTest {
 	public void testReadBranchPublishedChildren() {
 		// TODO
 	}
+
+	@Test
+	public void testReadChildrenWithCursor() {
+		String uuid = tx(() -> project().getBaseNode().getUuid());
+		NodeListResponse allChildren = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new VersioningParametersImpl().draft()));
+		Set<String> expectedUuids = allChildren.getData().stream().map(NodeResponse::getUuid).collect(Collectors.toSet());
+		assertTrue("The base node should have multiple children", expectedUuids.size() > 1);
+
+		// Walk all pages using the cursor of the previous page
+		List<String> loadedUuids = new ArrayList<>();
+		String cursor = null;
+		do {
+			PagingParameters paging = new PagingParametersImpl().setPerPage(1L).setCursor(cursor);
+			NodeListResponse page = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, paging, new VersioningParametersImpl().draft()));
+			assertEquals(1, page.getData().size());
+			if (cursor != null) {
+				assertEquals("The elements should not be counted for cursor based paging", -1, page.getMetainfo().getTotalCount());
+			}
+			loadedUuids.add(page.getData().get(0).getUuid());
+			cursor = page.getMetainfo().getNextCursor();
+		} while (cursor != null);
+
+		assertEquals("Every child should be loaded exactly once", expectedUuids.size(), loadedUuids.size());
+		assertEquals(expectedUuids, new HashSet<>(loadedUuids));
+	}
+
+	@Test
+	public void testReadChildrenWithCursorOfDeletedNode() {
+		String uuid = tx(() -> project().getBaseNode().getUuid());
+		NodeListResponse allChildren = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new VersioningParametersImpl().draft()));
+		assertTrue("The base node should have multiple children", allChildren.getData().size() > 1);
+		NodeListResponse firstPage = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, new PagingParametersImpl().setPerPage(1L),
+			new VersioningParametersImpl().draft()));
+		String cursor = firstPage.getMetainfo().getNextCursor();
+		assertNotNull(cursor);
+
+		// Delete the element which is referenced by the cursor
+		call(() -> client().deleteNode(PROJECT_NAME, firstPage.getData().get(0).getUuid(), new DeleteParametersImpl().setRecursive(true)));
+
+		// The page should resume after the uuid of the deleted element
+		PagingParameters paging = new PagingParametersImpl().setPerPage(1L).setCursor(cursor);
+		NodeListResponse secondPage = call(() -> client().findNodeChildren(PROJECT_NAME, uuid, paging, new VersioningParametersImpl().draft()));
+		assertEquals(1, secondPage.getData().size());
+		assertEquals(allChildren.getData().get(1).getUuid(), secondPage.getData().get(0).getUuid());
+	}
+
 }
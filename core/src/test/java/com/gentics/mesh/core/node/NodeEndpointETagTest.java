@@ -1,5 +1,7 @@
 package com.gentics.mesh.core.node;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.ClientHelper.callETag;
 import static com.gentics.mesh.test.ClientHelper.callETagRaw;
@@ -174,4 +176,32 @@ public class NodeEndpointETagTest extends AbstractMeshTest {
 
 	}
 
+	@Test
+	public void testChildAndParentChanges() {
+		String parentUuid = tx(() -> folder("2015").getUuid());
+		String parentETag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, parentUuid));
+
+		// Add a child - The children of the parent changed
+		NodeResponse child = createNode();
+		String updatedParentETag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, parentUuid), parentETag, true, 200);
+		String childETag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, child.getUuid()));
+
+		// Rename the parent - The breadcrumb of the child changed
+		NodeResponse parent = call(() -> client().findNodeByUuid(PROJECT_NAME, parentUuid));
+		NodeUpdateRequest request = new NodeUpdateRequest();
+		request.setLanguage("en");
+		request.setVersion(parent.getVersion());
+		request.getFields().put("name", FieldUtil.createStringField("Renamed"));
+		call(() -> client().updateNode(PROJECT_NAME, parentUuid, request));
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, child.getUuid()), childETag, true, 200);
+		String renamedParentETag = callETag(() -> client().findNodeByUuid(PROJECT_NAME, parentUuid), updatedParentETag, true, 200);
+
+		// Revoke the read permission on the child - The child is no longer listed in the children of the parent
+		try (Tx tx = tx()) {
+			role().revokePermissions(project().getNodeRoot().findByUuid(child.getUuid()), READ_PERM, READ_PUBLISHED_PERM);
+			tx.success();
+		}
+		callETag(() -> client().findNodeByUuid(PROJECT_NAME, parentUuid), renamedParentETag, true, 200);
+	}
+
 }
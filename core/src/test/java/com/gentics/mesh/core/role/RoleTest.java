@@ -99,6 +99,21 @@ public class RoleTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testRoleUuidsOfDeletedRoleAreOmitted() {
+		try (Tx tx = tx()) {
+			Node node = folder("news");
+			Role role = meshRoot().getRoleRoot().create("deletedRole", user());
+			String uuid = role.getUuid();
+			role.grantPermissions(node, READ_PERM);
+			assertTrue(node.getRoleUuidsWithPerm(READ_PERM).contains(uuid));
+
+			role.delete(createBulkContext());
+			assertFalse("The uuid of the deleted role should be omitted", node.getRoleUuidsWithPerm(READ_PERM).contains(uuid));
+			assertTrue(node.getRoleUuidsWithPerm(READ_PERM).contains(role().getUuid()));
+		}
+	}
+
 	@Test
 	public void testIsPermitted() throws Exception {
 		try (Tx tx = tx()) {
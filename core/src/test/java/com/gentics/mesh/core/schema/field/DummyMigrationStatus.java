@@ -1,5 +1,8 @@
 package com.gentics.mesh.core.schema.field;
 
+import java.util.Collections;
+import java.util.Set;
+
 import com.gentics.mesh.core.data.branch.BranchVersionEdge;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.rest.job.JobStatus;
@@ -49,4 +52,19 @@ public class DummyMigrationStatus implements MigrationStatusHandler {
 	public void incCompleted() {
 
 	}
+
+	@Override
+	public void setTotalCount(long totalCount) {
+
+	}
+
+	@Override
+	public Set<String> getCompletedPartitions() {
+		return Collections.emptySet();
+	}
+
+	@Override
+	public void completePartition(String partition) {
+
+	}
 }
@@ -67,6 +67,32 @@ public class AuthenticationEndpointTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testRepeatedRequestsWithSameToken() {
+		String uuid = userUuid();
+		MeshRestClient client = MeshRestClient.create("localhost", port(), false);
+		client.setAPIKey(client().getAPIKey());
+
+		// The second request is authenticated via the cached principal
+		for (int i = 0; i < 2; i++) {
+			UserResponse me = call(() -> client.me());
+			assertEquals(uuid, me.getUuid());
+		}
+	}
+
+	@Test
+	public void testRepeatedRequestsWithSameAPIKey() {
+		String uuid = userUuid();
+		String apiKey = call(() -> client().issueAPIToken(uuid)).getToken();
+		MeshRestClient client = MeshRestClient.create("localhost", port(), false);
+		client.setAPIKey(apiKey);
+
+		for (int i = 0; i < 2; i++) {
+			UserResponse me = call(() -> client.me());
+			assertEquals(uuid, me.getUuid());
+		}
+	}
+
 	@Test
 	public void testDisableAnonymousAccess() {
 		client().logout();
@@ -135,6 +135,23 @@ public class LinkRendererTest extends AbstractMeshTest {
 		}
 	}
 
+	@Test
+	public void testRepeatedLinks() {
+		try (Tx tx = tx()) {
+			Node newsNode = content("news overview");
+			String uuid = newsNode.getUuid();
+			final String content = "<a href=\"{{mesh.link('" + uuid + "')}}\">1</a><a href=\"{{mesh.link(\\\"" + uuid
+				+ "\\\", 'en')}}\">2</a><a href=\"{{mesh.link('" + uuid + "')}}\">3</a>";
+			InternalActionContext ac = mockActionContext();
+			String replacedContent = replacer.replace(ac, project().getLatestBranch().getUuid(), ContainerType.DRAFT, content, LinkType.MEDIUM, null,
+					null);
+
+			String link = "/dummy/News/News%20Overview.en.html";
+			assertEquals("Check rendered content", "<a href=\"" + link + "\">1</a><a href=\"" + link + "\">2</a><a href=\"" + link + "\">3</a>",
+				replacedContent);
+		}
+	}
+
 	@Test
 	public void testAdjacentLinks() {
 		try (Tx tx = tx()) {
@@ -0,0 +1,118 @@
+package com.gentics.mesh.search.index;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.rest.MeshEvent.INDEX_SYNC_FINISHED;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.context.ElasticsearchTestMode.CONTAINER_ES6;
+import static com.gentics.mesh.test.context.MeshTestHelper.getSimpleTermQuery;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.group.GroupListResponse;
+import com.gentics.mesh.core.rest.search.EntityMetrics;
+import com.gentics.mesh.search.verticle.eventhandler.SyncEventHandler;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshOptionChanger;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+/**
+ * Test the incremental sync of elasticsearch.
+ */
+@MeshTestSetting(elasticsearch = CONTAINER_ES6, testSize = TestSize.FULL, startServer = true, optionChanger = MeshOptionChanger.INCREMENTAL_SYNC)
+public class IncrementalIndexSyncTest extends AbstractMeshTest {
+
+	@Before
+	public void setup() throws Exception {
+		getProvider().clear().blockingAwait();
+		// The checkpoints are cleared as well. The first sync will thus use the full diff.
+		syncIndex(false);
+	}
+
+	@Test
+	public void testEditedElementIsSynced() {
+		tx(() -> {
+			group().setName("updated");
+			group().setLastEditedTimestamp();
+		});
+		syncIndex(false);
+		assertFound("updated", 1);
+	}
+
+	@Test
+	public void testUneditedElementIsOnlySyncedByDeepSync() {
+		// The change resets the change marker and can thus not be detected by the incremental sync
+		tx(() -> {
+			group().setName("updated");
+			group().setLastEditedTimestamp(0);
+		});
+		syncIndex(false);
+		assertFound("updated", 0);
+
+		syncIndex(true);
+		assertFound("updated", 1);
+		assertMetrics("group", 0, 1, 0);
+	}
+
+	@Test
+	public void testPermissionChangeIsSynced() {
+		// Permission changes do not update the edit timestamp but change the documents
+		tx(() -> {
+			role().revokePermissions(group(), READ_PERM);
+		});
+		syncIndex(false);
+		assertMetrics("group", 0, 1, 0);
+	}
+
+	@Test
+	public void testDeletionIsDetected() {
+		tx(() -> {
+			boot().groupRoot().create("incremental_delete", user(), null);
+		});
+		syncIndex(false);
+
+		tx(() -> {
+			boot().groupRoot().findByName("incremental_delete").getElement().remove();
+		});
+		syncIndex(false);
+		assertFound("incremental_delete", 0);
+		assertMetrics("group", 0, 0, 1);
+	}
+
+	@Test
+	public void testDeletionWithCreationIsDetected() {
+		tx(() -> {
+			boot().groupRoot().create("incremental_delete", user(), null);
+		});
+		syncIndex(false);
+
+		// The amount of groups does not change. The deletion must still be detected.
+		tx(() -> {
+			boot().groupRoot().findByName("incremental_delete").getElement().remove();
+			boot().groupRoot().create("incremental_create", user(), null);
+		});
+		syncIndex(false);
+		assertFound("incremental_delete", 0);
+		assertFound("incremental_create", 1);
+		assertMetrics("group", 1, 0, 1);
+	}
+
+	private void assertFound(String groupName, int expectedCount) {
+		GroupListResponse response = call(() -> client().searchGroups(getSimpleTermQuery("name.raw", groupName)));
+		assertEquals("Unexpected search result for group {" + groupName + "}", expectedCount, response.getData().size());
+	}
+
+	private void assertMetrics(String type, long inserted, long updated, long deleted) {
+		EntityMetrics entityMetrics = call(() -> client().searchStatus()).getMetrics().get(type);
+		assertEquals(inserted, entityMetrics.getInsert().getSynced().longValue());
+		assertEquals(updated, entityMetrics.getUpdate().getSynced().longValue());
+		assertEquals(deleted, entityMetrics.getDelete().getSynced().longValue());
+	}
+
+	private void syncIndex(boolean deep) {
+		waitForEvent(INDEX_SYNC_FINISHED, () -> SyncEventHandler.invokeSync(vertx(), deep));
+		refreshIndices();
+	}
+}
@@ -18,6 +18,8 @@ public enum MeshOptionChanger {
 		options.getSearchOptions().setIncludeBinaryFields(false);
 	}), INITIAL_ADMIN_PASSWORD(options -> {
 		options.setInitialAdminPassword("debug99");
+	}), INCREMENTAL_SYNC(options -> {
+		options.getSearchOptions().setIncrementalSync(true);
 	}), ES_STRICT_MODE(options -> {
 		options.getSearchOptions().setMappingMode(MappingMode.STRICT);
 	}), RANDOM_ES_PORT(options -> {
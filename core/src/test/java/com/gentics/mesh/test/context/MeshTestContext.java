@@ -450,6 +450,9 @@ public class MeshTestContext extends TestWatcher {
 			FileUtils.deleteDirectory(folder);
 		}
 		meshDagger.permissionCache().clear(false);
+		meshDagger.principalCache().clear();
+		// The indices are cleared directly via the search provider
+		meshDagger.documentChangeDetector().clear();
 	}
 
 	public TestDataProvider getData() {
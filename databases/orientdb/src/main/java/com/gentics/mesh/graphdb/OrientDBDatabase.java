@@ -4,7 +4,9 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.metric.SimpleMetric.COMMIT_TIME;
 import static com.gentics.mesh.metric.SimpleMetric.TOPOLOGY_LOCK_TIMEOUT_COUNT;
 import static com.gentics.mesh.metric.SimpleMetric.TOPOLOGY_LOCK_WAITING_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.TX_CONFLICT;
 import static com.gentics.mesh.metric.SimpleMetric.TX_RETRY;
+import static com.gentics.mesh.metric.SimpleMetric.TX_RETRY_BUDGET_EXHAUSTED;
 import static com.gentics.mesh.metric.SimpleMetric.TX_TIME;
 import static com.gentics.mesh.util.StreamUtil.toStream;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
@@ -13,6 +15,8 @@ import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERR
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -44,6 +48,7 @@ import com.gentics.mesh.graphdb.model.MeshElement;
 import com.gentics.mesh.graphdb.spi.AbstractDatabase;
 import com.gentics.mesh.graphdb.spi.GraphStorage;
 import com.gentics.mesh.graphdb.tx.OrientStorage;
+import com.gentics.mesh.graphdb.tx.TxRetryPolicy;
 import com.gentics.mesh.graphdb.tx.impl.OrientLocalStorageImpl;
 import com.gentics.mesh.graphdb.tx.impl.OrientServerStorageImpl;
 import com.gentics.mesh.madl.frame.VertexFrame;
@@ -55,8 +60,13 @@ import com.orientechnologies.common.concur.ONeedRetryException;
 import com.orientechnologies.orient.core.OConstants;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
 import com.orientechnologies.orient.core.exception.OSchemaException;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.storage.ORecordDuplicatedException;
 import com.orientechnologies.orient.server.distributed.ODistributedConfiguration;
 import com.orientechnologies.orient.server.distributed.ODistributedConfiguration.ROLES;
@@ -81,6 +91,7 @@ import com.tinkerpop.pipes.util.FastNoSuchElementException;
 import dagger.Lazy;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
+import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -101,10 +112,20 @@ public class OrientDBDatabase extends AbstractDatabase {
 
 	private MetricsService metrics;
 
-	private Timer txTimer;
+	private Timer txSuccessTimer;
+
+	private Timer txRetryTimer;
+
+	private Timer txFailTimer;
 
 	private Counter txRetryCounter;
 
+	private Counter txRetryBudgetExhaustedCounter;
+
+	private TxRetryPolicy retryPolicy;
+
+	private final Map<Integer, String> conflictTypes = new ConcurrentHashMap<>();
+
 	private OrientDBIndexHandler indexHandler;
 
 	private OrientDBTypeHandler typeHandler;
@@ -137,8 +158,11 @@ public class OrientDBDatabase extends AbstractDatabase {
 		this.boot = boot;
 		this.metrics = metrics;
 		if (metrics != null) {
-			txTimer = metrics.timer(TX_TIME);
+			txSuccessTimer = metrics.timer(TX_TIME, "outcome", "success");
+			txRetryTimer = metrics.timer(TX_TIME, "outcome", "retry");
+			txFailTimer = metrics.timer(TX_TIME, "outcome", "fail");
 			txRetryCounter = metrics.counter(TX_RETRY);
+			txRetryBudgetExhaustedCounter = metrics.counter(TX_RETRY_BUDGET_EXHAUSTED);
 			topologyLockTimer = metrics.timer(TOPOLOGY_LOCK_WAITING_TIME);
 			topologyLockTimeoutCounter = metrics.counter(TOPOLOGY_LOCK_TIMEOUT_COUNT);
 			commitTimer = metrics.timer(COMMIT_TIME);
@@ -197,6 +221,8 @@ public class OrientDBDatabase extends AbstractDatabase {
 		// resolver = new OrientDBTypeResolver(basePaths);
 		resolver = new MeshTypeResolver(basePaths);
 
+		retryPolicy = new TxRetryPolicy(storageOptions.getTxRetryDelay(), storageOptions.getTxRetryMaxDelay(), storageOptions.getTxRetryBudgetRatio());
+
 		if (storageOptions.getTxCommitTimeout() != 0) {
 			startTxCleanupTask();
 		}
@@ -406,67 +432,123 @@ public class OrientDBDatabase extends AbstractDatabase {
 		 * OrientDB uses the MVCC pattern which requires a retry of the code that manipulates the graph in cases where for example an
 		 * {@link OConcurrentModificationException} is thrown.
 		 */
-		T handlerResult = null;
-		boolean handlerFinished = false;
 		int maxRetry = options.getStorageOptions().getTxRetryLimit();
 		for (int retry = 0; retry < maxRetry; retry++) {
 			Timer.Sample sample = Timer.start();
 			// Check the status to prevent transactions during shutdown
 			checkStatus();
+			T handlerResult;
 			try (Tx tx = tx()) {
 				handlerResult = txHandler.handle(tx);
-				handlerFinished = true;
 				tx.success();
 			} catch (OSchemaException e) {
+				sample.stop(txRetryTimer);
 				log.error("OrientDB schema exception detected.");
 				// TODO maybe we should invoke a metadata getschema reload?
 				// factory.getTx().getRawGraph().getMetadata().getSchema().reload();
 				// Database.getThreadLocalGraph().getMetadata().getSchema().reload();
+				continue;
 			} catch (InterruptedException | ONeedRetryException | FastNoSuchElementException e) {
+				sample.stop(txRetryTimer);
 				if (log.isTraceEnabled()) {
 					log.trace("Error while handling transaction. Retrying " + retry, e);
 				}
-				int delay = options.getStorageOptions().getTxRetryDelay();
-				if (retry > 0 && delay > 0) {
-					try {
-						Thread.sleep(delay);
-					} catch (InterruptedException e1) {
-						e1.printStackTrace();
+				if (e instanceof ONeedRetryException && metrics.isEnabled()) {
+					metrics.counter(TX_CONFLICT, "type", getConflictType((ONeedRetryException) e)).increment();
+				}
+				if (retry + 1 < maxRetry) {
+					if (!retryPolicy.tryRetry(retry + 1)) {
+						if (metrics.isEnabled()) {
+							txRetryBudgetExhaustedCounter.increment();
+						}
+						throw new RuntimeException("Retry budget for trx exhausted", e);
+					}
+					if (log.isDebugEnabled()) {
+						log.debug("Retrying .. {" + retry + "}");
 					}
+					if (metrics.isEnabled()) {
+						txRetryCounter.increment();
+					}
+					backoff(retry + 1);
 				}
-				// Reset previous result
-				handlerFinished = false;
-				handlerResult = null;
+				continue;
 			} catch (ORecordDuplicatedException e) {
+				sample.stop(txFailTimer);
 				log.error(e);
 				throw error(INTERNAL_SERVER_ERROR, "error_internal");
 			} catch (GenericRestException e) {
+				sample.stop(txFailTimer);
 				// Don't log. Just throw it along so that others can handle it
 				throw e;
 			} catch (RuntimeException e) {
+				sample.stop(txFailTimer);
 				if (log.isDebugEnabled()) {
 					log.debug("Error handling transaction", e);
 				}
 				throw e;
 			} catch (Exception e) {
+				sample.stop(txFailTimer);
 				if (log.isDebugEnabled()) {
 					log.debug("Error handling transaction", e);
 				}
 				throw new RuntimeException("Transaction error", e);
-			} finally {
-				sample.stop(txTimer);
 			}
-			if (!handlerFinished && log.isDebugEnabled()) {
-				log.debug("Retrying .. {" + retry + "}");
-				if (metrics.isEnabled()) {
-					txRetryCounter.increment();
-				}
+			sample.stop(txSuccessTimer);
+			retryPolicy.onSuccess();
+			return handlerResult;
+		}
+		throw new RuntimeException("Retry limit {" + maxRetry + "} for trx exceeded");
+	}
+
+	/**
+	 * Wait before the given retry of a transaction. The delay is randomized so that conflicting transactions don't retry in lockstep. Event loop threads
+	 * must never be blocked, thus transactions on those threads are retried without delay.
+	 *
+	 * @param retry
+	 */
+	private void backoff(int retry) {
+		if (Context.isOnEventLoopThread()) {
+			return;
+		}
+		long delay = retryPolicy.delay(retry);
+		if (delay > 0) {
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Return the name of the vertex class of the record which caused the conflict.
+	 *
+	 * @param e
+	 * @return
+	 */
+	private String getConflictType(ONeedRetryException e) {
+		if (e instanceof OConcurrentModificationException) {
+			ORID rid = ((OConcurrentModificationException) e).getRid();
+			if (rid != null) {
+				return conflictTypes.computeIfAbsent(rid.getClusterId(), this::getClassNameForCluster);
 			}
-			if (handlerFinished) {
-				return handlerResult;
+		}
+		return "unknown";
+	}
+
+	private String getClassNameForCluster(int clusterId) {
+		// The lookup must not replace the database of an outer transaction of this thread
+		ODatabaseDocumentInternal current = ODatabaseRecordThreadLocal.instance().getIfDefined();
+		OrientGraphNoTx noTx = txProvider.rawNoTx();
+		try {
+			OClass clazz = noTx.getRawGraph().getMetadata().getImmutableSchemaSnapshot().getClassByClusterId(clusterId);
+			return clazz == null ? "unknown" : clazz.getName();
+		} finally {
+			noTx.shutdown();
+			if (current != null) {
+				ODatabaseRecordThreadLocal.instance().set(current);
 			}
 		}
-		throw new RuntimeException("Retry limit {" + maxRetry + "} for trx exceeded");
 	}
 
 	private void checkStatus() {
@@ -510,6 +592,14 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return ETag.hash(uuid + e.getRecord().getVersion());
 	}
 
+	@Override
+	public boolean isNewElement(Element element) {
+		if (element instanceof WrappedVertex) {
+			element = ((WrappedVertex) element).getBaseElement();
+		}
+		return ((OrientElement) element).getIdentity().isNew();
+	}
+
 	@Override
 	public String getVendorName() {
 		return "orientdb";
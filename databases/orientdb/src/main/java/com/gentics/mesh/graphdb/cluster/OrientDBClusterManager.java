@@ -16,7 +16,6 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 
 import javax.inject.Inject;
@@ -39,7 +38,6 @@ import com.gentics.mesh.graphdb.OrientDBDatabase;
 import com.gentics.mesh.util.DateUtils;
 import com.gentics.mesh.util.PropertyUtil;
 import com.hazelcast.core.HazelcastInstance;
-import com.hazelcast.core.ILock;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.server.OServer;
 import com.orientechnologies.orient.server.OServerMain;
@@ -396,10 +394,9 @@ public class OrientDBClusterManager implements ClusterManager {
 		OServerConfiguration serverConfig = serverConfigManager.getConfiguration();
 
 		startHazelcast(serverConfig);
-		ILock lock = null;
+		WriteLock lock = null;
 		long lockTimeout = clusterOptions.getTopologyLockTimeout();
 		if (isClusteringEnabled) {
-			lock = hazelcastInstance.getLock(WriteLock.GLOBAL_LOCK_KEY);
 			Thread.sleep(4000);
 		}
 		if (server == null) {
@@ -411,12 +408,13 @@ public class OrientDBClusterManager implements ClusterManager {
 		server.startup(getOrientServerConfig());
 
 		try {
-			if (lock != null) {
-				boolean isTimeout = !lock.tryLock(lockTimeout, TimeUnit.MILLISECONDS);
-				Thread.sleep(4000);
-				if (isTimeout) {
+			if (isClusteringEnabled) {
+				try {
+					lock = db.get().writeLock().lockGlobal(lockTimeout);
+				} catch (RuntimeException e) {
 					log.warn("The topology lock for the pending server startup reached the timeout limit.");
 				}
+				Thread.sleep(4000);
 				if (log.isDebugEnabled()) {
 					log.debug("Locking global write lock due to server startup.");
 				}
@@ -428,9 +426,7 @@ public class OrientDBClusterManager implements ClusterManager {
 					log.debug("Unlocking global write lock after server startup.");
 				}
 				Thread.sleep(8000);
-				if (lock.isLockedByCurrentThread()) {
-					lock.unlock();
-				}
+				lock.close();
 			}
 		}
 	}
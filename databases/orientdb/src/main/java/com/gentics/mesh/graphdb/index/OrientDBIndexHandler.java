@@ -2,10 +2,15 @@ package com.gentics.mesh.graphdb.index;
 
 import static com.gentics.mesh.graphdb.FieldTypeMapper.toSubType;
 import static com.gentics.mesh.graphdb.FieldTypeMapper.toType;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -15,6 +20,7 @@ import org.apache.commons.lang3.StringUtils;
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.PersistenceClassMap;
+import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.graphdb.OrientDBDatabase;
 import com.gentics.mesh.madl.field.FieldMap;
 import com.gentics.mesh.madl.field.FieldType;
@@ -22,6 +28,7 @@ import com.gentics.mesh.madl.index.EdgeIndexDefinition;
 import com.gentics.mesh.madl.index.ElementIndexDefinition;
 import com.gentics.mesh.madl.index.VertexIndexDefinition;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.index.OCompositeKey;
 import com.orientechnologies.orient.core.index.OIndex;
 import com.orientechnologies.orient.core.index.OIndexCursor;
@@ -52,6 +59,8 @@ public class OrientDBIndexHandler implements IndexHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(OrientDBIndexHandler.class);
 
+	private static final String OUT_IN_POSTFIX = "outin";
+
 	private final Lazy<OrientDBDatabase> db;
 
 	private final PersistenceClassMap persistenceClassMap;
@@ -149,6 +158,146 @@ public class OrientDBIndexHandler implements IndexHandler {
 		return ids;
 	}
 
+	@Override
+	public Iterator<Object> edgeRangeLookup(String edgeLabel, Object outId, Object afterInId) {
+		OrientBaseGraph orientBaseGraph = db.get().unwrapCurrentGraph();
+		OrientEdgeType edgeType = orientBaseGraph.getEdgeType(edgeLabel);
+		if (edgeType == null) {
+			return null;
+		}
+		OIndex<?> index = edgeType.getClassIndex("e." + edgeLabel.toLowerCase() + "_" + OUT_IN_POSTFIX);
+		if (index == null) {
+			return null;
+		}
+
+		// Iterate over the sb-tree index entries which are sorted by the out and in vertex ids
+		OIndexCursor cursor;
+		if (afterInId == null) {
+			cursor = index.iterateEntriesMajor(new OCompositeKey(outId), true, true);
+		} else {
+			ORecordId after;
+			try {
+				after = new ORecordId(afterInId.toString());
+			} catch (IllegalArgumentException e) {
+				throw new GenericRestException(BAD_REQUEST, "error_invalid_paging_cursor", afterInId.toString());
+			}
+			cursor = index.iterateEntriesMajor(new OCompositeKey(outId, after), false, true);
+		}
+
+		return new Iterator<Object>() {
+
+			private Object next = fetchNext();
+
+			private Object fetchNext() {
+				if (!cursor.hasNext()) {
+					return null;
+				}
+				Entry<Object, OIdentifiable> entry = cursor.nextEntry();
+				if (entry == null) {
+					return null;
+				}
+				OCompositeKey entryKey = (OCompositeKey) entry.getKey();
+				// Stop once the entries of the next out vertex are reached
+				if (!entryKey.getKeys().get(0).equals(outId)) {
+					return null;
+				}
+				return entryKey.getKeys().get(1);
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public Object next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				Object current = next;
+				next = fetchNext();
+				return current;
+			}
+		};
+	}
+
+	@Override
+	public Iterator<Entry<Object, Object>> vertexRangeLookup(Class<? extends VertexFrame> clazz, String indexPostfix, Object[] keys, Object after,
+		Object to) {
+		Class<?> foundImpl = persistenceClassMap.get(clazz);
+		String type = foundImpl != null ? foundImpl.getSimpleName() : clazz.getSimpleName();
+		OrientBaseGraph orientBaseGraph = db.get().unwrapCurrentGraph();
+		OrientVertexType vertexType = orientBaseGraph.getVertexType(type);
+		if (vertexType == null) {
+			return null;
+		}
+		OIndex<?> index = vertexType.getClassIndex(type + "_" + indexPostfix);
+		if (index == null || index.getType().contains("HASH")) {
+			return null;
+		}
+
+		// Iterate over the sb-tree index entries which are sorted by the leading keys and the sort key
+		OIndexCursor cursor;
+		if (keys.length == 0) {
+			// Single field indices use the plain sort key
+			cursor = after == null ? index.cursor() : index.iterateEntriesMajor(after, false, true);
+		} else {
+			List<Object> startKey = new ArrayList<>(Arrays.asList(keys));
+			if (after != null) {
+				startKey.add(after);
+			}
+			cursor = index.iterateEntriesMajor(new OCompositeKey(startKey), after == null, true);
+		}
+
+		return new Iterator<Entry<Object, Object>>() {
+
+			private Entry<Object, Object> next = fetchNext();
+
+			@SuppressWarnings("unchecked")
+			private Entry<Object, Object> fetchNext() {
+				if (!cursor.hasNext()) {
+					return null;
+				}
+				Entry<Object, OIdentifiable> entry = cursor.nextEntry();
+				if (entry == null) {
+					return null;
+				}
+				Object sortKey;
+				if (keys.length == 0) {
+					sortKey = entry.getKey();
+				} else {
+					List<Object> entryKeys = ((OCompositeKey) entry.getKey()).getKeys();
+					// Stop once the entries of the next leading keys are reached
+					for (int i = 0; i < keys.length; i++) {
+						if (!entryKeys.get(i).equals(keys[i])) {
+							return null;
+						}
+					}
+					sortKey = entryKeys.get(keys.length);
+				}
+				if (to != null && ((Comparable<Object>) sortKey).compareTo(to) >= 0) {
+					return null;
+				}
+				return new AbstractMap.SimpleImmutableEntry<>(sortKey, entry.getValue().getIdentity());
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public Entry<Object, Object> next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				Entry<Object, Object> current = next;
+				next = fetchNext();
+				return current;
+			}
+		};
+	}
+
 	@Override
 	public void removeVertexIndex(String indexName, Class<? extends VertexFrame> clazz) {
 		if (log.isDebugEnabled()) {
@@ -262,6 +411,7 @@ public class OrientDBIndexHandler implements IndexHandler {
 		boolean includeIn = def.isIncludeIn();
 		boolean includeOut = def.isIncludeOut();
 		boolean includeInOut = def.isIncludeInOut();
+		boolean includeOutIn = def.isIncludeOutIn();
 		String[] extraFields = {};
 
 		OrientGraphNoTx noTx = db.get().getTxProvider().rawNoTx();
@@ -288,10 +438,10 @@ public class OrientDBIndexHandler implements IndexHandler {
 				}
 			}
 
-			if ((includeIn || includeInOut) && e.getProperty("in") == null) {
+			if ((includeIn || includeInOut || includeOutIn) && e.getProperty("in") == null) {
 				e.createProperty("in", OType.LINK);
 			}
-			if ((includeOut || includeInOut) && e.getProperty("out") == null) {
+			if ((includeOut || includeInOut || includeOutIn) && e.getProperty("out") == null) {
 				e.createProperty("out", OType.LINK);
 			}
 			for (String key : extraFields) {
@@ -306,6 +456,10 @@ public class OrientDBIndexHandler implements IndexHandler {
 			if (includeInOut && e.getClassIndex(name) == null) {
 				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE, new String[] { "in", "out" });
 			}
+			name = indexName + "_" + OUT_IN_POSTFIX;
+			if (includeOutIn && e.getClassIndex(name) == null) {
+				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE, new String[] { "out", "in" });
+			}
 			name = indexName + "_out";
 			if (includeOut && e.getClassIndex(name) == null) {
 				e.createIndex(name, OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX, new String[] { "out" });
@@ -377,8 +531,13 @@ public class OrientDBIndexHandler implements IndexHandler {
 
 			if (fields != null && fields.size() != 0 && v.getClassIndex(indexName) == null) {
 				String[] fieldArray = fields.keySet().stream().toArray(String[]::new);
-				v.createIndex(indexName, unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX.toString() : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX.toString(),
-					null, new ODocument().fields("ignoreNullValues", true), fieldArray);
+				OClass.INDEX_TYPE indexType;
+				if (def.isSorted()) {
+					indexType = unique ? OClass.INDEX_TYPE.UNIQUE : OClass.INDEX_TYPE.NOTUNIQUE;
+				} else {
+					indexType = unique ? OClass.INDEX_TYPE.UNIQUE_HASH_INDEX : OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX;
+				}
+				v.createIndex(indexName, indexType.toString(), null, new ODocument().fields("ignoreNullValues", true), fieldArray);
 			}
 		} finally {
 			noTx.shutdown();
@@ -0,0 +1,116 @@
+package com.gentics.mesh.graphdb.tx;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Policy which decides whether and when a conflicting transaction should be retried.
+ *
+ * The delay between the retries grows exponentially and is randomized so that conflicting threads don't retry in lockstep. The retries are limited by a
+ * shared budget: Each further retry consumes a token and each successful transaction earns a fraction of a token. Further retries are only permitted while
+ * more than half of the tokens are available. Thus sustained contention does not multiply the load on the database. The first retry of a transaction is
+ * always permitted. The budget is tracked lock-free in thousandths of a token.
+ */
+public class TxRetryPolicy {
+
+	/**
+	 * Maximum amount of tokens in the retry budget.
+	 */
+	public static final int MAX_TOKENS = 100;
+
+	private static final long TOKEN_SCALE = 1000;
+
+	private static final long MAX_MILLI_TOKENS = MAX_TOKENS * TOKEN_SCALE;
+
+	private final int baseDelay;
+
+	private final int maxDelay;
+
+	private final double tokenRatio;
+
+	private final long milliTokenRatio;
+
+	private final AtomicLong milliTokens = new AtomicLong(MAX_MILLI_TOKENS);
+
+	/**
+	 * Create a new policy.
+	 *
+	 * @param baseDelay
+	 *            Delay in milliseconds of the first retry
+	 * @param maxDelay
+	 *            Upper limit for the delay in milliseconds
+	 * @param tokenRatio
+	 *            Amount of tokens which are earned by a successful transaction. A ratio of zero or below disables the budget.
+	 */
+	public TxRetryPolicy(int baseDelay, int maxDelay, double tokenRatio) {
+		this.baseDelay = baseDelay;
+		this.maxDelay = Math.max(baseDelay, maxDelay);
+		this.tokenRatio = tokenRatio;
+		this.milliTokenRatio = Math.max(1, Math.round(tokenRatio * TOKEN_SCALE));
+	}
+
+	/**
+	 * Record a successful transaction.
+	 */
+	public void onSuccess() {
+		if (tokenRatio <= 0) {
+			return;
+		}
+		long current;
+		do {
+			current = milliTokens.get();
+			// Don't write to the shared counter while the budget is full, which is the common case.
+			if (current >= MAX_MILLI_TOKENS) {
+				return;
+			}
+		} while (!milliTokens.compareAndSet(current, Math.min(MAX_MILLI_TOKENS, current + milliTokenRatio)));
+	}
+
+	/**
+	 * Try to consume a token of the budget for a retry. The first retry of a transaction is always permitted and does not consume a token. A token is only
+	 * consumed if the retry is permitted.
+	 *
+	 * @param retry
+	 *            Number of the retry, starting with 1
+	 * @return false if the budget is exhausted and the transaction must not be retried
+	 */
+	public boolean tryRetry(int retry) {
+		if (tokenRatio <= 0 || retry <= 1) {
+			return true;
+		}
+		long current;
+		do {
+			current = milliTokens.get();
+			if (current - TOKEN_SCALE <= MAX_MILLI_TOKENS / 2) {
+				return false;
+			}
+		} while (!milliTokens.compareAndSet(current, current - TOKEN_SCALE));
+		return true;
+	}
+
+	/**
+	 * Return the randomized delay in milliseconds for the given retry. The delay is chosen from the range between zero and the exponentially growing upper
+	 * bound.
+	 *
+	 * @param retry
+	 *            Number of the retry, starting with 1
+	 * @return
+	 */
+	public long delay(int retry) {
+		if (baseDelay <= 0) {
+			return 0;
+		}
+		long bound = (long) baseDelay << Math.min(Math.max(retry - 1, 0), 20);
+		bound = Math.min(bound, maxDelay);
+		return ThreadLocalRandom.current().nextLong(bound + 1);
+	}
+
+	/**
+	 * Return the current amount of tokens in the budget.
+	 *
+	 * @return
+	 */
+	public double getTokens() {
+		return (double) milliTokens.get() / TOKEN_SCALE;
+	}
+}
@@ -32,6 +32,11 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 
 	boolean isWrapped = false;
 
+	/**
+	 * Outer transaction which is wrapped by this transaction or null if the transaction is not wrapped.
+	 */
+	private Tx outerTx;
+
 	private final TypeResolver typeResolver;
 
 	private final Timer commitTimer;
@@ -47,6 +52,7 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 		Tx activeTx = Tx.get();
 		if (activeTx != null) {
 			isWrapped = true;
+			outerTx = activeTx;
 			init(activeTx.getGraph());
 		} else {
 			DelegatingFramedOrientGraph transaction = new DelegatingFramedOrientGraph((OrientGraph) provider.rawTx(), typeResolver);
@@ -84,10 +90,21 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 				// Restore the old graph that was previously swapped with the current graph
 				getGraph().shutdown();
 				Tx.setActive(null);
+				runCompletionActions();
 			}
 		}
 	}
 
+	@Override
+	public void onCompletion(Runnable action) {
+		// The changes of wrapped transactions are committed by the outer transaction
+		if (isWrapped) {
+			outerTx.onCompletion(action);
+		} else {
+			super.onCompletion(action);
+		}
+	}
+
 	@Override
 	public <T extends RawTraversalResult<?>> T traversal(Function<GraphTraversalSource, GraphTraversal<?, ?>> traverser) {
 		return (T) new RawTraversalResultImpl(traverser.apply(rawTraverse()), typeResolver);
@@ -0,0 +1,106 @@
+package com.gentics.mesh.graphdb.orientdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.gentics.mesh.graphdb.tx.TxRetryPolicy;
+
+public class TxRetryPolicyTest {
+
+	@Test
+	public void testDelayBounds() {
+		TxRetryPolicy policy = new TxRetryPolicy(10, 100, 0.1);
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(policy.delay(1) <= 10);
+			assertTrue(policy.delay(3) <= 40);
+			assertTrue(policy.delay(10) <= 100);
+			assertTrue(policy.delay(64) <= 100);
+		}
+	}
+
+	@Test
+	public void testNoDelay() {
+		TxRetryPolicy policy = new TxRetryPolicy(0, 100, 0.1);
+		assertEquals(0, policy.delay(5));
+	}
+
+	@Test
+	public void testBudget() {
+		TxRetryPolicy policy = new TxRetryPolicy(10, 100, 0.5);
+		for (int i = 0; i < TxRetryPolicy.MAX_TOKENS / 2 - 1; i++) {
+			assertTrue("Retry " + i + " should be permitted", policy.tryRetry(2));
+		}
+		assertFalse("The budget should be exhausted", policy.tryRetry(2));
+
+		// Successful transactions refill the budget
+		for (int i = 0; i < 4; i++) {
+			policy.onSuccess();
+		}
+		assertTrue(policy.tryRetry(2));
+	}
+
+	@Test
+	public void testRefusedRetryKeepsBudget() {
+		TxRetryPolicy policy = new TxRetryPolicy(10, 100, 0.5);
+		while (policy.tryRetry(2)) {
+		}
+		double tokens = policy.getTokens();
+		for (int i = 0; i < 10; i++) {
+			assertFalse(policy.tryRetry(2));
+		}
+		assertEquals(tokens, policy.getTokens(), 0);
+
+		// A single earned token permits a retry again
+		policy.onSuccess();
+		policy.onSuccess();
+		assertTrue(policy.tryRetry(2));
+	}
+
+	@Test
+	public void testFirstRetryIsAlwaysPermitted() {
+		TxRetryPolicy policy = new TxRetryPolicy(10, 100, 0.5);
+		while (policy.tryRetry(2)) {
+		}
+		double tokens = policy.getTokens();
+		assertTrue(policy.tryRetry(1));
+		assertEquals("The first retry must not consume a token", tokens, policy.getTokens(), 0);
+	}
+
+	@Test
+	public void testConcurrentRetries() throws InterruptedException {
+		TxRetryPolicy policy = new TxRetryPolicy(10, 100, 0.5);
+		AtomicInteger permitted = new AtomicInteger();
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			Thread thread = new Thread(() -> {
+				for (int i = 0; i < 100; i++) {
+					if (policy.tryRetry(2)) {
+						permitted.incrementAndGet();
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals("Concurrent retries must not overdraw the budget", TxRetryPolicy.MAX_TOKENS / 2 - 1, permitted.get());
+	}
+
+	@Test
+	public void testDisabledBudget() {
+		TxRetryPolicy policy = new TxRetryPolicy(10, 100, 0);
+		for (int i = 0; i < TxRetryPolicy.MAX_TOKENS * 2; i++) {
+			assertTrue(policy.tryRetry(2));
+		}
+	}
+
+}
@@ -15,6 +15,7 @@ import javax.naming.InvalidNameException;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.event.MeshEventEnvelope;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.router.RouterStorage;
 import com.gentics.mesh.router.RouterStorageRegistry;
@@ -73,17 +74,20 @@ public class DistributedEventManager {
 		// Register for events which are send whenever the permission store must be invalidated.
 		eb.consumer(CLEAR_PERMISSION_STORE.address, handler -> {
 			log.debug("Received permissionstore clear event");
-			permCache.get().clear(false);
+			// Targeted invalidations carry a body and are handled by the permission cache itself
+			if (handler.body() == null) {
+				permCache.get().clear(false);
+			}
 		});
 
 		// React on project creates
-		eb.consumer(Project.TYPE_INFO.getOnCreated().getAddress(), (Message<JsonObject> handler) -> {
+		MeshEventEnvelope.consumer(eb, Project.TYPE_INFO.getOnCreated(), (Message<JsonObject> handler) -> {
 			log.info("Received project create event");
 			handleClusterTopologyUpdate(handler);
 		});
 
 		// React on project updates
-		eb.consumer(Project.TYPE_INFO.getOnUpdated().getAddress(), (Message<JsonObject> handler) -> {
+		MeshEventEnvelope.consumer(eb, Project.TYPE_INFO.getOnUpdated(), (Message<JsonObject> handler) -> {
 			log.info("Received project update event.");
 			handleClusterTopologyUpdate(handler);
 		});
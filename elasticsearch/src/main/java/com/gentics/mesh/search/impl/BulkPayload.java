@@ -0,0 +1,42 @@
+package com.gentics.mesh.search.impl;
+
+import java.util.Collection;
+
+import com.gentics.mesh.core.data.search.request.Bulkable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Builder for the newline delimited JSON payload of Elasticsearch bulk requests. The requests are written directly into a single pooled buffer.
+ */
+public final class BulkPayload {
+
+	private BulkPayload() {
+	}
+
+	/**
+	 * Encode the given requests. The buffer is sized by the {@link Bulkable#bulkLength()} of the requests so that it does not need to grow while writing.
+	 * The caller must release the returned buffer.
+	 *
+	 * @param entries
+	 * @return Pooled buffer which contains the payload
+	 */
+	public static ByteBuf encode(Collection<? extends Bulkable> entries) {
+		long length = 0;
+		for (Bulkable entry : entries) {
+			length += entry.bulkLength();
+		}
+		ByteBuf buffer = PooledByteBufAllocator.DEFAULT.heapBuffer((int) Math.min(length, Integer.MAX_VALUE - 8));
+		try {
+			for (Bulkable entry : entries) {
+				entry.writeBulkActions(buffer);
+			}
+		} catch (RuntimeException e) {
+			buffer.release();
+			throw e;
+		}
+		return buffer;
+	}
+
+}
@@ -7,6 +7,7 @@ import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.isNotFoundEr
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.isResourceAlreadyExistsError;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -28,15 +29,18 @@ import com.gentics.mesh.core.data.search.request.Bulkable;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ComplianceMode;
 import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.metric.SimpleMetric;
 import com.gentics.mesh.search.ElasticsearchProcessManager;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.util.UUIDUtil;
 
 import dagger.Lazy;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.netty.buffer.ByteBuf;
 import io.reactivex.Completable;
 import io.reactivex.CompletableSource;
 import io.reactivex.CompletableTransformer;
-import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.reactivex.functions.Function;
@@ -65,17 +69,25 @@ public class ElasticSearchProvider implements SearchProvider {
 
 	private ElasticsearchProcessManager processManager;
 
+	private ElasticsearchBulkClient bulkClient;
+
 	private Function<Throwable, CompletableSource> ignore404 = error -> isNotFoundError(error) ? Completable.complete()
 		: Completable.error(error);
 
 	private final ComplianceMode complianceMode;
 
+	private final MetricsService metrics;
+
+	private final DistributionSummary bulkPayloadBytes;
+
 	@Inject
-	public ElasticSearchProvider(Lazy<Vertx> vertx, MeshOptions options, ElasticsearchClient<JsonObject> client) {
+	public ElasticSearchProvider(Lazy<Vertx> vertx, MeshOptions options, ElasticsearchClient<JsonObject> client, MetricsService metrics) {
 		this.vertx = vertx;
 		this.options = options;
 		this.client = client;
 		this.complianceMode = options.getSearchOptions().getComplianceMode();
+		this.metrics = metrics;
+		this.bulkPayloadBytes = metrics.meter(SimpleMetric.SEARCH_BULK_PAYLOAD_BYTES);
 	}
 
 	/**
@@ -86,6 +98,7 @@ public class ElasticSearchProvider implements SearchProvider {
 		log.debug("Creating elasticsearch provider.");
 
 		ElasticSearchOptions searchOptions = getOptions();
+		bulkClient = new ElasticsearchBulkClient(vertx.get(), searchOptions);
 
 		if (searchOptions.isStartEmbedded()) {
 			try {
@@ -200,6 +213,10 @@ public class ElasticSearchProvider implements SearchProvider {
 			log.info("Closing Elasticsearch REST client.");
 			client.close();
 		}
+		if (bulkClient != null) {
+			bulkClient.close();
+			bulkClient = null;
+		}
 		if (processManager != null) {
 			log.info("Stopping Elasticsearch server.");
 			processManager.stopWatchDog();
@@ -318,8 +335,18 @@ public class ElasticSearchProvider implements SearchProvider {
 
 	@Override
 	public Completable processBulk(String actions) {
+		return processBulkResponse(client.processBulk(actions).async());
+	}
+
+	/**
+	 * Check the response of a bulk request for errors.
+	 *
+	 * @param request
+	 * @return
+	 */
+	private Completable processBulkResponse(Single<JsonObject> request) {
 		long start = System.currentTimeMillis();
-		return client.processBulk(actions).async()
+		return request
 			.flatMap(response -> {
 				boolean errors = response.getBoolean("errors");
 				if (errors) {
@@ -353,17 +380,18 @@ public class ElasticSearchProvider implements SearchProvider {
 			return Completable.complete();
 		}
 
-		return Flowable.fromIterable(entries)
-			.flatMapSingle(Bulkable::toBulkActions)
-			.flatMapIterable(list -> list)
-			.reduce(new StringBuilder(), (builder, str) -> builder.append(str).append("\n"))
-			.map(StringBuilder::toString)
-			.doOnSuccess(bulkData -> {
-				if (log.isTraceEnabled()) {
-					log.trace("Using bulk payload:");
-					log.trace(bulkData);
-				}
-			}).flatMapCompletable(this::processBulk);
+		return Completable.defer(() -> {
+			ByteBuf payload = BulkPayload.encode(entries);
+			if (metrics.isEnabled()) {
+				bulkPayloadBytes.record(payload.readableBytes());
+			}
+			if (log.isTraceEnabled()) {
+				log.trace("Using bulk payload:");
+				log.trace(payload.toString(UTF_8));
+			}
+			// The bulk client releases the payload once the request has been completed
+			return processBulkResponse(bulkClient.processBulk(payload));
+		});
 	}
 
 	@Override
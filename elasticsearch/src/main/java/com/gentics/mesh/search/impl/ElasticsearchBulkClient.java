@@ -0,0 +1,119 @@
+package com.gentics.mesh.search.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Base64;
+
+import com.gentics.elasticsearch.client.ElasticsearchClient;
+import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+
+import io.netty.buffer.ByteBuf;
+import io.reactivex.Single;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.PemTrustOptions;
+
+/**
+ * Client which sends bulk requests to Elasticsearch. The {@link ElasticsearchClient} only accepts the body of a request as a string. This client sends the
+ * pooled payload buffer as body instead, so that the payload does not need to be decoded into a string. The connection settings match the ones of the
+ * {@link ElasticsearchClient}.
+ */
+public class ElasticsearchBulkClient {
+
+	private static final String BULK_PATH = "/_bulk";
+
+	private static final String NDJSON = "application/x-ndjson";
+
+	private final HttpClient httpClient;
+
+	private final String host;
+
+	private final int port;
+
+	private final String authorization;
+
+	private final long timeout;
+
+	public ElasticsearchBulkClient(Vertx vertx, ElasticSearchOptions options) {
+		URL url;
+		try {
+			url = new URL(options.getUrl());
+		} catch (MalformedURLException e) {
+			throw new RuntimeException("Invalid search provider url {" + options.getUrl() + "}", e);
+		}
+		boolean ssl = "https".equals(url.getProtocol());
+		this.host = url.getHost();
+		this.port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+		this.timeout = options.getTimeout();
+
+		HttpClientOptions clientOptions = new HttpClientOptions()
+			.setSsl(ssl)
+			.setVerifyHost(options.isHostnameVerification())
+			.setConnectTimeout((int) Math.min(timeout, Integer.MAX_VALUE));
+		if (ssl && (options.getCaPath() != null || options.getCertPath() != null)) {
+			PemTrustOptions trustOptions = new PemTrustOptions();
+			if (options.getCaPath() != null) {
+				trustOptions.addCertPath(options.getCaPath());
+			}
+			if (options.getCertPath() != null) {
+				trustOptions.addCertPath(options.getCertPath());
+			}
+			clientOptions.setPemTrustOptions(trustOptions);
+		}
+		this.httpClient = vertx.createHttpClient(clientOptions);
+
+		String username = options.getUsername();
+		String password = options.getPassword();
+		if (username != null && password != null) {
+			this.authorization = "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes(UTF_8));
+		} else {
+			this.authorization = null;
+		}
+	}
+
+	/**
+	 * Send the given payload as bulk request. The payload buffer is released once the request has been completed or failed.
+	 *
+	 * @param payload
+	 *            Newline delimited JSON of the bulk actions
+	 * @return Response of Elasticsearch
+	 */
+	public Single<JsonObject> processBulk(ByteBuf payload) {
+		return Single.<JsonObject>create(sub -> {
+			HttpClientRequest request = httpClient.request(HttpMethod.POST, port, host, BULK_PATH, response -> {
+				response.exceptionHandler(sub::tryOnError);
+				response.bodyHandler(body -> {
+					int code = response.statusCode();
+					if (code >= 200 && code < 300) {
+						sub.onSuccess(body.toJsonObject());
+					} else {
+						sub.tryOnError(new RuntimeException("Bulk request failed with status {" + code + "} and response {" + body + "}"));
+					}
+				});
+			});
+			request.exceptionHandler(sub::tryOnError);
+			request.setTimeout(timeout);
+			request.putHeader("Content-Type", NDJSON);
+			if (authorization != null) {
+				request.putHeader("Authorization", authorization);
+			}
+			// The buffer wraps the payload without copying it
+			request.end(Buffer.buffer(payload));
+		}).doFinally(payload::release);
+	}
+
+	/**
+	 * Close the client.
+	 */
+	public void close() {
+		httpClient.close();
+	}
+
+}
@@ -16,6 +16,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -26,7 +27,6 @@ import com.gentics.elasticsearch.client.HttpErrorException;
 import com.gentics.elasticsearch.client.okhttp.RequestBuilder;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
-import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.PageImpl;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -39,6 +39,7 @@ import com.gentics.mesh.error.InvalidArgumentException;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ComplianceMode;
+import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.json.MeshJsonException;
 import com.gentics.mesh.parameter.PagingParameters;
@@ -46,12 +47,16 @@ import com.gentics.mesh.search.DevNullSearchProvider;
 import com.gentics.mesh.search.SearchHandler;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.TrackingSearchProvider;
+import com.gentics.mesh.search.index.metric.SearchQueryMeters;
 import com.gentics.mesh.util.SearchWaitUtil;
 import com.gentics.mesh.util.Tuple;
+import com.google.common.collect.Lists;
 
+import io.micrometer.core.instrument.Timer;
 import io.netty.handler.codec.http.HttpResponseStatus;
-import io.reactivex.Observable;
+import io.reactivex.Flowable;
 import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -75,8 +80,16 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 	@Inject
 	public SearchWaitUtil waitUtil;
 
+	@Inject
+	public SearchQueryMeters queryMeters;
+
 	public static final long DEFAULT_SEARCH_PER_PAGE = 10;
 
+	/**
+	 * Pages with up to {@value #PARALLEL_TRANSFORM_THRESHOLD} hits are always transformed in a single transaction.
+	 */
+	public static final int PARALLEL_TRANSFORM_THRESHOLD = 100;
+
 	/**
 	 * Create a new search handler.
 	 * 
@@ -105,13 +118,8 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		try {
 			JsonObject userJson = new JsonObject(searchQuery);
 
-			JsonArray roleUuids = db.tx(() -> {
-				JsonArray json = new JsonArray();
-				for (Role role : ac.getUser().getRoles()) {
-					json.add(role.getUuid());
-				}
-				return json;
-			});
+			// The role uuids are resolved once per request and shared with the permission checks
+			JsonArray roleUuids = db.tx(() -> new JsonArray(new ArrayList<>(ac.getUser().getRoleSet().getRoleUuids())));
 
 			JsonObject newQuery = new JsonObject().put("bool",
 				new JsonObject().put("filter", new JsonArray().add(new JsonObject().put("terms", new JsonObject().put(
@@ -238,68 +246,57 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 			queryOption.put("search_type", "dfs_query_then_fetch");
 			log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
+			Timer.Sample sample = Timer.start();
 			RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
-			return requestBuilder.async();
-		})).flatMapObservable(response -> {
+			return requestBuilder.async().doOnSuccess(response -> sample.stop(queryMeters.getRequest()));
+		})).map(response -> {
 			JsonArray responses = response.getJsonArray("responses");
 			JsonObject firstResponse = responses.getJsonObject(0);
 
 			// Process the nested error
 			JsonObject errorInfo = firstResponse.getJsonObject("error");
 			if (errorInfo != null) {
-				return Observable.error(mapError(errorInfo));
+				throw mapError(errorInfo);
 			}
 
-			JsonObject hitsInfo = firstResponse.getJsonObject("hits");
+			return firstResponse.getJsonObject("hits");
+		}).onErrorResumeNext(error -> {
+			return Single.error(mapToMeshError(error));
+		}).flatMap(hitsInfo -> {
 			JsonArray hits = hitsInfo.getJsonArray("hits");
+			List<Tuple<String, String>> hitIds = new ArrayList<>(hits.size());
+			for (int i = 0; i < hits.size(); i++) {
+				JsonObject hit = hits.getJsonObject(i);
+				String id = hit.getString("_id");
+				int pos = id.indexOf("-");
+
+				String language = pos > 0 ? id.substring(pos + 1) : null;
+				String uuid = pos > 0 ? id.substring(0, pos) : id;
+				hitIds.add(Tuple.tuple(uuid, language));
+			}
 
-			List<Tuple<T, String>> list = new ArrayList<>();
-			db.tx(() -> {
-				for (int i = 0; i < hits.size(); i++) {
-					JsonObject hit = hits.getJsonObject(i);
-					String id = hit.getString("_id");
-					int pos = id.indexOf("-");
-
-					String language = pos > 0 ? id.substring(pos + 1) : null;
-					String uuid = pos > 0 ? id.substring(0, pos) : id;
-
-					// Locate the node
-					T element = elementLoader.apply(uuid);
-					if (element == null) {
-						log.warn("Object could not be found for uuid {" + uuid + "}. The element will be omitted.");
-						// Reduce the total count
-						long total = extractTotalCount(hitsInfo);
-						switch (complianceMode) {
-						case ES_6:
-							hitsInfo.put("total", total - 1);
-							break;
-						case ES_7:
-							hitsInfo.put("total", new JsonObject().put("value", total - 1));
-							break;
-						default:
-							throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
-						}
-					} else {
-						// TODO maybe it would be better to directly transform the element here.
-						list.add(Tuple.tuple(element, language));
+			return transformHits(ac, elementLoader, hitIds).map(transformed -> {
+				// Reduce the total count by the omitted elements
+				long omitted = hitIds.size() - transformed.size();
+				if (omitted > 0) {
+					long total = extractTotalCount(hitsInfo);
+					switch (complianceMode) {
+					case ES_6:
+						hitsInfo.put("total", total - omitted);
+						break;
+					case ES_7:
+						hitsInfo.put("total", new JsonObject().put("value", total - omitted));
+						break;
+					default:
+						throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
 					}
 				}
-			});
-
-			// Set meta information to the rest response
-			listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
 
-			return Observable.fromIterable(list);
-		}).onErrorResumeNext(error -> {
-			return Observable.error(mapToMeshError(error));
-		}).flatMapSingle(element -> {
-			// TODO add resume next to omit the item if it can't be transformed for some reason.
-			// This would be better than to just fail the whole request
-			// TODO maybe add extra permission filtering? This would not be very costly for smaller pages and ensure perm consistency?
-			// TODO it would be good to batch the transformation of the elements to save the overhead of creating transactions and use the L1 cache.
-			return db.tx(() -> Single.just(element.v1().transformToRestSync(ac, 0, element.v2())));
-		}).collect(() -> listResponse.getData(), (x, y) -> {
-			x.add(y);
+				// Set meta information to the rest response
+				listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
+				listResponse.getData().addAll(transformed);
+				return listResponse;
+			});
 		}).subscribe(list -> {
 			ac.send(listResponse.toJson(), OK);
 		}, error -> {
@@ -308,6 +305,77 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		});
 	}
 
+	/**
+	 * Load the elements of the hits, verify the read permission and transform them to rest models. Small pages are handled in a single transaction. Larger
+	 * pages are split into batches which are transformed in parallel if {@link ElasticSearchOptions#getTransformConcurrency()} is greater than one.
+	 * 
+	 * @param ac
+	 * @param elementLoader
+	 * @param hitIds
+	 *            Uuids and languages of the hits
+	 * @return Transformed elements in the order of the hits. Elements which could not be loaded, read or transformed are omitted.
+	 */
+	protected Single<List<RM>> transformHits(InternalActionContext ac, Function<String, T> elementLoader, List<Tuple<String, String>> hitIds) {
+		int concurrency = options.getSearchOptions().getTransformConcurrency();
+		if (concurrency <= 1 || hitIds.size() <= PARALLEL_TRANSFORM_THRESHOLD) {
+			return Single.fromCallable(() -> transformHitBatch(ac, elementLoader, hitIds));
+		}
+		int batchSize = (hitIds.size() + concurrency - 1) / concurrency;
+		return Flowable.fromIterable(Lists.partition(hitIds, batchSize))
+			.concatMapEager(batch -> Single.fromCallable(() -> transformHitBatch(ac, elementLoader, batch))
+				.subscribeOn(Schedulers.io())
+				.toFlowable())
+			.concatMapIterable(batch -> batch)
+			.toList();
+	}
+
+	private List<RM> transformHitBatch(InternalActionContext ac, Function<String, T> elementLoader, List<Tuple<String, String>> hitIds) {
+		return db.tx(() -> {
+			long start = System.nanoTime();
+			List<Tuple<T, String>> elements = new ArrayList<>(hitIds.size());
+			for (Tuple<String, String> hitId : hitIds) {
+				// Locate the element
+				T element = elementLoader.apply(hitId.v1());
+				if (element == null) {
+					log.warn("Object could not be found for uuid {" + hitId.v1() + "}. The element will be omitted.");
+				} else {
+					elements.add(Tuple.tuple(element, hitId.v2()));
+				}
+			}
+
+			// The index may not yet reflect recent permission changes
+			List<Tuple<T, String>> permitted = ac.getUser()
+				.filterPermitted(elements.stream(), element -> element.v1().id(), readPermission(ac))
+				.collect(Collectors.toList());
+			if (permitted.size() < elements.size()) {
+				log.debug("Omitting {" + (elements.size() - permitted.size()) + "} search hits without read permission.");
+			}
+			long loaded = System.nanoTime();
+			queryMeters.getLoad().record(loaded - start, TimeUnit.NANOSECONDS);
+
+			List<RM> transformed = new ArrayList<>(permitted.size());
+			for (Tuple<T, String> element : permitted) {
+				try {
+					transformed.add(element.v1().transformToRestSync(ac, 0, element.v2()));
+				} catch (Exception e) {
+					log.warn("Object {" + element.v1().getUuid() + "} could not be transformed. The element will be omitted.", e);
+				}
+			}
+			queryMeters.getTransform().record(System.nanoTime() - loaded, TimeUnit.NANOSECONDS);
+			return transformed;
+		});
+	}
+
+	/**
+	 * Return the permission which is needed to read the elements of the search hits.
+	 * 
+	 * @param ac
+	 * @return
+	 */
+	protected GraphPermission readPermission(InternalActionContext ac) {
+		return GraphPermission.READ_PERM;
+	}
+
 	/**
 	 * Add the paging parameters to the request.
 	 * 
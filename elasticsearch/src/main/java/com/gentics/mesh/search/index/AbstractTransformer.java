@@ -9,7 +9,6 @@ import com.gentics.mesh.core.data.CreatorTrackingVertex;
 import com.gentics.mesh.core.data.EditorTrackingVertex;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.Project;
-import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -117,11 +116,7 @@ public abstract class AbstractTransformer<T> implements Transformer<T> {
 	 * @param element
 	 */
 	protected void addPermissionInfo(JsonObject document, MeshCoreVertex<?, ?> element) {
-		Iterable<? extends Role> roleIt = element.getRolesWithPerm(GraphPermission.READ_PERM);
-		List<String> roleUuids = new ArrayList<>();
-		for (Role role : roleIt) {
-			roleUuids.add(role.getUuid());
-		}
+		List<String> roleUuids = new ArrayList<>(element.getRoleUuidsWithPerm(GraphPermission.READ_PERM));
 		document.put("_roleUuids", roleUuids);
 	}
 
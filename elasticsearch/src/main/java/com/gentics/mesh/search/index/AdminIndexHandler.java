@@ -82,7 +82,7 @@ public class AdminIndexHandler {
 		db.asyncTx(() -> Single.just(ac.getUser().hasAdminRole()))
 			.subscribe(hasAdminRole -> {
 				if (hasAdminRole) {
-					SyncEventHandler.invokeSync(vertx);
+					SyncEventHandler.invokeSync(vertx, ac.getIndexSyncParameters().isDeep());
 					ac.send(message(ac, "search_admin_index_sync_invoked"), OK);
 				} else {
 					ac.fail(error(FORBIDDEN, "error_admin_permission_required"));
@@ -3,17 +3,29 @@ package com.gentics.mesh.search.index.entry;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import com.gentics.elasticsearch.client.ElasticsearchClient;
 import com.gentics.elasticsearch.client.HttpErrorException;
-import com.gentics.elasticsearch.client.okhttp.RequestBuilder;
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.cli.BootstrapInitializer;
+import com.gentics.mesh.core.data.IndexChangeTrackingVertex;
 import com.gentics.mesh.core.data.MeshCoreVertex;
+import com.gentics.mesh.core.data.MeshVertex;
 import com.gentics.mesh.core.data.search.CreateIndexEntry;
 import com.gentics.mesh.core.data.search.IndexHandler;
 import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
@@ -21,7 +33,6 @@ import com.gentics.mesh.core.data.search.bulk.DeleteBulkEntry;
 import com.gentics.mesh.core.data.search.bulk.IndexBulkEntry;
 import com.gentics.mesh.core.data.search.bulk.UpdateBulkEntry;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
-import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.rest.search.EntityMetrics;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -34,16 +45,19 @@ import com.gentics.mesh.search.index.MappingProvider;
 import com.gentics.mesh.search.index.Transformer;
 import com.gentics.mesh.search.index.metric.SyncMeters;
 import com.gentics.mesh.search.index.metric.SyncMetersFactory;
+import com.gentics.mesh.search.index.sync.IndexSyncCheckpoints;
+import com.gentics.mesh.search.index.sync.IndexVersionIterator;
+import com.gentics.mesh.search.index.sync.SortedMergeDiff;
+import com.gentics.mesh.search.index.sync.SortedMergeDiff.Difference;
 import com.gentics.mesh.search.verticle.eventhandler.MeshHelper;
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.tinkerpop.blueprints.Vertex;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Observable;
-import io.reactivex.Single;
 import io.reactivex.functions.Action;
-import io.reactivex.functions.Function;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -76,6 +90,8 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 
 	protected final SyncMeters meters;
 
+	protected final IndexSyncCheckpoints checkpoints;
+
 	public AbstractIndexHandler(SearchProvider searchProvider, Database db, BootstrapInitializer boot, MeshHelper helper, MeshOptions options, SyncMetersFactory syncMetersFactory) {
 		this.searchProvider = searchProvider;
 		this.db = db;
@@ -84,6 +100,7 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 		this.options = options;
 		this.complianceMode = options.getSearchOptions().getComplianceMode();
 		this.meters = syncMetersFactory.createSyncMetric(getType());
+		this.checkpoints = new IndexSyncCheckpoints(searchProvider, complianceMode);
 	}
 
 	/**
@@ -188,137 +205,375 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 	}
 
 	/**
-	 * Diff the source (graph) with the sink (ES index) and create {@link EventQueueBatch} objects add, delete or update entries.
+	 * Synchronize the given index. A full diff will be done if the deep sync was requested, if the incremental sync is disabled or if no checkpoint exists for
+	 * the index. Otherwise only the versions of elements which were changed since the checkpoint will be compared with the index. Missing and removed
+	 * documents are detected in both cases by comparing the document ids of the graph and the index.
 	 * 
 	 * @param indexName
 	 * @param projectUuid
+	 * @param deep
 	 * @return
 	 */
-	protected Flowable<SearchRequest> diffAndSync(String indexName, String projectUuid) {
-		return Single.zip(
-			loadVersionsFromIndex(indexName),
-			Single.fromCallable(this::loadVersionsFromGraph),
-			(sinkVersions, sourceVersions) -> {
-				log.info("Handling index sync on handler {" + getClass().getName() + "}");
-
-				MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-				if (diff.areEqual()) {
-					log.info("No diff detected. Index {" + indexName + "} is in sync.");
-					return Flowable.<SearchRequest>empty();
+	protected Flowable<SearchRequest> diffAndSync(String indexName, String projectUuid, boolean deep) {
+		return Flowable.defer(() -> {
+			long start = System.currentTimeMillis();
+			if (!isIncrementalSync(deep)) {
+				return withCheckpoints(start, Collections.singleton(indexName), diffAndSync(indexName, projectUuid, null));
+			}
+			return checkpoints.load().flatMapPublisher(stored -> {
+				Long checkpoint = stored.get(indexName);
+				if (checkpoint == null) {
+					log.info("No sync checkpoint found for index {" + indexName + "}. Using full diff.");
+					return withCheckpoints(start, Collections.singleton(indexName), diffAndSync(indexName, projectUuid, null));
 				}
+				log.info("Synchronizing index {" + indexName + "} incrementally since checkpoint {" + checkpoint + "}");
+				return withCheckpoints(start, Collections.singleton(indexName),
+					diffAndSync(indexName, projectUuid, checkpoint - IndexSyncCheckpoints.CHECKPOINT_OVERLAP));
+			});
+		});
+	}
 
-				Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-				Set<String> needUpdateInEs = diff.entriesDiffering().keySet();
-				Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
+	/**
+	 * Check whether the incremental sync should be used.
+	 * 
+	 * @param deep
+	 *            Whether a deep sync was requested
+	 * @return
+	 */
+	protected boolean isIncrementalSync(boolean deep) {
+		return !deep && options.getSearchOptions().isIncrementalSync();
+	}
 
-				log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-				log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
+	/**
+	 * Append the requests which store the checkpoints for the given indices to the sync requests. The checkpoints are thus only stored once all sync requests
+	 * have been processed.
+	 * 
+	 * @param start
+	 *            Time at which the sync was started
+	 * @param indexNames
+	 * @param sync
+	 * @return
+	 */
+	protected Flowable<SearchRequest> withCheckpoints(long start, Collection<String> indexNames, Flowable<SearchRequest> sync) {
+		if (!options.getSearchOptions().isIncrementalSync()) {
+			return sync;
+		}
+		return sync.concatWith(Flowable.fromIterable(indexNames).map(indexName -> checkpoints.store(indexName, start)));
+	}
 
-				meters.getInsertMeter().addPending(needInsertionInES.size());
-				meters.getUpdateMeter().addPending((needUpdateInEs.size()));
-				meters.getDeleteMeter().addPending((needRemovalInES.size()));
+	/**
+	 * Diff the source (graph) with the sink (ES index) and create {@link EventQueueBatch} objects add, delete or update entries.
+	 * 
+	 * @param indexName
+	 * @param projectUuid
+	 * @param since
+	 *            Only compare the elements which were changed since the given time. All elements will be compared if null.
+	 * @return
+	 */
+	protected Flowable<SearchRequest> diffAndSync(String indexName, String projectUuid, Long since) {
+		if (since != null) {
+			return diffChangedAndSync(indexName, since);
+		}
+		return diffAndSync(indexName, () -> loadVersions(loadAllUuids(), true), documentRequestFactory(indexName));
+	}
 
-				Function<Action, Function<String, CreateDocumentRequest>> toCreateRequest = action -> uuid -> {
-					JsonObject doc = db.tx(() -> getTransformer().toDocument(getElement(uuid)));
-					return helper.createDocumentRequest(indexName, uuid, doc, complianceMode, action);
-				};
+	/**
+	 * Incrementally synchronize the given index. The elements which were changed since the given time are found via the sorted index of their change marker
+	 * and only their documents are compared. Removed elements are detected by comparing the amount of elements with the amount of documents. The ids of all
+	 * elements are only merged with the index if the amounts differ.
+	 * 
+	 * @param indexName
+	 * @param since
+	 * @return
+	 */
+	protected Flowable<SearchRequest> diffChangedAndSync(String indexName, long since) {
+		return Flowable.defer(() -> {
+			BiFunction<String, Action, SearchRequest> requestFactory = documentRequestFactory(indexName);
+			// The documents are counted first. Elements which get indexed afterwards can thus only cause a needless id merge.
+			long documents = countDocuments(indexName);
+			List<String> changed = db.tx(() -> loadChangedUuids(since));
+			if (changed == null) {
+				log.info("Changes of type {" + getType() + "} can't be loaded incrementally. Using full diff for index {" + indexName + "}.");
+				return diffAndSync(indexName, () -> loadVersions(loadAllUuids(), true), requestFactory);
+			}
+			long elements = db.tx(() -> countElements());
+			log.info("Found {" + changed.size() + "} elements which were changed since {" + since + "} for index {" + indexName + "}");
+
+			AtomicLong insertions = new AtomicLong();
+			AtomicLong removals = new AtomicLong();
+			Flowable<SearchRequest> changes = Flowable.fromIterable(Lists.partition(changed, ES_SYNC_FETCH_BATCH_SIZE))
+				.concatMap(batch -> diffAndSync(indexName, () -> loadVersions(batch.iterator(), true),
+					() -> new IndexVersionIterator(searchProvider, indexName, ES_SYNC_FETCH_BATCH_SIZE, idsQuery(batch)), requestFactory, diff -> {
+						insertions.addAndGet(diff.getInsertions());
+						removals.addAndGet(diff.getRemovals());
+					}));
+			return changes.concatWith(Flowable.defer(() -> {
+				long expected = documents + insertions.get() - removals.get();
+				if (expected == elements) {
+					return Flowable.empty();
+				}
+				log.info("Found {" + documents + "} documents in index {" + indexName + "} but expected {" + (elements - insertions.get() + removals.get())
+					+ "}. Comparing the ids of all elements.");
+				// The changed elements were already compared and their requests may still be pending. Only the missing and removed documents of the
+				// other elements need to be found.
+				Set<String> handled = new HashSet<>(changed);
+				return diffAndSync(indexName,
+					() -> Iterators.filter(loadVersions(loadAllUuids(), false), entry -> !handled.contains(entry.getKey())),
+					() -> Iterators.filter(new IndexVersionIterator(searchProvider, indexName, ES_SYNC_FETCH_BATCH_SIZE),
+						entry -> !handled.contains(entry.getKey())),
+					requestFactory, diff -> {
+						log.info("Pending insertions on {" + indexName + "}:" + diff.getInsertions());
+						log.info("Pending removals on {" + indexName + "}:" + diff.getRemovals());
+					});
+			}));
+		});
+	}
 
-				Flowable<SearchRequest> toInsert = Flowable.fromIterable(needInsertionInES)
-					.map(toCreateRequest.apply(meters.getInsertMeter()::synced));
+	/**
+	 * Load the uuids of the elements whose documents may have changed since the given time. Handlers whose documents contain data of other elements must
+	 * add the elements which reference changed elements.
+	 * 
+	 * @param since
+	 * @return Sorted uuids or null if all elements need to be compared
+	 */
+	protected List<String> loadChangedUuids(long since) {
+		Class<?> elementClass = getElementClass();
+		if (!IndexChangeTrackingVertex.class.isAssignableFrom(elementClass)) {
+			return null;
+		}
+		return loadChangedUuids(elementClass.asSubclass(IndexChangeTrackingVertex.class), since);
+	}
 
-				Flowable<SearchRequest> toUpdate = Flowable.fromIterable(needUpdateInEs)
-					.map(toCreateRequest.apply(meters.getUpdateMeter()::synced));
+	/**
+	 * Load the uuids of the elements of the given type which were changed since the given time via the sorted index of their change marker.
+	 * 
+	 * @param clazz
+	 * @param since
+	 * @return Sorted uuids or null if the sorted index does not exist
+	 */
+	protected List<String> loadChangedUuids(Class<? extends IndexChangeTrackingVertex> clazz, long since) {
+		return loadChangedUuids(clazz, IndexChangeTrackingVertex.INDEX_CHANGE_INDEX_POSTFIX, new Object[0], since);
+	}
 
-				Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
-					.map(uuid -> helper.deleteDocumentRequest(indexName, uuid, complianceMode, meters.getDeleteMeter()::synced));
+	/**
+	 * Load the uuids of the elements which were changed since the given time via a sorted index whose last field is the change marker.
+	 * 
+	 * @param clazz
+	 * @param indexPostfix
+	 * @param keys
+	 *            Values of the leading fields of the index
+	 * @param since
+	 * @return Sorted uuids or null if the sorted index does not exist
+	 */
+	protected List<String> loadChangedUuids(Class<? extends IndexChangeTrackingVertex> clazz, String indexPostfix, Object[] keys, long since) {
+		Iterator<Entry<Object, Object>> entries = db.index().vertexRangeLookup(clazz, indexPostfix, keys, since - 1, null);
+		if (entries == null) {
+			return null;
+		}
+		Set<String> uuids = new TreeSet<>();
+		while (entries.hasNext()) {
+			Vertex vertex = Tx.get().getGraph().getVertex(entries.next().getValue());
+			if (vertex != null) {
+				uuids.add(vertex.getProperty(MeshVertex.UUID_KEY));
+			}
+		}
+		return new ArrayList<>(uuids);
+	}
 
-				return Flowable.merge(toInsert, toUpdate, toDelete);
-			}).flatMapPublisher(x -> x);
+	/**
+	 * Return the amount of elements which belong to the index. The amount is compared with the amount of documents during the incremental sync in order to
+	 * detect removed elements.
+	 * 
+	 * @return
+	 */
+	protected long countElements() {
+		return loadAllElements().count();
 	}
 
-	protected T getElement(String elementUuid) {
-		return elementLoader().apply(elementUuid);
+	/**
+	 * Return the amount of documents in the given index.
+	 * 
+	 * @param indexName
+	 * @return
+	 */
+	protected long countDocuments(String indexName) {
+		JsonObject query = new JsonObject();
+		query.put("size", 0);
+		query.put("query", new JsonObject().put("match_all", new JsonObject()));
+		if (complianceMode == ComplianceMode.ES_7) {
+			query.put("track_total_hits", true);
+		}
+		try {
+			JsonObject response = searchProvider.getClient()
+				.multiSearch(new JsonObject().put("index", searchProvider.installationPrefix() + indexName), query).sync()
+				.getJsonArray("responses").getJsonObject(0);
+			JsonObject error = response.getJsonObject("error");
+			if (error != null) {
+				throw new RuntimeException("Error while counting the documents of index {" + indexName + "}: " + error.encode());
+			}
+			JsonObject hits = response.getJsonObject("hits");
+			switch (complianceMode) {
+			case ES_7:
+				return hits.getJsonObject("total").getLong("value");
+			case ES_6:
+				return hits.getLong("total");
+			default:
+				throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
+			}
+		} catch (HttpErrorException e) {
+			throw new RuntimeException("Error while counting the documents of index {" + indexName + "}", e);
+		}
+	}
+
+	/**
+	 * Create a query which matches the documents with the given ids.
+	 * 
+	 * @param ids
+	 * @return
+	 */
+	protected JsonObject idsQuery(List<String> ids) {
+		return new JsonObject().put("ids", new JsonObject().put("values", new JsonArray(new ArrayList<>(ids))));
 	}
 
-	private Map<String, String> loadVersionsFromGraph() {
+	/**
+	 * Create a query which matches the documents which contain one of the given values in the given field.
+	 * 
+	 * @param field
+	 * @param values
+	 * @return
+	 */
+	protected JsonObject termsQuery(String field, List<String> values) {
+		return new JsonObject().put("terms", new JsonObject().put(field, new JsonArray(new ArrayList<>(values))));
+	}
+
+	private Iterator<String> loadAllUuids() {
+		// The amount of these elements is small compared to the amount of nodes. Their sorted uuids are thus loaded at once.
 		return db.tx(() -> loadAllElements()
-			.collect(Collectors.toMap(
-				MeshElement::getUuid,
-				this::generateVersion)));
+			.map(MeshElement::getUuid)
+			.sorted()
+			.collect(Collectors.toList())).iterator();
 	}
 
-	// TODO Async
-	public Single<Map<String, String>> loadVersionsFromIndex(String indexName) {
-		return Single.fromCallable(() -> {
-			String fullIndexName = searchProvider.installationPrefix() + indexName;
+	/**
+	 * Load the versions of the elements with the given sorted uuids in batches.
+	 * 
+	 * @param uuids
+	 * @param compareVersions
+	 *            Whether the versions should be generated. Null versions are returned otherwise and only missing and removed documents are detected.
+	 * @return
+	 */
+	private Iterator<Entry<String, String>> loadVersions(Iterator<String> uuids, boolean compareVersions) {
+		return SortedMergeDiff.loadInBatches(uuids, ES_SYNC_FETCH_BATCH_SIZE, batch -> db.tx(() -> {
 			Map<String, String> versions = new HashMap<>();
-			log.debug("Loading document info from index {" + fullIndexName + "}");
-			ElasticsearchClient<JsonObject> client = searchProvider.getClient();
-			JsonObject query = new JsonObject();
-			query.put("size", ES_SYNC_FETCH_BATCH_SIZE);
-			query.put("_source", new JsonArray().add("uuid").add("version"));
-			query.put("query", new JsonObject().put("match_all", new JsonObject()));
-			query.put("sort", new JsonArray().add("_doc"));
-
-			RequestBuilder<JsonObject> builder = client.searchScroll(query, "1m", fullIndexName);
-			JsonObject result = new JsonObject();
-			try {
-				result = builder.sync();
-				if (log.isTraceEnabled()) {
-					log.trace("Got response {" + result.encodePrettily() + "}");
+			for (String uuid : batch) {
+				T element = getElement(uuid);
+				if (element != null) {
+					versions.put(uuid, compareVersions ? generateVersion(element) : null);
 				}
-				JsonArray hits = result.getJsonObject("hits").getJsonArray("hits");
-				processHits(hits, versions);
-
-				// Check whether we need to process more scrolls
-				if (hits.size() != 0) {
-					String nextScrollId = result.getString("_scroll_id");
-					try {
-						while (true) {
-							final String currentScroll = nextScrollId;
-							log.debug("Fetching scroll result using scrollId {" + currentScroll + "}");
-							JsonObject scrollResult = client.scroll("1m", currentScroll).sync();
-							JsonArray scrollHits = scrollResult.getJsonObject("hits").getJsonArray("hits");
-							if (log.isTraceEnabled()) {
-								log.trace("Got response {" + scrollHits.encodePrettily() + "}");
-							}
-							if (scrollHits.size() != 0) {
-								processHits(scrollHits, versions);
-								// Update the scrollId for the next fetch
-								nextScrollId = scrollResult.getString("_scroll_id");
-								if (log.isDebugEnabled()) {
-									log.debug("Using scrollId {" + nextScrollId + "} for next fetch.");
-								}
-							} else {
-								// The scroll yields no more data. We are done
-								break;
-							}
-						}
-					} finally {
-						// Clearing used scroll in order to free memory in ES
-						client.clearScroll(nextScrollId).sync();
-					}
-				}
-			} catch (HttpErrorException e) {
-				log.error("Error while loading version information from index {" + indexName + "}", e.toString());
-				log.error(e);
-				throw e;
 			}
-
 			return versions;
+		}));
+	}
+
+	private BiFunction<String, Action, SearchRequest> documentRequestFactory(String indexName) {
+		return (uuid, action) -> {
+			T element = getElement(uuid);
+			if (element == null) {
+				// The element was removed after the versions were loaded
+				return helper.deleteDocumentRequest(indexName, uuid, complianceMode, action);
+			}
+			return helper.createDocumentRequest(indexName, uuid, getTransformer().toDocument(element), complianceMode, action);
+		};
+	}
+
+	/**
+	 * Diff the source (graph) with the sink (ES index) using a sorted merge. The documents of the index are loaded page by page sorted by their id and merged
+	 * with the document versions of the graph, which must be provided in the same order. Both sides are consumed lazily, so only the current pages are kept in
+	 * memory during the sync.
+	 * 
+	 * @param indexName
+	 * @param source
+	 *            Loader for the lazy iterator over the (document id, version) entries of the graph, sorted by document id. A null version marks a document which
+	 *            was not changed and does not need to be compared with the index.
+	 * @param requestFactory
+	 *            Factory for the request which stores the document with the given id. The action must be invoked once the request was processed. The factory
+	 *            is invoked within a transaction.
+	 * @return
+	 */
+	protected Flowable<SearchRequest> diffAndSync(String indexName, Callable<Iterator<Entry<String, String>>> source,
+		BiFunction<String, Action, SearchRequest> requestFactory) {
+		log.info("Handling index sync on handler {" + getClass().getName() + "}");
+		return diffAndSync(indexName, source, () -> new IndexVersionIterator(searchProvider, indexName, ES_SYNC_FETCH_BATCH_SIZE), requestFactory, diff -> {
+			if (diff.getInsertions() + diff.getUpdates() + diff.getRemovals() == 0) {
+				log.info("No diff detected. Index {" + indexName + "} is in sync.");
+			} else {
+				log.info("Pending insertions on {" + indexName + "}:" + diff.getInsertions());
+				log.info("Pending removals on {" + indexName + "}:" + diff.getRemovals());
+				log.info("Pending updates on {" + indexName + "}:" + diff.getUpdates());
+			}
+		});
+	}
+
+	/**
+	 * Diff the source (graph) with the given sink (ES index).
+	 * 
+	 * @param indexName
+	 * @param source
+	 *            Loader for the lazy iterator over the (document id, version) entries of the graph, sorted by document id
+	 * @param sink
+	 *            Loader for the lazy iterator over the (document id, version) entries of the index which are compared with the source, sorted by document id
+	 * @param requestFactory
+	 *            Factory for the request which stores the document with the given id
+	 * @param onComplete
+	 *            Consumer which is invoked with the completed diff
+	 * @return
+	 */
+	protected Flowable<SearchRequest> diffAndSync(String indexName, Callable<Iterator<Entry<String, String>>> source,
+		Callable<Iterator<Entry<String, String>>> sink, BiFunction<String, Action, SearchRequest> requestFactory,
+		Consumer<SortedMergeDiff<String>> onComplete) {
+		return Flowable.defer(() -> {
+			SortedMergeDiff<String> diff = new SortedMergeDiff<>(source.call(), sink.call(),
+				(sourceVersion, sinkVersion) -> sourceVersion != null && !sourceVersion.equals(sinkVersion));
+			Iterable<Difference> differences = () -> diff;
+			return Flowable.fromIterable(differences)
+				.buffer(ES_SYNC_FETCH_BATCH_SIZE)
+				.concatMapIterable(batch -> db.tx(() -> {
+					List<SearchRequest> requests = new ArrayList<>(batch.size());
+					for (Difference difference : batch) {
+						requests.add(toSyncRequest(indexName, difference, requestFactory));
+					}
+					return requests;
+				}))
+				.doOnComplete(() -> onComplete.accept(diff));
 		});
 	}
 
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
-		for (int i = 0; i < hits.size(); i++) {
-			JsonObject hit = hits.getJsonObject(i);
-			JsonObject source = hit.getJsonObject("_source");
-			String uuid = source.getString("uuid");
-			String version = source.getString("version");
-			versions.put(uuid, version);
+	/**
+	 * Create the request for the given difference and add it to the pending requests of the sync meters.
+	 * 
+	 * @param indexName
+	 * @param difference
+	 * @param requestFactory
+	 * @return
+	 */
+	protected SearchRequest toSyncRequest(String indexName, Difference difference, BiFunction<String, Action, SearchRequest> requestFactory) {
+		switch (difference.getType()) {
+		case INSERT:
+			meters.getInsertMeter().addPending(1);
+			return requestFactory.apply(difference.getId(), meters.getInsertMeter()::synced);
+		case UPDATE:
+			meters.getUpdateMeter().addPending(1);
+			return requestFactory.apply(difference.getId(), meters.getUpdateMeter()::synced);
+		default:
+			meters.getDeleteMeter().addPending(1);
+			return helper.deleteDocumentRequest(indexName, difference.getId(), complianceMode, meters.getDeleteMeter()::synced);
 		}
 	}
 
+	protected T getElement(String elementUuid) {
+		return elementLoader().apply(elementUuid);
+	}
+
 	@Override
 	public Completable createIndex(CreateIndexEntry entry) {
 		String indexName = entry.getIndexName();
@@ -95,8 +95,13 @@ public class GroupIndexHandler extends AbstractIndexHandler<Group> {
 	}
 
 	@Override
-	public Flowable<SearchRequest> syncIndices() {
-		return diffAndSync(Group.composeIndexName(), null);
+	protected long countElements() {
+		return db.type().count(boot.meshRoot().getGroupRoot().getPersistanceClass());
+	}
+
+	@Override
+	public Flowable<SearchRequest> syncIndices(boolean deep) {
+		return diffAndSync(Group.composeIndexName(), null, deep);
 	}
 
 	@Override
@@ -0,0 +1,74 @@
+package com.gentics.mesh.search.index.metric;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.gentics.mesh.metric.Metric;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Container for the metrics of the requests which are sent to Elasticsearch.
+ */
+public class RequestMeters {
+
+	private final Timer latency;
+	private final AtomicLong inFlight;
+
+	public RequestMeters(MetricsService metrics) {
+		latency = metrics.timer(Meter.LATENCY);
+		inFlight = metrics.longGauge(Meter.IN_FLIGHT);
+	}
+
+	/**
+	 * Return the timer which tracks the duration of the requests.
+	 *
+	 * @return
+	 */
+	public Timer getLatency() {
+		return latency;
+	}
+
+	/**
+	 * Return the amount of requests which are currently in flight.
+	 *
+	 * @return
+	 */
+	public long getInFlight() {
+		return inFlight.get();
+	}
+
+	public void started() {
+		inFlight.incrementAndGet();
+	}
+
+	public void finished() {
+		inFlight.decrementAndGet();
+	}
+
+	public enum Meter implements Metric {
+
+		LATENCY("latency", "Timer which tracks the duration of requests to Elasticsearch."),
+
+		IN_FLIGHT("inflight", "Amount of requests to Elasticsearch which are currently in flight.");
+
+		private final String key;
+
+		private final String description;
+
+		Meter(String key, String description) {
+			this.key = key;
+			this.description = description;
+		}
+
+		@Override
+		public String key() {
+			return "mesh_index_request_" + key;
+		}
+
+		@Override
+		public String description() {
+			return description;
+		}
+	}
+}
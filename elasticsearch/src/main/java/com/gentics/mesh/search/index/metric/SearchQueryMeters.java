@@ -0,0 +1,82 @@
+package com.gentics.mesh.search.index.metric;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.metric.Metric;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Container for the metrics of the phases of a search query.
+ */
+@Singleton
+public class SearchQueryMeters {
+
+	private final Timer request;
+	private final Timer load;
+	private final Timer transform;
+
+	@Inject
+	public SearchQueryMeters(MetricsService metrics) {
+		request = metrics.timer(Meter.REQUEST);
+		load = metrics.timer(Meter.LOAD);
+		transform = metrics.timer(Meter.TRANSFORM);
+	}
+
+	/**
+	 * Return the timer which tracks the round trip of the search request to Elasticsearch.
+	 *
+	 * @return
+	 */
+	public Timer getRequest() {
+		return request;
+	}
+
+	/**
+	 * Return the timer which tracks the loading and permission check of the elements of the hits.
+	 *
+	 * @return
+	 */
+	public Timer getLoad() {
+		return load;
+	}
+
+	/**
+	 * Return the timer which tracks the transformation of the elements to rest models.
+	 *
+	 * @return
+	 */
+	public Timer getTransform() {
+		return transform;
+	}
+
+	public enum Meter implements Metric {
+
+		REQUEST("request_time", "Timer which tracks the round trip of search queries to Elasticsearch."),
+
+		LOAD("load_time", "Timer which tracks the loading of the elements of the search hits."),
+
+		TRANSFORM("transform_time", "Timer which tracks the transformation of the search hits to rest models.");
+
+		private final String key;
+
+		private final String description;
+
+		Meter(String key, String description) {
+			this.key = key;
+			this.description = description;
+		}
+
+		@Override
+		public String key() {
+			return "mesh_search_query_" + key;
+		}
+
+		@Override
+		public String description() {
+			return description;
+		}
+	}
+}
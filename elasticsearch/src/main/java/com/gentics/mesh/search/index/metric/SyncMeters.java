@@ -2,11 +2,13 @@ package com.gentics.mesh.search.index.metric;
 
 import static com.gentics.mesh.search.index.metric.SyncMetric.Operation.DELETE;
 import static com.gentics.mesh.search.index.metric.SyncMetric.Operation.INSERT;
+import static com.gentics.mesh.search.index.metric.SyncMetric.Operation.STORE;
 import static com.gentics.mesh.search.index.metric.SyncMetric.Operation.UPDATE;
 
 import com.gentics.mesh.core.rest.search.EntityMetrics;
 import com.gentics.mesh.metric.MetricsService;
 
+import io.micrometer.core.instrument.Counter;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -20,6 +22,8 @@ public class SyncMeters {
 	private final SyncMeter insert;
 	private final SyncMeter delete;
 	private final SyncMeter update;
+	private final Counter sentDocuments;
+	private final Counter skippedDocuments;
 
 	/**
 	 * Create a new metric object and reset all managed metrics for the given type.
@@ -31,6 +35,8 @@ public class SyncMeters {
 		insert = new SyncMeter(metrics, type, INSERT);
 		update = new SyncMeter(metrics, type, UPDATE);
 		delete = new SyncMeter(metrics, type, DELETE);
+		sentDocuments = metrics.counter(new SyncMetric(type, STORE, SyncMetric.Meter.SENT));
+		skippedDocuments = metrics.counter(new SyncMetric(type, STORE, SyncMetric.Meter.SKIPPED));
 	}
 
 	public EntityMetrics createSnapshot() {
@@ -58,4 +64,26 @@ public class SyncMeters {
 		return update;
 	}
 
+	/**
+	 * Count a document which has been sent to Elasticsearch because it changed.
+	 */
+	public void documentSent() {
+		sentDocuments.increment();
+	}
+
+	/**
+	 * Count a document which has not been sent to Elasticsearch because it did not change.
+	 */
+	public void documentSkipped() {
+		skippedDocuments.increment();
+	}
+
+	public long getSentDocuments() {
+		return (long) sentDocuments.count();
+	}
+
+	public long getSkippedDocuments() {
+		return (long) skippedDocuments.count();
+	}
+
 }
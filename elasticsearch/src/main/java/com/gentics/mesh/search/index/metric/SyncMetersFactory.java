@@ -14,15 +14,27 @@ public class SyncMetersFactory {
 
 	private final Map<String, SyncMeters> meters = new ConcurrentHashMap<>();
 
+	private final RequestMeters requestMeters;
+
 	@Inject
 	public SyncMetersFactory(MetricsService registry) {
 		this.registry = registry;
+		this.requestMeters = new RequestMeters(registry);
 	}
 
 	public SyncMeters createSyncMetric(String type) {
 		return meters.computeIfAbsent(type, k -> new SyncMeters(registry, k));
 	}
 
+	/**
+	 * Return the meters for the requests which are sent to Elasticsearch.
+	 *
+	 * @return
+	 */
+	public RequestMeters getRequestMeters() {
+		return requestMeters;
+	}
+
 	public void reset() {
 		meters.values().forEach(SyncMeters::reset);
 	}
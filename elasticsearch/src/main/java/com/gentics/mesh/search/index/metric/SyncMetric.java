@@ -27,10 +27,13 @@ public class SyncMetric implements Metric {
 		INSERT,
 		UPDATE,
 		DELETE,
+		STORE
 	}
 
 	public enum Meter {
 		PENDING,
-		SYNCED
+		SYNCED,
+		SENT,
+		SKIPPED
 	}
 }
@@ -76,8 +76,8 @@ public class MicroschemaContainerIndexHandler extends AbstractIndexHandler<Micro
 	}
 
 	@Override
-	public Flowable<SearchRequest> syncIndices() {
-		return diffAndSync(MicroschemaContainer.composeIndexName(), null);
+	public Flowable<SearchRequest> syncIndices(boolean deep) {
+		return diffAndSync(MicroschemaContainer.composeIndexName(), null, deep);
 	}
 
 	@Override
@@ -100,6 +100,11 @@ public class MicroschemaContainerIndexHandler extends AbstractIndexHandler<Micro
 		return boot.meshRoot().getMicroschemaContainerRoot().findAll().stream();
 	}
 
+	@Override
+	protected long countElements() {
+		return db.type().count(boot.meshRoot().getMicroschemaContainerRoot().getPersistanceClass());
+	}
+
 	@Override
 	public Map<String, IndexInfo> getIndices() {
 		String indexName = MicroschemaContainer.composeIndexName();
@@ -22,7 +22,6 @@ import org.jsoup.Jsoup;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
-import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.TagFamily;
 import com.gentics.mesh.core.data.binary.Binary;
@@ -121,17 +120,12 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 	 * @param type
 	 */
 	private void addPermissionInfo(JsonObject document, Node node, ContainerType type) {
-		List<String> roleUuids = new ArrayList<>();
-
-		for (Role role : node.getRolesWithPerm(READ_PERM)) {
-			roleUuids.add(role.getUuid());
-		}
+		// The uuids are read from the permission properties directly. Loading the role vertices is not needed.
+		List<String> roleUuids = new ArrayList<>(node.getRoleUuidsWithPerm(READ_PERM));
 
 		// Also add the roles which would grant read on published nodes if the container is published.
 		if (type == PUBLISHED) {
-			for (Role role : node.getRolesWithPerm(READ_PUBLISHED_PERM)) {
-				roleUuids.add(role.getUuid());
-			}
+			roleUuids.addAll(node.getRoleUuidsWithPerm(READ_PUBLISHED_PERM));
 		}
 		document.put("_roleUuids", roleUuids);
 	}
@@ -285,31 +279,23 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 					case "date":
 						DateGraphFieldList graphDateList = container.getDateList(fieldSchema.getName());
 						if (graphDateList != null) {
-							List<Long> dateItems = new ArrayList<>();
-							for (DateGraphField listItem : graphDateList.getList()) {
-								dateItems.add(listItem.getDate());
-							}
-							fieldsMap.put(fieldSchema.getName(), dateItems);
+							fieldsMap.put(fieldSchema.getName(), graphDateList.getValues());
 						}
 						break;
 					case "number":
 						NumberGraphFieldList graphNumberList = container.getNumberList(fieldSchema.getName());
 						if (graphNumberList != null) {
-							List<Number> numberItems = new ArrayList<>();
-							for (NumberGraphField listItem : graphNumberList.getList()) {
-								// TODO Number can also be a big decimal. We need to convert those special objects into basic numbers or else ES will not be
-								// able to store them
-								numberItems.add(listItem.getNumber());
-							}
-							fieldsMap.put(fieldSchema.getName(), numberItems);
+							// TODO Number can also be a big decimal. We need to convert those special objects into basic numbers or else ES will not be
+							// able to store them
+							fieldsMap.put(fieldSchema.getName(), graphNumberList.getValues());
 						}
 						break;
 					case "boolean":
 						BooleanGraphFieldList graphBooleanList = container.getBooleanList(fieldSchema.getName());
 						if (graphBooleanList != null) {
 							List<String> booleanItems = new ArrayList<>();
-							for (BooleanGraphField listItem : graphBooleanList.getList()) {
-								booleanItems.add(String.valueOf(listItem.getBoolean()));
+							for (Boolean value : graphBooleanList.getValues()) {
+								booleanItems.add(String.valueOf(value));
 							}
 							fieldsMap.put(fieldSchema.getName(), booleanItems);
 						}
@@ -333,8 +319,7 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 						StringGraphFieldList graphStringList = container.getStringList(fieldSchema.getName());
 						if (graphStringList != null) {
 							List<String> stringItems = new ArrayList<>();
-							for (StringGraphField listItem : graphStringList.getList()) {
-								String value = listItem.getString();
+							for (String value : graphStringList.getValues()) {
 								if (addRaw) {
 									value = truncateRawFieldValue(value);
 								}
@@ -347,8 +332,7 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 						HtmlGraphFieldList graphHtmlList = container.getHTMLList(fieldSchema.getName());
 						if (graphHtmlList != null) {
 							List<String> htmlItems = new ArrayList<>();
-							for (HtmlGraphField listItem : graphHtmlList.getList()) {
-								String value = listItem.getHTML();
+							for (String value : graphHtmlList.getValues()) {
 								if (value != null) {
 									String plainValue = Jsoup.parse(value).text();
 									if (addRaw) {
@@ -471,6 +455,11 @@ public class NodeContainerTransformer extends AbstractTransformer<NodeGraphField
 		builder.append(project.getUuid() + project.getName());
 		builder.append("|");
 		builder.append(node.getElementVersion());
+		// The documents contain the names of the tags and tag families which are not part of the node version
+		for (Tag tag : node.getTags(project.getLatestBranch())) {
+			builder.append("|");
+			builder.append(tag.getUuid() + tag.getName() + tag.getTagFamily().getName());
+		}
 
 		return ETag.hash(builder.toString());
 	}
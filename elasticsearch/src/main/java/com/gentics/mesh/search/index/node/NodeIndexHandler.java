@@ -7,14 +7,20 @@ import static com.gentics.mesh.search.index.node.NodeIndexUtil.getDefaultSetting
 import static com.gentics.mesh.search.index.node.NodeIndexUtil.getLanguageOverride;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -27,6 +33,8 @@ import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.Tag;
+import com.gentics.mesh.core.data.TagFamily;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
@@ -39,7 +47,6 @@ import com.gentics.mesh.core.data.search.context.GenericEntryContext;
 import com.gentics.mesh.core.data.search.context.MoveEntryContext;
 import com.gentics.mesh.core.data.search.context.impl.GenericEntryContextImpl;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
-import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.schema.Schema;
@@ -50,16 +57,19 @@ import com.gentics.mesh.graphdb.spi.Transactional;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.entry.AbstractIndexHandler;
 import com.gentics.mesh.search.index.metric.SyncMetersFactory;
+import com.gentics.mesh.search.index.sync.IndexSyncCheckpoints;
+import com.gentics.mesh.search.index.sync.IndexVersionIterator;
+import com.gentics.mesh.search.index.sync.SortedMergeDiff.Difference;
+import com.gentics.mesh.search.index.sync.SortedMergeDiff.Type;
 import com.gentics.mesh.search.verticle.eventhandler.MeshHelper;
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Lists;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.reactivex.functions.Action;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -223,108 +233,355 @@ public class NodeIndexHandler extends AbstractIndexHandler<Node> {
 	}
 
 	@Override
-	public Flowable<SearchRequest> syncIndices() {
+	public Flowable<SearchRequest> syncIndices(boolean deep) {
 		return Flowable.defer(() -> db.tx(() -> {
 			return boot.meshRoot().getProjectRoot().findAll().stream()
 				.flatMap(project -> project.getBranchRoot().findAll().stream()
 					.flatMap(branch -> branch.findActiveSchemaVersions().stream()
 						.flatMap(version -> Stream.of(DRAFT, PUBLISHED)
-							.map(type -> diffAndSync(project, branch, version, type)))))
+							.map(type -> diffAndSync(project, branch, version, type, deep)))))
 				.collect(Collectors.collectingAndThen(Collectors.toList(), Flowable::merge));
 		}));
 	}
 
 	/**
+	 * Load the (document id, version) entries of the containers of the given index from the graph. The nodes of the schema are loaded page by page in
+	 * ascending order of their uuid via the sorted node index. The entries are thus returned in the order of the document ids. Each page is loaded in a
+	 * separate transaction and only the current page is kept in memory.
 	 *
-	 * @param branch
-	 * @param version
+	 * @param indexName
+	 * @param projectUuid
+	 * @param schemaUuid
+	 * @param branchUuid
+	 * @param versionUuid
 	 * @param type
-	 * @return indexName -> documentName -> NodeGraphFieldContainer
+	 * @param indexLanguages
+	 *            Languages which have their own index
+	 * @return Lazy iterator over the sorted entries
 	 */
-	private Map<String, Map<String, NodeGraphFieldContainer>> loadVersionsFromGraph(Branch branch, SchemaContainerVersion version, ContainerType type) {
+	private Iterator<Entry<String, String>> loadVersionsFromGraph(String indexName, String projectUuid, String schemaUuid, String branchUuid,
+		String versionUuid, ContainerType type, List<String> indexLanguages) {
+		return new AbstractIterator<Entry<String, String>>() {
+
+			private String lastUuid;
+
+			private Iterator<Entry<String, String>> page = Collections.emptyIterator();
+
+			private boolean exhausted;
+
+			@Override
+			protected Entry<String, String> computeNext() {
+				while (!page.hasNext()) {
+					if (exhausted) {
+						return endOfData();
+					}
+					page = loadPage().iterator();
+				}
+				return page.next();
+			}
+
+			private List<Entry<String, String>> loadPage() {
+				return db.tx(() -> {
+					Iterator<Entry<Object, Object>> nodes = db.index().vertexRangeLookup(Node.class, Node.PROJECT_SCHEMA_UUID_INDEX_POSTFIX,
+						new Object[] { projectUuid, schemaUuid }, lastUuid, null);
+					if (nodes == null) {
+						throw error(INTERNAL_SERVER_ERROR, "Sorted index {" + Node.PROJECT_SCHEMA_UUID_INDEX_POSTFIX + "} for nodes not found");
+					}
+					List<Entry<String, String>> entries = new ArrayList<>();
+					int count = 0;
+					while (count < ES_SYNC_FETCH_BATCH_SIZE && nodes.hasNext()) {
+						lastUuid = (String) nodes.next().getKey();
+						count++;
+						Node node = elementLoader().apply(lastUuid);
+						if (node != null) {
+							addVersions(entries, node, indexName, projectUuid, branchUuid, versionUuid, type, indexLanguages);
+						}
+					}
+					exhausted = count < ES_SYNC_FETCH_BATCH_SIZE;
+					return entries;
+				});
+			}
+		};
+	}
+
+	/**
+	 * Load the (document id, version) entries of the containers of the given nodes from the graph.
+	 *
+	 * @param indexName
+	 * @param nodeUuids
+	 *            Sorted uuids of the nodes
+	 * @param projectUuid
+	 * @param branchUuid
+	 * @param versionUuid
+	 * @param type
+	 * @param indexLanguages
+	 *            Languages which have their own index
+	 * @return Sorted entries
+	 */
+	private Iterator<Entry<String, String>> loadVersionsFromGraph(String indexName, List<String> nodeUuids, String projectUuid, String branchUuid,
+		String versionUuid, ContainerType type, List<String> indexLanguages) {
 		return db.tx(() -> {
-			String branchUuid = branch.getUuid();
-			List<String> indexLanguages = version.getSchema().findOverriddenSearchLanguages().collect(Collectors.toList());
-
-			return version.getFieldContainers(branchUuid)
-				.filter(c -> c.isType(type, branchUuid))
-				.collect(Collectors.groupingBy(content -> {
-					String languageTag = content.getLanguageTag();
-					return NodeGraphFieldContainer.composeIndexName(
-							branch.getProject().getUuid(),
-							branchUuid,
-							version.getUuid(),
-							type,
-							indexLanguages.contains(languageTag)
-								? languageTag
-								: null
-						);
-					},
-					Collectors.toMap(c -> c.getParentNode().getUuid() + "-" + c.getLanguageTag(), Function.identity())
-				));
+			List<Entry<String, String>> entries = new ArrayList<>();
+			for (String nodeUuid : nodeUuids) {
+				Node node = elementLoader().apply(nodeUuid);
+				if (node != null) {
+					addVersions(entries, node, indexName, projectUuid, branchUuid, versionUuid, type, indexLanguages);
+				}
+			}
+			return entries.iterator();
 		});
 	}
 
 	/**
-	 * We need to override the default method since the UUID alone is not enough to id a document in the node index. We also need to append the language.
+	 * Add the (document id, version) entries of the containers of the node which belong to the given index.
+	 *
+	 * @param entries
+	 * @param node
+	 * @param indexName
+	 * @param projectUuid
+	 * @param branchUuid
+	 * @param versionUuid
+	 * @param type
+	 * @param indexLanguages
 	 */
-	@Override
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
-		for (int i = 0; i < hits.size(); i++) {
-			JsonObject hit = hits.getJsonObject(i);
-			JsonObject source = hit.getJsonObject("_source");
-			// The id contains the UUID + language
-			String uuidAndLang = hit.getString("_id");
-			String version = source.getString("version");
-			versions.put(uuidAndLang, version);
+	private void addVersions(List<Entry<String, String>> entries, Node node, String indexName, String projectUuid, String branchUuid, String versionUuid,
+		ContainerType type, List<String> indexLanguages) {
+		String nodeUuid = node.getUuid();
+		// The document ids of a node only differ by the language tag
+		List<? extends NodeGraphFieldContainer> containers = node.getGraphFieldContainers(branchUuid, type).stream()
+			.filter(c -> c.getSchemaContainerVersion().getUuid().equals(versionUuid))
+			.filter(c -> {
+				String languageTag = c.getLanguageTag();
+				return NodeGraphFieldContainer.composeIndexName(projectUuid, branchUuid, versionUuid, type,
+					indexLanguages.contains(languageTag) ? languageTag : null).equals(indexName);
+			})
+			.sorted(Comparator.comparing(NodeGraphFieldContainer::getLanguageTag))
+			.collect(Collectors.toList());
+		for (NodeGraphFieldContainer container : containers) {
+			entries.add(new AbstractMap.SimpleImmutableEntry<>(
+				NodeGraphFieldContainer.composeDocumentId(nodeUuid, container.getLanguageTag()),
+				generateVersion(container, branchUuid, type)));
 		}
 	}
 
-	private Flowable<SearchRequest> diffAndSync(Project project, Branch branch, SchemaContainerVersion version, ContainerType type) {
-		return Flowable.defer(() -> {
-			Map<String, Map<String, NodeGraphFieldContainer>> sourceNodesPerIndex = loadVersionsFromGraph(branch, version, type);
-			return Flowable.fromIterable(getIndexNames(project, branch, version, type))
-				.flatMap(indexName -> loadVersionsFromIndex(indexName).flatMapPublisher(sinkVersions -> {
-				log.info("Handling index sync on handler {" + getClass().getName() + "}");
-				Map<String, NodeGraphFieldContainer> sourceNodes = sourceNodesPerIndex.getOrDefault(indexName, Collections.emptyMap());
-				String branchUuid = branch.getUuid();
-
-				Map<String, String> sourceVersions = db.tx(() -> sourceNodes.entrySet().stream()
-					.collect(Collectors.toMap(Map.Entry::getKey, x -> generateVersion(x.getValue(), branchUuid, type))));
-
-				// 3. Diff the maps
-				MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-				if (diff.areEqual()) {
-					return Flowable.empty();
+	/**
+	 * Load the uuids of the nodes of the given schema whose documents may have changed since the given time. Besides the changed nodes these are the nodes
+	 * which are tagged with changed tags or with tags of changed tag families.
+	 *
+	 * @param project
+	 * @param schemaUuid
+	 * @param since
+	 * @return Sorted uuids or null if all documents need to be compared
+	 */
+	private List<String> loadChangedNodeUuids(Project project, String schemaUuid, long since) {
+		Long projectChanged = project.getIndexChangeTimestamp();
+		if (projectChanged != null && projectChanged >= since) {
+			// The documents contain the name of the project
+			return null;
+		}
+		List<String> nodes = loadChangedUuids(Node.class, Node.PROJECT_SCHEMA_INDEX_CHANGE_INDEX_POSTFIX, new Object[] { project.getUuid(), schemaUuid },
+			since);
+		List<String> tags = loadChangedUuids(Tag.class, since);
+		List<String> tagFamilies = loadChangedUuids(TagFamily.class, since);
+		if (nodes == null || tags == null || tagFamilies == null) {
+			return null;
+		}
+
+		// The documents contain the names of the tags of the latest branch and the names of their tag families
+		Branch branch = project.getLatestBranch();
+		Set<String> uuids = new TreeSet<>(nodes);
+		for (String tagUuid : tags) {
+			Tag tag = boot.meshRoot().getTagRoot().findByUuid(tagUuid);
+			if (tag != null) {
+				addTaggedNodes(uuids, tag, branch, schemaUuid);
+			}
+		}
+		for (String tagFamilyUuid : tagFamilies) {
+			TagFamily tagFamily = boot.meshRoot().getTagFamilyRoot().findByUuid(tagFamilyUuid);
+			if (tagFamily != null) {
+				for (Tag tag : tagFamily.findAll()) {
+					addTaggedNodes(uuids, tag, branch, schemaUuid);
 				}
-				Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-				Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
-				Set<String> needUpdateInEs = diff.entriesDiffering().keySet();
+			}
+		}
+		return new ArrayList<>(uuids);
+	}
 
-				log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-				log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
-				log.info("Pending updates on {" + indexName + "}:" + needUpdateInEs.size());
+	private void addTaggedNodes(Set<String> uuids, Tag tag, Branch branch, String schemaUuid) {
+		for (Node node : tag.getNodes(branch)) {
+			if (node.getSchemaContainer().getUuid().equals(schemaUuid)) {
+				uuids.add(node.getUuid());
+			}
+		}
+	}
 
-				meters.getInsertMeter().addPending(needInsertionInES.size());
-				meters.getDeleteMeter().addPending(needRemovalInES.size());
-				meters.getUpdateMeter().addPending(needUpdateInEs.size());
+	/**
+	 * Compare the documents of the given changed nodes with the index. Documents of removed nodes are found via the parent node reference of the documents,
+	 * since removing a node marks its parents as changed.
+	 *
+	 * @param indexName
+	 * @param changed
+	 *            Sorted uuids of the changed nodes
+	 * @param projectUuid
+	 * @param branchUuid
+	 * @param versionUuid
+	 * @param type
+	 * @param indexLanguages
+	 * @return
+	 */
+	private Flowable<SearchRequest> diffChangedAndSync(String indexName, List<String> changed, String projectUuid, String branchUuid, String versionUuid,
+		ContainerType type, List<String> indexLanguages) {
+		log.info("Found {" + changed.size() + "} changed nodes for index {" + indexName + "}");
+		BiFunction<String, Action, SearchRequest> requestFactory = (documentId, action) -> createSyncRequest(indexName, documentId, branchUuid,
+			versionUuid, type, action);
+		return Flowable.fromIterable(Lists.partition(changed, ES_SYNC_FETCH_BATCH_SIZE))
+			.concatMap(batch -> diffAndSync(indexName,
+				() -> loadVersionsFromGraph(indexName, batch, projectUuid, branchUuid, versionUuid, type, indexLanguages),
+				() -> new IndexVersionIterator(searchProvider, indexName, ES_SYNC_FETCH_BATCH_SIZE, termsQuery("uuid", batch)), requestFactory, diff -> {})
+				.concatWith(removeOrphans(indexName, batch)));
+	}
 
-				io.reactivex.functions.Function<Action, io.reactivex.functions.Function<String, CreateDocumentRequest>> toCreateRequest = action -> uuid -> {
-					JsonObject doc = db.tx(() -> getTransformer().toDocument(sourceNodes.get(uuid), branchUuid, type));
-					return helper.createDocumentRequest(indexName, uuid, doc, complianceMode, action);
-				};
+	/**
+	 * Remove the documents of the removed nodes whose parent is one of the given nodes. The documents of removed descendants are removed recursively.
+	 *
+	 * @param indexName
+	 * @param parentUuids
+	 * @return
+	 */
+	private Flowable<SearchRequest> removeOrphans(String indexName, List<String> parentUuids) {
+		return Flowable.defer(() -> {
+			List<String> documentIds = new ArrayList<>();
+			new IndexVersionIterator(searchProvider, indexName, ES_SYNC_FETCH_BATCH_SIZE, termsQuery("parentNode.uuid", parentUuids))
+				.forEachRemaining(entry -> documentIds.add(entry.getKey()));
+			Set<String> removedNodes = new TreeSet<>();
+			List<SearchRequest> requests = db.tx(() -> {
+				List<SearchRequest> removals = new ArrayList<>();
+				for (String documentId : documentIds) {
+					String nodeUuid = documentId.substring(0, documentId.indexOf("-"));
+					if (elementLoader().apply(nodeUuid) == null) {
+						removedNodes.add(nodeUuid);
+						removals.add(toSyncRequest(indexName, new Difference(Type.DELETE, documentId), null));
+					}
+				}
+				return removals;
+			});
+			if (removedNodes.isEmpty()) {
+				return Flowable.fromIterable(requests);
+			}
+			return Flowable.fromIterable(requests)
+				.concatWith(Flowable.fromIterable(Lists.partition(new ArrayList<>(removedNodes), ES_SYNC_FETCH_BATCH_SIZE))
+					.concatMap(batch -> removeOrphans(indexName, batch)));
+		});
+	}
 
-				Flowable<SearchRequest> toInsert = Flowable.fromIterable(needInsertionInES)
-					.map(toCreateRequest.apply(meters.getInsertMeter()::synced));
+	/**
+	 * Load the container which is referenced by the given document id.
+	 *
+	 * @param documentId
+	 * @param branchUuid
+	 * @param versionUuid
+	 * @param type
+	 * @return Found container or null if the container no longer belongs to the index
+	 */
+	private NodeGraphFieldContainer loadContainer(String documentId, String branchUuid, String versionUuid, ContainerType type) {
+		// The node uuid does not contain dashes. The remaining part is the language tag.
+		int pos = documentId.indexOf("-");
+		Node node = elementLoader().apply(documentId.substring(0, pos));
+		if (node == null) {
+			return null;
+		}
+		NodeGraphFieldContainer container = node.getGraphFieldContainer(documentId.substring(pos + 1), branchUuid, type);
+		if (container == null || !container.getSchemaContainerVersion().getUuid().equals(versionUuid)) {
+			return null;
+		}
+		return container;
+	}
 
-				Flowable<SearchRequest> toUpdate = Flowable.fromIterable(needUpdateInEs)
-					.map(toCreateRequest.apply(meters.getUpdateMeter()::synced));
+	/**
+	 * Create the request which updates the document of a changed container.
+	 *
+	 * @param indexName
+	 * @param documentId
+	 * @param branchUuid
+	 * @param versionUuid
+	 * @param type
+	 * @param action
+	 *            Action which is invoked once the request was processed
+	 * @return
+	 */
+	private SearchRequest createSyncRequest(String indexName, String documentId, String branchUuid, String versionUuid, ContainerType type,
+		Action action) {
+		NodeGraphFieldContainer container = loadContainer(documentId, branchUuid, versionUuid, type);
+		if (container == null) {
+			// The container was removed after the changes were loaded
+			return helper.deleteDocumentRequest(indexName, documentId, complianceMode, action);
+		}
+		JsonObject doc = getTransformer().toDocument(container, branchUuid, type);
+		return helper.createDocumentRequest(indexName, documentId, doc, complianceMode, action);
+	}
 
-				Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
-					.map(uuid -> helper.deleteDocumentRequest(indexName, uuid, complianceMode, meters.getDeleteMeter()::synced));
+	/**
+	 * Synchronize the indices of the given schema version. Only the versions of containers which were changed since the checkpoints of the indices will be
+	 * compared if the incremental sync can be used.
+	 *
+	 * @param project
+	 * @param branch
+	 * @param version
+	 * @param type
+	 * @param deep
+	 * @return
+	 */
+	private Flowable<SearchRequest> diffAndSync(Project project, Branch branch, SchemaContainerVersion version, ContainerType type, boolean deep) {
+		return Flowable.defer(() -> {
+			long start = System.currentTimeMillis();
+			List<String> indexNames = getIndexNames(project, branch, version, type);
+			if (!isIncrementalSync(deep)) {
+				return withCheckpoints(start, indexNames, diffAndSync(project, branch, version, type, (Long) null));
+			}
+			return checkpoints.load().flatMapPublisher(stored -> {
+				if (!stored.keySet().containsAll(indexNames)) {
+					log.info("No sync checkpoints found for indices {" + indexNames + "}. Using full diff.");
+					return withCheckpoints(start, indexNames, diffAndSync(project, branch, version, type, (Long) null));
+				}
+				long checkpoint = indexNames.stream().mapToLong(stored::get).min().getAsLong();
+				log.info("Synchronizing indices {" + indexNames + "} incrementally since checkpoint {" + checkpoint + "}");
+				return withCheckpoints(start, indexNames,
+					diffAndSync(project, branch, version, type, checkpoint - IndexSyncCheckpoints.CHECKPOINT_OVERLAP));
+			});
+		});
+	}
 
-				return Flowable.merge(toInsert, toUpdate, toDelete);
-			}));
+	/**
+	 * Diff the containers of the given schema version with the documents of the indices.
+	 *
+	 * @param project
+	 * @param branch
+	 * @param version
+	 * @param type
+	 * @param since
+	 *            Only compare the documents of nodes which were changed since the given time. The documents of all nodes will be compared if null.
+	 * @return
+	 */
+	private Flowable<SearchRequest> diffAndSync(Project project, Branch branch, SchemaContainerVersion version, ContainerType type, Long since) {
+		return Flowable.defer(() -> {
+			String projectUuid = db.tx(() -> project.getUuid());
+			String schemaUuid = db.tx(() -> version.getSchemaContainer().getUuid());
+			String branchUuid = db.tx(() -> branch.getUuid());
+			String versionUuid = db.tx(() -> version.getUuid());
+			List<String> indexLanguages = db.tx(() -> version.getSchema().findOverriddenSearchLanguages().collect(Collectors.toList()));
+			List<String> changed = since == null ? null : db.tx(() -> loadChangedNodeUuids(project, schemaUuid, since));
+			if (since != null && changed == null) {
+				log.info("Changes of schema {" + schemaUuid + "} in project {" + projectUuid + "} can't be loaded incrementally. Using full diff.");
+			}
+			return Flowable.fromIterable(getIndexNames(project, branch, version, type))
+				.concatMap(indexName -> {
+					if (changed != null) {
+						return diffChangedAndSync(indexName, changed, projectUuid, branchUuid, versionUuid, type, indexLanguages);
+					}
+					return diffAndSync(indexName,
+						() -> loadVersionsFromGraph(indexName, projectUuid, schemaUuid, branchUuid, versionUuid, type, indexLanguages),
+						(documentId, action) -> createSyncRequest(indexName, documentId, branchUuid, versionUuid, type, action));
+				});
 		});
 	}
 
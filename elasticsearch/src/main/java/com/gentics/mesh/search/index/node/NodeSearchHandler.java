@@ -1,5 +1,7 @@
 package com.gentics.mesh.search.index.node;
 
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapError;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapToMeshError;
@@ -181,4 +183,13 @@ public class NodeSearchHandler extends AbstractSearchHandler<Node, NodeResponse>
 
 	}
 
+	@Override
+	protected GraphPermission readPermission(InternalActionContext ac) {
+		// Published contents may also be read with the read published permission
+		if (ContainerType.forVersion(ac.getVersioningParameters().getVersion()) == ContainerType.PUBLISHED) {
+			return READ_PUBLISHED_PERM;
+		}
+		return READ_PERM;
+	}
+
 }
@@ -74,8 +74,8 @@ public class ProjectIndexHandler extends AbstractIndexHandler<Project> {
 	}
 
 	@Override
-	public Flowable<SearchRequest> syncIndices() {
-		return diffAndSync(Project.composeIndexName(), null);
+	public Flowable<SearchRequest> syncIndices(boolean deep) {
+		return diffAndSync(Project.composeIndexName(), null, deep);
 	}
 
 	@Override
@@ -101,6 +101,11 @@ public class ProjectIndexHandler extends AbstractIndexHandler<Project> {
 		return boot.meshRoot().getProjectRoot().findAll().stream();
 	}
 
+	@Override
+	protected long countElements() {
+		return db.type().count(boot.meshRoot().getProjectRoot().getPersistanceClass());
+	}
+
 	@Override
 	public Map<String, IndexInfo> getIndices() {
 		String indexName = Project.composeIndexName();
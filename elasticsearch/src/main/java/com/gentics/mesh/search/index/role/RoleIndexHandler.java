@@ -81,8 +81,8 @@ public class RoleIndexHandler extends AbstractIndexHandler<Role> {
 	}
 
 	@Override
-	public Flowable<SearchRequest> syncIndices() {
-		return diffAndSync(Role.composeIndexName(), null);
+	public Flowable<SearchRequest> syncIndices(boolean deep) {
+		return diffAndSync(Role.composeIndexName(), null, deep);
 	}
 
 	@Override
@@ -105,4 +105,9 @@ public class RoleIndexHandler extends AbstractIndexHandler<Role> {
 		return boot.meshRoot().getRoleRoot().findAll().stream();
 	}
 
+	@Override
+	protected long countElements() {
+		return db.type().count(boot.meshRoot().getRoleRoot().getPersistanceClass());
+	}
+
 }
@@ -74,8 +74,8 @@ public class SchemaContainerIndexHandler extends AbstractIndexHandler<SchemaCont
 	}
 
 	@Override
-	public Flowable<SearchRequest> syncIndices() {
-		return diffAndSync(SchemaContainer.composeIndexName(), null);
+	public Flowable<SearchRequest> syncIndices(boolean deep) {
+		return diffAndSync(SchemaContainer.composeIndexName(), null, deep);
 	}
 
 	@Override
@@ -104,4 +104,9 @@ public class SchemaContainerIndexHandler extends AbstractIndexHandler<SchemaCont
 	public Stream<? extends SchemaContainer> loadAllElements() {
 		return boot.meshRoot().getSchemaContainerRoot().findAll().stream();
 	}
+
+	@Override
+	protected long countElements() {
+		return db.type().count(boot.meshRoot().getSchemaContainerRoot().getPersistanceClass());
+	}
 }
@@ -0,0 +1,126 @@
+package com.gentics.mesh.search.index.sync;
+
+import static com.gentics.mesh.search.SearchProvider.DEFAULT_TYPE;
+import static com.gentics.mesh.search.verticle.eventhandler.RxUtil.scrollAll;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.gentics.elasticsearch.client.ElasticsearchClient;
+import com.gentics.mesh.core.data.search.index.IndexInfo;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.etc.config.search.ComplianceMode;
+import com.gentics.mesh.search.SearchProvider;
+import com.gentics.mesh.search.index.entry.AbstractIndexHandler;
+
+import io.reactivex.Completable;
+import io.reactivex.Single;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Storage for the checkpoints of the incremental index sync. The checkpoints are stored in a dedicated Elasticsearch index. Each synchronized index has a
+ * checkpoint document which contains the time at which the last successful sync of the index was started. The checkpoint is only written once all requests of
+ * the sync have been processed. An interrupted sync will thus resume from the previous checkpoint of the index.
+ */
+public class IndexSyncCheckpoints {
+
+	private static final Logger log = LoggerFactory.getLogger(IndexSyncCheckpoints.class);
+
+	/**
+	 * Name of the index which contains the checkpoints.
+	 */
+	public static final String INDEX_NAME = "sync-checkpoint";
+
+	/**
+	 * Overlap which is subtracted from the checkpoint. This way elements of transactions which were still running when the checkpoint was taken and clock
+	 * differences between cluster instances are covered by the next sync.
+	 */
+	public static final long CHECKPOINT_OVERLAP = TimeUnit.MINUTES.toMillis(5);
+
+	private static final String TIMESTAMP_KEY = "timestamp";
+
+	private final SearchProvider searchProvider;
+
+	private final ComplianceMode complianceMode;
+
+	public IndexSyncCheckpoints(SearchProvider searchProvider, ComplianceMode complianceMode) {
+		this.searchProvider = searchProvider;
+		this.complianceMode = complianceMode;
+	}
+
+	/**
+	 * Create the checkpoint index if it does not yet exist.
+	 * 
+	 * @return
+	 */
+	public Completable init() {
+		return searchProvider.createIndex(new IndexInfo(INDEX_NAME, null, createMapping(), "index sync checkpoints"));
+	}
+
+	/**
+	 * Load all stored checkpoints. An empty map will be returned if the checkpoints can't be loaded. All indices will be synchronized using a full diff in this
+	 * case.
+	 * 
+	 * @return Checkpoint timestamps per index name
+	 */
+	public Single<Map<String, Long>> load() {
+		return Single.defer(() -> {
+			ElasticsearchClient<JsonObject> client = searchProvider.getClient();
+			JsonObject query = new JsonObject();
+			query.put("size", AbstractIndexHandler.ES_SYNC_FETCH_BATCH_SIZE);
+			query.put("query", new JsonObject().put("match_all", new JsonObject()));
+			query.put("sort", new JsonArray().add("_doc"));
+
+			return init().andThen(scrollAll(client, query, "1m", searchProvider.installationPrefix() + INDEX_NAME)
+				.flatMapIterable(response -> response.getJsonObject("hits").getJsonArray("hits"))
+				.cast(JsonObject.class)
+				.toMap(hit -> hit.getString("_id"), hit -> hit.getJsonObject("_source").getLong(TIMESTAMP_KEY)));
+		}).onErrorReturn(error -> {
+			log.warn("Could not load the index sync checkpoints. All indices will be fully synchronized.", error);
+			return Collections.emptyMap();
+		});
+	}
+
+	/**
+	 * Create a request which stores the checkpoint for the given index.
+	 * 
+	 * @param indexName
+	 * @param timestamp
+	 *            Time at which the sync of the index was started
+	 * @return
+	 */
+	public SearchRequest store(String indexName, long timestamp) {
+		return SearchRequest.create(provider -> {
+			JsonObject document = new JsonObject();
+			document.put("index", indexName);
+			document.put(TIMESTAMP_KEY, timestamp);
+			return init().andThen(provider.storeDocument(INDEX_NAME, indexName, document))
+				.doOnComplete(() -> {
+					if (log.isDebugEnabled()) {
+						log.debug("Stored sync checkpoint {" + timestamp + "} for index {" + indexName + "}");
+					}
+				});
+		});
+	}
+
+	private JsonObject createMapping() {
+		JsonObject properties = new JsonObject();
+		properties.put("index", new JsonObject().put("type", "keyword"));
+		properties.put(TIMESTAMP_KEY, new JsonObject().put("type", "long"));
+		JsonObject typeMapping = new JsonObject();
+		typeMapping.put("properties", properties);
+
+		switch (complianceMode) {
+		case ES_6:
+			return new JsonObject().put(DEFAULT_TYPE, typeMapping);
+		case ES_7:
+			return typeMapping;
+		default:
+			throw new RuntimeException("Unknown mode {" + complianceMode + "}");
+		}
+	}
+}
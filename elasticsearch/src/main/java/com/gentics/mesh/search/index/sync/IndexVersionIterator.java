@@ -0,0 +1,115 @@
+package com.gentics.mesh.search.index.sync;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+import com.gentics.elasticsearch.client.ElasticsearchClient;
+import com.gentics.elasticsearch.client.HttpErrorException;
+import com.gentics.mesh.search.SearchProvider;
+import com.google.common.collect.AbstractIterator;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Iterator over the (document id, version) entries of an index. The documents are loaded page by page sorted by the document id. Each page is loaded via
+ * search_after using the id of the last document of the previous page. No search context is kept open in Elasticsearch between the pages, so the iterator
+ * can be consumed at any pace. Only the current page is kept in memory.
+ */
+public class IndexVersionIterator extends AbstractIterator<Entry<String, String>> {
+
+	private static final Logger log = LoggerFactory.getLogger(IndexVersionIterator.class);
+
+	private final ElasticsearchClient<JsonObject> client;
+
+	private final String fullIndexName;
+
+	private final int batchSize;
+
+	private final JsonObject query;
+
+	private String lastId;
+
+	private Iterator<Object> currentHits;
+
+	private boolean exhausted;
+
+	/**
+	 * Create a new iterator. The first page is only loaded once the iterator is used.
+	 *
+	 * @param searchProvider
+	 * @param indexName
+	 *            Name of the index without the installation prefix
+	 * @param batchSize
+	 *            Amount of documents per page
+	 */
+	public IndexVersionIterator(SearchProvider searchProvider, String indexName, int batchSize) {
+		this(searchProvider, indexName, batchSize, null);
+	}
+
+	/**
+	 * Create a new iterator which only returns the documents that match the given query.
+	 *
+	 * @param searchProvider
+	 * @param indexName
+	 *            Name of the index without the installation prefix
+	 * @param batchSize
+	 *            Amount of documents per page
+	 * @param query
+	 *            Query for the documents or null to iterate over all documents
+	 */
+	public IndexVersionIterator(SearchProvider searchProvider, String indexName, int batchSize, JsonObject query) {
+		this.client = searchProvider.getClient();
+		this.fullIndexName = searchProvider.installationPrefix() + indexName;
+		this.batchSize = batchSize;
+		this.query = query != null ? query : new JsonObject().put("match_all", new JsonObject());
+	}
+
+	@Override
+	protected Entry<String, String> computeNext() {
+		while (currentHits == null || !currentHits.hasNext()) {
+			if (exhausted) {
+				return endOfData();
+			}
+			loadNextPage();
+		}
+		JsonObject hit = (JsonObject) currentHits.next();
+		lastId = hit.getString("_id");
+		String version = hit.getJsonObject("_source").getString("version");
+		return new AbstractMap.SimpleImmutableEntry<>(lastId, version);
+	}
+
+	private void loadNextPage() {
+		try {
+			log.debug("Loading document info from index {" + fullIndexName + "} after {" + lastId + "}");
+			JsonObject queryOption = new JsonObject().put("index", fullIndexName);
+			JsonObject query = new JsonObject();
+			query.put("size", batchSize);
+			query.put("_source", new JsonArray().add("version"));
+			query.put("query", this.query);
+			query.put("sort", new JsonArray().add(new JsonObject().put("_id", "asc")));
+			if (lastId != null) {
+				query.put("search_after", new JsonArray().add(lastId));
+			}
+			JsonObject response = client.multiSearch(queryOption, query).sync()
+				.getJsonArray("responses").getJsonObject(0);
+			if (log.isTraceEnabled()) {
+				log.trace("Got response {" + response.encodePrettily() + "}");
+			}
+			JsonObject error = response.getJsonObject("error");
+			if (error != null) {
+				throw new RuntimeException("Error while loading version information from index {" + fullIndexName + "}: " + error.encode());
+			}
+			JsonArray hits = response.getJsonObject("hits").getJsonArray("hits");
+			exhausted = hits.size() < batchSize;
+			currentHits = hits.iterator();
+		} catch (HttpErrorException e) {
+			log.error("Error while loading version information from index {" + fullIndexName + "}", e.toString());
+			log.error(e);
+			throw new RuntimeException("Error while loading version information from index {" + fullIndexName + "}", e);
+		}
+	}
+}
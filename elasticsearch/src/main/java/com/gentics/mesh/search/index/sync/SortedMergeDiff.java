@@ -0,0 +1,207 @@
+package com.gentics.mesh.search.index.sync;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+
+/**
+ * Iterator which computes the differences between the documents of the source (graph) and the sink (index). Both inputs must provide their entries sorted by
+ * the document id. The inputs are merged while iterating and thus only the current entry of each input needs to be kept in memory.
+ *
+ * @param <V>
+ *            Type of the source values which are compared with the document versions of the sink
+ */
+public class SortedMergeDiff<V> extends AbstractIterator<SortedMergeDiff.Difference> {
+
+	private final PeekingIterator<Entry<String, V>> source;
+
+	private final PeekingIterator<Entry<String, String>> sink;
+
+	private final BiPredicate<V, String> outdated;
+
+	private String lastSourceId;
+
+	private String lastSinkId;
+
+	private long insertions;
+
+	private long updates;
+
+	private long removals;
+
+	/**
+	 * Create a new diff.
+	 *
+	 * @param source
+	 *            Source values of the graph, sorted by document id
+	 * @param sink
+	 *            Document versions of the index, sorted by document id
+	 * @param outdated
+	 *            Predicate which checks whether the document of the sink is outdated for the given source value and document version
+	 */
+	public SortedMergeDiff(Iterator<Entry<String, V>> source, Iterator<Entry<String, String>> sink, BiPredicate<V, String> outdated) {
+		this.source = Iterators.peekingIterator(source);
+		this.sink = Iterators.peekingIterator(sink);
+		this.outdated = outdated;
+	}
+
+	/**
+	 * Create a new diff which compares the document versions of the graph with the document versions of the index.
+	 *
+	 * @param source
+	 *            Document versions of the graph, sorted by document id
+	 * @param sink
+	 *            Document versions of the index, sorted by document id
+	 * @return
+	 */
+	public static SortedMergeDiff<String> byVersion(Iterator<Entry<String, String>> source, Iterator<Entry<String, String>> sink) {
+		return new SortedMergeDiff<>(source, sink, (sourceVersion, sinkVersion) -> !Objects.equals(sourceVersion, sinkVersion));
+	}
+
+	@Override
+	protected Difference computeNext() {
+		while (source.hasNext() || sink.hasNext()) {
+			if (!sink.hasNext()) {
+				return insert(nextSource());
+			}
+			if (!source.hasNext()) {
+				return remove(nextSink());
+			}
+			int order = source.peek().getKey().compareTo(sink.peek().getKey());
+			if (order < 0) {
+				return insert(nextSource());
+			} else if (order > 0) {
+				return remove(nextSink());
+			}
+			Entry<String, V> sourceEntry = nextSource();
+			Entry<String, String> sinkEntry = nextSink();
+			if (outdated.test(sourceEntry.getValue(), sinkEntry.getValue())) {
+				updates++;
+				return new Difference(Type.UPDATE, sourceEntry.getKey());
+			}
+		}
+		return endOfData();
+	}
+
+	private Difference insert(Entry<String, V> entry) {
+		insertions++;
+		return new Difference(Type.INSERT, entry.getKey());
+	}
+
+	private Difference remove(Entry<String, String> entry) {
+		removals++;
+		return new Difference(Type.DELETE, entry.getKey());
+	}
+
+	private Entry<String, V> nextSource() {
+		Entry<String, V> entry = source.next();
+		lastSourceId = checkOrder(lastSourceId, entry.getKey(), "source");
+		return entry;
+	}
+
+	private Entry<String, String> nextSink() {
+		Entry<String, String> entry = sink.next();
+		lastSinkId = checkOrder(lastSinkId, entry.getKey(), "sink");
+		return entry;
+	}
+
+	/**
+	 * The merge would produce wrong insertions and removals for unsorted input. We thus fail early in this case.
+	 */
+	private static String checkOrder(String lastId, String id, String name) {
+		if (lastId != null && lastId.compareTo(id) >= 0) {
+			throw new IllegalStateException("The " + name + " entries are not sorted by id. Found {" + id + "} after {" + lastId + "}");
+		}
+		return id;
+	}
+
+	/**
+	 * Return the amount of found documents which are missing in the index.
+	 *
+	 * @return
+	 */
+	public long getInsertions() {
+		return insertions;
+	}
+
+	/**
+	 * Return the amount of found documents which are outdated in the index.
+	 *
+	 * @return
+	 */
+	public long getUpdates() {
+		return updates;
+	}
+
+	/**
+	 * Return the amount of found documents which need to be removed from the index.
+	 *
+	 * @return
+	 */
+	public long getRemovals() {
+		return removals;
+	}
+
+	/**
+	 * Create an iterator which loads the values for the given sorted document ids lazily in batches. Ids for which the loader does not return a value are
+	 * skipped.
+	 *
+	 * @param ids
+	 *            Sorted document ids
+	 * @param batchSize
+	 * @param valueLoader
+	 *            Function which loads the values of a batch of ids
+	 * @return
+	 */
+	public static <V> Iterator<Entry<String, V>> loadInBatches(Iterator<String> ids, int batchSize,
+		Function<List<String>, Map<String, V>> valueLoader) {
+		return Iterators.concat(Iterators.transform(Iterators.partition(ids, batchSize), batch -> {
+			Map<String, V> values = valueLoader.apply(batch);
+			return batch.stream()
+				.filter(values::containsKey)
+				.<Entry<String, V>>map(id -> new AbstractMap.SimpleImmutableEntry<>(id, values.get(id)))
+				.iterator();
+		}));
+	}
+
+	public enum Type {
+		INSERT, UPDATE, DELETE
+	}
+
+	/**
+	 * A document which differs between source and sink.
+	 */
+	public static class Difference {
+
+		private final Type type;
+
+		private final String id;
+
+		public Difference(Type type, String id) {
+			this.type = type;
+			this.id = id;
+		}
+
+		public Type getType() {
+			return type;
+		}
+
+		public String getId() {
+			return id;
+		}
+
+		@Override
+		public String toString() {
+			return type + " " + id;
+		}
+	}
+}
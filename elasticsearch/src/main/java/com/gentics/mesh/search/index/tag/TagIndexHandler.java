@@ -1,10 +1,13 @@
 package com.gentics.mesh.search.index.tag;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -16,6 +19,7 @@ import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.Tag;
+import com.gentics.mesh.core.data.TagFamily;
 import com.gentics.mesh.core.data.root.ProjectRoot;
 import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
 import com.gentics.mesh.core.data.search.bulk.IndexBulkEntry;
@@ -115,12 +119,12 @@ public class TagIndexHandler extends AbstractIndexHandler<Tag> {
 	}
 
 	@Override
-	public Flowable<SearchRequest> syncIndices() {
+	public Flowable<SearchRequest> syncIndices(boolean deep) {
 		return Flowable.defer(() -> db.tx(() -> {
 			return boot.meshRoot().getProjectRoot().findAll().stream()
 				.map(project -> {
 					String uuid = project.getUuid();
-					return diffAndSync(Tag.composeIndexName(uuid), uuid);
+					return diffAndSync(Tag.composeIndexName(uuid), uuid, deep);
 				}).collect(Collectors.collectingAndThen(Collectors.toList(), Flowable::merge));
 		}));
 	}
@@ -161,4 +165,30 @@ public class TagIndexHandler extends AbstractIndexHandler<Tag> {
 		return boot.meshRoot().getTagRoot().findAll().stream();
 	}
 
+	@Override
+	protected long countElements() {
+		return db.type().count(boot.meshRoot().getTagRoot().getPersistanceClass());
+	}
+
+	@Override
+	protected List<String> loadChangedUuids(long since) {
+		List<String> tags = super.loadChangedUuids(since);
+		List<String> tagFamilies = loadChangedUuids(TagFamily.class, since);
+		List<String> projects = loadChangedUuids(Project.class, since);
+		// The tag documents contain the names of the tag family and the project
+		if (tags == null || tagFamilies == null || projects == null || !projects.isEmpty()) {
+			return null;
+		}
+		Set<String> uuids = new TreeSet<>(tags);
+		for (String tagFamilyUuid : tagFamilies) {
+			TagFamily tagFamily = boot.meshRoot().getTagFamilyRoot().findByUuid(tagFamilyUuid);
+			if (tagFamily != null) {
+				for (Tag tag : tagFamily.findAll()) {
+					uuids.add(tag.getUuid());
+				}
+			}
+		}
+		return new ArrayList<>(uuids);
+	}
+
 }
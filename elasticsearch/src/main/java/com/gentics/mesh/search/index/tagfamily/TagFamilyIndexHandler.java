@@ -3,6 +3,7 @@ package com.gentics.mesh.search.index.tagfamily;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
@@ -104,13 +105,13 @@ public class TagFamilyIndexHandler extends AbstractIndexHandler<TagFamily> {
 	}
 
 	@Override
-	public Flowable<SearchRequest> syncIndices() {
+	public Flowable<SearchRequest> syncIndices(boolean deep) {
 		return Flowable.defer(() -> db.tx(() -> {
 			return boot.meshRoot().getProjectRoot().findAll().stream()
 				.map(project -> {
 					String uuid = project.getUuid();
 					String indexName = TagFamily.composeIndexName(uuid);
-					return diffAndSync(indexName, uuid);
+					return diffAndSync(indexName, uuid, deep);
 				}).collect(Collectors.collectingAndThen(Collectors.toList(), Flowable::merge));
 		}));
 	}
@@ -153,4 +154,19 @@ public class TagFamilyIndexHandler extends AbstractIndexHandler<TagFamily> {
 		return boot.meshRoot().getTagFamilyRoot().findAll().stream();
 	}
 
+	@Override
+	protected long countElements() {
+		return db.type().count(boot.meshRoot().getTagFamilyRoot().getPersistanceClass());
+	}
+
+	@Override
+	protected List<String> loadChangedUuids(long since) {
+		List<String> projects = loadChangedUuids(Project.class, since);
+		// The tag family documents contain the name of the project
+		if (projects == null || !projects.isEmpty()) {
+			return null;
+		}
+		return super.loadChangedUuids(since);
+	}
+
 }
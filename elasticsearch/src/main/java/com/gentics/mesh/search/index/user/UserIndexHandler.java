@@ -1,8 +1,11 @@
 package com.gentics.mesh.search.index.user;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -11,6 +14,7 @@ import javax.inject.Singleton;
 
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.search.UpdateDocumentEntry;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
@@ -72,8 +76,8 @@ public class UserIndexHandler extends AbstractIndexHandler<User> {
 	}
 
 	@Override
-	public Flowable<SearchRequest> syncIndices() {
-		return diffAndSync(User.composeIndexName(), null);
+	public Flowable<SearchRequest> syncIndices(boolean deep) {
+		return diffAndSync(User.composeIndexName(), null, deep);
 	}
 
 	@Override
@@ -96,6 +100,31 @@ public class UserIndexHandler extends AbstractIndexHandler<User> {
 		return boot.meshRoot().getUserRoot().findAll().stream();
 	}
 
+	@Override
+	protected long countElements() {
+		return db.type().count(boot.meshRoot().getUserRoot().getPersistanceClass());
+	}
+
+	@Override
+	protected List<String> loadChangedUuids(long since) {
+		List<String> users = super.loadChangedUuids(since);
+		List<String> groups = loadChangedUuids(Group.class, since);
+		if (users == null || groups == null) {
+			return null;
+		}
+		// The user documents contain the names of the groups
+		Set<String> uuids = new TreeSet<>(users);
+		for (String groupUuid : groups) {
+			Group group = boot.meshRoot().getGroupRoot().findByUuid(groupUuid);
+			if (group != null) {
+				for (User user : group.getUsers()) {
+					uuids.add(user.getUuid());
+				}
+			}
+		}
+		return new ArrayList<>(uuids);
+	}
+
 	@Override
 	public Map<String, IndexInfo> getIndices() {
 		String indexName = User.composeIndexName();
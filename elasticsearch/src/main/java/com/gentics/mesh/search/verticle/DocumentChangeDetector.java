@@ -0,0 +1,132 @@
+package com.gentics.mesh.search.verticle;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.core.data.search.request.BulkRequest;
+import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.search.index.metric.SyncMeters;
+import com.gentics.mesh.search.index.metric.SyncMetersFactory;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import io.reactivex.Flowable;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Detects requests which would store a document that did not change since it was last sent to Elasticsearch.
+ *
+ * <p>
+ * A hash of the encoded content is kept for each document which has been stored. Store requests with an unchanged hash are dropped. All other requests
+ * which affect a document remove its hash, since the document in Elasticsearch may no longer match the stored hash afterwards. Requests which can't be
+ * assigned to documents clear all hashes. The hashes of all indices share a single store, so the limit bounds the total amount of kept hashes.
+ * </p>
+ */
+@Singleton
+public class DocumentChangeDetector {
+
+	private static final Logger log = LoggerFactory.getLogger(DocumentChangeDetector.class);
+
+	private static final HashFunction HASH = Hashing.murmur3_128();
+
+	private final DocumentHashStore store;
+
+	private final SyncMetersFactory syncMetersFactory;
+
+	private final boolean enabled;
+
+	@Inject
+	public DocumentChangeDetector(MeshOptions options, SyncMetersFactory syncMetersFactory) {
+		this.syncMetersFactory = syncMetersFactory;
+		int limit = options.getSearchOptions().getDocumentHashLimit();
+		// Other instances write to the same indices without updating the local hashes
+		this.enabled = limit > 0 && !options.getClusterOptions().isEnabled();
+		this.store = new DocumentHashStore(enabled ? limit : 1);
+	}
+
+	/**
+	 * Filter the request. Requests which store an unchanged document are completed right away and are not emitted.
+	 *
+	 * @param request
+	 * @return
+	 */
+	public Flowable<SearchRequest> filter(SearchRequest request) {
+		if (!enabled) {
+			return Flowable.just(request);
+		}
+		if (request instanceof CreateDocumentRequest) {
+			CreateDocumentRequest create = (CreateDocumentRequest) request;
+			SyncMeters meters = syncMetersFactory.createSyncMetric(getType(create.getIndex()));
+			long hash = HASH.hashBytes(create.getEncodedDoc()).asLong();
+			if (store.update(keyHash(create.documentKey()), hash)) {
+				meters.documentSent();
+				return Flowable.just(request);
+			}
+			meters.documentSkipped();
+			if (log.isTraceEnabled()) {
+				log.trace("Skipping unchanged document {" + create.documentKey() + "}");
+			}
+			return Flowable.<SearchRequest>empty().doOnComplete(create.onComplete());
+		}
+		forget(request);
+		return Flowable.just(request);
+	}
+
+	/**
+	 * Remove the hashes of the documents which are affected by the request. This has to be called if the request failed.
+	 *
+	 * @param request
+	 */
+	public void forget(SearchRequest request) {
+		if (!enabled) {
+			return;
+		}
+		if (request instanceof BulkRequest) {
+			for (Bulkable nested : ((BulkRequest) request).getRequests()) {
+				forget(nested);
+			}
+		} else if (request instanceof Bulkable && ((Bulkable) request).documentKey() != null) {
+			store.remove(keyHash(((Bulkable) request).documentKey()));
+		} else {
+			clear();
+		}
+	}
+
+	/**
+	 * Remove all stored hashes.
+	 */
+	public void clear() {
+		store.clear();
+	}
+
+	/**
+	 * Return the amount of stored hashes.
+	 *
+	 * @return
+	 */
+	public int size() {
+		return store.size();
+	}
+
+	private static long keyHash(String documentKey) {
+		return HASH.hashString(documentKey, UTF_8).asLong();
+	}
+
+	/**
+	 * Return the type of the index which is used for the sync meters.
+	 *
+	 * @param index
+	 * @return
+	 */
+	private static String getType(String index) {
+		int pos = index.indexOf('-');
+		return pos < 0 ? index : index.substring(0, pos);
+	}
+
+}
@@ -0,0 +1,123 @@
+package com.gentics.mesh.search.verticle;
+
+/**
+ * Compact store for the content hashes of documents. The store is a hash table which keeps the 64 bit hash of the document key and the 64 bit hash of
+ * the document content in two arrays. The table grows until the limit is reached. Afterwards colliding entries replace each other.
+ * Losing an entry only means that the next request for the document is sent again.
+ */
+public class DocumentHashStore {
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private static final long EMPTY = 0;
+
+	private final int maxCapacity;
+
+	private long[] ids;
+
+	private long[] hashes;
+
+	private int size;
+
+	/**
+	 * Create a new store.
+	 *
+	 * @param limit
+	 *            Maximum amount of hashes which are kept
+	 */
+	public DocumentHashStore(int limit) {
+		this.maxCapacity = Integer.highestOneBit(Math.max(limit, 1));
+		int capacity = Math.min(INITIAL_CAPACITY, maxCapacity);
+		this.ids = new long[capacity];
+		this.hashes = new long[capacity];
+	}
+
+	/**
+	 * Store the hash of the document.
+	 *
+	 * @param id
+	 *            Hash of the document key
+	 * @param hash
+	 *            Hash of the document content
+	 * @return true if the hash differs from the stored hash or if no hash was stored for the document
+	 */
+	public synchronized boolean update(long id, long hash) {
+		id = normalize(id);
+		if (size >= ids.length / 2 && ids.length < maxCapacity) {
+			resize(ids.length * 2);
+		}
+		int slot = slot(id, ids.length);
+		if (ids[slot] == id) {
+			if (hashes[slot] == hash) {
+				return false;
+			}
+		} else if (ids[slot] == EMPTY) {
+			size++;
+		}
+		ids[slot] = id;
+		hashes[slot] = hash;
+		return true;
+	}
+
+	/**
+	 * Remove the hash of the document.
+	 *
+	 * @param id
+	 *            Hash of the document key
+	 */
+	public synchronized void remove(long id) {
+		id = normalize(id);
+		int slot = slot(id, ids.length);
+		if (ids[slot] == id) {
+			ids[slot] = EMPTY;
+			hashes[slot] = 0;
+			size--;
+		}
+	}
+
+	/**
+	 * Remove all hashes. The table shrinks back to its initial capacity.
+	 */
+	public synchronized void clear() {
+		int capacity = Math.min(INITIAL_CAPACITY, maxCapacity);
+		ids = new long[capacity];
+		hashes = new long[capacity];
+		size = 0;
+	}
+
+	/**
+	 * Return the amount of stored hashes.
+	 *
+	 * @return
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	private void resize(int capacity) {
+		long[] oldIds = ids;
+		long[] oldHashes = hashes;
+		ids = new long[capacity];
+		hashes = new long[capacity];
+		size = 0;
+		for (int i = 0; i < oldIds.length; i++) {
+			if (oldIds[i] != EMPTY) {
+				int slot = slot(oldIds[i], capacity);
+				if (ids[slot] == EMPTY) {
+					size++;
+				}
+				ids[slot] = oldIds[i];
+				hashes[slot] = oldHashes[i];
+			}
+		}
+	}
+
+	private static long normalize(long id) {
+		return id == EMPTY ? 1 : id;
+	}
+
+	private static int slot(long id, int capacity) {
+		return (int) (id ^ (id >>> 32)) & (capacity - 1);
+	}
+
+}
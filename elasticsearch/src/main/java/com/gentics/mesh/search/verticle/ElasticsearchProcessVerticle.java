@@ -1,5 +1,6 @@
 package com.gentics.mesh.search.verticle;
 
+import static com.gentics.mesh.core.rest.MeshEvent.INDEX_CLEAR_REQUEST;
 import static com.gentics.mesh.core.rest.MeshEvent.INDEX_SYNC_REQUEST;
 import static com.gentics.mesh.core.rest.MeshEvent.IS_SEARCH_IDLE;
 import static com.gentics.mesh.core.rest.MeshEvent.SEARCH_FLUSH_REQUEST;
@@ -8,12 +9,12 @@ import static com.gentics.mesh.search.verticle.eventhandler.RxUtil.retryWithDela
 import static com.gentics.mesh.search.verticle.eventhandler.Util.logElasticSearchError;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 
@@ -22,9 +23,12 @@ import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.event.MeshEventEnvelope;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.impl.ElasticsearchResponseErrorStreamable;
+import com.gentics.mesh.search.index.metric.SyncMetersFactory;
 import com.gentics.mesh.search.verticle.bulk.BulkOperator;
+import com.gentics.mesh.search.verticle.bulk.BulkRequestDispatcher;
 import com.gentics.mesh.search.verticle.eventhandler.MainEventHandler;
 import com.gentics.mesh.search.verticle.eventhandler.SyncEventHandler;
 
@@ -38,7 +42,6 @@ import io.reactivex.processors.PublishProcessor;
 import io.reactivex.subjects.BehaviorSubject;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Promise;
-import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -52,7 +55,7 @@ import io.vertx.reactivex.core.eventbus.MessageConsumer;
  *     <li>Event received</li>
  *     <li>Generate necessary requests out of the event</li>
  *     <li>Bulk bulkable requests together</li>
- *     <li>Send request to elasticsearch</li>
+ *     <li>Send request to elasticsearch. Multiple bulk requests can be in flight, see {@link BulkRequestDispatcher}</li>
  * </ol>
  */
 public class ElasticsearchProcessVerticle extends AbstractVerticle {
@@ -63,10 +66,12 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	private final IdleChecker idleChecker;
 	private final SyncEventHandler syncEventHandler;
 	private final ElasticSearchOptions options;
+	private final SyncMetersFactory syncMetersFactory;
+	private final DocumentChangeDetector changeDetector;
 
 	private FlowableProcessor<MessageEvent> requests = PublishProcessor.create();
 
-	private List<MessageConsumer<JsonObject>> vertxHandlers;
+	private List<MessageConsumer<?>> vertxHandlers;
 	private final AtomicBoolean stopped = new AtomicBoolean(false);
 	private final BehaviorSubject<Boolean> elasticsearchAvailable = BehaviorSubject.createDefault(true);
 	private final AtomicBoolean waitForSync = new AtomicBoolean(false);
@@ -76,11 +81,15 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 										SearchProvider searchProvider,
 										IdleChecker idleChecker,
 										SyncEventHandler syncEventHandler,
+										SyncMetersFactory syncMetersFactory,
+										DocumentChangeDetector changeDetector,
 										MeshOptions options) {
 		this.mainEventhandler = mainEventhandler;
 		this.searchProvider = searchProvider;
 		this.idleChecker = idleChecker;
 		this.syncEventHandler = syncEventHandler;
+		this.syncMetersFactory = syncMetersFactory;
+		this.changeDetector = changeDetector;
 		this.options = options.getSearchOptions();
 	}
 
@@ -94,23 +103,19 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 				vertx.eventBus().publish(MeshEvent.SEARCH_IDLE.address, null);
 			});
 
-		vertxHandlers = mainEventhandler.handledEvents()
-			.stream()
-			.map(event -> vertx.eventBus().<JsonObject>localConsumer(event.address, message -> {
-				if (!stopped.get() && !isDroppedEvent(message)) {
-					idleChecker.incrementAndGetTransformations();
-					// Only continue processing the event if elasticsearch is available.
-					elasticsearchAvailable.filter(available -> available)
-						.firstOrError()
-						.subscribe(ignore -> {
-							waitForSync.set(false);
-							log.trace(String.format("Received event message on address {%s}:\n%s", message.address(), message.body()));
-							requests.onNext(new MessageEvent(event, MeshEventModel.fromMessage(message)));
-						});
+		vertxHandlers = new ArrayList<>();
+		for (MeshEvent event : mainEventhandler.handledEvents()) {
+			vertxHandlers.add(new MessageConsumer<>(vertx.eventBus().<JsonObject>localConsumer(event.address, message -> {
+				handleEvent(event, message.address(), () -> MeshEventModel.fromMessage(message));
+			})));
+			// Events which were published in envelopes are deserialized directly from their payload
+			vertxHandlers.add(new MessageConsumer<>(vertx.eventBus().<MeshEventEnvelope>localConsumer(MeshEventEnvelope.address(event), message -> {
+				MeshEventEnvelope envelope = message.body();
+				for (MeshEventModel model : envelope.toModels(event)) {
+					handleEvent(event, envelope.getAddress(), () -> model);
 				}
-			}))
-			.map((Function<io.vertx.core.eventbus.MessageConsumer<JsonObject>, MessageConsumer<JsonObject>>) MessageConsumer::new)
-			.collect(Collectors.toList());
+			})));
+		}
 
 		vertxHandlers.add(replyingEventHandler(IS_SEARCH_IDLE, Single.fromCallable(idleChecker::isIdle)));
 		vertxHandlers.add(replyingEventHandler(SEARCH_REFRESH_REQUEST, refresh().andThen(Single.just(true))));
@@ -118,6 +123,23 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 		log.trace("Done Initializing Elasticsearch process verticle");
 	}
 
+	private void handleEvent(MeshEvent event, String address, Supplier<MeshEventModel> model) {
+		if (!stopped.get() && !isDroppedEvent(address)) {
+			idleChecker.incrementAndGetTransformations();
+			// Only continue processing the event if elasticsearch is available.
+			elasticsearchAvailable.filter(available -> available)
+				.firstOrError()
+				.subscribe(ignore -> {
+					waitForSync.set(false);
+					MeshEventModel body = model.get();
+					if (log.isTraceEnabled()) {
+						log.trace(String.format("Received event message on address {%s}:\n%s", address, body == null ? null : body.toJson()));
+					}
+					requests.onNext(new MessageEvent(event, body));
+				});
+		}
+	}
+
 	public MessageConsumer<JsonObject> replyingEventHandler(MeshEvent event, Single<?> response) {
 		return new Vertx(vertx).eventBus().localConsumer(event.address, message ->
 			response.subscribe(value -> message.reply(value))
@@ -129,11 +151,11 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	 * Events will be ignored when an index sync has been requested but not yet started.
 	 * Effectively this will ignore all events that occurred before the index sync request.
 	 *
-	 * @param message
+	 * @param address
 	 * @return
 	 */
-	private boolean isDroppedEvent(Message<JsonObject> message) {
-		return waitForSync.get() && !message.address().equals(INDEX_SYNC_REQUEST.address);
+	private boolean isDroppedEvent(String address) {
+		return waitForSync.get() && !address.equals(INDEX_SYNC_REQUEST.address);
 	}
 
 	@Override
@@ -176,15 +198,16 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 			options.getBulkLimit(),
 			options.getBulkLengthLimit()
 		);
+		BulkRequestDispatcher dispatcher = new BulkRequestDispatcher(options.getBulkConcurrency(), request ->
+			this.sendRequest(request)
+				// To make sure the subscription stays alive
+				.onErrorResumeNext(Flowable.empty()),
+			syncMetersFactory.getRequestMeters());
 		requests
 			.compose(this::bufferEvents)
 			.concatMap(this::generateRequests, 1)
 			.lift(bulker)
-			.concatMap(request ->
-				this.sendRequest(request)
-				// To make sure the subscription stays alive
-				.onErrorResumeNext(Flowable.empty())
-			, 1)
+			.flatMapCompletable(dispatcher::dispatch, false, dispatcher.getConcurrency())
 			// To make sure the subscription stays alive
 			.doOnError(err -> log.info("Error at end of ES process chain", err))
 			.retry()
@@ -261,6 +284,8 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 				log.error("Error for request: {}", request);
 				log.error("Error after sending request to Elasticsearch", err);
 			}))
+			// The documents may not have been stored
+			.doOnError(err -> changeDetector.forget(request))
 			.andThen(Flowable.just(request))
 			.onErrorResumeNext(ignoreDeleteOnMissingIndexError(request))
 			.onErrorResumeNext(this::syncIndices)
@@ -311,6 +336,7 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 			boolean indexNotFound = ((ElasticsearchResponseErrorStreamable) error).stream()
 				.anyMatch(err -> "index_not_found_exception".equals(err.getType()));
 			if (indexNotFound && !stopped.get()) {
+				changeDetector.clear();
 				return syncEventHandler.generateSyncRequests()
 					.doOnNext(request -> {
 						log.trace("SyncRequest+{}", request);
@@ -349,7 +375,16 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 			return Flowable.empty();
 		}
 		try {
-			return this.mainEventhandler.handle(messageEvent)
+			Flowable<? extends SearchRequest> generated;
+			if (messageEvent.event == INDEX_SYNC_REQUEST || messageEvent.event == INDEX_CLEAR_REQUEST) {
+				// The sync and clear rewrite the indices. The stored document hashes are no longer valid.
+				changeDetector.clear();
+				generated = this.mainEventhandler.handle(messageEvent);
+			} else {
+				generated = this.mainEventhandler.handle(messageEvent)
+					.concatMap(changeDetector::filter);
+			}
+			return generated
 				.doOnNext(request -> {
 					if (log.isTraceEnabled()) {
 						log.trace("Request+{}", request);
@@ -0,0 +1,227 @@
+package com.gentics.mesh.search.verticle.bulk;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.gentics.mesh.core.data.search.request.BulkRequest;
+import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.search.index.metric.RequestMeters;
+
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.Completable;
+import io.reactivex.CompletableEmitter;
+import io.reactivex.Flowable;
+
+/**
+ * Dispatches search requests to Elasticsearch while allowing a configurable amount of requests to be in flight.
+ *
+ * <p>
+ * Bulk requests are split into lanes by the document key of the contained requests. Each lane has at most one request in flight, so requests which affect
+ * the same document are always sent in order. Non-bulkable requests and bulk requests which contain requests that can't be assigned to a document act as a
+ * barrier. They wait until all lanes are idle and block all lanes while being sent.
+ * </p>
+ *
+ * <p>
+ * The lanes of a request are acquired at once and requests are admitted in the order in which the returned completables are subscribed. The completables
+ * should be subscribed in the order of the requests, e.g. via {@link Flowable#flatMapCompletable(io.reactivex.functions.Function, boolean, int)} with a
+ * maximum concurrency of {@link #getConcurrency()}.
+ * </p>
+ */
+public class BulkRequestDispatcher {
+
+	private final int concurrency;
+	private final Function<SearchRequest, Flowable<SearchRequest>> sender;
+	private final RequestMeters meters;
+	private final boolean[] busyLanes;
+	private final int[] allLanes;
+
+	private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+	/**
+	 * Create a new dispatcher.
+	 *
+	 * @param concurrency
+	 *            Maximum amount of requests in flight
+	 * @param sender
+	 *            Function which sends a single request
+	 * @param meters
+	 */
+	public BulkRequestDispatcher(int concurrency, Function<SearchRequest, Flowable<SearchRequest>> sender, RequestMeters meters) {
+		this.concurrency = Math.max(1, concurrency);
+		this.sender = sender;
+		this.meters = meters;
+		this.busyLanes = new boolean[this.concurrency];
+		this.allLanes = new int[this.concurrency];
+		for (int i = 0; i < this.concurrency; i++) {
+			allLanes[i] = i;
+		}
+	}
+
+	/**
+	 * Return the maximum amount of requests in flight.
+	 *
+	 * @return
+	 */
+	public int getConcurrency() {
+		return concurrency;
+	}
+
+	/**
+	 * Dispatch the request. The returned completable waits until the lanes of the request are free and completes once the request has been sent. Errors of
+	 * the sender are passed on to the subscriber.
+	 *
+	 * @param request
+	 * @return
+	 */
+	public Completable dispatch(SearchRequest request) {
+		if (concurrency == 1) {
+			return send(request);
+		}
+		Map<Integer, List<Bulkable>> lanes = partition(request);
+		if (lanes == null) {
+			return acquire(allLanes)
+				.andThen(Completable.defer(() -> send(request).doFinally(() -> release(allLanes))));
+		}
+		int[] requestLanes = lanes.keySet().stream().mapToInt(Integer::intValue).toArray();
+		return acquire(requestLanes)
+			.andThen(Flowable.fromIterable(lanes.entrySet())
+				.flatMapCompletable(entry -> {
+					int[] lane = new int[] { entry.getKey() };
+					return send(new BulkRequest(entry.getValue()))
+						.doFinally(() -> release(lane));
+				}));
+	}
+
+	private Completable send(SearchRequest request) {
+		return Completable.defer(() -> {
+			Timer.Sample sample = Timer.start();
+			meters.started();
+			return sender.apply(request)
+				.ignoreElements()
+				.doFinally(() -> {
+					meters.finished();
+					sample.stop(meters.getLatency());
+				});
+		});
+	}
+
+	/**
+	 * Split the request into lanes by the document keys.
+	 *
+	 * @param request
+	 * @return Requests per lane or null if the request can't be split
+	 */
+	private Map<Integer, List<Bulkable>> partition(SearchRequest request) {
+		if (!(request instanceof Bulkable)) {
+			return null;
+		}
+		Map<Integer, List<Bulkable>> lanes = new LinkedHashMap<>();
+		if (!addToLanes(lanes, (Bulkable) request)) {
+			return null;
+		}
+		return lanes;
+	}
+
+	private boolean addToLanes(Map<Integer, List<Bulkable>> lanes, Bulkable request) {
+		if (request instanceof BulkRequest) {
+			for (Bulkable nested : ((BulkRequest) request).getRequests()) {
+				if (!addToLanes(lanes, nested)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		String key = request.documentKey();
+		if (key == null) {
+			return false;
+		}
+		lanes.computeIfAbsent(Math.floorMod(key.hashCode(), concurrency), k -> new ArrayList<>()).add(request);
+		return true;
+	}
+
+	private Completable acquire(int[] lanes) {
+		return Completable.create(emitter -> {
+			Waiter waiter = new Waiter(lanes, emitter);
+			synchronized (this) {
+				if (waiters.isEmpty() && isFree(lanes)) {
+					mark(lanes, true);
+				} else {
+					waiters.add(waiter);
+					emitter.setCancellable(() -> cancel(waiter));
+					return;
+				}
+			}
+			emitter.onComplete();
+		});
+	}
+
+	private void cancel(Waiter waiter) {
+		boolean removed;
+		synchronized (this) {
+			removed = waiters.remove(waiter);
+		}
+		if (removed) {
+			admitWaiters();
+		}
+	}
+
+	private void release(int[] lanes) {
+		synchronized (this) {
+			mark(lanes, false);
+		}
+		admitWaiters();
+	}
+
+	/**
+	 * Admit the waiting requests in order, as long as their lanes are free.
+	 */
+	private void admitWaiters() {
+		List<Waiter> admitted = new ArrayList<>();
+		synchronized (this) {
+			Waiter next;
+			while ((next = waiters.peek()) != null && isFree(next.lanes)) {
+				waiters.poll();
+				mark(next.lanes, true);
+				admitted.add(next);
+			}
+		}
+		for (Waiter waiter : admitted) {
+			if (waiter.emitter.isDisposed()) {
+				release(waiter.lanes);
+			} else {
+				waiter.emitter.onComplete();
+			}
+		}
+	}
+
+	private boolean isFree(int[] lanes) {
+		for (int lane : lanes) {
+			if (busyLanes[lane]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void mark(int[] lanes, boolean busy) {
+		for (int lane : lanes) {
+			busyLanes[lane] = busy;
+		}
+	}
+
+	private static class Waiter {
+		private final int[] lanes;
+		private final CompletableEmitter emitter;
+
+		Waiter(int[] lanes, CompletableEmitter emitter) {
+			this.lanes = lanes;
+			this.emitter = emitter;
+		}
+	}
+}
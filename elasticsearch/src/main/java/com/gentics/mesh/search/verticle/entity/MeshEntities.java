@@ -25,6 +25,7 @@ import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.TagFamily;
 import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.root.RootVertex;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.core.data.schema.SchemaContainer;
@@ -298,4 +299,18 @@ public class MeshEntities {
 			transformer.toDocument(container, branch.getUuid(), type), complianceMode
 		))));
 	}
+
+	/**
+	 * Counts the documents of all latest contents of the given node.
+	 * This is the amount of requests which are generated by {@link #generateNodeRequests(String, Project, Branch)}.
+	 *
+	 * @param node
+	 * @param branch
+	 * @return
+	 */
+	public long countNodeDocuments(Node node, Branch branch) {
+		return latestVersionTypes()
+			.mapToLong(type -> node.getGraphFieldContainers(branch, type).count())
+			.sum();
+	}
 }
@@ -31,7 +31,13 @@ public class MeshHelper {
 		this.boot = boot;
 	}
 
-	private String prefixIndexName(String index) {
+	/**
+	 * Prefixes the index name or index pattern with the configured prefix.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	public String prefixIndexName(String index) {
 		String prefix = options.getSearchOptions().getPrefix();
 		return prefix == null
 			? index
@@ -0,0 +1,238 @@
+package com.gentics.mesh.search.verticle.eventhandler;
+
+import static com.gentics.mesh.search.verticle.eventhandler.RxUtil.scrollAll;
+import static com.gentics.mesh.search.verticle.eventhandler.Util.requireType;
+
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.elasticsearch.client.ElasticsearchClient;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.search.request.ScriptUpdateDocumentRequest;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.core.data.search.request.UpdateDocumentRequest;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.search.ComplianceMode;
+import com.gentics.mesh.search.SearchProvider;
+
+import io.reactivex.Flowable;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Creates updates for node documents which only contain a renamed project, tag or tag family. The affected documents are looked up in Elasticsearch, so
+ * that the nodes don't need to be loaded and transformed again. Renamed tags and tag families are replaced by painless scripts, which Elasticsearch applies
+ * to the current source of the documents. Thus the tag arrays of the documents are not overwritten with a possibly outdated state.
+ *
+ * <p>
+ * The given fallback, which usually re-creates the whole documents, is used if the documents can't be looked up. The indices are refreshed before the
+ * lookup, but documents which are still queued for indexing can't be found. The fallback is therefore also used if the amount of found documents does not
+ * match the amount of documents expected from the graph.
+ * </p>
+ */
+@Singleton
+public class NodeDocumentPatcher {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeDocumentPatcher.class);
+
+	private static final int ELASTIC_SEARCH_PAGE_SIZE = 100;
+
+	/**
+	 * Replaces the name of the tag with the uuid in the tag list and in the tag family lists.
+	 */
+	private static final String TAG_RENAME_SCRIPT = "boolean found = false;"
+		+ "def tags = ctx._source.tags;"
+		+ "if (tags != null && tags.uuid != null && tags.name != null) {"
+		+ "  for (int i = 0; i < tags.uuid.size() && i < tags.name.size(); i++) {"
+		+ "    if (tags.uuid[i] == params.uuid) { tags.name[i] = params.name; found = true; }"
+		+ "  }"
+		+ "}"
+		+ "if (ctx._source.tagFamilies != null) {"
+		+ "  for (def family : ctx._source.tagFamilies.values()) {"
+		+ "    if (family != null && family.tags != null) {"
+		+ "      for (def tag : family.tags) {"
+		+ "        if (tag.uuid == params.uuid) { tag.name = params.name; found = true; }"
+		+ "      }"
+		+ "    }"
+		+ "  }"
+		+ "}"
+		+ "if (!found) { ctx.op = 'noop'; }";
+
+	/**
+	 * Moves the entry of the tag family with the uuid to the new name.
+	 */
+	private static final String TAG_FAMILY_RENAME_SCRIPT = "def families = ctx._source.tagFamilies;"
+		+ "String key = null;"
+		+ "if (families != null) {"
+		+ "  for (def entry : families.entrySet()) {"
+		+ "    if (entry.getValue() != null && entry.getValue().uuid == params.uuid) { key = entry.getKey(); }"
+		+ "  }"
+		+ "}"
+		+ "if (key == null || key == params.name) { ctx.op = 'noop'; } else { families.put(params.name, families.remove(key)); }";
+
+	private final SearchProvider searchProvider;
+	private final MeshHelper helper;
+	private final ComplianceMode complianceMode;
+
+	@Inject
+	public NodeDocumentPatcher(SearchProvider searchProvider, MeshHelper helper, MeshOptions options) {
+		this.searchProvider = searchProvider;
+		this.helper = helper;
+		this.complianceMode = options.getSearchOptions().getComplianceMode();
+	}
+
+	/**
+	 * Update the tag name in all node documents of the project which reference the tag.
+	 *
+	 * @param projectUuid
+	 * @param tagUuid
+	 * @param name
+	 *            New name of the tag
+	 * @param expectedDocuments
+	 *            Supplier for the amount of node documents which reference the tag in the graph
+	 * @param fallback
+	 * @return
+	 */
+	public Flowable<SearchRequest> renameTag(String projectUuid, String tagUuid, String name, Supplier<Long> expectedDocuments,
+		Supplier<Flowable<SearchRequest>> fallback) {
+		JsonObject query = new JsonObject()
+			.put("nested", new JsonObject()
+				.put("path", "tags")
+				.put("query", new JsonObject()
+					.put("term", new JsonObject()
+						.put("tags.uuid", tagUuid))));
+		return patch(projectUuid, name, query, (index, id) -> tagRenameRequest(index, id, tagUuid, name, complianceMode), expectedDocuments,
+			fallback);
+	}
+
+	/**
+	 * Update the tag family name in all node documents of the project which reference the tag family.
+	 *
+	 * @param projectUuid
+	 * @param tagFamilyUuid
+	 * @param name
+	 *            New name of the tag family
+	 * @param expectedDocuments
+	 *            Supplier for the amount of node documents which reference the tag family in the graph
+	 * @param fallback
+	 * @return
+	 */
+	public Flowable<SearchRequest> renameTagFamily(String projectUuid, String tagFamilyUuid, String name, Supplier<Long> expectedDocuments,
+		Supplier<Flowable<SearchRequest>> fallback) {
+		// The tag families are keyed by their name, which is not known anymore
+		JsonObject query = new JsonObject()
+			.put("multi_match", new JsonObject()
+				.put("query", tagFamilyUuid)
+				.put("fields", new JsonArray().add("tagFamilies.*.uuid")));
+		return patch(projectUuid, name, query, (index, id) -> tagFamilyRenameRequest(index, id, tagFamilyUuid, name, complianceMode),
+			expectedDocuments, fallback);
+	}
+
+	/**
+	 * Update the project name in all node documents of the project.
+	 *
+	 * @param projectUuid
+	 * @param name
+	 *            New name of the project
+	 * @param expectedDocuments
+	 *            Supplier for the amount of node documents which reference the project in the graph
+	 * @param fallback
+	 * @return
+	 */
+	public Flowable<SearchRequest> renameProject(String projectUuid, String name, Supplier<Long> expectedDocuments,
+		Supplier<Flowable<SearchRequest>> fallback) {
+		JsonObject partial = new JsonObject()
+			.put("project", new JsonObject().put("name", name));
+		return patch(projectUuid, name, new JsonObject().put("match_all", new JsonObject()),
+			(index, id) -> new UpdateDocumentRequest(null, index, id, partial, complianceMode), expectedDocuments, fallback);
+	}
+
+	private Flowable<SearchRequest> patch(String projectUuid, String name, JsonObject query, BiFunction<String, String, SearchRequest> requestFactory,
+		Supplier<Long> expectedDocuments, Supplier<Flowable<SearchRequest>> fallback) {
+		ElasticsearchClient<JsonObject> client = searchProvider.getClient();
+		// No client is set when using dev-null or tracking search provider
+		if (client == null || name == null) {
+			return Flowable.defer(fallback::get);
+		}
+
+		JsonObject searchQuery = new JsonObject()
+			.put("_source", false)
+			.put("size", ELASTIC_SEARCH_PAGE_SIZE)
+			.put("query", query);
+		if (complianceMode == ComplianceMode.ES_7) {
+			// The total amount of hits is needed for the consistency check
+			searchQuery.put("track_total_hits", true);
+		}
+		String indexPattern = NodeGraphFieldContainer.composeIndexPattern(projectUuid);
+
+		return searchProvider.refreshIndex(indexPattern)
+			.andThen(Flowable.defer(() -> {
+				long expected = expectedDocuments.get();
+				return scrollAll(client, searchQuery, "1m", helper.prefixIndexName(indexPattern))
+					.map(response -> {
+						// Every page of the scroll contains the total amount of hits
+						long total = totalHits(response.getJsonObject("hits"));
+						if (total != expected) {
+							throw new IllegalStateException("Found {" + total + "} node documents but expected {" + expected + "}");
+						}
+						return response;
+					});
+			}))
+			.concatMapIterable(response -> response.getJsonObject("hits").getJsonArray("hits"))
+			.map(hit -> requireType(JsonObject.class, hit))
+			.map(hit -> requestFactory.apply(hit.getString("_index"), hit.getString("_id")))
+			.onErrorResumeNext(err -> {
+				log.warn("Could not find all node documents of project {" + projectUuid + "}. Re-creating the documents instead.", err);
+				return fallback.get();
+			});
+	}
+
+	private long totalHits(JsonObject hits) {
+		switch (complianceMode) {
+		case ES_7:
+			return hits.getJsonObject("total").getLong("value");
+		case ES_6:
+			return hits.getLong("total");
+		default:
+			throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
+		}
+	}
+
+	/**
+	 * Create the request which replaces the name of the tag in the given node document.
+	 *
+	 * @param index
+	 * @param id
+	 * @param tagUuid
+	 * @param name
+	 * @param mode
+	 * @return
+	 */
+	static ScriptUpdateDocumentRequest tagRenameRequest(String index, String id, String tagUuid, String name, ComplianceMode mode) {
+		return new ScriptUpdateDocumentRequest(index, id, TAG_RENAME_SCRIPT, new JsonObject()
+			.put("uuid", tagUuid)
+			.put("name", name), mode);
+	}
+
+	/**
+	 * Create the request which moves the tag family entry of the given node document to the new name.
+	 *
+	 * @param index
+	 * @param id
+	 * @param tagFamilyUuid
+	 * @param name
+	 * @param mode
+	 * @return
+	 */
+	static ScriptUpdateDocumentRequest tagFamilyRenameRequest(String index, String id, String tagFamilyUuid, String name, ComplianceMode mode) {
+		return new ScriptUpdateDocumentRequest(index, id, TAG_FAMILY_RENAME_SCRIPT, new JsonObject()
+			.put("uuid", tagFamilyUuid)
+			.put("name", name), mode);
+	}
+
+}
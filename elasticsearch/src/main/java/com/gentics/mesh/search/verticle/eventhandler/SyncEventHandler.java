@@ -18,6 +18,8 @@ import com.gentics.mesh.core.data.search.IndexHandler;
 import com.gentics.mesh.core.data.search.request.DropIndexRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.search.IndexSyncRequestEventModel;
+import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.search.IndexHandlerRegistry;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.metric.SyncMetersFactory;
@@ -28,6 +30,7 @@ import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -50,8 +53,20 @@ public class SyncEventHandler implements EventHandler {
 	 * Send the index sync event which will trigger the index sync job.
 	 */
 	public static void invokeSync(Vertx vertx) {
+		invokeSync(vertx, false);
+	}
+
+	/**
+	 * Send the index sync event which will trigger the index sync job.
+	 * 
+	 * @param vertx
+	 * @param deep
+	 *            Whether a full diff of all indices should be done instead of the incremental sync
+	 */
+	public static void invokeSync(Vertx vertx, boolean deep) {
 		log.info("Sending sync event");
-		vertx.eventBus().publish(INDEX_SYNC_REQUEST.address, null);
+		IndexSyncRequestEventModel model = new IndexSyncRequestEventModel().setDeep(deep);
+		vertx.eventBus().publish(INDEX_SYNC_REQUEST.address, new JsonObject(JsonUtil.toJson(model)));
 	}
 
 	public static Completable invokeSyncCompletable(Mesh mesh) {
@@ -76,13 +91,28 @@ public class SyncEventHandler implements EventHandler {
 
 	@Override
 	public Flowable<SearchRequest> handle(MessageEvent messageEvent) {
-		return generateSyncRequests();
+		boolean deep = false;
+		if (messageEvent.message instanceof IndexSyncRequestEventModel) {
+			deep = ((IndexSyncRequestEventModel) messageEvent.message).isDeep();
+		}
+		return generateSyncRequests(deep);
 	}
 
 	public Flowable<SearchRequest> generateSyncRequests() {
+		return generateSyncRequests(false);
+	}
+
+	/**
+	 * Generate the requests for the index sync.
+	 * 
+	 * @param deep
+	 *            Whether a full diff of all indices should be done instead of the incremental sync
+	 * @return
+	 */
+	public Flowable<SearchRequest> generateSyncRequests(boolean deep) {
 		return Flowable.concatArray(
 			purgeOldIndices(),
-			syncIndices(),
+			syncIndices(deep),
 			publishSyncEndEvent()
 		).doOnSubscribe(ignore -> {
 			log.info("Processing index sync job.");
@@ -108,13 +138,13 @@ public class SyncEventHandler implements EventHandler {
 		return Collections.singletonList(INDEX_SYNC_REQUEST);
 	}
 
-	private Flowable<SearchRequest> syncIndices() {
+	private Flowable<SearchRequest> syncIndices(boolean deep) {
 		return Flowable.fromIterable(registry.get().getHandlers())
 			.flatMap(handler ->
 				handler.init()
 					.doOnSubscribe(ignore -> log.debug("Init for {}", handler.getClass()))
 					.doOnComplete(() -> log.debug("Init for {} complete", handler.getClass()))
-				.andThen(handler.syncIndices()
+				.andThen(handler.syncIndices(deep)
 					.doOnSubscribe(ignore -> log.debug("Syncing for {}", handler.getClass()))
 			));
 	}
@@ -2,7 +2,6 @@ package com.gentics.mesh.search.verticle.eventhandler;
 
 import com.gentics.mesh.core.data.Tag;
 import com.gentics.mesh.core.data.TagFamily;
-import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.event.MeshProjectElementEventModel;
@@ -31,12 +30,14 @@ public class TagEventHandler implements EventHandler {
 	
 	private final MeshHelper helper;
 	private final MeshEntities entities;
+	private final NodeDocumentPatcher patcher;
 	private final ComplianceMode complianceMode;
 
 	@Inject
-	public TagEventHandler(MeshHelper helper, MeshEntities entities, MeshOptions options) {
+	public TagEventHandler(MeshHelper helper, MeshEntities entities, NodeDocumentPatcher patcher, MeshOptions options) {
 		this.helper = helper;
 		this.entities = entities;
+		this.patcher = patcher;
 		this.complianceMode = options.getSearchOptions().getComplianceMode();
 	}
 
@@ -53,19 +54,22 @@ public class TagEventHandler implements EventHandler {
 			String projectUuid = model.getProject().getUuid();
 
 			if (event == TAG_CREATED || event == TAG_UPDATED) {
-				return helper.getDb().tx(() -> {
+				Flowable<SearchRequest> requests = helper.getDb().tx(() -> {
 					// We also need to update the tag family
 					Optional<Tag> tag = entities.tag.getElement(model);
 					Optional<TagFamily> tagFamily = tag.map(Tag::getTagFamily);
 
 					return concat(
 						toStream(tag).map(t -> entities.createRequest(t, projectUuid)),
-						toStream(tagFamily).map(tf -> entities.createRequest(tf, projectUuid)),
-						event == TAG_UPDATED
-							? toStream(tag).flatMap(t -> taggedNodes(model, t))
-							: Stream.empty()
+						toStream(tagFamily).map(tf -> entities.createRequest(tf, projectUuid))
 					).collect(Util.toFlowable());
 				});
+				if (event == TAG_UPDATED) {
+					// Only the tag name within the node documents needs to be updated
+					return requests.concatWith(patcher.renameTag(projectUuid, model.getUuid(), model.getName(),
+						() -> countTaggedNodeDocuments(model), () -> taggedNodes(model)));
+				}
+				return requests;
 			} else if (event == TAG_DELETED) {
 				// The tag was deleted via a project deletion. The project handler takes care of deleting the tag index.
 				if (EventCauseHelper.isProjectDeleteCause(model)) {
@@ -80,7 +84,34 @@ public class TagEventHandler implements EventHandler {
 		});
 	}
 
-	private Stream<CreateDocumentRequest> taggedNodes(MeshProjectElementEventModel model, Tag tag) {
+	/**
+	 * Create the requests which re-create the documents of all nodes which are tagged with the tag.
+	 * 
+	 * @param model
+	 * @return
+	 */
+	private Flowable<SearchRequest> taggedNodes(MeshProjectElementEventModel model) {
+		return helper.getDb().tx(() -> toStream(entities.tag.getElement(model))
+			.flatMap(tag -> taggedNodes(model, tag))
+			.collect(Util.toFlowable()));
+	}
+
+	/**
+	 * Count the documents of all nodes which are tagged with the tag.
+	 * 
+	 * @param model
+	 * @return
+	 */
+	private long countTaggedNodeDocuments(MeshProjectElementEventModel model) {
+		return helper.getDb().tx(() -> toStream(entities.tag.getElement(model))
+			.flatMapToLong(tag -> findElementByUuidStream(helper.getBoot().projectRoot(), model.getProject().getUuid())
+			.flatMap(project -> project.getBranchRoot().findAll().stream())
+			.flatMapToLong(branch -> tag.getNodes(branch).stream()
+			.mapToLong(node -> entities.countNodeDocuments(node, branch))))
+			.sum());
+	}
+
+	private Stream<SearchRequest> taggedNodes(MeshProjectElementEventModel model, Tag tag) {
 		return findElementByUuidStream(helper.getBoot().projectRoot(), model.getProject().getUuid())
 			.flatMap(project -> project.getBranchRoot().findAll().stream()
 			.flatMap(branch -> tag.getNodes(branch).stream()
@@ -9,7 +9,9 @@ import static com.gentics.mesh.util.StreamUtil.toStream;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -31,12 +33,14 @@ import io.reactivex.Flowable;
 public class TagFamilyEventHandler implements EventHandler {
 	private final MeshHelper helper;
 	private final MeshEntities entities;
+	private final NodeDocumentPatcher patcher;
 	private final ComplianceMode complianceMode;
 
 	@Inject
-	public TagFamilyEventHandler(MeshHelper helper, MeshEntities entities, MeshOptions options) {
+	public TagFamilyEventHandler(MeshHelper helper, MeshEntities entities, NodeDocumentPatcher patcher, MeshOptions options) {
 		this.helper = helper;
 		this.entities = entities;
+		this.patcher = patcher;
 		this.complianceMode = options.getSearchOptions().getComplianceMode();
 	}
 
@@ -53,7 +57,7 @@ public class TagFamilyEventHandler implements EventHandler {
 			String projectUuid = Util.requireType(ProjectEvent.class, messageEvent.message).getProject().getUuid();
 
 			if (event == TAG_FAMILY_CREATED || event == TAG_FAMILY_UPDATED) {
-				return helper.getDb().tx(() -> {
+				Flowable<SearchRequest> requests = helper.getDb().tx(() -> {
 					// We also need to update all tags of this family
 					Optional<TagFamily> tagFamily = entities.tagFamily.getElement(model);
 
@@ -64,10 +68,14 @@ public class TagFamilyEventHandler implements EventHandler {
 						.flatMap(tf -> tf.findAll().stream())
 						.map(t -> entities.createRequest(t, projectUuid));
 
-					Stream<SearchRequest> nodeUpdates = toStream(tagFamily).flatMap(tf -> createNodeUpdates(model, tf));
-
-					return Util.concat(tagFamilyUpdate, tagUpdates, nodeUpdates).collect(Util.toFlowable());
+					return Util.concat(tagFamilyUpdate, tagUpdates).collect(Util.toFlowable());
 				});
+				if (event == TAG_FAMILY_UPDATED) {
+					// Only the tag family name within the node documents needs to be updated
+					return requests.concatWith(patcher.renameTagFamily(projectUuid, model.getUuid(), model.getName(),
+						() -> countNodeDocuments(model), () -> createNodeUpdates(model)));
+				}
+				return requests;
 			} else if (event == TAG_FAMILY_DELETED) {
 				// We can omit the update of related elements for project deletion causes. The project handler will take care of removing the index
 				if (EventCauseHelper.isProjectDeleteCause(messageEvent.message)) {
@@ -83,6 +91,39 @@ public class TagFamilyEventHandler implements EventHandler {
 		});
 	}
 
+	/**
+	 * Find all nodes that have been tagged by tags of the tag family and create the update requests.
+	 * 
+	 * @param model
+	 * @return
+	 */
+	private Flowable<SearchRequest> createNodeUpdates(MeshProjectElementEventModel model) {
+		return helper.getDb().tx(() -> toStream(entities.tagFamily.getElement(model))
+			.flatMap(tf -> createNodeUpdates(model, tf))
+			.collect(Util.toFlowable()));
+	}
+
+	/**
+	 * Count the documents of all nodes that have been tagged by tags of the tag family. Nodes which are tagged by multiple tags of the family are only counted
+	 * once.
+	 * 
+	 * @param model
+	 * @return
+	 */
+	private long countNodeDocuments(MeshProjectElementEventModel model) {
+		return helper.getDb().tx(() -> toStream(entities.tagFamily.getElement(model))
+			.flatMapToLong(tf -> findElementByUuidStream(helper.getBoot().projectRoot(), model.getProject().getUuid())
+				.flatMap(project -> project.getBranchRoot().findAll().stream())
+				.flatMapToLong(branch -> {
+					Set<String> nodeUuids = new HashSet<>();
+					return tf.findAll().stream()
+						.flatMap(tag -> tag.getNodes(branch).stream())
+						.filter(node -> nodeUuids.add(node.getUuid()))
+						.mapToLong(node -> entities.countNodeDocuments(node, branch));
+				}))
+			.sum());
+	}
+
 	/**
 	 * Find all nodes that have been tagged by tags of the given tag family and create a stream of update requests.
 	 * 
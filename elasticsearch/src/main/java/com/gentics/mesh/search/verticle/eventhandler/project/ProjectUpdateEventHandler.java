@@ -31,24 +31,28 @@ import com.gentics.mesh.search.verticle.MessageEvent;
 import com.gentics.mesh.search.verticle.entity.MeshEntities;
 import com.gentics.mesh.search.verticle.eventhandler.EventHandler;
 import com.gentics.mesh.search.verticle.eventhandler.MeshHelper;
+import com.gentics.mesh.search.verticle.eventhandler.NodeDocumentPatcher;
 
 import io.reactivex.Flowable;
 
 /**
  * When a project is updated, all nodes, tags and tag family documents have to be updated,
- * because the documents for these objects contain the project name.
+ * because the documents for these objects contain the project name. The node documents are
+ * only updated partially.
  */
 @Singleton
 public class ProjectUpdateEventHandler implements EventHandler {
 
 	private final MeshHelper helper;
 	private final MeshEntities entities;
+	private final NodeDocumentPatcher patcher;
 	private final ComplianceMode complianceMode;
 
 	@Inject
-	public ProjectUpdateEventHandler(MeshHelper helper, MeshEntities entities, MeshOptions options) {
+	public ProjectUpdateEventHandler(MeshHelper helper, MeshEntities entities, NodeDocumentPatcher patcher, MeshOptions options) {
 		this.helper = helper;
 		this.entities = entities;
+		this.patcher = patcher;
 		this.complianceMode = options.getSearchOptions().getComplianceMode();
 	}
 
@@ -56,11 +60,27 @@ public class ProjectUpdateEventHandler implements EventHandler {
 	public Flowable<SearchRequest> handle(MessageEvent messageEvent) {
 		MeshElementEventModelImpl model = requireType(MeshElementEventModelImpl.class, messageEvent.message);
 		return Flowable.mergeArray(
-			updateNodes(model),
+			patcher.renameProject(model.getUuid(), model.getName(), () -> countNodeDocuments(model), () -> updateNodes(model)),
 			updateTags(model)
 		);
 	}
 
+	/**
+	 * Counts the documents of all latest nodes of all languages, all types and all branches in the project.
+	 * @param model
+	 * @return
+	 */
+	private long countNodeDocuments(MeshElementEventModelImpl model) {
+		return helper.getDb().tx(() -> toStream(entities.project.getElement(model))
+			.flatMapToLong(project -> {
+				List<Branch> branches = (List<Branch>) project.getBranchRoot().findAll().list();
+				return project.findNodes().stream()
+					.flatMapToLong(node -> branches.stream()
+					.mapToLong(branch -> entities.countNodeDocuments(node, branch)));
+			})
+			.sum());
+	}
+
 	/**
 	 * Finds all latest nodes of all languages, all types and all branches in the project and transforms them to
 	 * elastic search create requests.
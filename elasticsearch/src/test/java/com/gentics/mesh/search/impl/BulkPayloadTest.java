@@ -0,0 +1,53 @@
+package com.gentics.mesh.search.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.search.request.BulkRequest;
+import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
+import com.gentics.mesh.core.data.search.request.DeleteDocumentRequest;
+import com.gentics.mesh.core.data.search.request.ScriptUpdateDocumentRequest;
+import com.gentics.mesh.core.data.search.request.UpdateDocumentRequest;
+import com.gentics.mesh.etc.config.search.ComplianceMode;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class BulkPayloadTest {
+
+	@Test
+	public void testPayloadMatchesBulkActions() {
+		JsonObject doc = new JsonObject()
+			.put("name", "Ümlaut ✓")
+			.put("fields", new JsonObject().put("count", 42).put("tags", new JsonArray().add("a").add("b")));
+		List<Bulkable> requests = Arrays.asList(
+			new CreateDocumentRequest("node", "mesh-node", "1", doc, ComplianceMode.ES_6),
+			new UpdateDocumentRequest("node", "mesh-node", "2", doc, ComplianceMode.ES_7),
+			new DeleteDocumentRequest("node", "mesh-node", "3", ComplianceMode.ES_7),
+			new ScriptUpdateDocumentRequest("mesh-node", "4", "ctx._source.name = params.name", new JsonObject().put("name", "Ümlaut"), ComplianceMode.ES_6));
+		BulkRequest bulk = new BulkRequest(requests);
+
+		String expected = bulk.toBulkActions().blockingGet().stream()
+			.map(action -> action + "\n")
+			.collect(Collectors.joining());
+
+		ByteBuf payload = BulkPayload.encode(requests);
+		try {
+			assertEquals(expected, payload.toString(UTF_8));
+			assertEquals("The bulk length should match the encoded bytes", expected.getBytes(UTF_8).length, payload.readableBytes());
+			assertEquals(payload.readableBytes(), bulk.bulkLength());
+			assertEquals("The buffer should not have grown while writing", payload.readableBytes(), payload.capacity());
+		} finally {
+			payload.release();
+		}
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.gentics.mesh.search.index.sync;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class SortedMergeDiffTest {
+
+	@Test
+	public void testDiff() {
+		SortedMergeDiff<String> diff = SortedMergeDiff.byVersion(
+			entries("a", "1", "b", "1", "d", "2", "e", "1"),
+			entries("b", "1", "c", "1", "d", "1", "f", "1"));
+
+		assertEquals(Arrays.asList("INSERT a", "DELETE c", "UPDATE d", "INSERT e", "DELETE f"), toList(diff));
+		assertEquals(2, diff.getInsertions());
+		assertEquals(1, diff.getUpdates());
+		assertEquals(2, diff.getRemovals());
+	}
+
+	@Test
+	public void testInSync() {
+		SortedMergeDiff<String> diff = SortedMergeDiff.byVersion(entries("a", "1", "b", "2"), entries("a", "1", "b", "2"));
+		assertEquals(Collections.emptyList(), toList(diff));
+	}
+
+	@Test
+	public void testEmptySink() {
+		SortedMergeDiff<String> diff = SortedMergeDiff.byVersion(entries("a", "1", "b", "2"), Collections.emptyIterator());
+		assertEquals(Arrays.asList("INSERT a", "INSERT b"), toList(diff));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testUnsortedInput() {
+		toList(SortedMergeDiff.byVersion(entries("b", "1", "a", "1"), Collections.emptyIterator()));
+	}
+
+	@Test
+	public void testVersionsAreLoadedLazilyInBatches() {
+		List<List<String>> loadedBatches = new ArrayList<>();
+		Iterator<Entry<String, String>> source = SortedMergeDiff.loadInBatches(Arrays.asList("a", "b", "c", "d", "e").iterator(), 2, batch -> {
+			loadedBatches.add(batch);
+			// Element "c" was deleted in the meantime
+			return batch.stream().filter(id -> !id.equals("c")).collect(Collectors.toMap(id -> id, id -> "1"));
+		});
+		assertEquals(0, loadedBatches.size());
+
+		SortedMergeDiff<String> diff = SortedMergeDiff.byVersion(source, entries("a", "1", "c", "1"));
+		assertEquals("INSERT b", diff.next().toString());
+		assertEquals("Only the first batch should have been loaded.", 1, loadedBatches.size());
+
+		assertEquals(Arrays.asList("DELETE c", "INSERT d", "INSERT e"), toList(diff));
+		assertEquals(3, loadedBatches.size());
+	}
+
+	@Test
+	public void testCustomComparison() {
+		Iterator<Entry<String, Boolean>> source = Arrays.<Entry<String, Boolean>>asList(
+			new AbstractMap.SimpleImmutableEntry<>("a", false),
+			new AbstractMap.SimpleImmutableEntry<>("b", true),
+			new AbstractMap.SimpleImmutableEntry<>("c", false)).iterator();
+		SortedMergeDiff<Boolean> diff = new SortedMergeDiff<>(source, entries("a", "1", "b", "1", "d", "1"), (changed, version) -> changed);
+		assertEquals(Arrays.asList("UPDATE b", "INSERT c", "DELETE d"), toList(diff));
+	}
+
+	private List<String> toList(Iterator<SortedMergeDiff.Difference> diff) {
+		List<String> result = new ArrayList<>();
+		diff.forEachRemaining(d -> result.add(d.toString()));
+		return result;
+	}
+
+	private Iterator<Entry<String, String>> entries(String... idsAndVersions) {
+		List<Entry<String, String>> entries = new ArrayList<>();
+		for (int i = 0; i < idsAndVersions.length; i += 2) {
+			entries.add(new AbstractMap.SimpleImmutableEntry<>(idsAndVersions[i], idsAndVersions[i + 1]));
+		}
+		return entries.iterator();
+	}
+}
@@ -0,0 +1,143 @@
+package com.gentics.mesh.search.verticle;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.search.request.BulkRequest;
+import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.search.index.metric.RequestMeters;
+import com.gentics.mesh.search.verticle.bulk.BulkRequestDispatcher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.processors.UnicastProcessor;
+
+public class BulkRequestDispatcherTest {
+
+	private List<PublishProcessor<SearchRequest>> inFlight;
+	private RequestMeters meters;
+	private BulkRequestDispatcher dispatcher;
+
+	@Before
+	public void setUp() {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		meters = new RequestMeters(new MetricsService() {
+			@Override
+			public boolean isEnabled() {
+				return true;
+			}
+
+			@Override
+			public MeterRegistry getMetricRegistry() {
+				return registry;
+			}
+		});
+		inFlight = new ArrayList<>();
+		dispatcher = new BulkRequestDispatcher(4, request -> {
+			PublishProcessor<SearchRequest> response = PublishProcessor.create();
+			inFlight.add(response);
+			return response;
+		}, meters);
+	}
+
+	@Test
+	public void testIndependentDocumentsAreSentInParallel() {
+		UnicastProcessor<SearchRequest> requests = UnicastProcessor.create();
+		requests.flatMapCompletable(dispatcher::dispatch, false, dispatcher.getConcurrency()).subscribe();
+
+		requests.onNext(bulk(documentWithLane(0)));
+		requests.onNext(bulk(documentWithLane(1)));
+		assertEquals("Both bulks should be in flight.", 2, inFlight.size());
+		assertEquals(2, meters.getInFlight());
+	}
+
+	@Test
+	public void testSameDocumentIsSentInOrder() {
+		UnicastProcessor<SearchRequest> requests = UnicastProcessor.create();
+		requests.flatMapCompletable(dispatcher::dispatch, false, dispatcher.getConcurrency()).subscribe();
+
+		Bulkable document = documentWithLane(0);
+		requests.onNext(bulk(document));
+		requests.onNext(bulk(document));
+		assertEquals("The second bulk must wait for the first one.", 1, inFlight.size());
+
+		inFlight.get(0).onComplete();
+		assertEquals(2, inFlight.size());
+	}
+
+	@Test
+	public void testNonBulkableRequestIsBarrier() {
+		UnicastProcessor<SearchRequest> requests = UnicastProcessor.create();
+		requests.flatMapCompletable(dispatcher::dispatch, false, dispatcher.getConcurrency()).subscribe();
+
+		requests.onNext(bulk(documentWithLane(0)));
+		requests.onNext(mock(SearchRequest.class));
+		requests.onNext(bulk(documentWithLane(1)));
+		assertEquals("The non bulkable request must wait for pending bulks.", 1, inFlight.size());
+
+		inFlight.get(0).onComplete();
+		assertEquals("The non bulkable request should be sent.", 2, inFlight.size());
+
+		inFlight.get(1).onComplete();
+		assertEquals("The bulk after the barrier should be sent.", 3, inFlight.size());
+	}
+
+	@Test
+	public void testSendErrorIsPassedOn() {
+		UnicastProcessor<SearchRequest> requests = UnicastProcessor.create();
+		TestObserver<Void> observer = requests.flatMapCompletable(dispatcher::dispatch, false, dispatcher.getConcurrency()).test();
+
+		requests.onNext(bulk(documentWithLane(0)));
+		inFlight.get(0).onError(new RuntimeException("Request failed"));
+		observer.assertError(RuntimeException.class);
+		assertEquals(0, meters.getInFlight());
+	}
+
+	@Test
+	public void testCancelledWaiterIsNotAdmitted() {
+		UnicastProcessor<SearchRequest> requests = UnicastProcessor.create();
+		TestObserver<Void> observer = requests.flatMapCompletable(dispatcher::dispatch, false, dispatcher.getConcurrency()).test();
+
+		Bulkable document = documentWithLane(0);
+		requests.onNext(bulk(document));
+		requests.onNext(bulk(document));
+		observer.dispose();
+
+		inFlight.get(0).onComplete();
+		assertEquals("The cancelled bulk must not be sent.", 1, inFlight.size());
+
+		UnicastProcessor<SearchRequest> next = UnicastProcessor.create();
+		next.flatMapCompletable(dispatcher::dispatch, false, dispatcher.getConcurrency()).subscribe();
+		next.onNext(bulk(document));
+		assertEquals("The lane must be free again.", 2, inFlight.size());
+	}
+
+	private BulkRequest bulk(Bulkable... requests) {
+		return new BulkRequest(requests);
+	}
+
+	/**
+	 * Create a mocked document request which will be routed to the given lane.
+	 */
+	private Bulkable documentWithLane(int lane) {
+		for (int i = 0;; i++) {
+			String key = "index/" + i;
+			if (Math.floorMod(key.hashCode(), 4) == lane) {
+				Bulkable bulkable = mock(Bulkable.class);
+				when(bulkable.documentKey()).thenReturn(key);
+				return bulkable;
+			}
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package com.gentics.mesh.search.verticle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
+import com.gentics.mesh.core.data.search.request.DeleteDocumentRequest;
+import com.gentics.mesh.core.data.search.request.DropIndexRequest;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.core.data.search.request.UpdateDocumentRequest;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.etc.config.search.ComplianceMode;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.search.index.metric.SyncMeters;
+import com.gentics.mesh.search.index.metric.SyncMetersFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.json.JsonObject;
+
+public class DocumentChangeDetectorTest {
+
+	private SyncMetersFactory metersFactory;
+	private DocumentChangeDetector detector;
+
+	@Before
+	public void setup() {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		MetricsService metrics = new MetricsService() {
+			@Override
+			public boolean isEnabled() {
+				return true;
+			}
+
+			@Override
+			public MeterRegistry getMetricRegistry() {
+				return registry;
+			}
+		};
+		metersFactory = new SyncMetersFactory(metrics);
+		detector = new DocumentChangeDetector(new MeshOptions(), metersFactory);
+	}
+
+	@Test
+	public void testUnchangedDocumentIsSkipped() {
+		assertSent(create("1", "first"));
+		assertSkipped(create("1", "first"));
+		assertSent(create("1", "second"));
+		assertSent(create("2", "second"));
+
+		SyncMeters meters = metersFactory.createSyncMetric("user");
+		assertEquals(3, meters.getSentDocuments());
+		assertEquals(1, meters.getSkippedDocuments());
+
+		// The counters are totals which are not reset by a sync
+		metersFactory.reset();
+		assertEquals(3, meters.getSentDocuments());
+		assertEquals(1, meters.getSkippedDocuments());
+	}
+
+	@Test
+	public void testLimitIsSharedByAllIndices() {
+		MeshOptions options = new MeshOptions();
+		options.getSearchOptions().setDocumentHashLimit(1024);
+		detector = new DocumentChangeDetector(options, metersFactory);
+		for (int i = 0; i < 100; i++) {
+			for (int id = 0; id < 100; id++) {
+				detector.filter(new CreateDocumentRequest("user", "mesh-user-" + i, String.valueOf(id), new JsonObject(), ComplianceMode.ES_6))
+					.blockingSubscribe();
+			}
+		}
+		assertTrue("The hashes of all indices must not exceed the limit", detector.size() <= 1024);
+	}
+
+	@Test
+	public void testDeleteForgetsDocument() {
+		assertSent(create("1", "first"));
+		assertSent(new DeleteDocumentRequest("user", "mesh-user", "1", ComplianceMode.ES_6));
+		assertSent(create("1", "first"));
+	}
+
+	@Test
+	public void testPartialUpdateForgetsDocument() {
+		assertSent(create("1", "first"));
+		// Update requests which were created from search hits only know the transformed index
+		assertSent(new UpdateDocumentRequest(null, "mesh-user", "1", new JsonObject().put("name", "first"), ComplianceMode.ES_6));
+		assertSent(create("1", "first"));
+	}
+
+	@Test
+	public void testFailedRequestForgetsDocument() {
+		CreateDocumentRequest request = create("1", "first");
+		assertSent(request);
+		detector.forget(request);
+		assertSent(create("1", "first"));
+	}
+
+	@Test
+	public void testNonDocumentRequestClearsHashes() {
+		assertSent(create("1", "first"));
+		assertSent(new DropIndexRequest("user"));
+		assertSent(create("1", "first"));
+	}
+
+	@Test
+	public void testDisabled() {
+		MeshOptions options = new MeshOptions();
+		options.getSearchOptions().setDocumentHashLimit(0);
+		detector = new DocumentChangeDetector(options, metersFactory);
+		assertSent(create("1", "first"));
+		assertSent(create("1", "first"));
+	}
+
+	@Test
+	public void testHashStore() {
+		DocumentHashStore store = new DocumentHashStore(4096);
+		for (long i = 1; i <= 10_000; i++) {
+			store.update(i, i);
+		}
+		assertTrue("The store must not exceed the limit", store.size() <= 4096);
+		assertTrue(store.update(10_000, 1));
+		assertFalse(store.update(10_000, 1));
+		store.remove(10_000);
+		assertTrue(store.update(10_000, 1));
+	}
+
+	private CreateDocumentRequest create(String id, String name) {
+		return new CreateDocumentRequest("user", "mesh-user", id, new JsonObject().put("name", name), ComplianceMode.ES_6);
+	}
+
+	private void assertSent(SearchRequest request) {
+		assertEquals("The request should have been sent", 1, (long) detector.filter(request).count().blockingGet());
+	}
+
+	private void assertSkipped(SearchRequest request) {
+		assertEquals("The request should have been skipped", 0, (long) detector.filter(request).count().blockingGet());
+	}
+
+}
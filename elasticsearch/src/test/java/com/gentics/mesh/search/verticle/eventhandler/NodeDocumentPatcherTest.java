@@ -0,0 +1,43 @@
+package com.gentics.mesh.search.verticle.eventhandler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.search.request.ScriptUpdateDocumentRequest;
+import com.gentics.mesh.etc.config.search.ComplianceMode;
+
+import io.vertx.core.json.JsonObject;
+
+public class NodeDocumentPatcherTest {
+
+	@Test
+	public void testTagRenameRequest() {
+		ScriptUpdateDocumentRequest request = NodeDocumentPatcher.tagRenameRequest("mesh-node", "doc1", "tag2", "renamed", ComplianceMode.ES_7);
+		assertScript(request, "tag2", "renamed");
+	}
+
+	@Test
+	public void testTagFamilyRenameRequest() {
+		ScriptUpdateDocumentRequest request = NodeDocumentPatcher.tagFamilyRenameRequest("mesh-node", "doc1", "family1", "paints", ComplianceMode.ES_6);
+		assertScript(request, "family1", "paints");
+	}
+
+	private void assertScript(ScriptUpdateDocumentRequest request, String uuid, String name) {
+		List<String> actions = request.toBulkActions().blockingGet();
+		assertEquals(2, actions.size());
+
+		JsonObject update = new JsonObject(actions.get(0)).getJsonObject("update");
+		assertEquals("mesh-node", update.getString("_index"));
+		assertEquals("doc1", update.getString("_id"));
+
+		JsonObject script = new JsonObject(actions.get(1)).getJsonObject("script");
+		assertEquals("painless", script.getString("lang"));
+		assertFalse("The script must not contain the values", script.getString("source").contains(name));
+		assertEquals(new JsonObject().put("uuid", uuid).put("name", name), script.getJsonObject("params"));
+	}
+
+}
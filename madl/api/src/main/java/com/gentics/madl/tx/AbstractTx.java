@@ -15,6 +15,9 @@
  */
 package com.gentics.madl.tx;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.syncleus.ferma.FramedTransactionalGraph;
 
 /**
@@ -29,6 +32,11 @@ public abstract class AbstractTx<T extends FramedTransactionalGraph> implements
 
 	private boolean isSuccess = false;
 
+	/**
+	 * Actions which will be invoked once the transaction has been completed.
+	 */
+	private List<Runnable> completionActions = new ArrayList<>();
+
 	/**
 	 * Initialize the transaction.
 	 * 
@@ -64,16 +72,35 @@ public abstract class AbstractTx<T extends FramedTransactionalGraph> implements
 	@Override
 	public void close() {
 		Tx.setActive(null);
-		if (isSuccess()) {
-			commit();
-		} else {
-			rollback();
+		try {
+			if (isSuccess()) {
+				commit();
+			} else {
+				rollback();
+			}
+		} finally {
+			runCompletionActions();
 		}
 		// Restore the old graph that was previously swapped with the current graph
 		getGraph().close();
 		getGraph().shutdown();
 	}
 
+	@Override
+	public void onCompletion(Runnable action) {
+		completionActions.add(action);
+	}
+
+	/**
+	 * Invoke the actions which were registered for the completion of the transaction.
+	 */
+	protected void runCompletionActions() {
+		for (Runnable action : completionActions) {
+			action.run();
+		}
+		completionActions.clear();
+	}
+
 	/**
 	 * Invoke a commit on the database of this transaction.
 	 */
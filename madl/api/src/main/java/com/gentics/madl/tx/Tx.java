@@ -56,6 +56,14 @@ public interface Tx extends BaseTransaction {
 	 * @return Graph which is bound to the transaction.
 	 */
 	 FramedTransactionalGraph getGraph();
+
+	/**
+	 * Register an action which will be invoked once the transaction has been completed via a commit or a rollback. Actions of wrapped transactions are invoked
+	 * once the outermost transaction has been completed.
+	 *
+	 * @param action
+	 */
+	void onCompletion(Runnable action);
 	//
 	// /**
 	// * Invoke rollback or commit when closing the autoclosable. By default a rollback will be invoked.
@@ -16,4 +16,11 @@ public interface VertexIndexDefinition extends ElementIndexDefinition {
 	 */
 	Class<?> getClazz();
 
+	/**
+	 * Whether the index should be sorted. Sorted indices can be used for range scans over the last field of the index.
+	 * 
+	 * @return
+	 */
+	boolean isSorted();
+
 }
@@ -12,6 +12,8 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 
 	private boolean includeInOut = false;
 
+	private boolean includeOutIn = false;
+
 	private EdgeIndexDefinitionImpl() {
 	}
 
@@ -23,6 +25,8 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 
 		private boolean includeInOut = false;
 
+		private boolean includeOutIn = false;
+
 		public EdgeIndexDefinitonBuilder(String label) {
 			this.name = label;
 		}
@@ -36,6 +40,7 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 			def.includeIn = includeIn;
 			def.includeOut = includeOut;
 			def.includeInOut = includeInOut;
+			def.includeOutIn = includeOutIn;
 			return def;
 		}
 
@@ -68,6 +73,17 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 			this.includeInOut = true;
 			return this;
 		}
+
+		/**
+		 * Whether to include a dedicated sorted index for out and in bound vertices. The index can be used for range scans over the edges of an out-bound
+		 * vertex.
+		 * 
+		 * @return Fluent API
+		 */
+		public EdgeIndexDefinitonBuilder withOutIn() {
+			this.includeOutIn = true;
+			return this;
+		}
 	}
 
 	@Override
@@ -80,6 +96,11 @@ public class EdgeIndexDefinitionImpl extends AbstractIndexDefinition implements
 		return includeInOut;
 	}
 
+	@Override
+	public boolean isIncludeOutIn() {
+		return includeOutIn;
+	}
+
 	@Override
 	public boolean isIncludeOut() {
 		return includeOut;
@@ -8,6 +8,8 @@ public class VertexIndexDefinitionImpl extends AbstractIndexDefinition implement
 
 	private Class<?> clazz;
 
+	private boolean sorted = false;
+
 	private VertexIndexDefinitionImpl() {
 	}
 
@@ -15,6 +17,8 @@ public class VertexIndexDefinitionImpl extends AbstractIndexDefinition implement
 
 		private Class<?> clazz;
 
+		private boolean sorted = false;
+
 		public VertexIndexDefinitionBuilder(Class<?> clazz) {
 			this.clazz = clazz;
 			// By default the index name is the class name of the vertex
@@ -28,9 +32,20 @@ public class VertexIndexDefinitionImpl extends AbstractIndexDefinition implement
 			def.unique = unique;
 			def.postfix = postfix;
 			def.fields = fields;
+			def.sorted = sorted;
 			return def;
 		}
 
+		/**
+		 * Create a sorted index instead of a hash index. The index can be used for range scans over the last field of the index.
+		 * 
+		 * @return Fluent API
+		 */
+		public VertexIndexDefinitionBuilder sorted() {
+			this.sorted = true;
+			return this;
+		}
+
 	}
 
 	@Override
@@ -38,4 +53,9 @@ public class VertexIndexDefinitionImpl extends AbstractIndexDefinition implement
 		return clazz;
 	}
 
+	@Override
+	public boolean isSorted() {
+		return sorted;
+	}
+
 }
@@ -1,6 +1,8 @@
 package com.gentics.madl.index;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map.Entry;
 
 import com.gentics.mesh.madl.field.FieldMap;
 import com.gentics.mesh.madl.index.ElementIndexDefinition;
@@ -52,6 +54,37 @@ public interface IndexHandler {
 	 */
 	List<Object> edgeLookup(String edgeLabel, String indexPostfix, Object key);
 
+	/**
+	 * Perform a range scan on the sorted out/in edge index of the given edge label. The method returns the inbound vertex ids of all edges which start at the
+	 * given outbound vertex in ascending order. The scan starts after the given inbound vertex id.
+	 * 
+	 * @param edgeLabel
+	 * @param outId
+	 *            outbound vertex id of the edges
+	 * @param afterInId
+	 *            inbound vertex id after which the scan should start or null to start with the first edge
+	 * @return Lazy iterator over the found inbound vertex ids or null if no out/in index exists for the edge label
+	 */
+	Iterator<Object> edgeRangeLookup(String edgeLabel, Object outId, Object afterInId);
+
+	/**
+	 * Perform a range scan on a sorted vertex index. The last field of the index is the sort key. The method returns the entries of all vertices which match
+	 * the given keys for the leading fields of the index in ascending order of the sort key.
+	 * 
+	 * @param clazz
+	 *            Vertex class of the index
+	 * @param indexPostfix
+	 *            Postfix of the index
+	 * @param keys
+	 *            Values of the leading fields of the index. Empty for indices which only consist of the sort key.
+	 * @param after
+	 *            Sort key after which the scan should start or null to start with the first entry
+	 * @param to
+	 *            Sort key at which the scan should stop (exclusive) or null to scan all remaining entries
+	 * @return Lazy iterator over the sort key and vertex id of the found entries or null if no sorted index exists
+	 */
+	Iterator<Entry<Object, Object>> vertexRangeLookup(Class<? extends VertexFrame> clazz, String indexPostfix, Object[] keys, Object after, Object to);
+
 	/**
 	 * Add edge index for the given fields.
 	 * 
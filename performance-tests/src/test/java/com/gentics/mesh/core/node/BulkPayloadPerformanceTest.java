@@ -0,0 +1,76 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
+import com.gentics.mesh.etc.config.search.ComplianceMode;
+import com.gentics.mesh.search.impl.BulkPayload;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Measures the encoding of the payload of Elasticsearch bulk requests and the heap allocation per encoded document.
+ */
+public class BulkPayloadPerformanceTest {
+
+	private static final int DOCUMENTS = 1000;
+
+	private static final int STEPS = 200;
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	@Test
+	public void testEncodeBulk() {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		// Warmup
+		encode(createRequests());
+
+		long allocated = 0;
+		for (int i = 0; i < STEPS; i++) {
+			List<Bulkable> requests = createRequests();
+			long before = threads.getThreadAllocatedBytes(threadId);
+			encode(requests);
+			allocated += threads.getThreadAllocatedBytes(threadId) - before;
+		}
+		double perDocument = allocated / (double) (STEPS * DOCUMENTS);
+		System.out.println("[bulk.payload] Allocated per document: " + Math.round(perDocument) + " [bytes]");
+		logger.log("bulk.payload-allocated-bytes-per-document", perDocument);
+
+		loggingStopWatch(logger, "bulk.payload-" + DOCUMENTS, STEPS, step -> {
+			encode(createRequests());
+		});
+	}
+
+	private void encode(List<Bulkable> requests) {
+		ByteBuf payload = BulkPayload.encode(requests);
+		payload.release();
+	}
+
+	private List<Bulkable> createRequests() {
+		List<Bulkable> requests = new ArrayList<>(DOCUMENTS);
+		for (int i = 0; i < DOCUMENTS; i++) {
+			JsonObject doc = new JsonObject()
+				.put("uuid", "uuid" + i)
+				.put("language", "en")
+				.put("fields", new JsonObject()
+					.put("name", "Document " + i)
+					.put("content", "<p>Some content of document " + i + " with a few words in it.</p>")
+					.put("tags", new JsonArray().add("red").add("green")));
+			requests.add(new CreateDocumentRequest("node", "mesh-node", "uuid" + i, doc, ComplianceMode.ES_6));
+		}
+		return requests;
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeCreateRequest;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaCreateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class GraphQLEndpointPerformanceTest extends AbstractMeshTest {
+
+	private static final int CHILDREN_PER_LEVEL = 10;
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	/**
+	 * Create a tree of three levels below /News in which every node references the same two nodes.
+	 */
+	public void addNodes() {
+		SchemaCreateRequest schema = new SchemaCreateRequest();
+		schema.setName("benchmarkPage");
+		schema.setContainer(true);
+		schema.setSegmentField("slug");
+		schema.addField(FieldUtil.createStringFieldSchema("slug"));
+		schema.addField(FieldUtil.createNodeFieldSchema("teaser"));
+		schema.addField(FieldUtil.createListFieldSchema("related", "node"));
+		createSchema(schema);
+
+		String newsUuid = db().tx(() -> folder("news").getUuid());
+		String teaserUuid = db().tx(() -> folder("2015").getUuid());
+		NodeCreateRequest request = new NodeCreateRequest();
+		request.setLanguage("en");
+		request.setSchema(new SchemaReferenceImpl().setName("benchmarkPage"));
+		request.getFields().put("teaser", FieldUtil.createNodeField(teaserUuid));
+		request.getFields().put("related", FieldUtil.createNodeListField(teaserUuid, newsUuid));
+		for (int i = 0; i < CHILDREN_PER_LEVEL; i++) {
+			String first = createPage(request, newsUuid, "page_" + i);
+			for (int j = 0; j < CHILDREN_PER_LEVEL; j++) {
+				String second = createPage(request, first, "page_" + i + "_" + j);
+				for (int k = 0; k < CHILDREN_PER_LEVEL; k++) {
+					createPage(request, second, "page_" + i + "_" + j + "_" + k);
+				}
+			}
+		}
+	}
+
+	private String createPage(NodeCreateRequest request, String parentUuid, String slug) {
+		request.setParentNodeUuid(parentUuid);
+		request.getFields().put("slug", FieldUtil.createStringField(slug));
+		NodeResponse response = call(() -> client().createNode(PROJECT_NAME, request));
+		return response.getUuid();
+	}
+
+	@Test
+	public void testNestedChildrenAndReferences() {
+		addNodes();
+		String query = "{ node(path: \"/News\") { children(perPage: 100) { elements { uuid "
+			+ "... on benchmarkPage { fields { teaser { uuid } related { uuid } } } "
+			+ "children(perPage: 100) { elements { uuid ... on benchmarkPage { fields { teaser { uuid } related { uuid } } } "
+			+ "children(perPage: 100) { elements { uuid breadcrumb { uuid } ... on benchmarkPage { fields { teaser { uuid } related { uuid } } } } } } } } } } }";
+		loggingStopWatch(logger, "graphql.nestedChildrenAndReferences", 50, (step) -> {
+			call(() -> client().graphqlQuery(PROJECT_NAME, query));
+		});
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.link.WebRootLinkReplacer;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+
+/**
+ * Measures the rendering of HTML contents which contain hundreds of links. Each step uses a new action context so that the resolved links are only reused
+ * within the rendered content.
+ */
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class LinkRendererPerformanceTest extends AbstractMeshTest {
+
+	private static final int[] LINK_COUNTS = { 100, 500 };
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	@Test
+	public void testRenderLinks() {
+		WebRootLinkReplacer replacer = meshDagger().webRootLinkReplacer();
+		try (Tx tx = tx()) {
+			List<String> uuids = new ArrayList<>();
+			uuids.add(content("news overview").getUuid());
+			uuids.add(content("concorde").getUuid());
+			uuids.add(folder("news").getUuid());
+			uuids.add(folder("2015").getUuid());
+			String branchUuid = initialBranchUuid();
+
+			for (int linkCount : LINK_COUNTS) {
+				StringBuilder html = new StringBuilder();
+				for (int i = 0; i < linkCount; i++) {
+					html.append("<p>Paragraph ").append(i).append(" <a href=\"{{mesh.link('").append(uuids.get(i % uuids.size()))
+						.append("', 'en')}}\">link</a></p>\n");
+				}
+				String content = html.toString();
+				for (LinkType type : new LinkType[] { LinkType.SHORT, LinkType.FULL }) {
+					loggingStopWatch(logger, "linkrenderer.html-" + linkCount + "-" + type.name().toLowerCase(), 100, (step) -> {
+						replacer.replace(mockActionContext(), branchUuid, ContainerType.DRAFT, content, type, projectName(), null);
+					});
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.performance.StopWatch.loggingStopWatch;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.Tag;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+import com.gentics.mesh.util.ETag;
+
+/**
+ * Compares the cost of the node etag computation with the previous implementation which inspected all children, tags and parents of the node.
+ */
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class NodeETagPerformanceTest extends AbstractMeshTest {
+
+	private static final int[] CHILD_COUNTS = { 100, 1000, 5000 };
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	@Test
+	public void testWideFolder() {
+		int created = 0;
+		for (int childCount : CHILD_COUNTS) {
+			addChildren(created, childCount - created);
+			created = childCount;
+
+			try (Tx tx = tx()) {
+				Node folder = folder("news");
+				InternalActionContext ac = mockActionContext();
+				loggingStopWatch(logger, "node.etag-legacy-" + childCount, 100, (step) -> {
+					legacyETag(folder, ac);
+				});
+				loggingStopWatch(logger, "node.etag-" + childCount, 100, (step) -> {
+					folder.getETag(ac);
+				});
+			}
+		}
+	}
+
+	private void addChildren(int offset, int count) {
+		try (Tx tx = tx()) {
+			Node folder = folder("news");
+			SchemaContainerVersion version = schemaContainer("content").getLatestVersion();
+			for (int i = offset; i < offset + count; i++) {
+				Node child = folder.create(user(), version, project());
+				child.createGraphFieldContainer(english(), initialBranch(), user()).createString("slug").setString("child_" + i);
+				role().grantPermissions(child, READ_PERM, READ_PUBLISHED_PERM);
+			}
+			tx.success();
+		}
+	}
+
+	/**
+	 * Compute the key which was used by the previous etag implementation. Link resolving is omitted since the benchmark does not resolve links.
+	 *
+	 * @param node
+	 * @param ac
+	 * @return
+	 */
+	private String legacyETag(Node node, InternalActionContext ac) {
+		StringBuilder keyBuilder = new StringBuilder();
+		Branch branch = ac.getBranch(node.getProject());
+		keyBuilder.append(branch.getUuid());
+		NodeGraphFieldContainer container = node.getGraphFieldContainer(english(), branch, DRAFT);
+		keyBuilder.append(container.getETag(ac));
+		for (Tag tag : node.getTags(branch)) {
+			keyBuilder.append(tag.getETag(ac));
+		}
+		for (Node child : node.getChildren(branch.getUuid())) {
+			if (ac.getUser().hasPermission(child, READ_PUBLISHED_PERM)) {
+				keyBuilder.append(child.getSchemaContainer().getName());
+			}
+		}
+		for (NodeGraphFieldContainer c : node.getGraphFieldContainers(branch, PUBLISHED)) {
+			keyBuilder.append(c.getLanguageTag() + "published");
+		}
+		for (NodeGraphFieldContainer c : node.getGraphFieldContainers(branch, DRAFT)) {
+			keyBuilder.append(c.getLanguageTag() + "draft");
+		}
+		Node current = node.getParentNode(branch.getUuid());
+		while (current != null) {
+			keyBuilder.append(current.getUuid() + current.getDisplayName(ac));
+			current = current.getParentNode(branch.getUuid());
+		}
+		return ETag.hash(keyBuilder.toString());
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.gentics.mesh.core.node;
+
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.test.performance.StopWatchLogger;
+
+import io.reactivex.Observable;
+
+/**
+ * Measures the write throughput of concurrent updates on independent nodes. With the striped write lock the throughput should scale with the request
+ * concurrency since updates of different nodes no longer wait on a single global lock.
+ */
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class WriteLockPerformanceTest extends AbstractMeshTest {
+
+	private static final int NODE_COUNT = 64;
+
+	private static final int UPDATES_PER_RUN = 512;
+
+	private StopWatchLogger logger = StopWatchLogger.logger(getClass());
+
+	@Test
+	public void testConcurrentUpdatesOfIndependentNodes() {
+		List<String> uuids = new ArrayList<>();
+		for (int i = 0; i < NODE_COUNT; i++) {
+			uuids.add(createNode().getUuid());
+		}
+
+		DecimalFormat df = new DecimalFormat("#.##");
+		for (int concurrency : new int[] { 1, 2, 4, 8, 16 }) {
+			long start = System.currentTimeMillis();
+			// Round robin over the nodes. The concurrency is always lower than the node count so in-flight updates never target the same node.
+			Observable.range(0, UPDATES_PER_RUN)
+				.flatMapSingle(i -> {
+					NodeUpdateRequest request = new NodeUpdateRequest();
+					request.setLanguage("en");
+					request.getFields().put("slug", FieldUtil.createStringField("slug_" + concurrency + "_" + i));
+					return client().updateNode(PROJECT_NAME, uuids.get(i % NODE_COUNT), request).toSingle();
+				}, false, concurrency)
+				.ignoreElements()
+				.blockingAwait();
+			long duration = System.currentTimeMillis() - start;
+			double perUpdate = (double) duration / (double) UPDATES_PER_RUN;
+			double throughput = UPDATES_PER_RUN / (duration / 1000d);
+			logger.log("node.update-independent-c" + concurrency + ".avg", perUpdate);
+			System.out.println("[node.update-independent] Concurrency: " + concurrency + " Throughput: " + df.format(throughput) + " [updates/s]");
+		}
+		logger.flush();
+	}
+}
@@ -20,6 +20,7 @@ import com.gentics.mesh.core.rest.event.node.NodeMovedEventModel;
 import com.gentics.mesh.core.rest.event.node.NodeTaggedEventModel;
 import com.gentics.mesh.core.rest.event.role.PermissionChangedEventModel;
 import com.gentics.mesh.core.rest.event.role.PermissionChangedEventModelImpl;
+import com.gentics.mesh.core.rest.event.search.IndexSyncRequestEventModel;
 import com.gentics.mesh.core.rest.event.tag.TagMeshEventModel;
 import com.gentics.mesh.core.rest.event.tagfamily.TagFamilyMeshEventModel;
 import com.gentics.mesh.core.rest.group.GroupReference;
@@ -51,6 +52,10 @@ public final class Examples {
 		return model;
 	}
 
+	public static IndexSyncRequestEventModel indexSyncRequestEvent() {
+		return new IndexSyncRequestEventModel().setDeep(true);
+	}
+
 	public static SchemaMigrationMeshEventModel schemaMigrationEvent() {
 		SchemaMigrationMeshEventModel model = new SchemaMigrationMeshEventModel();
 		model.setUuid(uuid1());
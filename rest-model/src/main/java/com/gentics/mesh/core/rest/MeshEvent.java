@@ -20,6 +20,7 @@ import com.gentics.mesh.core.rest.event.project.ProjectBranchEventModel;
 import com.gentics.mesh.core.rest.event.project.ProjectMicroschemaEventModel;
 import com.gentics.mesh.core.rest.event.project.ProjectSchemaEventModel;
 import com.gentics.mesh.core.rest.event.role.PermissionChangedEventModel;
+import com.gentics.mesh.core.rest.event.search.IndexSyncRequestEventModel;
 import com.gentics.mesh.core.rest.event.tag.TagMeshEventModel;
 import com.gentics.mesh.core.rest.event.tagfamily.TagFamilyMeshEventModel;
 import io.reactivex.Completable;
@@ -466,8 +467,9 @@ public enum MeshEvent {
 	 * Address for the handler which will process index sync requests.
 	 */
 	INDEX_SYNC_REQUEST("mesh.search.index.sync.request",
-		null,
-		"Event address which can be used to trigger the sync process."),
+		IndexSyncRequestEventModel.class,
+		"Event address which can be used to trigger the sync process.",
+		Examples::indexSyncRequestEvent),
 
 	/**
 	 * Emitted when an index sync process starts.
@@ -0,0 +1,25 @@
+package com.gentics.mesh.core.rest.event.search;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.gentics.mesh.core.rest.event.AbstractMeshEventModel;
+
+/**
+ * Event model for index sync requests.
+ */
+public class IndexSyncRequestEventModel extends AbstractMeshEventModel {
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which indicates whether a full diff of all indices should be done instead of the incremental sync.")
+	private boolean deep;
+
+	public boolean isDeep() {
+		return deep;
+	}
+
+	public IndexSyncRequestEventModel setDeep(boolean deep) {
+		this.deep = deep;
+		return this;
+	}
+
+}
@@ -0,0 +1,29 @@
+package com.gentics.mesh.parameter;
+
+import org.apache.commons.lang.BooleanUtils;
+
+public interface IndexSyncParameters extends ParameterProvider {
+
+	public static final String DEEP_PARAMETER_KEY = "deep";
+
+	/**
+	 * Set the deep flag which can be used to enforce a full diff of all indices instead of the incremental sync.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default IndexSyncParameters setDeep(boolean flag) {
+		setParameter(DEEP_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether the deep flag for the index sync is enabled.
+	 * 
+	 * @return
+	 */
+	default boolean isDeep() {
+		return BooleanUtils.toBooleanDefaultIfNull(Boolean.valueOf(getParameter(DEEP_PARAMETER_KEY)), false);
+	}
+
+}
@@ -9,6 +9,7 @@ public interface PagingParameters extends ParameterProvider {
 	public static final String PER_PAGE_PARAMETER_KEY = "perPage";
 	public static final String SORT_BY_PARAMETER_KEY = "sortBy";
 	public static final String SORT_ORDER_PARAMETER_KEY = "order";
+	public static final String CURSOR_PARAMETER_KEY = "cursor";
 
 	public static final int DEFAULT_PAGE = 1;
 
@@ -56,6 +57,29 @@ public interface PagingParameters extends ParameterProvider {
 		return this;
 	}
 
+	/**
+	 * Return the cursor which identifies the last element of the previous page. The page will start after this element.
+	 * 
+	 * @return Cursor or null if no cursor was set
+	 */
+	default String getCursor() {
+		return getParameter(CURSOR_PARAMETER_KEY);
+	}
+
+	/**
+	 * Set the cursor which identifies the last element of the previous page. The cursor can be taken from the paging meta info of the previous page.
+	 * 
+	 * @param cursor
+	 *            Cursor of the previous page
+	 * @return Fluent API
+	 */
+	default PagingParameters setCursor(String cursor) {
+		if (cursor != null) {
+			setParameter(CURSOR_PARAMETER_KEY, cursor);
+		}
+		return this;
+	}
+
 	/**
 	 * Return the sort by parameter value.
 	 * 
@@ -3,10 +3,13 @@ package com.gentics.mesh.image;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -14,6 +17,7 @@ import java.util.Map;
 
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
 import javax.imageio.ImageReader;
 import javax.imageio.ImageWriteParam;
 import javax.imageio.ImageWriter;
@@ -33,16 +37,21 @@ import org.imgscalr.Scalr.Mode;
 
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.image.spi.AbstractImageManipulator;
+import com.gentics.mesh.core.image.spi.ImageCache;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Supplier;
 import com.gentics.mesh.image.focalpoint.FocalPointModifier;
+import com.gentics.mesh.metric.MetricsService;
+import com.gentics.mesh.metric.SimpleMetric;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.image.ImageRect;
 import com.gentics.mesh.parameter.image.ResizeMode;
 import com.gentics.mesh.util.NumberUtils;
 import com.twelvemonkeys.image.ResampleOp;
+
+import io.micrometer.core.instrument.DistributionSummary;
 import io.reactivex.Single;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -56,19 +65,38 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 	private static final Logger log = LoggerFactory.getLogger(ImgscalrImageManipulator.class);
 
+	/**
+	 * Source images with more pixels are decoded with subsampling and downscaled in multiple steps.
+	 */
+	static final long LARGE_IMAGE_PIXELS = 16_000_000;
+
+	/**
+	 * Subsampled and downscaled images keep at least this multiple of the target size so that the final resample filter has enough pixels to work with.
+	 */
+	private static final int OVERSAMPLING = 2;
+
 	private FocalPointModifier focalPointModifier;
 
 	private WorkerExecutor workerPool;
 
-	public ImgscalrImageManipulator(Vertx vertx, MeshOptions options) {
-		this(vertx, options.getImageOptions());
+	private ImageCache imageCache;
+
+	private MetricsService metrics;
+
+	private DistributionSummary decodedBytes;
+
+	public ImgscalrImageManipulator(Vertx vertx, MeshOptions options, MetricsService metrics) {
+		this(vertx, options.getImageOptions(), metrics);
 	}
 
-	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
+	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics) {
 		super(vertx, options);
 		focalPointModifier = new FocalPointModifier(options);
 		// 10 seconds
 		workerPool = vertx.createSharedWorkerExecutor("resizeWorker", 5, Duration.ofSeconds(10).toNanos());
+		imageCache = new ImageCache(vertx, options, metrics);
+		this.metrics = metrics;
+		decodedBytes = metrics.meter(SimpleMetric.IMAGE_DECODED_BYTES);
 	}
 
 	/**
@@ -179,7 +207,7 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 			}
 
 			try {
-				BufferedImage image = Scalr.apply(originalImage, new ResampleOp(width, height, options.getResampleFilter().getFilter()));
+				BufferedImage image = Scalr.apply(stepDown(originalImage, width, height), new ResampleOp(width, height, options.getResampleFilter().getFilter()));
 				originalImage.flush();
 				return image;
 			} catch (IllegalArgumentException e) {
@@ -190,6 +218,99 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		return originalImage;
 	}
 
+	/**
+	 * Halve large images until they are less than twice the oversampled target size. The regular resample filter gets slow and memory intensive for large
+	 * scale factors.
+	 *
+	 * @param image
+	 * @param width
+	 *            Target width
+	 * @param height
+	 *            Target height
+	 * @return Downscaled image or the given image if no steps are needed
+	 */
+	protected BufferedImage stepDown(BufferedImage image, int width, int height) {
+		if ((long) image.getWidth() * image.getHeight() <= LARGE_IMAGE_PIXELS) {
+			return image;
+		}
+		int minWidth = 2 * OVERSAMPLING * Math.max(1, width);
+		int minHeight = 2 * OVERSAMPLING * Math.max(1, height);
+		BufferedImage result = image;
+		while (result.getWidth() >= minWidth && result.getHeight() >= minHeight) {
+			BufferedImage step = Scalr.apply(result, new ResampleOp(result.getWidth() / 2, result.getHeight() / 2, ResampleOp.FILTER_TRIANGLE));
+			if (result != image) {
+				result.flush();
+			}
+			result = step;
+		}
+		return result;
+	}
+
+	/**
+	 * Create the read parameters for the source image. The crop area is applied as source region. Large source images are subsampled so that only the pixels
+	 * needed for the target size are decoded.
+	 *
+	 * @param reader
+	 * @param parameters
+	 * @return
+	 * @throws IOException
+	 */
+	protected ImageReadParam createReadParam(ImageReader reader, ImageManipulationParameters parameters) throws IOException {
+		ImageReadParam readParam = reader.getDefaultReadParam();
+		int width = reader.getWidth(0);
+		int height = reader.getHeight(0);
+		ImageRect cropArea = parameters.getCropMode() == CropMode.RECT ? parameters.getRect() : null;
+		if (cropArea != null) {
+			cropArea.validateCropBounds(width, height);
+			readParam.setSourceRegion(new Rectangle(cropArea.getStartX(), cropArea.getStartY(), cropArea.getWidth(), cropArea.getHeight()));
+			width = cropArea.getWidth();
+			height = cropArea.getHeight();
+		}
+		int factor = getSubsamplingFactor(width, height, parameters);
+		if (factor > 1) {
+			if (log.isDebugEnabled()) {
+				log.debug("Subsampling source image of size {" + width + "x" + height + "} by factor {" + factor + "}");
+			}
+			readParam.setSourceSubsampling(factor, factor, 0, 0);
+		}
+		return readParam;
+	}
+
+	/**
+	 * Return the subsampling factor for a large source image. The subsampled image is at least {@link #OVERSAMPLING} times larger than the requested size.
+	 *
+	 * @param width
+	 *            Width of the source image or crop area
+	 * @param height
+	 *            Height of the source image or crop area
+	 * @param parameters
+	 * @return Subsampling factor or 1 if the image should not be subsampled
+	 */
+	static int getSubsamplingFactor(int width, int height, ImageManipulationParameters parameters) {
+		if ((long) width * height <= LARGE_IMAGE_PIXELS) {
+			return 1;
+		}
+		// Zooming into the focal point needs the full resolution
+		Float zoom = parameters.getFocalPointZoom();
+		if (parameters.getCropMode() == CropMode.FOCALPOINT && zoom != null && zoom > 1) {
+			return 1;
+		}
+		int targetWidth = NumberUtils.toInt(parameters.getWidth(), 0);
+		int targetHeight = NumberUtils.toInt(parameters.getHeight(), 0);
+		int factor = Integer.MAX_VALUE;
+		if (targetWidth > 0) {
+			factor = Math.min(factor, width / (OVERSAMPLING * targetWidth));
+		}
+		if (targetHeight > 0) {
+			factor = Math.min(factor, height / (OVERSAMPLING * targetHeight));
+		}
+		// No resize was requested
+		if (factor == Integer.MAX_VALUE) {
+			return 1;
+		}
+		return Math.max(1, factor);
+	}
+
 	/**
 	 * Create an image reader for the given input.
 	 *
@@ -268,12 +389,26 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 	 * @return The modified image
 	 */
 	protected BufferedImage cropAndResize(BufferedImage image, ImageManipulationParameters parameters) {
+		return cropAndResize(image, parameters, false);
+	}
+
+	/**
+	 * Resize the given image with the specified manipulation parameters.
+	 *
+	 * @param image      The image to process
+	 * @param parameters The parameters defining cropping and resizing requests
+	 * @param cropped    Whether the crop area has already been applied when reading the image
+	 * @return The modified image
+	 */
+	protected BufferedImage cropAndResize(BufferedImage image, ImageManipulationParameters parameters, boolean cropped) {
 		CropMode cropMode = parameters.getCropMode();
 		boolean omitResize = false;
 		if (cropMode != null) {
 			switch (cropMode) {
 				case RECT:
-					image = crop(image, parameters.getRect());
+					if (!cropped) {
+						image = crop(image, parameters.getRect());
+					}
 					break;
 				case FOCALPOINT:
 					image = focalPointModifier.apply(image, parameters);
@@ -301,58 +436,97 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		return getCacheFilePath(binary.getSHA512Sum(), parameters)
 			.flatMap(cacheFileInfo -> {
 				if (cacheFileInfo.exists) {
+					imageCache.hit(cacheFileInfo.path);
 					return Single.just(cacheFileInfo.path);
 				} else {
-					// TODO handle execution timeout
-					// Make sure to run that code in the dedicated thread pool it may be CPU intensive for larger images and we don't want to exhaust the
-					// regular worker
-					// pool
-					return workerPool.<String>rxExecuteBlocking(bh -> {
-						try (
-							InputStream is = stream.get();
-							ImageInputStream ins = ImageIO.createImageInputStream(is)) {
-							BufferedImage image;
-							ImageReader reader = getImageReader(ins);
-
-							try {
-								image = reader.read(0);
-							} catch (IOException e) {
-								log.error("Could not read input image", e);
-
-								throw error(BAD_REQUEST, "image_error_reading_failed");
-							}
-
-							if (log.isDebugEnabled()) {
-								log.debug("Read image from stream " + ins.hashCode() + " with reader " + reader.getClass().getName());
-							}
-
-							image = cropAndResize(image, parameters);
-
-							String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
-							String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
-							String cacheFilePath = cacheFileInfo.path + "." + extension;
-							File outCacheFile = new File(cacheFilePath);
-
-							// Write image
-							try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
-								ImageWriteParam params = getImageWriteparams(extension);
-
-								// same as write(image), but with image parameters
-								getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
-							} catch (Exception e) {
-								throw error(BAD_REQUEST, "image_error_writing_failed");
-							}
-
-							// Return buffer to written cache file
-							bh.complete(cacheFilePath);
-						} catch (Exception e) {
-							bh.fail(e);
-						}
-					}, false).toSingle();
+					// Concurrent requests for the same image share a single resize operation
+					return imageCache.compute(cacheFileInfo.path, () -> resize(stream, parameters, cacheFileInfo.path));
 				}
 			});
 	}
 
+	/**
+	 * Resize the image and write it to the image cache.
+	 *
+	 * @param stream
+	 *            Stream of the original image
+	 * @param parameters
+	 * @param basePath
+	 *            Path of the cache file without the file extension
+	 * @return Path of the written cache file
+	 */
+	private Single<String> resize(Supplier<InputStream> stream, ImageManipulationParameters parameters, String basePath) {
+		// TODO handle execution timeout
+		// Make sure to run that code in the dedicated thread pool it may be CPU intensive for larger images and we don't want to exhaust the
+		// regular worker
+		// pool
+		return workerPool.<String>rxExecuteBlocking(bh -> {
+			try (
+				InputStream is = stream.get();
+				ImageInputStream ins = ImageIO.createImageInputStream(is)) {
+				BufferedImage image;
+				ImageReader reader = getImageReader(ins);
+				ImageReadParam readParam;
+
+				try {
+					readParam = createReadParam(reader, parameters);
+					image = reader.read(0, readParam);
+				} catch (IOException e) {
+					log.error("Could not read input image", e);
+
+					throw error(BAD_REQUEST, "image_error_reading_failed");
+				}
+
+				if (log.isDebugEnabled()) {
+					log.debug("Read image from stream " + ins.hashCode() + " with reader " + reader.getClass().getName());
+				}
+
+				recordDecodedSize(image);
+				image = cropAndResize(image, parameters, readParam.getSourceRegion() != null);
+
+				String[] extensions = reader.getOriginatingProvider().getFileSuffixes();
+				String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
+				File outCacheFile = new File(basePath + "." + extension);
+				// Write to a hidden file first so that incomplete images are never served from the cache
+				File tmpCacheFile = File.createTempFile("." + outCacheFile.getName(), ".tmp", outCacheFile.getParentFile());
+
+				// Write image
+				try (ImageOutputStream out = new FileImageOutputStream(tmpCacheFile)) {
+					ImageWriteParam params = getImageWriteparams(extension);
+
+					// same as write(image), but with image parameters
+					getImageWriter(reader, out).write(null, new IIOImage(image, null, null), params);
+				} catch (Exception e) {
+					tmpCacheFile.delete();
+					throw error(BAD_REQUEST, "image_error_writing_failed");
+				}
+				Files.move(tmpCacheFile.toPath(), outCacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				String cacheFilePath = outCacheFile.getPath();
+				imageCache.add(cacheFilePath);
+
+				// Return buffer to written cache file
+				bh.complete(cacheFilePath);
+			} catch (Exception e) {
+				bh.fail(e);
+			}
+		}, false).toSingle();
+	}
+
+	/**
+	 * Track the heap size of the decoded source image.
+	 *
+	 * @param image
+	 */
+	private void recordDecodedSize(BufferedImage image) {
+		long bytes = (long) image.getWidth() * image.getHeight() * Math.max(1, image.getColorModel().getPixelSize() / 8);
+		if (log.isDebugEnabled()) {
+			log.debug("Decoded source image of size {" + image.getWidth() + "x" + image.getHeight() + "} uses about {" + bytes + "} bytes");
+		}
+		if (metrics.isEnabled()) {
+			decodedBytes.record(bytes);
+		}
+	}
+
 	private ImageWriteParam getImageWriteparams(String extension) {
 		if (isJpeg(extension)) {
 			JPEGImageWriteParam params = new JPEGImageWriteParam(null);
@@ -402,4 +576,9 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		});
 	}
 
+	@Override
+	public void shutdown() {
+		imageCache.close();
+	}
+
 }
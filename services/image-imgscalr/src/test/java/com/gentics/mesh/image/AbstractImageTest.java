@@ -11,6 +11,11 @@ import org.apache.commons.io.FileUtils;
 import org.junit.After;
 import org.junit.Before;
 
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 public class AbstractImageTest {
 
 	protected File cacheDir;
@@ -27,6 +32,22 @@ public class AbstractImageTest {
 		FileUtils.deleteDirectory(new File("target/data"));
 	}
 
+	public static MetricsService metrics() {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		return new MetricsService() {
+
+			@Override
+			public boolean isEnabled() {
+				return false;
+			}
+
+			@Override
+			public MeterRegistry getMetricRegistry() {
+				return registry;
+			}
+		};
+	}
+
 	public BufferedImage getImage(String name) throws IOException {
 		InputStream ins = getClass().getResourceAsStream("/pictures/" + name);
 		if (ins == null) {
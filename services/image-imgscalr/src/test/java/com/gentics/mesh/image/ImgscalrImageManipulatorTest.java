@@ -63,7 +63,7 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 		ImageManipulatorOptions options = new ImageManipulatorOptions();
 
 		options.setImageCacheDirectory(cacheDir.getAbsolutePath());
-		manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options);
+		manipulator = new ImgscalrImageManipulator(Vertx.vertx(), options, metrics());
 	}
 
 	@Test
@@ -665,6 +665,24 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 		// ImageTestUtil.writePngImage(outputImage9, new File("target/outputImage9-force-crop-reference.png"));
 	}
 
+	@Test
+	public void testSubsamplingFactor() {
+		// Small images are never subsampled
+		assertEquals(1, ImgscalrImageManipulator.getSubsamplingFactor(1688, 2430, new ImageManipulationParametersImpl().setWidth(150).setHeight(180)));
+
+		// The subsampled image keeps at least twice the target size
+		assertEquals(30, ImgscalrImageManipulator.getSubsamplingFactor(9000, 6000, new ImageManipulationParametersImpl().setWidth(150).setHeight(100)));
+		assertEquals(22, ImgscalrImageManipulator.getSubsamplingFactor(9000, 6000, new ImageManipulationParametersImpl().setWidth(200)));
+		assertEquals(15, ImgscalrImageManipulator.getSubsamplingFactor(9000, 6000, new ImageManipulationParametersImpl().setWidth(300).setHeight(200)
+			.setResizeMode(ResizeMode.PROP)));
+		assertEquals(1, ImgscalrImageManipulator.getSubsamplingFactor(9000, 6000, new ImageManipulationParametersImpl().setWidth(2048).setHeight(2048)));
+
+		// No resize or zoom requested
+		assertEquals(1, ImgscalrImageManipulator.getSubsamplingFactor(9000, 6000, new ImageManipulationParametersImpl()));
+		assertEquals(1, ImgscalrImageManipulator.getSubsamplingFactor(9000, 6000, new ImageManipulationParametersImpl().setWidth(200).setHeight(200)
+			.setCropMode(CropMode.FOCALPOINT).setFocalPoint(0.5f, 0.5f).setFocalPointZoom(2f)));
+	}
+
 	@Test
 	public void testTikaMetadata() throws IOException, SAXException, TikaException {
 		InputStream ins = getClass().getResourceAsStream("/pictures/12382975864_09e6e069e7_o.jpg");
@@ -1,19 +1,26 @@
 package com.gentics.mesh.graphql;
 
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
 import static graphql.GraphQL.newGraphQL;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.rest.error.AbstractUnavailableException;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.cache.GraphQLDocumentCache;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaCache;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.graphql.type.QueryTypeProvider;
 import com.gentics.mesh.util.SearchWaitUtil;
@@ -23,7 +30,14 @@ import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
 import graphql.language.SourceLocation;
+import graphql.schema.GraphQLSchema;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -35,6 +49,11 @@ public class GraphQLHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(GraphQLHandler.class);
 
+	/**
+	 * Query parameter which enables the indentation of the response.
+	 */
+	public static final String PRETTY_PARAMETER = "pretty";
+
 	@Inject
 	public QueryTypeProvider typeProvider;
 
@@ -47,6 +66,12 @@ public class GraphQLHandler {
 	@Inject
 	public SearchWaitUtil waitUtil;
 
+	@Inject
+	public GraphQLSchemaCache schemaCache;
+
+	@Inject
+	public GraphQLDocumentCache documentCache;
+
 	@Inject
 	public GraphQLHandler() {
 	}
@@ -65,7 +90,12 @@ public class GraphQLHandler {
 				db.tx(tx -> {
 					JsonObject queryJson = new JsonObject(body);
 					String query = queryJson.getString("query");
-					GraphQL graphQL = newGraphQL(typeProvider.getRootSchema(gc)).build();
+					String schemaKey = schemaCache.createCacheKey(gc);
+					GraphQLSchema schema = schemaCache.get(schemaKey, key -> typeProvider.getRootSchema(gc));
+					GraphQL graphQL = newGraphQL(schema)
+						.preparsedDocumentProvider(documentCache.forSchema(schemaKey))
+						.instrumentation(new DataLoaderDispatcherInstrumentation(gc.getDataLoaderRegistry()))
+						.build();
 					ExecutionInput executionInput = ExecutionInput
 						.newExecutionInput()
 						.query(query)
@@ -74,9 +104,9 @@ public class GraphQLHandler {
 						.build();
 					ExecutionResult result = graphQL.execute(executionInput);
 					List<GraphQLError> errors = result.getErrors();
-					JsonObject response = new JsonObject();
+					JsonArray jsonErrors = null;
 					if (!errors.isEmpty()) {
-						addErrors(errors, response);
+						jsonErrors = toJson(errors);
 						if (log.isDebugEnabled()) {
 							log.debug("Encountered {" + errors.size() + "} errors while executing query {" + query + "}");
 							for (GraphQLError error : errors) {
@@ -88,11 +118,8 @@ public class GraphQLHandler {
 							}
 						}
 					}
-					if (result.getData() != null) {
-						Map<String, Object> data = result.getData();
-						response.put("data", new JsonObject(data));
-					}
-					gc.send(response.encodePrettily(), OK);
+					boolean pretty = Boolean.parseBoolean(gc.getParameter(PRETTY_PARAMETER));
+					gc.send(encodeResponse(jsonErrors, result.getData(), pretty), OK, APPLICATION_JSON_UTF8);
 					promise.complete();
 				});
 			} catch (Exception e) {
@@ -121,20 +148,58 @@ public class GraphQLHandler {
 	}
 
 	/**
-	 * Add the listed errors to the response.
+	 * Serialize the response directly into a buffer. The data of the result is streamed into the buffer without creating an intermediate JSON object or
+	 * string. The buffer is not pooled since not every action context releases the sent
+	 * buffer.
+	 *
+	 * @param errors
+	 *            Errors of the response or null
+	 * @param data
+	 *            Data of the result or null
+	 * @param pretty
+	 *            Whether the response should be indented
+	 * @return
+	 * @throws IOException
+	 */
+	private Buffer encodeResponse(JsonArray errors, Object data, boolean pretty) throws IOException {
+		ByteBuf buffer = Unpooled.buffer();
+		try (JsonGenerator generator = Json.mapper.getFactory().createGenerator((OutputStream) new ByteBufOutputStream(buffer))) {
+			if (pretty) {
+				generator.useDefaultPrettyPrinter();
+			}
+			generator.writeStartObject();
+			if (errors != null) {
+				generator.writeFieldName("errors");
+				generator.writeObject(errors);
+			}
+			if (data != null) {
+				generator.writeFieldName("data");
+				generator.writeObject(data);
+			}
+			generator.writeEndObject();
+		}
+		return Buffer.buffer(buffer);
+	}
+
+	/**
+	 * Transform the listed errors to JSON.
 	 *
 	 * @param errors
-	 * @param response
+	 * @return
 	 */
-	private void addErrors(List<GraphQLError> errors, JsonObject response) {
+	private JsonArray toJson(List<GraphQLError> errors) {
 		JsonArray jsonErrors = new JsonArray();
-		response.put("errors", jsonErrors);
 		for (GraphQLError error : errors) {
 			JsonObject jsonError = new JsonObject();
 			if (error instanceof ExceptionWhileDataFetching) {
 				ExceptionWhileDataFetching dataError = (ExceptionWhileDataFetching) error;
-				if (dataError.getException() instanceof AbstractUnavailableException) {
-					AbstractUnavailableException restException = (AbstractUnavailableException) dataError.getException();
+				Throwable exception = dataError.getException();
+				// Exceptions of fetchers which use data loaders are wrapped by the returned future
+				if (exception instanceof CompletionException && exception.getCause() != null) {
+					exception = exception.getCause();
+				}
+				if (exception instanceof AbstractUnavailableException) {
+					AbstractUnavailableException restException = (AbstractUnavailableException) exception;
 					// TODO translate error
 					// TODO add i18n parameters
 					jsonError.put("message", restException.getI18nKey());
@@ -142,7 +207,7 @@ public class GraphQLHandler {
 					jsonError.put("elementId", restException.getElementId());
 					jsonError.put("elementType", restException.getElementType());
 				} else {
-					log.error("Error while fetching data.", dataError.getException());
+					log.error("Error while fetching data.", exception);
 					jsonError.put("message", dataError.getMessage());
 					jsonError.put("type", dataError.getErrorType());
 				}
@@ -162,5 +227,6 @@ public class GraphQLHandler {
 			}
 			jsonErrors.add(jsonError);
 		}
+		return jsonErrors;
 	}
 }
@@ -0,0 +1,49 @@
+package com.gentics.mesh.graphql.cache;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.AbstractMeshCache;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+
+/**
+ * LRU cache for parsed and validated GraphQL query documents. A document is only valid for the schema it was validated against. The entries are thus cached
+ * per schema cache key and query. The cache will be cleared on the same events as the {@link GraphQLSchemaCache}.
+ */
+@Singleton
+public class GraphQLDocumentCache extends AbstractMeshCache<String, PreparsedDocumentEntry> {
+
+	@Inject
+	public GraphQLDocumentCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getGraphQLDocumentCacheSize());
+	}
+
+	private static EventAwareCache<String, PreparsedDocumentEntry> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, PreparsedDocumentEntry>builder()
+			.events(GraphQLSchemaCache.EVENTS)
+			.action((event, cache) -> {
+				cache.invalidate();
+			})
+			.name("graphqldocument")
+			.maxSize(config.getGraphQLDocumentCacheSize())
+			.build();
+	}
+
+	/**
+	 * Return the document provider for the schema with the given key.
+	 *
+	 * @param schemaKey
+	 *            Cache key of the schema which is used to execute the queries
+	 * @return
+	 */
+	public PreparsedDocumentProvider forSchema(String schemaKey) {
+		return (query, computeFunction) -> get(schemaKey + "\n" + query, key -> computeFunction.apply(query));
+	}
+}
@@ -0,0 +1,124 @@
+package com.gentics.mesh.graphql.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.AbstractMeshCache;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.plugin.GraphQLPluginRegistry;
+import com.gentics.mesh.plugin.graphql.GraphQLPlugin;
+
+import graphql.schema.GraphQLSchema;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * LRU cache for the built GraphQL schemas. The schemas are cached per project, branch, API version and set of schema and microschema versions which are used
+ * to generate the types. The cache will be cleared when schemas, microschemas or branches are changed.
+ */
+@Singleton
+public class GraphQLSchemaCache extends AbstractMeshCache<String, GraphQLSchema> {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphQLSchemaCache.class);
+
+	/**
+	 * Events which affect the generated GraphQL types.
+	 */
+	public static final MeshEvent EVENTS[] = {
+		SCHEMA_CREATED,
+		SCHEMA_UPDATED,
+		SCHEMA_DELETED,
+		SCHEMA_MIGRATION_FINISHED,
+		SCHEMA_BRANCH_ASSIGN,
+		SCHEMA_BRANCH_UNASSIGN,
+		MICROSCHEMA_CREATED,
+		MICROSCHEMA_UPDATED,
+		MICROSCHEMA_DELETED,
+		MICROSCHEMA_MIGRATION_FINISHED,
+		MICROSCHEMA_BRANCH_ASSIGN,
+		MICROSCHEMA_BRANCH_UNASSIGN,
+		PROJECT_UPDATED,
+		PROJECT_DELETED,
+		PROJECT_SCHEMA_ASSIGNED,
+		PROJECT_SCHEMA_UNASSIGNED,
+		PROJECT_MICROSCHEMA_ASSIGNED,
+		PROJECT_MICROSCHEMA_UNASSIGNED,
+		BRANCH_CREATED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED };
+
+	private final GraphQLPluginRegistry pluginRegistry;
+
+	@Inject
+	public GraphQLSchemaCache(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, GraphQLPluginRegistry pluginRegistry) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getGraphQLSchemaCacheSize());
+		this.pluginRegistry = pluginRegistry;
+	}
+
+	private static EventAwareCache<String, GraphQLSchema> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, GraphQLSchema>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing GraphQL schema cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.name("graphqlschema")
+			.maxSize(config.getGraphQLSchemaCacheSize())
+			.build();
+	}
+
+	/**
+	 * Create the cache key for the schema of the given context. Needs to be invoked within a transaction.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	public String createCacheKey(GraphQLContext gc) {
+		Project project = gc.getProject();
+		Stream<String> schemaVersions = project.getSchemaContainerRoot().findAll().stream()
+			.map(schema -> schema.getLatestVersion().getUuid());
+		Stream<String> microschemaVersions = project.getMicroschemaContainerRoot().findAll().stream()
+			.map(microschema -> microschema.getLatestVersion().getUuid());
+		Stream<String> plugins = pluginRegistry.getPlugins().stream()
+			.map(GraphQLPlugin::id);
+
+		return project.getUuid() + "-" + gc.getBranch().getUuid() + "-v" + gc.getApiVersion() + "-"
+			+ Stream.of(schemaVersions, microschemaVersions, plugins)
+				.flatMap(s -> s.sorted())
+				.collect(Collectors.joining(","));
+	}
+}
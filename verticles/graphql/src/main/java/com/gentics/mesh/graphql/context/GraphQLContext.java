@@ -2,6 +2,9 @@ package com.gentics.mesh.graphql.context;
 
 import java.util.function.Supplier;
 
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
@@ -39,4 +42,21 @@ public interface GraphQLContext extends InternalActionContext, GraphQLPluginCont
 		}
 		return value;
 	}
+
+	/**
+	 * Return the registry of the data loaders which are used to batch the loading of elements during the query execution.
+	 *
+	 * @return
+	 */
+	DataLoaderRegistry getDataLoaderRegistry();
+
+	/**
+	 * Return the data loader with the given key.
+	 *
+	 * @param key
+	 * @return
+	 */
+	default <K, V> DataLoader<K, V> getDataLoader(String key) {
+		return getDataLoaderRegistry().getDataLoader(key);
+	}
 }
@@ -0,0 +1,157 @@
+package com.gentics.mesh.graphql.dataloader;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.dataloader.BatchLoader;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+/**
+ * Data loaders which batch the loading of nodes during the execution of a GraphQL query. The fetchers of a single execution level only register the nodes
+ * they need. The nodes of the whole level are then loaded in one pass. Nodes which are requested multiple times within a query are only loaded once and the
+ * permissions are checked for all nodes of the batch at once.
+ *
+ * The batch functions complete synchronously. The loading thus happens in the transaction of the query execution.
+ */
+public final class NodeDataLoader {
+
+	/**
+	 * Key of the loader which loads the contents of nodes without checking the permissions.
+	 */
+	public static final String CONTENT_LOADER_KEY = "nodeContentLoader";
+
+	/**
+	 * Key of the loader which loads the contents of nodes which are readable by the user. The loader returns null for nodes which can't be read.
+	 */
+	public static final String READABLE_CONTENT_LOADER_KEY = "readableNodeContentLoader";
+
+	/**
+	 * Key of the loader which loads the contents of all readable children of nodes.
+	 */
+	public static final String CHILDREN_LOADER_KEY = "nodeChildrenLoader";
+
+	private NodeDataLoader() {
+	}
+
+	/**
+	 * Create a new registry which contains the node data loaders for the given context. The loaders cache the loaded elements and must thus only be used for
+	 * a single request.
+	 *
+	 * @param gc
+	 * @return
+	 */
+	public static DataLoaderRegistry createRegistry(GraphQLContext gc) {
+		DataLoaderRegistry registry = new DataLoaderRegistry();
+		registry.register(CONTENT_LOADER_KEY, new DataLoader<>(contentLoader(gc)));
+		registry.register(READABLE_CONTENT_LOADER_KEY, new DataLoader<>(readableContentLoader(gc)));
+		registry.register(CHILDREN_LOADER_KEY, new DataLoader<>(childrenLoader(gc)));
+		return registry;
+	}
+
+	private static BatchLoader<Key, NodeContent> contentLoader(GraphQLContext gc) {
+		return keys -> CompletableFuture.completedFuture(keys.stream()
+			.map(key -> loadContent(gc, key.getNode(), key.getLanguageTags()))
+			.collect(Collectors.toList()));
+	}
+
+	private static BatchLoader<Key, NodeContent> readableContentLoader(GraphQLContext gc) {
+		return keys -> {
+			Set<Object> permitted = gc.getUser().getPermittedIds(keys.stream()
+				.map(key -> key.getNode().id())
+				.collect(Collectors.toCollection(LinkedHashSet::new)), READ_PUBLISHED_PERM);
+			List<NodeContent> contents = new ArrayList<>(keys.size());
+			for (Key key : keys) {
+				Node node = key.getNode();
+				contents.add(permitted.contains(node.id()) ? loadContent(gc, node, key.getLanguageTags()) : null);
+			}
+			return CompletableFuture.completedFuture(contents);
+		};
+	}
+
+	private static BatchLoader<Key, List<NodeContent>> childrenLoader(GraphQLContext gc) {
+		return keys -> {
+			String branchUuid = gc.getBranch().getUuid();
+			// Traverse the child edges of all parents of the batch first in order to check the permissions of all children at once
+			Map<Key, List<Node>> childrenPerKey = new HashMap<>();
+			Set<Object> childIds = new LinkedHashSet<>();
+			for (Key key : keys) {
+				List<Node> children = new ArrayList<>();
+				for (Node child : key.getNode().getChildren(branchUuid)) {
+					children.add(child);
+					childIds.add(child.id());
+				}
+				childrenPerKey.put(key, children);
+			}
+			// The read published permission also includes the read permission
+			Set<Object> permitted = gc.getUser().getPermittedIds(childIds, READ_PUBLISHED_PERM);
+
+			List<List<NodeContent>> result = new ArrayList<>(keys.size());
+			for (Key key : keys) {
+				result.add(childrenPerKey.get(key).stream()
+					.filter(child -> permitted.contains(child.id()))
+					.map(child -> loadContent(gc, child, key.getLanguageTags()))
+					.filter(content -> content.getContainer() != null)
+					.collect(Collectors.toList()));
+			}
+			return CompletableFuture.completedFuture(result);
+		};
+	}
+
+	private static NodeContent loadContent(GraphQLContext gc, Node node, List<String> languageTags) {
+		return new NodeContent(node, node.findVersion(gc, languageTags), languageTags);
+	}
+
+	/**
+	 * Key for the node data loaders. Keys are equal if they reference the same node and language fallback.
+	 */
+	public static class Key {
+
+		private final Node node;
+
+		private final List<String> languageTags;
+
+		public Key(Node node, List<String> languageTags) {
+			this.node = node;
+			this.languageTags = languageTags;
+		}
+
+		public Node getNode() {
+			return node;
+		}
+
+		public List<String> getLanguageTags() {
+			return languageTags;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return Objects.equals(node.id(), other.node.id()) && Objects.equals(languageTags, other.languageTags);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(node.id(), languageTags);
+		}
+	}
+}
@@ -313,9 +313,9 @@ public abstract class AbstractTypeProvider {
 	protected Page<SchemaContainerVersion> handleBranchSchemas(DataFetchingEnvironment env) {
 		GraphQLContext gc = env.getContext();
 		Branch branch = env.getSource();
-		Stream<? extends SchemaContainerVersion> schemas = StreamSupport.stream(branch.findActiveSchemaVersions().spliterator(), false).filter(
-			schema -> gc.getUser().hasPermission(schema.getSchemaContainer(), READ_PERM));
-		return new DynamicStreamPageImpl<>(schemas, getPagingInfo(env));
+		Stream<? extends SchemaContainerVersion> schemas = StreamSupport.stream(branch.findActiveSchemaVersions().spliterator(), false);
+		return new DynamicStreamPageImpl<>(gc.getUser().filterPermitted(schemas, schema -> schema.getSchemaContainer().id(), READ_PERM),
+			getPagingInfo(env));
 	}
 
 	/**
@@ -10,6 +10,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.core.data.Branch;
+import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.data.schema.MicroschemaContainer;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -18,6 +19,7 @@ import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLObjectType.Builder;
 
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Singleton
 public class MicroschemaTypeProvider extends AbstractTypeProvider {
@@ -50,10 +52,10 @@ public class MicroschemaTypeProvider extends AbstractTypeProvider {
 		schemaType.field(newPagingFieldWithFetcher("projects", "Projects that this schema is assigned to", (env) -> {
 			GraphQLContext gc = env.getContext();
 			MicroschemaContainer microschema = env.getSource();
-			return microschema.findReferencedBranches().keySet().stream()
+			Stream<Project> projects = microschema.findReferencedBranches().keySet().stream()
 				.map(Branch::getProject)
-				.distinct()
-				.filter(it -> gc.getUser().hasPermission(it, GraphPermission.READ_PERM))
+				.distinct();
+			return gc.getUser().filterPermitted(projects, Project::id, GraphPermission.READ_PERM)
 				.collect(Collectors.toList());
 		}, PROJECT_REFERENCE_PAGE_TYPE_NAME));
 
@@ -3,6 +3,7 @@ package com.gentics.mesh.graphql.type;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
 import static com.gentics.mesh.graphql.filter.NodeReferenceFilter.nodeReferenceFilter;
 import static com.gentics.mesh.graphql.type.NodeReferenceTypeProvider.NODE_REFERENCE_PAGE_TYPE_NAME;
 import static com.gentics.mesh.graphql.type.SchemaTypeProvider.SCHEMA_TYPE_NAME;
@@ -31,6 +32,8 @@ import java.util.stream.StreamSupport;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.dataloader.DataLoader;
+
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
@@ -51,6 +54,7 @@ import com.gentics.mesh.core.rest.schema.Schema;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 import com.gentics.mesh.graphql.filter.NodeFilter;
 import com.gentics.mesh.graphql.model.NodeReferenceIn;
 import com.gentics.mesh.graphql.type.field.FieldDefinitionProvider;
@@ -122,10 +126,14 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 		if (parentNode == null) {
 			return null;
 		}
-		gc.requiresPerm(parentNode, READ_PERM, READ_PUBLISHED_PERM);
-
 		List<String> languageTags = getLanguageArgument(env, content);
-		return new NodeContent(parentNode, parentNode.findVersion(gc, languageTags), languageTags);
+		DataLoader<NodeDataLoader.Key, NodeContent> loader = gc.getDataLoader(NodeDataLoader.READABLE_CONTENT_LOADER_KEY);
+		return loader.load(new NodeDataLoader.Key(parentNode, languageTags)).thenApply(parentContent -> {
+			if (parentContent == null) {
+				throw missingPerm("node", parentNode.getUuid());
+			}
+			return parentContent;
+		});
 	}
 
 	public Object nodeLanguageFetcher(DataFetchingEnvironment env) {
@@ -162,10 +170,12 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 
-		return content.getNode().getBreadcrumbNodes(gc).stream().map(node -> {
-			List<String> languageTags = getLanguageArgument(env, content);
-			return new NodeContent(node, node.findVersion(gc, languageTags), languageTags);
-		}).collect(Collectors.toList());
+		List<String> languageTags = getLanguageArgument(env, content);
+		DataLoader<NodeDataLoader.Key, NodeContent> loader = gc.getDataLoader(NodeDataLoader.CONTENT_LOADER_KEY);
+		// The ancestors are usually shared by the nodes of a level and will thus only be loaded once
+		return loader.loadMany(content.getNode().getBreadcrumbNodes(gc).stream()
+			.map(node -> new NodeDataLoader.Key(node, languageTags))
+			.collect(Collectors.toList()));
 	}
 
 	public Object languagesFetcher(DataFetchingEnvironment env) {
@@ -298,11 +308,9 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 
 				List<String> languageTags = getLanguageArgument(env, content);
 
-				Stream<NodeContent> nodes = content.getNode().getChildrenStream(gc)
-					.map(item -> new NodeContent(item, item.findVersion(gc, languageTags), languageTags))
-					.filter(item -> item.getContainer() != null);
-
-				return applyNodeFilter(env, nodes);
+				DataLoader<NodeDataLoader.Key, List<NodeContent>> loader = gc.getDataLoader(NodeDataLoader.CHILDREN_LOADER_KEY);
+				return loader.load(new NodeDataLoader.Key(content.getNode(), languageTags))
+					.thenApply(children -> applyNodeFilter(env, children.stream()));
 			}, NODE_PAGE_TYPE_NAME)
 				.argument(createLanguageTagArg(false))
 				.argument(NodeFilter.filter(context).createFilterArgument()).build(),
@@ -348,12 +356,13 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 				.argument(nodeReferenceFilter(context).createFilterArgument())
 				.type(new GraphQLTypeReference(NODE_REFERENCE_PAGE_TYPE_NAME))
 				.dataFetcher(env -> {
+					GraphQLContext gc = env.getContext();
 					NodeContent content = env.getSource();
 
-					Stream<NodeReferenceIn> stream = NodeReferenceIn.fromContent(context, content);
+					Stream<NodeReferenceIn> stream = NodeReferenceIn.fromContent(gc, content);
 					Map<String, ?> filterInput = env.getArgument("filter");
 					if (filterInput != null) {
-						stream = stream.filter(nodeReferenceFilter(context).createPredicate(filterInput));
+						stream = stream.filter(nodeReferenceFilter(gc).createPredicate(filterInput));
 					}
 
 					return new DynamicStreamPageImpl<>(stream, getPagingInfo(env));
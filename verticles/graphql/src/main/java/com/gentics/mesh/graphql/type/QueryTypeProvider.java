@@ -2,6 +2,7 @@ package com.gentics.mesh.graphql.type;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
 import static com.gentics.mesh.graphql.type.BranchTypeProvider.BRANCH_TYPE_NAME;
 import static com.gentics.mesh.graphql.type.GroupTypeProvider.GROUP_PAGE_TYPE_NAME;
 import static com.gentics.mesh.graphql.type.GroupTypeProvider.GROUP_TYPE_NAME;
@@ -37,6 +38,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -55,7 +57,6 @@ import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
 import com.gentics.mesh.core.data.root.NodeRoot;
 import com.gentics.mesh.core.data.service.WebRootService;
-import com.gentics.mesh.core.rest.error.PermissionException;
 import com.gentics.mesh.core.rest.error.UuidNotFoundException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
@@ -208,21 +209,27 @@ public class QueryTypeProvider extends AbstractTypeProvider {
 		ExecutionContext ec = env.getExecutionContext();
 		List<String> languageTags = getLanguageArgument(env);
 
-		Stream<NodeContent> contents = uuids.stream()
-			// When a node cannot be found, we still need the UUID for the error message.
+		// When a node cannot be found, we still need the UUID for the error message.
+		List<Pair<String, Node>> nodes = uuids.stream()
 			.map(uuid -> Pair.of(uuid, root.findByUuid(uuid)))
+			.collect(Collectors.toList());
+		// Check the permissions of all found nodes at once
+		Set<Object> permitted = gc.getUser().getPermittedIds(nodes.stream()
+			.map(Pair::getRight)
+			.filter(Objects::nonNull)
+			.map(Node::id)
+			.collect(Collectors.toList()), READ_PUBLISHED_PERM);
+
+		Stream<NodeContent> contents = nodes.stream()
 			.map(node -> {
-				Throwable error = null;
+				Throwable error;
 
 				if (node.getRight() == null) {
 					error = new UuidNotFoundException("node", node.getLeft());
+				} else if (permitted.contains(node.getRight().id())) {
+					return node.getRight();
 				} else {
-					// The node was found, check the permissions.
-					try {
-						return (Node) gc.requiresPerm(node.getRight(), READ_PERM, READ_PUBLISHED_PERM);
-					} catch (PermissionException e) {
-						error = e;
-					}
+					error = missingPerm("node", node.getLeft());
 				}
 
 				ec.addError(new ExceptionWhileDataFetching(env.getFieldTypeInfo().getPath(), error, env.getField().getSourceLocation()));
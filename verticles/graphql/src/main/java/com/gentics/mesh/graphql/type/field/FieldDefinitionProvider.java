@@ -28,10 +28,13 @@ import com.gentics.mesh.core.rest.schema.FieldSchema;
 import com.gentics.mesh.core.rest.schema.ListFieldSchema;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
 import com.gentics.mesh.graphql.filter.NodeFilter;
 import com.gentics.mesh.graphql.type.AbstractTypeProvider;
 import com.gentics.mesh.parameter.LinkType;
 import com.gentics.mesh.util.DateUtils;
+import org.dataloader.DataLoader;
+
 import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLList;
 import graphql.schema.GraphQLObjectType;
@@ -48,9 +51,8 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
 import static com.gentics.mesh.graphql.type.NodeTypeProvider.NODE_TYPE_NAME;
 import static com.gentics.mesh.graphql.type.field.MicronodeFieldTypeProvider.MICRONODE_TYPE_NAME;
 import static graphql.Scalars.GraphQLBigDecimal;
@@ -269,14 +271,13 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 				if (booleanList == null) {
 					return null;
 				}
-				return booleanList.getList().stream().map(item -> item.getBoolean()).collect(Collectors.toList());
+				return booleanList.getValues();
 			case "html":
 				HtmlGraphFieldList htmlList = container.getHTMLList(schema.getName());
 				if (htmlList == null) {
 					return null;
 				}
-				return htmlList.getList().stream().map(item -> {
-					String content = item.getHTML();
+				return htmlList.getValues().stream().map(content -> {
 					LinkType linkType = getLinkType(env);
 					return linkReplacer.replace(gc, null, null, content, linkType, gc.getProject().getName(), Arrays.asList(container.getLanguageTag()));
 				}).collect(Collectors.toList());
@@ -285,8 +286,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 				if (stringList == null) {
 					return null;
 				}
-				return stringList.getList().stream().map(item -> {
-					String content = item.getString();
+				return stringList.getValues().stream().map(content -> {
 					LinkType linkType = getLinkType(env);
 					return linkReplacer.replace(gc, null, null, content, linkType, gc.getProject().getName(), Arrays.asList(container.getLanguageTag()));
 				}).collect(Collectors.toList());
@@ -295,38 +295,40 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 				if (numberList == null) {
 					return null;
 				}
-				return numberList.getList().stream().map(item -> item.getNumber()).collect(Collectors.toList());
+				return numberList.getValues();
 			case "date":
 				DateGraphFieldList dateList = container.getDateList(schema.getName());
 				if (dateList == null) {
 					return null;
 				}
-				return dateList.getList().stream().map(item -> DateUtils.toISO8601(item.getDate(), 0)).collect(Collectors.toList());
+				return dateList.getValues().stream().map(date -> DateUtils.toISO8601(date, 0)).collect(Collectors.toList());
 			case "node":
 				NodeGraphFieldList nodeList = container.getNodeList(schema.getName());
 				if (nodeList == null) {
 					return null;
 				}
 				Map<String, ?> filterArgument = env.getArgument("filter");
-				Stream<NodeContent> nodes = nodeList.getList().stream().map(item -> {
-					Node node = item.getNode();
-					List<String> languageTags;
-					if (container instanceof NodeGraphFieldContainer) {
-						languageTags = Arrays.asList(container.getLanguageTag());
-					} else if (container instanceof Micronode) {
-						Micronode micronode = (Micronode)container;
-						languageTags = Arrays.asList(micronode.getContainer().getLanguageTag());
-					} else {
-						throw error(HttpResponseStatus.INTERNAL_SERVER_ERROR, "container can only be NodeGraphFieldContainer or Micronode");
+				List<String> languageTags;
+				if (container instanceof NodeGraphFieldContainer) {
+					languageTags = Arrays.asList(container.getLanguageTag());
+				} else if (container instanceof Micronode) {
+					Micronode micronode = (Micronode)container;
+					languageTags = Arrays.asList(micronode.getContainer().getLanguageTag());
+				} else {
+					throw error(HttpResponseStatus.INTERNAL_SERVER_ERROR, "container can only be NodeGraphFieldContainer or Micronode");
+				}
+				// TODO we need to add more assertions and check what happens if the itemContainer is null
+				DataLoader<NodeDataLoader.Key, NodeContent> loader = gc.getDataLoader(NodeDataLoader.CONTENT_LOADER_KEY);
+				List<NodeDataLoader.Key> keys = nodeList.getList().stream()
+					.map(item -> new NodeDataLoader.Key(item.getNode(), languageTags))
+					.collect(Collectors.toList());
+				return loader.loadMany(keys).thenApply(contents -> {
+					Stream<NodeContent> nodes = contents.stream();
+					if (filterArgument != null) {
+						nodes = nodes.filter(NodeFilter.filter(gc).createPredicate(filterArgument));
 					}
-					// TODO we need to add more assertions and check what happens if the itemContainer is null
-					NodeGraphFieldContainer itemContainer = node.findVersion(gc, languageTags);
-					return new NodeContent(node, itemContainer, languageTags);
+					return nodes.collect(Collectors.toList());
 				});
-				if (filterArgument != null) {
-					nodes = nodes.filter(nodeFilter.createPredicate(filterArgument));
-				}
-				return nodes.collect(Collectors.toList());
 			case "micronode":
 				MicronodeGraphFieldList micronodeList = container.getMicronodeList(schema.getName());
 				if (micronodeList == null) {
@@ -397,10 +399,14 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 					if (node != null) {
 						//Note that we would need to check for micronodes which are not language specific!
 						List<String> languageTags = getLanguageArgument(env, source);
-						// Check permissions for the linked node
-						gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
-						NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
-						return new NodeContent(node, container, languageTags);
+						// The loader checks the permissions for the linked nodes
+						DataLoader<NodeDataLoader.Key, NodeContent> loader = gc.getDataLoader(NodeDataLoader.READABLE_CONTENT_LOADER_KEY);
+						return loader.load(new NodeDataLoader.Key(node, languageTags)).thenApply(content -> {
+							if (content == null) {
+								throw missingPerm("node", node.getUuid());
+							}
+							return content;
+						});
 					}
 				}
 				return null;